@@ -21,12 +21,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.geode.CopyHelper;
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.query.IndexInvalidException;
@@ -37,6 +41,8 @@ import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.internal.cache.LocalRegion;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.client.support.AdaptiveConcurrencyLimiter;
+import org.springframework.data.gemfire.mapping.AbstractDeltaCapableEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -53,6 +59,14 @@ import org.springframework.util.StringUtils;
  * are GemFire-agnostic in their interface. The latter or code calling the latter only have to deal with business
  * objects, query objects, and <tt>org.springframework.dao</tt> exceptions.
  *
+ * Values read with <tt>get</tt> and <tt>getAll</tt> inside a (read-write) GemFire cache transaction are copied,
+ * unless the cache is already configured with copy-on-read, to prevent changes to the returned objects from
+ * affecting the cache outside the transaction.  Reads outside a cache transaction return direct references.
+ *
+ * When configured with an {@link AdaptiveConcurrencyLimiter}, data access, query and callback operations
+ * wait until allowed in flight by the limiter before accessing the {@link Region}.  Operations performed
+ * in a callback reuse the permit held by the callback operation.
+ *
  * @author Costin Leau
  * @author John Blum
  * @see java.util.Map
@@ -62,12 +76,15 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.cache.query.Query
  * @see org.apache.geode.cache.query.QueryService
  * @see org.apache.geode.cache.query.SelectResults
+ * @see org.springframework.data.gemfire.client.support.AdaptiveConcurrencyLimiter
  */
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
 	private boolean exposeNativeRegion = false;
 
+	private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
 	private Region<?, ?> regionProxy;
 
 	public GemfireTemplate() {
@@ -108,6 +125,45 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Sets the {@link AdaptiveConcurrencyLimiter} gating the operations performed by this template,
+	 * typically the limiter of the client {@link org.apache.geode.cache.client.Pool} used by the {@link Region}.
+	 *
+	 * @param concurrencyLimiter {@link AdaptiveConcurrencyLimiter} gating the operations; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.client.support.AdaptivePoolController
+	 */
+	public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * Returns the {@link AdaptiveConcurrencyLimiter} gating the operations performed by this template.
+	 *
+	 * @return the {@link AdaptiveConcurrencyLimiter}; {@literal null} if operations are not gated.
+	 */
+	public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
+	/* (non-Javadoc) */
+	private AdaptiveConcurrencyLimiter acquire() {
+
+		AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter();
+
+		if (limiter != null) {
+			limiter.acquire();
+		}
+
+		return limiter;
+	}
+
+	/* (non-Javadoc) */
+	private void release(AdaptiveConcurrencyLimiter limiter) {
+		if (limiter != null) {
+			limiter.release();
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(java.lang.Object)
 	 */
@@ -121,7 +177,14 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public boolean containsKeyOnServer(Object key) {
-		return getRegion().containsKeyOnServer(key);
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
+		try {
+			return getRegion().containsKeyOnServer(key);
+		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -137,7 +200,14 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public boolean containsValueForKey(Object key) {
-		return getRegion().containsValueForKey(key);
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
+		try {
+			return getRegion().containsValueForKey(key);
+		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -145,12 +215,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> void create(K key, V value) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			getRegion().create(key, value);
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -158,12 +233,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V get(K key) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
-			return this.<K, V>getRegion().get(key);
+			return copyInCacheTransaction(this.<K, V>getRegion().get(key));
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -171,12 +251,53 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+			Map<K, V> values = this.<K, V>getRegion().getAll(keys);
+
+			if (values != null && isCopyInCacheTransactionRequired()) {
+				Map<K, V> copies = new HashMap<K, V>(values.size());
+
+				for (Map.Entry<K, V> entry : values.entrySet()) {
+					copies.put(entry.getKey(), (entry.getValue() != null ? CopyHelper.copy(entry.getValue()) : null));
+				}
+
+				values = copies;
+			}
+
+			return values;
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
+	}
+
+	/* (non-Javadoc) */
+	<T> T copyInCacheTransaction(T value) {
+		return (value != null && isCopyInCacheTransactionRequired() ? CopyHelper.copy(value) : value);
+	}
+
+	/**
+	 * Determines whether values read from the {@link Region} must be copied, which is the case when the current
+	 * thread is in a GemFire cache transaction and the cache does not already return copies.
+	 *
+	 * @return a boolean value indicating whether values read from the {@link Region} must be copied.
+	 * @see org.apache.geode.cache.CacheTransactionManager#exists()
+	 * @see org.apache.geode.cache.GemFireCache#getCopyOnRead()
+	 */
+	protected boolean isCopyInCacheTransactionRequired() {
+		RegionService regionService = getRegion().getRegionService();
+
+		if (regionService instanceof GemFireCache) {
+			GemFireCache cache = (GemFireCache) regionService;
+			return (!cache.getCopyOnRead() && cache.getCacheTransactionManager().exists());
+		}
+
+		return false;
 	}
 
 	/* (non-Javadoc)
@@ -184,12 +305,21 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V put(K key, V value) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
-			return this.<K, V>getRegion().put(key, value);
+			V previousValue = this.<K, V>getRegion().put(key, value);
+
+			resetDirtyProperties(value);
+
+			return previousValue;
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -197,12 +327,32 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			this.<K, V>getRegion().putAll(map);
+
+			map.values().forEach(this::resetDirtyProperties);
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
+	}
+
+	/**
+	 * Resets the tracked changes of the given value once stored in the {@link Region} when the value is
+	 * an {@link AbstractDeltaCapableEntity}, so that only subsequent changes are sent as a delta.
+	 *
+	 * @param value value stored in the {@link Region}.
+	 * @see org.springframework.data.gemfire.mapping.AbstractDeltaCapableEntity#resetDirtyProperties()
+	 */
+	protected void resetDirtyProperties(Object value) {
+		if (value instanceof AbstractDeltaCapableEntity) {
+			((AbstractDeltaCapableEntity) value).resetDirtyProperties();
+		}
 	}
 
 	/* (non-Javadoc)
@@ -210,12 +360,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V putIfAbsent(K key, V value) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			return this.<K, V>getRegion().putIfAbsent(key, value);
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -223,12 +378,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V remove(K key) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			return this.<K, V>getRegion().remove(key);
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -236,12 +396,23 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V replace(K key, V value) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
-			return this.<K, V>getRegion().replace(key, value);
+			V previousValue = this.<K, V>getRegion().replace(key, value);
+
+			if (previousValue != null) {
+				resetDirtyProperties(value);
+			}
+
+			return previousValue;
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -249,12 +420,23 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
-			return this.<K, V>getRegion().replace(key, oldValue, newValue);
+			boolean replaced = this.<K, V>getRegion().replace(key, oldValue, newValue);
+
+			if (replaced) {
+				resetDirtyProperties(newValue);
+			}
+
+			return replaced;
 		}
 		catch (GemFireException e) {
 			throw convertGemFireAccessException(e);
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/*
@@ -263,6 +445,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <E> SelectResults<E> query(String query) {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			return this.getRegion().query(query);
 		}
@@ -287,6 +471,9 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			// callback code threw application exception
 			throw ex;
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/*
@@ -296,6 +483,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	@SuppressWarnings("unchecked")
 	public <E> SelectResults<E> find(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			QueryService queryService = resolveQueryService(getRegion());
 			Query query = queryService.newQuery(queryString);
@@ -328,6 +517,9 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			// callback code threw application exception
 			throw e;
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/*
@@ -337,6 +529,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			QueryService queryService = resolveQueryService(getRegion());
 			Query query = queryService.newQuery(queryString);
@@ -378,6 +572,9 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			// callback code threw application exception
 			throw ex;
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/**
@@ -445,6 +642,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <T> T execute(GemfireCallback<T> action, boolean exposeNativeRegion) throws DataAccessException {
 		Assert.notNull(action, "Callback object must not be null");
 
+		AdaptiveConcurrencyLimiter limiter = acquire();
+
 		try {
 			Region<?, ?> regionArgument = (exposeNativeRegion ? getRegion() : regionProxy);
 
@@ -471,6 +670,9 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			// callback code threw application exception
 			throw ex;
 		}
+		finally {
+			release(limiter);
+		}
 	}
 
 	/**
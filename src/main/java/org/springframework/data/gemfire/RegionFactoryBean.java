@@ -201,6 +201,19 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 			.forEach(regionConfigurer -> regionConfigurer.configure(regionName, this));
 	}
 
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected String resolveColocatedRegionName() {
+
+		return Optional.ofNullable(getAttributes())
+			.map(RegionAttributes::getPartitionAttributes)
+			.map(PartitionAttributes::getColocatedWith)
+			.filter(StringUtils::hasText)
+			.orElse(null);
+	}
+
 	/* (non-Javadoc) */
 	private Region<K, V> enableAsLockGrantor(Region<K, V> region) {
 
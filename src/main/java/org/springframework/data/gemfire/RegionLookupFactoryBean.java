@@ -20,6 +20,7 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newR
 
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.Future;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
@@ -28,6 +29,7 @@ import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
+import org.springframework.data.gemfire.support.ParallelBootstrapCoordinator;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -52,8 +54,12 @@ public abstract class RegionLookupFactoryBean<K, V> extends AbstractFactoryBeanS
 
 	private Boolean lookupEnabled = false;
 
+	private volatile Future<Region<K, V>> pendingRegion;
+
 	private GemFireCache cache;
 
+	private ParallelBootstrapCoordinator bootstrapCoordinator;
+
 	private Region<?, ?> parent;
 
 	private Resource snapshot;
@@ -82,23 +88,61 @@ public abstract class RegionLookupFactoryBean<K, V> extends AbstractFactoryBeanS
 
 		Assert.hasText(regionName, "regionName, name or beanName property must be set");
 
-		synchronized (cache) {
-			setRegion(isLookupEnabled()
-				? Optional.ofNullable(getParent())
-					.map(parentRegion -> parentRegion.<K, V>getSubregion(regionName))
-					.orElseGet(() -> cache.<K, V>getRegion(regionName))
-				: null);
-
-			if (getRegion() != null) {
-				logInfo("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName());
+		if (isParallelBootstrap()) {
+			this.pendingRegion = getBootstrapCoordinator().submit(cache, resolveRegionPath(regionName),
+				resolveColocatedRegionName(), () -> {
+					setRegion(lookupOrCreateRegion(cache, regionName));
+					return getRegion();
+				});
+		}
+		else {
+			synchronized (cache) {
+				setRegion(lookupOrCreateRegion(cache, regionName));
 			}
-			else {
-				logInfo("Falling back to creating Region [%1$s] in Cache [%2$s]",
-					regionName, cache.getName());
+		}
+	}
 
-				setRegion(postProcess(loadSnapshot(createRegion(cache, regionName))));
-			}
+	/* (non-Javadoc) */
+	private Region<K, V> lookupOrCreateRegion(GemFireCache cache, String regionName) throws Exception {
+
+		Region<K, V> region = (isLookupEnabled()
+			? Optional.ofNullable(getParent())
+				.map(parentRegion -> parentRegion.<K, V>getSubregion(regionName))
+				.orElseGet(() -> cache.<K, V>getRegion(regionName))
+			: null);
+
+		if (region != null) {
+			logInfo("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName());
 		}
+		else {
+			logInfo("Falling back to creating Region [%1$s] in Cache [%2$s]",
+				regionName, cache.getName());
+
+			region = postProcess(loadSnapshot(createRegion(cache, regionName)));
+		}
+
+		return region;
+	}
+
+	/* (non-Javadoc) */
+	private String resolveRegionPath(String regionName) {
+
+		return Optional.ofNullable(getParent())
+			.map(parentRegion -> parentRegion.getFullPath().concat(Region.SEPARATOR).concat(regionName))
+			.orElseGet(() -> Region.SEPARATOR.concat(regionName));
+	}
+
+	/**
+	 * Resolves the {@link String name} of the {@link Region} that the {@link Region} created by this
+	 * {@link RegionLookupFactoryBean} is colocated with, if any.  During a parallel bootstrap, the {@link Region}
+	 * is not created until the {@link Region} it is colocated with exists.
+	 *
+	 * @return the {@link String name} of the colocated {@link Region} or {@literal null} if the {@link Region}
+	 * is not colocated.
+	 * @see #setBootstrapCoordinator(ParallelBootstrapCoordinator)
+	 */
+	protected String resolveColocatedRegionName() {
+		return null;
 	}
 
 	/**
@@ -162,6 +206,11 @@ public abstract class RegionLookupFactoryBean<K, V> extends AbstractFactoryBeanS
 	 */
 	@Override
 	public Region<K, V> getObject() throws Exception {
+
+		if (this.pendingRegion != null) {
+			getBootstrapCoordinator().await(getCache(), resolveRegionPath(resolveRegionName()));
+		}
+
 		return getRegion();
 	}
 
@@ -208,6 +257,34 @@ public abstract class RegionLookupFactoryBean<K, V> extends AbstractFactoryBeanS
 		this.cache = cache;
 	}
 
+	/**
+	 * Sets the {@link ParallelBootstrapCoordinator} used to create the {@link Region} concurrently
+	 * with other {@link Region Regions} while bootstrapping the Spring container.
+	 *
+	 * @param bootstrapCoordinator {@link ParallelBootstrapCoordinator} used to create the {@link Region}.
+	 * @see org.springframework.data.gemfire.support.ParallelBootstrapCoordinator
+	 */
+	public void setBootstrapCoordinator(ParallelBootstrapCoordinator bootstrapCoordinator) {
+		this.bootstrapCoordinator = bootstrapCoordinator;
+	}
+
+	/**
+	 * Returns the {@link ParallelBootstrapCoordinator} used to create the {@link Region} concurrently
+	 * with other {@link Region Regions} while bootstrapping the Spring container.
+	 *
+	 * @return the {@link ParallelBootstrapCoordinator} or {@literal null} if the {@link Region} is created
+	 * by the Spring container thread.
+	 * @see org.springframework.data.gemfire.support.ParallelBootstrapCoordinator
+	 */
+	protected ParallelBootstrapCoordinator getBootstrapCoordinator() {
+		return this.bootstrapCoordinator;
+	}
+
+	/* (non-Javadoc) */
+	boolean isParallelBootstrap() {
+		return (getBootstrapCoordinator() != null);
+	}
+
 	/* (non-Javadoc) */
 	boolean isLookupEnabled() {
 		return Boolean.TRUE.equals(getLookupEnabled());
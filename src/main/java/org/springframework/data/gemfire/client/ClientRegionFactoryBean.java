@@ -22,10 +22,14 @@ import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeColl
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.CacheListener;
@@ -41,13 +45,16 @@ import org.apache.geode.cache.client.ClientRegionFactory;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.data.gemfire.DataPolicyConverter;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.RegionLookupFactoryBean;
 import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -68,16 +75,23 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.cache.client.Pool
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
  * @see org.springframework.data.gemfire.DataPolicyConverter
  * @see org.springframework.data.gemfire.RegionLookupFactoryBean
  * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
  */
 @SuppressWarnings("unused")
-public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V> implements DisposableBean {
+public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
+		implements DisposableBean, SmartInitializingSingleton {
 
+	public static final int DEFAULT_INTEREST_BATCH_SIZE = 1000;
+
+	private boolean awaitInterestRegistration = true;
 	private boolean close = false;
 	private boolean destroy = false;
 
+	private int interestBatchSize = DEFAULT_INTEREST_BATCH_SIZE;
+
 	private Boolean persistent;
 
 	private CacheListener<K, V>[] cacheListeners;
@@ -95,8 +109,12 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 
 	private EvictionAttributes evictionAttributes;
 
+	private Executor interestRegistrationExecutor;
+
 	private Interest<K>[] interests;
 
+	private volatile CompletableFuture<Region<K, V>> interestRegistration = CompletableFuture.completedFuture(null);
+
 	private List<RegionConfigurer> regionConfigurers = Collections.emptyList();
 
 	private RegionAttributes<K, V> attributes;
@@ -419,14 +437,42 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 	}
 
 	/* (non-Javadoc) */
-	@SuppressWarnings("unchecked")
 	private Region<K, V> registerInterests(Region<K, V> region) {
 
+		if (!ArrayUtils.isEmpty(this.interests)) {
+			if (this.interestRegistrationExecutor != null) {
+				this.interestRegistration = CompletableFuture.supplyAsync(() -> doRegisterInterests(region),
+					this.interestRegistrationExecutor);
+
+				if (!isAwaitInterestRegistration()) {
+					this.interestRegistration.whenComplete((registeredRegion, cause) -> {
+						if (cause != null) {
+							getLog().error(String.format("Failed to register interests in Region [%s]",
+								region.getFullPath()), cause);
+						}
+					});
+				}
+			}
+			else {
+				doRegisterInterests(region);
+			}
+		}
+
+		return region;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private Region<K, V> doRegisterInterests(Region<K, V> region) {
+
 		stream(nullSafeArray(this.interests, Interest.class)).forEach(interest -> {
 			if (interest.isRegexType()) {
 				region.registerInterestRegex((String) interest.getKey(), interest.getPolicy(),
 					interest.isDurable(), interest.isReceiveValues());
 			}
+			else if (interest.isKeyListType()) {
+				registerInterestInBatches(region, (Interest<K>) interest);
+			}
 			else {
 				region.registerInterest(((Interest<K>) interest).getKey(), interest.getPolicy(),
 					interest.isDurable(), interest.isReceiveValues());
@@ -436,6 +482,43 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		return region;
 	}
 
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private void registerInterestInBatches(Region<K, V> region, Interest<K> interest) {
+
+		List<?> keys = interest.getKeys();
+
+		for (int index = 0, size = keys.size(); index < size; index += this.interestBatchSize) {
+
+			List<Object> batch = new ArrayList<>(keys.subList(index, Math.min(index + this.interestBatchSize, size)));
+
+			region.registerInterest((K) batch, interest.getPolicy(), interest.isDurable(),
+				interest.isReceiveValues());
+		}
+	}
+
+	/**
+	 * Waits for the interests registered asynchronously to be registered once all singletons have been created,
+	 * failing the Spring container initialization if any interest could not be registered.
+	 *
+	 * @throws BeanInitializationException if any interest could not be registered.
+	 * @see #setAwaitInterestRegistration(boolean)
+	 * @see #setInterestRegistrationExecutor(Executor)
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (isAwaitInterestRegistration()) {
+			try {
+				this.interestRegistration.join();
+			}
+			catch (CompletionException cause) {
+				throw new BeanInitializationException(String.format("Failed to register interests in Region [%s]",
+					resolveRegionName()), Optional.ofNullable(cause.getCause()).orElse(cause));
+			}
+		}
+	}
+
 	/**
 	 * Closes and destroys the {@link Region}.
 	 *
@@ -607,6 +690,68 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		return this.interests;
 	}
 
+	/**
+	 * Sets the maximum number of keys registered with a single request when registering interest
+	 * in a {@link java.util.Collection} of keys.
+	 *
+	 * @param interestBatchSize maximum number of keys registered with a single request.
+	 * @throws IllegalArgumentException if the interest batch size is less than 1.
+	 * @see org.springframework.data.gemfire.client.KeyInterest#forKeys(java.util.Collection)
+	 */
+	public void setInterestBatchSize(int interestBatchSize) {
+		Assert.isTrue(interestBatchSize > 0, String.format("Interest batch size [%d] must be greater than 0",
+			interestBatchSize));
+		this.interestBatchSize = interestBatchSize;
+	}
+
+	/* (non-Javadoc) */
+	int getInterestBatchSize() {
+		return this.interestBatchSize;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to register interests asynchronously, allowing interests in multiple
+	 * {@link Region Regions} to be registered in parallel by sharing the {@link Executor}.  Interests are
+	 * registered during initialization of the {@link Region} when not set.
+	 *
+	 * @param interestRegistrationExecutor {@link Executor} used to register interests.
+	 * @see #getInterestRegistration()
+	 */
+	public void setInterestRegistrationExecutor(Executor interestRegistrationExecutor) {
+		this.interestRegistrationExecutor = interestRegistrationExecutor;
+	}
+
+	/**
+	 * Sets whether the Spring container waits for the interests registered asynchronously to be registered
+	 * once all singletons have been created, failing initialization if any interest could not be registered.
+	 * Otherwise, failures are only logged.  Defaults to {@literal true}.
+	 *
+	 * @param awaitInterestRegistration boolean indicating whether to wait for asynchronous interest registration.
+	 * @see #setInterestRegistrationExecutor(Executor)
+	 */
+	public void setAwaitInterestRegistration(boolean awaitInterestRegistration) {
+		this.awaitInterestRegistration = awaitInterestRegistration;
+	}
+
+	/**
+	 * Determines whether the Spring container waits for the interests registered asynchronously to be registered.
+	 *
+	 * @return a boolean indicating whether to wait for asynchronous interest registration.
+	 */
+	public boolean isAwaitInterestRegistration() {
+		return this.awaitInterestRegistration;
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} completing once all interests have been registered.
+	 *
+	 * @return a {@link CompletableFuture} completing with the {@link Region} once all interests are registered.
+	 * @see #setInterestRegistrationExecutor(Executor)
+	 */
+	public CompletableFuture<Region<K, V>> getInterestRegistration() {
+		return this.interestRegistration;
+	}
+
 	public void setKeyConstraint(Class<K> keyConstraint) {
 		this.keyConstraint = keyConstraint;
 	}
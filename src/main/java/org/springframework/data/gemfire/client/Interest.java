@@ -16,6 +16,9 @@
 
 package org.springframework.data.gemfire.client;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -178,8 +181,8 @@ public class Interest<K> implements InitializingBean {
 	/**
 	 * Determines whether the given {@code key} is a Regular Expression (Regex).
 	 *
-	 * If the given {@code key} is {@literal "ALL_KEYS"}, a {@link List} or only contains letters, numbers and spaces,
-	 * then the {@code key} is not considered a Regular Expression by GemFire, and can be handled with normal
+	 * If the given {@code key} is {@literal "ALL_KEYS"}, a {@link Collection} or only contains letters, numbers
+	 * and spaces, then the {@code key} is not considered a Regular Expression by GemFire, and can be handled with normal
 	 * interest registration using {@link org.apache.geode.cache.Region#registerInterest(Object)}.
 	 *
 	 * @param key {@link Object} to evaluate.
@@ -187,7 +190,7 @@ public class Interest<K> implements InitializingBean {
 	 * @see #isRegularExpression(String)
 	 */
 	protected boolean isRegularExpression(Object key) {
-		return (!(ALL_KEYS.equals(key) || key instanceof List) && isRegularExpression(String.valueOf(key)));
+		return (!(ALL_KEYS.equals(key) || key instanceof Collection) && isRegularExpression(String.valueOf(key)));
 	}
 
 	/**
@@ -375,6 +378,32 @@ public class Interest<K> implements InitializingBean {
 		return Type.KEY.equals(getType());
 	}
 
+	/**
+	 * Determines whether this {@link Interest} is a KEY interest registration in a {@link Collection} of keys.
+	 *
+	 * @return a boolean value indicating whether this is KEY interest in a {@link Collection} of keys.
+	 * @see #getKeys()
+	 * @see #isKeyType()
+	 */
+	public boolean isKeyListType() {
+		return (isKeyType() && getKey() instanceof Collection);
+	}
+
+	/**
+	 * Returns the keys on which interest is registered, that is, the elements of the key
+	 * when the key is a {@link Collection}, or otherwise the key itself.
+	 *
+	 * A {@link List} key is returned as an unmodifiable view rather than copied.
+	 *
+	 * @return a {@link List} of the keys of interest.
+	 * @see #isKeyListType()
+	 */
+	public List<?> getKeys() {
+		return (getKey() instanceof List ? Collections.unmodifiableList((List<?>) getKey())
+			: (getKey() instanceof Collection ? new ArrayList<>((Collection<?>) getKey())
+				: Collections.singletonList(getKey())));
+	}
+
 	/**
 	 * Determines whether this {@link Interest} is a REGEX interest registration.
 	 *
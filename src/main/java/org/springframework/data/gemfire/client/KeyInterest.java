@@ -17,7 +17,11 @@
 
 package org.springframework.data.gemfire.client;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 import org.apache.geode.cache.InterestResultPolicy;
+import org.springframework.util.Assert;
 
 /**
  * Cache Region interest based on individual keys.
@@ -29,6 +33,58 @@ import org.apache.geode.cache.InterestResultPolicy;
 @SuppressWarnings("unused")
 public class KeyInterest<K> extends Interest<K> {
 
+	/**
+	 * Factory method to construct a new instance of {@link KeyInterest} in the given {@link Collection} of keys.
+	 *
+	 * @param <K> {@link Class} type of the keys.
+	 * @param keys {@link Collection} of keys of interest.
+	 * @return a new instance of {@link KeyInterest} in the given keys.
+	 * @throws IllegalArgumentException if the {@link Collection} of keys is {@literal null} or empty.
+	 * @see #forKeys(Collection, InterestResultPolicy, boolean, boolean)
+	 */
+	public static <K> KeyInterest<K> forKeys(Collection<K> keys) {
+		return forKeys(keys, InterestResultPolicy.DEFAULT, DEFAULT_DURABLE, DEFAULT_RECEIVE_VALUES);
+	}
+
+	/**
+	 * Factory method to construct a new instance of {@link KeyInterest} in the given {@link Collection} of keys
+	 * using the given {@link InterestResultPolicy} to initialize the client cache.
+	 *
+	 * @param <K> {@link Class} type of the keys.
+	 * @param keys {@link Collection} of keys of interest.
+	 * @param policy initial {@link InterestResultPolicy} used to initialize the client cache.
+	 * @return a new instance of {@link KeyInterest} in the given keys.
+	 * @throws IllegalArgumentException if the {@link Collection} of keys is {@literal null} or empty.
+	 * @see #forKeys(Collection, InterestResultPolicy, boolean, boolean)
+	 */
+	public static <K> KeyInterest<K> forKeys(Collection<K> keys, InterestResultPolicy policy) {
+		return forKeys(keys, policy, DEFAULT_DURABLE, DEFAULT_RECEIVE_VALUES);
+	}
+
+	/**
+	 * Factory method to construct a new instance of {@link KeyInterest} in the given {@link Collection} of keys.
+	 *
+	 * Interest in the keys is registered in batches by the
+	 * {@link org.springframework.data.gemfire.client.ClientRegionFactoryBean}.
+	 *
+	 * @param <K> {@link Class} type of the keys.
+	 * @param keys {@link Collection} of keys of interest.
+	 * @param policy initial {@link InterestResultPolicy} used to initialize the client cache.
+	 * @param durable boolean value to indicate whether the interest registration should be durable.
+	 * @param receiveValues boolean value to indicate whether to receive value in notifications.
+	 * @return a new instance of {@link KeyInterest} in the given keys.
+	 * @throws IllegalArgumentException if the {@link Collection} of keys is {@literal null} or empty.
+	 * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean#setInterestBatchSize(int)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K> KeyInterest<K> forKeys(Collection<K> keys, InterestResultPolicy policy, boolean durable,
+			boolean receiveValues) {
+
+		Assert.notEmpty(keys, "Keys are required");
+
+		return new KeyInterest<>((K) new ArrayList<>(keys), policy, durable, receiveValues);
+	}
+
 	public KeyInterest(K key) {
 		super(key);
 	}
@@ -21,6 +21,7 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeCollection;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.net.InetSocketAddress;
 import java.util.Arrays;
@@ -38,6 +39,7 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.gemfire.GemfireUtils;
+import org.springframework.data.gemfire.client.support.PoolInstrumentation;
 import org.springframework.data.gemfire.config.annotation.PoolConfigurer;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
 import org.springframework.data.gemfire.support.ConnectionEndpoint;
@@ -107,6 +109,8 @@ public class PoolFactoryBean extends AbstractFactoryBeanSupport<Pool> implements
 
 	private volatile Pool pool;
 
+	private volatile PoolInstrumentation poolInstrumentation;
+
 	private PoolConfigurer compositePoolConfigurer = (beanName, bean) ->
 		nullSafeCollection(poolConfigurers).forEach(poolConfigurer ->  poolConfigurer.configure(beanName, bean));
 
@@ -203,6 +207,7 @@ public class PoolFactoryBean extends AbstractFactoryBeanSupport<Pool> implements
 				pool.releaseThreadLocalConnection();
 				pool.destroy(this.keepAlive);
 				setPool(null);
+				this.poolInstrumentation = null;
 				logDebug("Destroyed Pool [%s]", pool.getName());
 			});
 	}
@@ -240,6 +245,36 @@ public class PoolFactoryBean extends AbstractFactoryBeanSupport<Pool> implements
 		});
 	}
 
+	/**
+	 * Returns the {@link PoolInstrumentation} exposing the utilization and health of the {@link Pool}
+	 * created by this {@link PoolFactoryBean}, such as active, idle and pending connections, connection wait time,
+	 * per-server operation latency and failovers.
+	 *
+	 * @return the {@link PoolInstrumentation} of the {@link Pool}.
+	 * @throws IllegalStateException if the {@link Pool} or the {@link DistributedSystem} does not exist yet.
+	 * @see org.springframework.data.gemfire.client.support.PoolInstrumentation
+	 */
+	public PoolInstrumentation getPoolInstrumentation() {
+
+		PoolInstrumentation poolInstrumentation = this.poolInstrumentation;
+
+		if (poolInstrumentation == null) {
+
+			Pool pool = Optional.ofNullable(this.pool).orElseThrow(() ->
+				newIllegalStateException("Pool [%s] has not been created", getName()));
+
+			DistributedSystem distributedSystem = Optional.<DistributedSystem>ofNullable(
+				GemfireUtils.getDistributedSystem()).orElseThrow(() ->
+					newIllegalStateException("DistributedSystem of Pool [%s] does not exist", getName()));
+
+			poolInstrumentation = new PoolInstrumentation(pool, distributedSystem);
+
+			this.poolInstrumentation = poolInstrumentation;
+		}
+
+		return poolInstrumentation;
+	}
+
 	/**
 	 * Determines whether the {@link DistributedSystem} exists yet or not.
 	 *
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AdaptiveConcurrencyLimiter} class gates the operations performed with a client
+ * {@link org.apache.geode.cache.client.Pool} by limiting the number of operations in flight
+ * to a limit that can be changed at runtime within configured bounds.
+ *
+ * Operations exceeding the limit wait for an operation in flight to complete instead of waiting
+ * on, or opening, a connection of the {@link org.apache.geode.cache.client.Pool}.
+ *
+ * Operations allowed with {@link #acquire()} are reentrant per {@link Thread}: an operation nested in an operation
+ * already in flight on the same {@link Thread}, such as a data access operation performed in a callback,
+ * reuses the permit of the outer operation rather than waiting for a permit it may never get once
+ * the limit is reached.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.client.support.AdaptivePoolController
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class AdaptiveConcurrencyLimiter {
+
+	private final int maxLimit;
+	private final int minLimit;
+
+	private int inFlight;
+	private int limit;
+	private int peakInFlight;
+
+	private final Condition permitReleased;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final ThreadLocal<Integer> acquisitionDepth = ThreadLocal.withInitial(() -> 0);
+
+	private volatile long acquireTimeout;
+
+	/**
+	 * Constructs an instance of {@link AdaptiveConcurrencyLimiter} initialized with the given bounds.
+	 * The limit is initially set to the maximum limit.
+	 *
+	 * @param minLimit minimum number of operations allowed in flight.
+	 * @param maxLimit maximum number of operations allowed in flight.
+	 * @param acquireTimeout time in milliseconds to wait for an operation to be allowed.
+	 * @throws IllegalArgumentException if the minimum limit is less than 1, greater than the maximum limit
+	 * or the acquire timeout is negative.
+	 */
+	public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, long acquireTimeout) {
+
+		Assert.isTrue(minLimit > 0, String.format("Minimum limit [%d] must be greater than 0", minLimit));
+		Assert.isTrue(maxLimit >= minLimit, String.format(
+			"Maximum limit [%1$d] must be greater than or equal to minimum limit [%2$d]", maxLimit, minLimit));
+
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.limit = maxLimit;
+		this.permitReleased = this.lock.newCondition();
+
+		setAcquireTimeout(acquireTimeout);
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait for an operation to be allowed by {@link #execute(Supplier)}.
+	 *
+	 * @param acquireTimeout time in milliseconds to wait for an operation to be allowed.
+	 * @throws IllegalArgumentException if the acquire timeout is negative.
+	 */
+	public void setAcquireTimeout(long acquireTimeout) {
+		Assert.isTrue(acquireTimeout >= 0, String.format("Acquire timeout [%d] must not be negative", acquireTimeout));
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	/* (non-Javadoc) */
+	public long getAcquireTimeout() {
+		return this.acquireTimeout;
+	}
+
+	/* (non-Javadoc) */
+	public int getMaxLimit() {
+		return this.maxLimit;
+	}
+
+	/* (non-Javadoc) */
+	public int getMinLimit() {
+		return this.minLimit;
+	}
+
+	/**
+	 * Returns the current number of operations allowed in flight.
+	 *
+	 * @return the current limit.
+	 */
+	public int getLimit() {
+
+		this.lock.lock();
+
+		try {
+			return this.limit;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Changes the number of operations allowed in flight, bounded by the minimum and maximum limit.
+	 * Operations already in flight are unaffected when the limit is lowered.
+	 *
+	 * @param limit new number of operations allowed in flight.
+	 * @return the limit in effect after applying the bounds.
+	 */
+	public int setLimit(int limit) {
+
+		this.lock.lock();
+
+		try {
+			this.limit = Math.max(this.minLimit, Math.min(limit, this.maxLimit));
+			this.permitReleased.signalAll();
+
+			return this.limit;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of operations currently in flight.
+	 *
+	 * @return the number of operations currently in flight.
+	 */
+	public int getInFlight() {
+
+		this.lock.lock();
+
+		try {
+			return this.inFlight;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the highest number of operations in flight since the last call to this method.
+	 *
+	 * @return the highest number of operations in flight since last called.
+	 */
+	public int resetPeakInFlight() {
+
+		this.lock.lock();
+
+		try {
+			int peakInFlight = this.peakInFlight;
+			this.peakInFlight = this.inFlight;
+			return peakInFlight;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until an operation is allowed in flight.
+	 *
+	 * @param timeout time to wait.
+	 * @param timeUnit {@link TimeUnit} of the timeout.
+	 * @return a boolean indicating whether the operation is allowed; {@literal false} if the timeout elapsed.
+	 * @throws InterruptedException if the current {@link Thread} was interrupted while waiting.
+	 * @see #release()
+	 */
+	public boolean tryAcquire(long timeout, TimeUnit timeUnit) throws InterruptedException {
+
+		long remainingNanos = timeUnit.toNanos(timeout);
+
+		this.lock.lockInterruptibly();
+
+		try {
+			while (this.inFlight >= this.limit) {
+				if (remainingNanos <= 0) {
+					return false;
+				}
+
+				remainingNanos = this.permitReleased.awaitNanos(remainingNanos);
+			}
+
+			this.inFlight++;
+			this.peakInFlight = Math.max(this.peakInFlight, this.inFlight);
+
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Signals the completion of an operation allowed by {@link #acquire()} or {@link #tryAcquire(long, TimeUnit)}.
+	 * The completion of an operation nested in another operation allowed by {@link #acquire()} on the current
+	 * {@link Thread} does not release the permit held by the outer operation.
+	 */
+	public void release() {
+
+		int depth = this.acquisitionDepth.get();
+
+		if (depth > 1) {
+			this.acquisitionDepth.set(depth - 1);
+			return;
+		}
+		else if (depth == 1) {
+			this.acquisitionDepth.remove();
+		}
+
+		this.lock.lock();
+
+		try {
+			if (this.inFlight > 0) {
+				this.inFlight--;
+				this.permitReleased.signal();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits at most the acquire timeout until an operation is allowed in flight.  Returns immediately,
+	 * reusing the permit, when the current {@link Thread} already has an operation allowed by this method in flight.
+	 *
+	 * @throws TransientDataAccessResourceException if the operation was not allowed within the acquire timeout
+	 * or the current {@link Thread} was interrupted while waiting.
+	 * @see #getAcquireTimeout()
+	 * @see #release()
+	 */
+	public void acquire() {
+
+		int depth = this.acquisitionDepth.get();
+
+		if (depth > 0) {
+			this.acquisitionDepth.set(depth + 1);
+			return;
+		}
+
+		boolean acquired;
+
+		try {
+			acquired = tryAcquire(getAcquireTimeout(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new TransientDataAccessResourceException("Interrupted while waiting to perform operation", cause);
+		}
+
+		if (!acquired) {
+			throw new TransientDataAccessResourceException(String.format(
+				"Operation not allowed within [%1$d] ms; [%2$d] operation(s) in flight",
+					getAcquireTimeout(), getInFlight()));
+		}
+
+		this.acquisitionDepth.set(1);
+	}
+
+	/**
+	 * Performs the given operation once allowed in flight.
+	 *
+	 * @param <T> {@link Class} type of the operation result.
+	 * @param operation operation to perform.
+	 * @return the result of the operation.
+	 * @throws TransientDataAccessResourceException if the operation was not allowed within the acquire timeout
+	 * or the current {@link Thread} was interrupted while waiting.
+	 * @see java.util.function.Supplier
+	 * @see #acquire()
+	 */
+	public <T> T execute(Supplier<T> operation) {
+
+		acquire();
+
+		try {
+			return operation.get();
+		}
+		finally {
+			release();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s [limit = %2$d, inFlight = %3$d, bounds = %4$d..%5$d]",
+			getClass().getSimpleName(), getLimit(), getInFlight(), getMinLimit(), getMaxLimit());
+	}
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.Pool;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.PoolFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PoolConfigurer;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link AdaptivePoolController} class is a {@link PoolConfigurer} adjusting the number of operations
+ * allowed in flight with a client {@link Pool} to the load observed on the {@link Pool}.
+ *
+ * GemFire does not allow the minimum and maximum number of connections of a {@link Pool} to be changed
+ * once the {@link Pool} has been created.  Instead, the {@link AdaptivePoolController} gates operations through
+ * an {@link AdaptiveConcurrencyLimiter} per {@link Pool}, which is periodically adjusted within the configured
+ * bounds based on the {@link PoolMetrics} of the {@link Pool}.  The limit is lowered when operations wait
+ * too long for a connection or the {@link Pool} is saturated, raised when operations use nearly all of
+ * the limit and lowered gradually when the {@link Pool} is mostly idle, allowing the {@link Pool} to close
+ * idle connections after the idle timeout.
+ *
+ * Declaring the {@link AdaptivePoolController} as a bean enables it for all {@link Pool Pools} configured
+ * with {@link PoolConfigurer PoolConfigurers}, or only the {@link Pool Pools} named with
+ * {@link #setPoolNames(String...)}.  The operations of {@link GemfireTemplate} beans and of SDG Repositories
+ * accessing a {@link Region} that uses a controlled {@link Pool} are gated by the {@link AdaptiveConcurrencyLimiter}
+ * of the {@link Pool}.  Other operations may be gated explicitly using {@link #getLimiter(String)}, for example:
+ *
+ * <pre>
+ *     adaptivePoolController.getLimiter("gemfirePool").execute(() -&gt; region.get(key));
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.client.PoolFactoryBean
+ * @see org.springframework.data.gemfire.client.support.AdaptiveConcurrencyLimiter
+ * @see org.springframework.data.gemfire.client.support.PoolInstrumentation
+ * @see org.springframework.data.gemfire.config.annotation.PoolConfigurer
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class AdaptivePoolController implements BeanPostProcessor, PoolConfigurer, SmartLifecycle {
+
+	public static final int DEFAULT_MAX_CONCURRENCY = 100;
+	public static final int DEFAULT_MIN_CONCURRENCY = 1;
+
+	public static final long DEFAULT_SAMPLE_INTERVAL = 5000L;
+	public static final long DEFAULT_TARGET_CONNECTION_WAIT_TIME = 10L;
+
+	public static final double DEFAULT_BACK_OFF_RATIO = 0.75d;
+	public static final double DEFAULT_UTILIZATION_THRESHOLD = 0.9d;
+
+	protected static final String THREAD_NAME = "Adaptive Pool Controller";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private double backOffRatio = DEFAULT_BACK_OFF_RATIO;
+	private double utilizationThreshold = DEFAULT_UTILIZATION_THRESHOLD;
+
+	private int maxConcurrency;
+	private int minConcurrency = DEFAULT_MIN_CONCURRENCY;
+
+	private long sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+	private long targetConnectionWaitTime = DEFAULT_TARGET_CONNECTION_WAIT_TIME;
+
+	private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+	private final Map<String, PoolFactoryBean> poolFactoryBeans = new ConcurrentHashMap<>();
+
+	private final Map<String, PoolMetrics> previousMetrics = new ConcurrentHashMap<>();
+
+	private volatile ScheduledExecutorService scheduler;
+
+	private Set<String> poolNames = Collections.emptySet();
+
+	/**
+	 * Creates an {@link AdaptiveConcurrencyLimiter} for the {@link Pool} configured by the given
+	 * {@link PoolFactoryBean}, unless the {@link Pool} is not controlled.
+	 *
+	 * The {@link AdaptiveConcurrencyLimiter} is keyed by the {@link Pool#getName() name} of the {@link Pool},
+	 * falling back to the bean name when the {@link Pool} name is not set.  The maximum concurrency defaults to
+	 * the maximum number of connections of the {@link Pool}, or {@link #DEFAULT_MAX_CONCURRENCY} when
+	 * the {@link Pool} is unbounded, and operations wait at most the free connection timeout
+	 * of the {@link Pool} to be allowed.
+	 *
+	 * @param beanName name of the {@link Pool} bean.
+	 * @param bean {@link PoolFactoryBean} creating the {@link Pool}.
+	 */
+	@Override
+	public void configure(String beanName, PoolFactoryBean bean) {
+
+		Pool poolConfiguration = bean.getPool();
+
+		String poolName = Optional.ofNullable(poolConfiguration.getName()).filter(StringUtils::hasText)
+			.orElse(beanName);
+
+		if (isControlled(poolName)) {
+
+			int maxConcurrency = resolveMaxConcurrency(poolConfiguration);
+
+			this.poolFactoryBeans.put(poolName, bean);
+			this.limiters.put(poolName, new AdaptiveConcurrencyLimiter(Math.min(getMinConcurrency(), maxConcurrency),
+				maxConcurrency, poolConfiguration.getFreeConnectionTimeout()));
+		}
+	}
+
+	/**
+	 * Gates the operations of the given {@link GemfireTemplate} bean by the {@link AdaptiveConcurrencyLimiter}
+	 * of the {@link Pool} used by the template's {@link Region}, unless a limiter has already been set.
+	 *
+	 * @param bean bean being initialized.
+	 * @param beanName name of the bean.
+	 * @return the bean.
+	 * @throws BeansException if post processing fails.
+	 * @see org.springframework.data.gemfire.GemfireTemplate#setConcurrencyLimiter(AdaptiveConcurrencyLimiter)
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof GemfireTemplate) {
+
+			GemfireTemplate template = (GemfireTemplate) bean;
+
+			if (template.getConcurrencyLimiter() == null) {
+				findLimiter(template.getRegion()).ifPresent(template::setConcurrencyLimiter);
+			}
+		}
+
+		return bean;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isControlled(String poolName) {
+		return (this.poolNames.isEmpty() || this.poolNames.contains(poolName));
+	}
+
+	/* (non-Javadoc) */
+	private int resolveMaxConcurrency(Pool poolConfiguration) {
+
+		return (getMaxConcurrency() > 0 ? getMaxConcurrency()
+			: (poolConfiguration.getMaxConnections() > 0 ? poolConfiguration.getMaxConnections()
+			: DEFAULT_MAX_CONCURRENCY));
+	}
+
+	/**
+	 * Returns the {@link AdaptiveConcurrencyLimiter} gating the operations of the named {@link Pool}.
+	 *
+	 * @param poolName name of the {@link Pool}.
+	 * @return the {@link AdaptiveConcurrencyLimiter} of the {@link Pool}.
+	 * @throws IllegalArgumentException if the named {@link Pool} is not controlled.
+	 */
+	public AdaptiveConcurrencyLimiter getLimiter(String poolName) {
+		return Optional.ofNullable(this.limiters.get(poolName)).orElseThrow(() ->
+			newIllegalArgumentException("Pool [%s] is not controlled", poolName));
+	}
+
+	/**
+	 * Finds the {@link AdaptiveConcurrencyLimiter} of the {@link Pool} used by the given {@link Region}.
+	 *
+	 * @param region {@link Region} accessed by the operations to gate.
+	 * @return the {@link Optional} {@link AdaptiveConcurrencyLimiter} of the {@link Pool} used by the {@link Region};
+	 * empty if the {@link Region} does not use a controlled {@link Pool}.
+	 * @see org.apache.geode.cache.RegionAttributes#getPoolName()
+	 */
+	public Optional<AdaptiveConcurrencyLimiter> findLimiter(Region<?, ?> region) {
+
+		return Optional.ofNullable(region).map(Region::getAttributes).map(attributes -> attributes.getPoolName())
+			.filter(StringUtils::hasText).map(this.limiters::get);
+	}
+
+	/**
+	 * Returns the {@link AdaptiveConcurrencyLimiter} of every controlled {@link Pool}, keyed by {@link Pool} name.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link AdaptiveConcurrencyLimiter AdaptiveConcurrencyLimiters}.
+	 */
+	public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+		return Collections.unmodifiableMap(this.limiters);
+	}
+
+	/**
+	 * Sets the names of the {@link Pool Pools} to control; all {@link Pool Pools} are controlled if not set.
+	 *
+	 * @param poolNames names of the {@link Pool Pools} to control.
+	 */
+	public void setPoolNames(String... poolNames) {
+		this.poolNames = (poolNames != null ? new HashSet<>(Arrays.asList(poolNames)) : Collections.emptySet());
+	}
+
+	/**
+	 * Sets the ratio by which the limit is lowered when operations wait too long for a connection.
+	 *
+	 * @param backOffRatio ratio by which the limit is lowered.
+	 * @throws IllegalArgumentException if the ratio is not greater than 0 and less than 1.
+	 */
+	public void setBackOffRatio(double backOffRatio) {
+		Assert.isTrue(backOffRatio > 0.0d && backOffRatio < 1.0d,
+			String.format("Back-off ratio [%s] must be greater than 0 and less than 1", backOffRatio));
+		this.backOffRatio = backOffRatio;
+	}
+
+	/* (non-Javadoc) */
+	public double getBackOffRatio() {
+		return this.backOffRatio;
+	}
+
+	/**
+	 * Sets the maximum number of operations allowed in flight with a {@link Pool}.
+	 *
+	 * @param maxConcurrency maximum number of operations allowed in flight.
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/* (non-Javadoc) */
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * Sets the minimum number of operations allowed in flight with a {@link Pool}.
+	 *
+	 * @param minConcurrency minimum number of operations allowed in flight.
+	 * @throws IllegalArgumentException if the minimum concurrency is less than 1.
+	 */
+	public void setMinConcurrency(int minConcurrency) {
+		Assert.isTrue(minConcurrency > 0, String.format("Minimum concurrency [%d] must be greater than 0",
+			minConcurrency));
+		this.minConcurrency = minConcurrency;
+	}
+
+	/* (non-Javadoc) */
+	public int getMinConcurrency() {
+		return this.minConcurrency;
+	}
+
+	/**
+	 * Sets the time in milliseconds between adjustments of the limits.
+	 *
+	 * @param sampleInterval time in milliseconds between adjustments.
+	 * @throws IllegalArgumentException if the sample interval is less than 1.
+	 */
+	public void setSampleInterval(long sampleInterval) {
+		Assert.isTrue(sampleInterval > 0, String.format("Sample interval [%d] must be greater than 0",
+			sampleInterval));
+		this.sampleInterval = sampleInterval;
+	}
+
+	/* (non-Javadoc) */
+	public long getSampleInterval() {
+		return this.sampleInterval;
+	}
+
+	/**
+	 * Sets the average time in milliseconds operations may wait for a connection before the limit is lowered.
+	 *
+	 * @param targetConnectionWaitTime average connection wait time in milliseconds tolerated.
+	 */
+	public void setTargetConnectionWaitTime(long targetConnectionWaitTime) {
+		this.targetConnectionWaitTime = targetConnectionWaitTime;
+	}
+
+	/* (non-Javadoc) */
+	public long getTargetConnectionWaitTime() {
+		return this.targetConnectionWaitTime;
+	}
+
+	/**
+	 * Sets the fraction of the limit that operations in flight must reach before the limit is raised.
+	 *
+	 * @param utilizationThreshold fraction of the limit used before the limit is raised.
+	 * @throws IllegalArgumentException if the threshold is not greater than 0 and at most 1.
+	 */
+	public void setUtilizationThreshold(double utilizationThreshold) {
+		Assert.isTrue(utilizationThreshold > 0.0d && utilizationThreshold <= 1.0d,
+			String.format("Utilization threshold [%s] must be greater than 0 and at most 1", utilizationThreshold));
+		this.utilizationThreshold = utilizationThreshold;
+	}
+
+	/* (non-Javadoc) */
+	public double getUtilizationThreshold() {
+		return this.utilizationThreshold;
+	}
+
+	/**
+	 * Adjusts the limit of every controlled {@link Pool} that has been created.
+	 */
+	public void adjust() {
+		this.poolFactoryBeans.forEach((poolName, poolFactoryBean) -> {
+			try {
+				adjust(poolName, poolFactoryBean.getPoolInstrumentation().getMetrics());
+			}
+			catch (IllegalStateException ignore) {
+				// the Pool has not been created yet or was destroyed
+			}
+			catch (RuntimeException cause) {
+				logger.warn(String.format("Failed to adjust the limit of Pool [%s]", poolName), cause);
+			}
+		});
+	}
+
+	/* (non-Javadoc) */
+	void adjust(String poolName, PoolMetrics metrics) {
+
+		AdaptiveConcurrencyLimiter limiter = getLimiter(poolName);
+
+		PoolMetrics previousMetrics = this.previousMetrics.put(poolName, metrics);
+
+		long averageConnectionWaitTime = resolveAverageConnectionWaitTime(previousMetrics, metrics);
+
+		int limit = limiter.getLimit();
+		int peakInFlight = limiter.resetPeakInFlight();
+		int newLimit = limiter.setLimit(resolveLimit(limit, peakInFlight, averageConnectionWaitTime,
+			metrics.isSaturated()));
+
+		if (newLimit != limit && logger.isInfoEnabled()) {
+			logger.info(String.format("Adjusted limit of Pool [%1$s] from [%2$d] to [%3$d] with peak in flight [%4$d]"
+				+ " and average connection wait time [%5$d] ms", poolName, limit, newLimit, peakInFlight,
+					averageConnectionWaitTime));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private long resolveAverageConnectionWaitTime(PoolMetrics previousMetrics, PoolMetrics metrics) {
+
+		long connectionWaits = metrics.getConnectionWaits();
+		long connectionWaitTime = metrics.getConnectionWaitTime(TimeUnit.NANOSECONDS);
+
+		if (previousMetrics != null && previousMetrics.getConnectionWaits() > 0) {
+			connectionWaits -= previousMetrics.getConnectionWaits();
+			connectionWaitTime -= previousMetrics.getConnectionWaitTime(TimeUnit.NANOSECONDS);
+		}
+
+		return (connectionWaits > 0 && connectionWaitTime > 0
+			? TimeUnit.NANOSECONDS.toMillis(connectionWaitTime / connectionWaits) : 0L);
+	}
+
+	/**
+	 * Resolves the new limit of a {@link Pool} from the current limit and the load observed since last adjusted.
+	 *
+	 * @param limit current limit.
+	 * @param peakInFlight highest number of operations in flight since last adjusted.
+	 * @param averageConnectionWaitTime average time in milliseconds operations waited for a connection.
+	 * @param saturated whether the {@link Pool} is saturated.
+	 * @return the new limit, bounded by the {@link AdaptiveConcurrencyLimiter}.
+	 */
+	protected int resolveLimit(int limit, int peakInFlight, long averageConnectionWaitTime, boolean saturated) {
+
+		if (saturated || averageConnectionWaitTime > getTargetConnectionWaitTime()) {
+			return (int) Math.floor(limit * getBackOffRatio());
+		}
+		else if (peakInFlight >= Math.ceil(limit * getUtilizationThreshold())) {
+			return limit + Math.max(limit / 10, 1);
+		}
+		else if (peakInFlight < limit / 2) {
+			return limit - 1;
+		}
+
+		return limit;
+	}
+
+	/**
+	 * Starts periodically adjusting the limits of the controlled {@link Pool Pools}.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (!isRunning()) {
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			this.scheduler.scheduleWithFixedDelay(this::adjust, getSampleInterval(), getSampleInterval(),
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isRunning() {
+		return (this.scheduler != null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void stop() {
+		Optional.ofNullable(this.scheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+		this.scheduler = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	/**
+	 * Returns the phase of this {@link SmartLifecycle}, starting after all other components.
+	 *
+	 * @return {@link Integer#MAX_VALUE}.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+}
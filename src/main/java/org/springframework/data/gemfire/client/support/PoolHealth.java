@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+/**
+ * The {@link PoolHealth} class describes the health of a client {@link org.apache.geode.cache.client.Pool}
+ * as determined by {@link PoolInstrumentation}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.client.support.PoolInstrumentation
+ * @see org.springframework.data.gemfire.client.support.PoolMetrics
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class PoolHealth {
+
+	private final PoolMetrics metrics;
+
+	private final Status status;
+
+	private final String reason;
+
+	/* (non-Javadoc) */
+	PoolHealth(Status status, String reason, PoolMetrics metrics) {
+		this.status = status;
+		this.reason = reason;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns the {@link Status} of the {@link org.apache.geode.cache.client.Pool}.
+	 *
+	 * @return the {@link Status} of the {@link org.apache.geode.cache.client.Pool}.
+	 */
+	public Status getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Returns a description of why the {@link org.apache.geode.cache.client.Pool} has the {@link Status}.
+	 *
+	 * @return a description of the {@link Status}.
+	 */
+	public String getReason() {
+		return this.reason;
+	}
+
+	/**
+	 * Returns the {@link PoolMetrics} from which the {@link Status} was determined.
+	 *
+	 * @return the {@link PoolMetrics}; may be {@literal null} if the {@link org.apache.geode.cache.client.Pool}
+	 * was destroyed.
+	 */
+	public PoolMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Determines whether the {@link org.apache.geode.cache.client.Pool} is {@link Status#UP}.
+	 *
+	 * @return a boolean indicating whether the {@link org.apache.geode.cache.client.Pool} is {@link Status#UP}.
+	 */
+	public boolean isUp() {
+		return Status.UP.equals(getStatus());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s (%2$s)", getStatus(), getReason());
+	}
+
+	public enum Status {
+		UP,
+		DEGRADED,
+		DOWN
+	}
+}
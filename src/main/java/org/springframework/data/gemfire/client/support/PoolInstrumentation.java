@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.springframework.data.gemfire.client.support.PoolMetrics.UNAVAILABLE;
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.cache.client.Pool;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PoolInstrumentation} class exposes the utilization and health of a client {@link Pool}.
+ *
+ * GemFire does not expose connection pool utilization through the public {@link Pool} API.  Therefore,
+ * {@link PoolInstrumentation} reads the statistics GemFire records for every {@link Pool}, that is,
+ * the {@literal PoolStats} of the {@link Pool} and the {@literal ClientStats} of every server the {@link Pool}
+ * is connected to, using the public {@link StatisticsFactory} API of the
+ * {@link org.apache.geode.distributed.DistributedSystem}.
+ *
+ * GemFire identifies the {@literal PoolStats} of a {@link Pool} with the text ID
+ * {@literal <poolName>->[<serverGroup>]}, or {@literal <poolName>->[any servers]}, and the {@literal ClientStats}
+ * of each server with the text ID {@literal ClientStats-<poolName>-<host>:<port>}.
+ *
+ * The {@link PoolMetrics} can be bound as gauges to any metrics library with {@link #bindTo(BiConsumer)}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.springframework.data.gemfire.client.support.PoolHealth
+ * @see org.springframework.data.gemfire.client.support.PoolMetrics
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class PoolInstrumentation {
+
+	public static final String POOL_STATISTICS_TYPE_NAME = "PoolStats";
+	public static final String SERVER_STATISTICS_TYPE_NAME = "ClientStats";
+
+	protected static final String CONNECTIONS_STATISTIC = "connections";
+	protected static final String CONNECTION_WAITS_STATISTIC = "connectionWaits";
+	protected static final String CONNECTION_WAITS_IN_PROGRESS_STATISTIC = "connectionWaitsInProgress";
+	protected static final String CONNECTION_WAIT_TIME_STATISTIC = "connectionWaitTime";
+	protected static final String DISCONNECTS_STATISTIC = "disconnects";
+	protected static final String OPERATIONS_STATISTIC = "clientOps";
+	protected static final String OPERATIONS_IN_PROGRESS_STATISTIC = "clientOpsInProgress";
+	protected static final String OPERATION_FAILURES_STATISTIC = "clientOpFailures";
+	protected static final String OPERATION_TIMEOUTS_STATISTIC = "clientOpTimeouts";
+
+	protected static final String FAILURES_STATISTIC_SUFFIX = "Failures";
+	protected static final String POOL_STATISTICS_TEXT_ID_SEPARATOR = "->";
+	protected static final String SERVER_STATISTICS_TEXT_ID_PREFIX = SERVER_STATISTICS_TYPE_NAME.concat("-");
+	protected static final String GAUGE_NAME_PREFIX = "gemfire.pool.";
+	protected static final String TIME_STATISTIC_SUFFIX = "Time";
+
+	private final Pool pool;
+
+	private final StatisticsFactory statisticsFactory;
+
+	private volatile Statistics poolStatistics;
+
+	/**
+	 * Constructs an instance of {@link PoolInstrumentation} initialized with the given {@link Pool}
+	 * and the {@link StatisticsFactory} in which the {@link Pool} records its statistics.
+	 *
+	 * @param pool {@link Pool} to instrument.
+	 * @param statisticsFactory {@link StatisticsFactory} used to find the statistics of the {@link Pool},
+	 * usually the {@link org.apache.geode.distributed.DistributedSystem}.
+	 * @throws IllegalArgumentException if the {@link Pool} or {@link StatisticsFactory} is {@literal null}.
+	 * @see org.apache.geode.StatisticsFactory
+	 * @see org.apache.geode.cache.client.Pool
+	 */
+	public PoolInstrumentation(Pool pool, StatisticsFactory statisticsFactory) {
+
+		Assert.notNull(pool, "Pool is required");
+		Assert.notNull(statisticsFactory, "StatisticsFactory is required");
+
+		this.pool = pool;
+		this.statisticsFactory = statisticsFactory;
+	}
+
+	/**
+	 * Returns the instrumented {@link Pool}.
+	 *
+	 * @return the instrumented {@link Pool}.
+	 * @see org.apache.geode.cache.client.Pool
+	 */
+	public Pool getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * Returns the {@link StatisticsFactory} in which the {@link Pool} records its statistics.
+	 *
+	 * @return the {@link StatisticsFactory}.
+	 * @see org.apache.geode.StatisticsFactory
+	 */
+	protected StatisticsFactory getStatisticsFactory() {
+		return this.statisticsFactory;
+	}
+
+	/**
+	 * Takes a snapshot of the current utilization of the {@link Pool}.
+	 *
+	 * Active connections are determined from the number of operations in progress, each of which holds
+	 * a connection for the duration of the operation.
+	 *
+	 * @return the {@link PoolMetrics} of the {@link Pool}.
+	 * @see org.springframework.data.gemfire.client.support.PoolMetrics
+	 */
+	public PoolMetrics getMetrics() {
+
+		Optional<Statistics> poolStatistics = resolvePoolStatistics();
+
+		return new PoolMetrics(getPool().getName(), getPool().getMinConnections(), getPool().getMaxConnections(),
+			get(poolStatistics, CONNECTIONS_STATISTIC), get(poolStatistics, OPERATIONS_IN_PROGRESS_STATISTIC),
+			get(poolStatistics, CONNECTION_WAITS_IN_PROGRESS_STATISTIC), get(poolStatistics, CONNECTION_WAITS_STATISTIC),
+			get(poolStatistics, CONNECTION_WAIT_TIME_STATISTIC), get(poolStatistics, OPERATIONS_STATISTIC),
+			get(poolStatistics, OPERATION_FAILURES_STATISTIC), get(poolStatistics, OPERATION_TIMEOUTS_STATISTIC),
+			get(poolStatistics, DISCONNECTS_STATISTIC), resolveServerMetrics());
+	}
+
+	/**
+	 * Determines the health of the {@link Pool} without regard to operations that failed over.
+	 *
+	 * @return the {@link PoolHealth} of the {@link Pool}.
+	 * @see #getHealth(PoolHealth)
+	 */
+	public PoolHealth getHealth() {
+		return getHealth(null);
+	}
+
+	/**
+	 * Determines the health of the {@link Pool} since the given, previously determined {@link PoolHealth}.
+	 *
+	 * The {@link Pool} is {@link PoolHealth.Status#DOWN} when destroyed or when operations failed without
+	 * the {@link Pool} having any connection to a server, and {@link PoolHealth.Status#DEGRADED}
+	 * when saturated or when operations failed over to another server since the previous {@link PoolHealth}.
+	 *
+	 * No state is kept between calls, so that each consumer, such as a health check or a scheduled monitor,
+	 * determines failovers from the {@link PoolHealth} it last determined.
+	 *
+	 * @param previousHealth {@link PoolHealth} previously determined by the caller; may be {@literal null},
+	 * in which case failovers are not considered.
+	 * @return the {@link PoolHealth} of the {@link Pool}.
+	 * @see org.springframework.data.gemfire.client.support.PoolHealth
+	 */
+	public PoolHealth getHealth(PoolHealth previousHealth) {
+
+		if (getPool().isDestroyed()) {
+			return new PoolHealth(PoolHealth.Status.DOWN,
+				String.format("Pool [%s] was destroyed", getPool().getName()), null);
+		}
+
+		PoolMetrics metrics = getMetrics();
+
+		long newFailovers = resolveNewFailovers(previousHealth, metrics);
+
+		if (metrics.getConnections() == 0 && newFailovers > 0) {
+			return new PoolHealth(PoolHealth.Status.DOWN, String.format(
+				"[%d] operation(s) failed without a connection to any server", newFailovers), metrics);
+		}
+
+		if (metrics.isSaturated()) {
+			return new PoolHealth(PoolHealth.Status.DEGRADED, String.format(
+				"[%1$d] operation(s) waiting for a connection with all [%2$d] connections in use",
+					metrics.getPendingConnectionRequests(), metrics.getMaxConnections()), metrics);
+		}
+
+		if (newFailovers > 0) {
+			return new PoolHealth(PoolHealth.Status.DEGRADED, String.format(
+				"[%d] operation(s) failed over since last checked", newFailovers), metrics);
+		}
+
+		return new PoolHealth(PoolHealth.Status.UP, String.format("[%1$d] of [%2$d] connections in use",
+			metrics.getActiveConnections(), metrics.getConnections()), metrics);
+	}
+
+	/* (non-Javadoc) */
+	private long resolveNewFailovers(PoolHealth previousHealth, PoolMetrics metrics) {
+
+		long failovers = metrics.getFailovers();
+
+		long previousFailovers = Optional.ofNullable(previousHealth).map(PoolHealth::getMetrics)
+			.map(PoolMetrics::getFailovers).orElse(UNAVAILABLE);
+
+		return (failovers < 0 || previousFailovers < 0 ? 0L : Math.max(failovers - previousFailovers, 0L));
+	}
+
+	/**
+	 * Binds the {@link PoolMetrics} of the {@link Pool} as gauges using the given registrar, which is called
+	 * with the name of each gauge, prefixed with {@literal gemfire.pool.<poolName>.}, and a {@link Supplier}
+	 * of the current value.
+	 *
+	 * For example, to bind the {@link Pool} to a Micrometer {@literal MeterRegistry}:
+	 *
+	 * <pre>
+	 *     poolInstrumentation.bindTo((name, value) -&gt; Gauge.builder(name, value).register(meterRegistry));
+	 * </pre>
+	 *
+	 * Metrics of individual servers change as servers join and leave and are only available
+	 * from {@link #getMetrics()}.
+	 *
+	 * @param gaugeRegistrar {@link BiConsumer} registering each gauge.
+	 * @throws IllegalArgumentException if the gauge registrar is {@literal null}.
+	 * @see java.util.function.BiConsumer
+	 */
+	public void bindTo(BiConsumer<String, Supplier<Number>> gaugeRegistrar) {
+
+		Assert.notNull(gaugeRegistrar, "Gauge registrar is required");
+
+		String gaugeNamePrefix = GAUGE_NAME_PREFIX.concat(getPool().getName()).concat(".");
+
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections"), () -> getMetrics().getConnections());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections.active"), () -> getMetrics().getActiveConnections());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections.idle"), () -> getMetrics().getIdleConnections());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections.max"), () -> getPool().getMaxConnections());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections.pending"),
+			() -> getMetrics().getPendingConnectionRequests());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("connections.wait.time"),
+			() -> getMetrics().getAverageConnectionWaitTime(TimeUnit.MILLISECONDS));
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("operations"), () -> getMetrics().getOperations());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("failovers"), () -> getMetrics().getFailovers());
+		gaugeRegistrar.accept(gaugeNamePrefix.concat("disconnects"), () -> getMetrics().getDisconnects());
+	}
+
+	/* (non-Javadoc) */
+	private Optional<Statistics> resolvePoolStatistics() {
+
+		Statistics poolStatistics = this.poolStatistics;
+
+		if (poolStatistics == null || poolStatistics.isClosed()) {
+
+			String poolName = getPool().getName();
+			String poolStatisticsTextIdPrefix = poolName.concat(POOL_STATISTICS_TEXT_ID_SEPARATOR);
+
+			poolStatistics = findStatisticsByType(POOL_STATISTICS_TYPE_NAME)
+				.filter(statistics -> !statistics.isClosed())
+				.filter(statistics -> {
+					String textId = String.valueOf(statistics.getTextId());
+					return (textId.equals(poolName) || textId.startsWith(poolStatisticsTextIdPrefix));
+				})
+				.findFirst()
+				.orElse(null);
+
+			this.poolStatistics = poolStatistics;
+		}
+
+		return Optional.ofNullable(poolStatistics);
+	}
+
+	/* (non-Javadoc) */
+	private Map<String, PoolMetrics.ServerMetrics> resolveServerMetrics() {
+
+		String serverStatisticsTextIdPrefix = SERVER_STATISTICS_TEXT_ID_PREFIX.concat(getPool().getName()).concat("-");
+
+		return findStatisticsByType(SERVER_STATISTICS_TYPE_NAME)
+			.filter(statistics -> !statistics.isClosed())
+			.filter(statistics -> String.valueOf(statistics.getTextId()).startsWith(serverStatisticsTextIdPrefix))
+			.map(statistics -> newServerMetrics(
+				statistics.getTextId().substring(serverStatisticsTextIdPrefix.length()), statistics))
+			.collect(Collectors.toMap(PoolMetrics.ServerMetrics::getServer, serverMetrics -> serverMetrics,
+				(serverMetricsOne, serverMetricsTwo) -> serverMetricsOne, TreeMap::new));
+	}
+
+	/* (non-Javadoc) */
+	private Stream<Statistics> findStatisticsByType(String typeName) {
+
+		return Optional.ofNullable(getStatisticsFactory().findType(typeName))
+			.map(getStatisticsFactory()::findStatisticsByType)
+			.map(statistics -> Arrays.stream(nullSafeArray(statistics, Statistics.class)))
+			.orElseGet(Stream::empty);
+	}
+
+	/* (non-Javadoc) */
+	private PoolMetrics.ServerMetrics newServerMetrics(String server, Statistics statistics) {
+
+		Set<String> statisticNames = Arrays.stream(nullSafeArray(statistics.getType().getStatistics(),
+			StatisticDescriptor.class)).map(StatisticDescriptor::getName).collect(Collectors.toSet());
+
+		long operations = 0L;
+		long operationFailures = 0L;
+		long operationTime = 0L;
+
+		for (String statisticName : statisticNames) {
+			if (statisticName.endsWith(TIME_STATISTIC_SUFFIX)) {
+
+				String operationCountStatisticName = statisticName.substring(0,
+					statisticName.length() - TIME_STATISTIC_SUFFIX.length()).concat("s");
+
+				if (statisticNames.contains(operationCountStatisticName)) {
+					operations += Math.max(get(statistics, operationCountStatisticName), 0L);
+					operationTime += Math.max(get(statistics, statisticName), 0L);
+				}
+			}
+			else if (statisticName.endsWith(FAILURES_STATISTIC_SUFFIX)) {
+				operationFailures += Math.max(get(statistics, statisticName), 0L);
+			}
+		}
+
+		return new PoolMetrics.ServerMetrics(server, operations, operationTime, operationFailures);
+	}
+
+	/* (non-Javadoc) */
+	private long get(Optional<Statistics> statistics, String statisticName) {
+		return statistics.map(it -> get(it, statisticName)).orElse(UNAVAILABLE);
+	}
+
+	/* (non-Javadoc) */
+	private long get(Statistics statistics, String statisticName) {
+		try {
+			return Optional.ofNullable(statistics.get(statisticName)).map(Number::longValue).orElse(UNAVAILABLE);
+		}
+		catch (IllegalArgumentException ignore) {
+			return UNAVAILABLE;
+		}
+	}
+}
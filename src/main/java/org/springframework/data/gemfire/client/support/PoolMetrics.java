@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link PoolMetrics} class is an immutable snapshot of the utilization of a client
+ * {@link org.apache.geode.cache.client.Pool} taken by {@link PoolInstrumentation}.
+ *
+ * Metrics that could not be determined are reported as {@link #UNAVAILABLE}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.client.support.PoolInstrumentation
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class PoolMetrics {
+
+	public static final long UNAVAILABLE = -1L;
+
+	private final int maxConnections;
+	private final int minConnections;
+
+	private final long connections;
+	private final long activeConnections;
+	private final long connectionWaits;
+	private final long connectionWaitTime;
+	private final long disconnects;
+	private final long operationFailures;
+	private final long operationTimeouts;
+	private final long operations;
+	private final long pendingConnectionRequests;
+	private final long timestamp;
+
+	private final Map<String, ServerMetrics> serverMetrics;
+
+	private final String poolName;
+
+	/* (non-Javadoc) */
+	PoolMetrics(String poolName, int minConnections, int maxConnections, long connections, long activeConnections,
+			long pendingConnectionRequests, long connectionWaits, long connectionWaitTime, long operations,
+			long operationFailures, long operationTimeouts, long disconnects, Map<String, ServerMetrics> serverMetrics) {
+
+		this.poolName = poolName;
+		this.minConnections = minConnections;
+		this.maxConnections = maxConnections;
+		this.connections = connections;
+		this.activeConnections = activeConnections;
+		this.pendingConnectionRequests = pendingConnectionRequests;
+		this.connectionWaits = connectionWaits;
+		this.connectionWaitTime = connectionWaitTime;
+		this.operations = operations;
+		this.operationFailures = operationFailures;
+		this.operationTimeouts = operationTimeouts;
+		this.disconnects = disconnects;
+		this.serverMetrics = Collections.unmodifiableMap(new LinkedHashMap<>(nullSafeMap(serverMetrics)));
+		this.timestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the name of the {@link org.apache.geode.cache.client.Pool}.
+	 *
+	 * @return the name of the {@link org.apache.geode.cache.client.Pool}.
+	 */
+	public String getPoolName() {
+		return this.poolName;
+	}
+
+	/**
+	 * Returns the configured minimum number of connections.
+	 *
+	 * @return the configured minimum number of connections.
+	 */
+	public int getMinConnections() {
+		return this.minConnections;
+	}
+
+	/**
+	 * Returns the configured maximum number of connections; {@literal -1} if unbounded.
+	 *
+	 * @return the configured maximum number of connections.
+	 */
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * Returns the number of connections currently open to servers.
+	 *
+	 * @return the number of open connections.
+	 */
+	public long getConnections() {
+		return this.connections;
+	}
+
+	/**
+	 * Returns the number of connections currently used by an in-flight operation.
+	 *
+	 * @return the number of active connections.
+	 */
+	public long getActiveConnections() {
+		return this.activeConnections;
+	}
+
+	/**
+	 * Returns the number of open connections not used by any in-flight operation.
+	 *
+	 * @return the number of idle connections.
+	 */
+	public long getIdleConnections() {
+		return (this.connections < 0 || this.activeConnections < 0 ? UNAVAILABLE
+			: Math.max(this.connections - this.activeConnections, 0L));
+	}
+
+	/**
+	 * Returns the number of operations currently waiting for a connection from the pool.
+	 *
+	 * @return the number of pending connection requests.
+	 */
+	public long getPendingConnectionRequests() {
+		return this.pendingConnectionRequests;
+	}
+
+	/**
+	 * Returns the total number of times an operation had to wait for a connection.
+	 *
+	 * @return the total number of connection waits.
+	 */
+	public long getConnectionWaits() {
+		return this.connectionWaits;
+	}
+
+	/**
+	 * Returns the total time operations waited for a connection.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value.
+	 * @return the total connection wait time or {@link #UNAVAILABLE}.
+	 */
+	public long getConnectionWaitTime(TimeUnit timeUnit) {
+		return (this.connectionWaitTime < 0 ? UNAVAILABLE
+			: timeUnit.convert(this.connectionWaitTime, TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Returns the average time an operation waited for a connection.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value.
+	 * @return the average connection wait time or {@link #UNAVAILABLE}.
+	 */
+	public long getAverageConnectionWaitTime(TimeUnit timeUnit) {
+		return average(this.connectionWaitTime, this.connectionWaits, timeUnit);
+	}
+
+	/**
+	 * Returns the total number of operations performed by clients using the pool.
+	 *
+	 * @return the total number of operations.
+	 */
+	public long getOperations() {
+		return this.operations;
+	}
+
+	/**
+	 * Returns the total number of operations that failed on a server, causing the operation
+	 * to fail over to another server when retries were configured.
+	 *
+	 * @return the total number of failed operations.
+	 */
+	public long getOperationFailures() {
+		return this.operationFailures;
+	}
+
+	/**
+	 * Returns the total number of operations that timed out on a server.
+	 *
+	 * @return the total number of timed out operations.
+	 */
+	public long getOperationTimeouts() {
+		return this.operationTimeouts;
+	}
+
+	/**
+	 * Returns the total number of failovers, i.e. failed and timed out operations.
+	 *
+	 * @return the total number of failovers.
+	 */
+	public long getFailovers() {
+		return (this.operationFailures < 0 || this.operationTimeouts < 0 ? UNAVAILABLE
+			: this.operationFailures + this.operationTimeouts);
+	}
+
+	/**
+	 * Returns the total number of connections that were closed.
+	 *
+	 * @return the total number of disconnects.
+	 */
+	public long getDisconnects() {
+		return this.disconnects;
+	}
+
+	/**
+	 * Returns the {@link ServerMetrics} of each server the pool is connected to, keyed by server.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link ServerMetrics}.
+	 * @see org.springframework.data.gemfire.client.support.PoolMetrics.ServerMetrics
+	 */
+	public Map<String, ServerMetrics> getServerMetrics() {
+		return this.serverMetrics;
+	}
+
+	/**
+	 * Returns the time at which this snapshot was taken, in milliseconds since the epoch.
+	 *
+	 * @return the time at which this snapshot was taken.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Determines whether the pool has no connection left to give, i.e. operations are waiting for a connection
+	 * and the maximum number of connections has been reached.
+	 *
+	 * @return a boolean indicating whether the pool is saturated.
+	 */
+	public boolean isSaturated() {
+		return (this.pendingConnectionRequests > 0 && this.maxConnections > 0
+			&& this.connections >= this.maxConnections);
+	}
+
+	/* (non-Javadoc) */
+	static long average(long totalTimeInNanoseconds, long count, TimeUnit timeUnit) {
+		return (totalTimeInNanoseconds < 0 || count <= 0 ? UNAVAILABLE
+			: timeUnit.convert(totalTimeInNanoseconds / count, TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return String.format("{ @type = %1$s, poolName = %2$s, connections = %3$d, activeConnections = %4$d,"
+				+ " idleConnections = %5$d, maxConnections = %6$d, pendingConnectionRequests = %7$d,"
+				+ " averageConnectionWaitTime = %8$d ms, operations = %9$d, failovers = %10$d, servers = %11$s }",
+			getClass().getName(), getPoolName(), getConnections(), getActiveConnections(), getIdleConnections(),
+			getMaxConnections(), getPendingConnectionRequests(), getAverageConnectionWaitTime(TimeUnit.MILLISECONDS),
+			getOperations(), getFailovers(), getServerMetrics().values());
+	}
+
+	/**
+	 * The {@link ServerMetrics} class captures the operations performed by the pool on a single server.
+	 */
+	public static class ServerMetrics {
+
+		private final long operationFailures;
+		private final long operations;
+		private final long operationTime;
+
+		private final String server;
+
+		/* (non-Javadoc) */
+		ServerMetrics(String server, long operations, long operationTime, long operationFailures) {
+			this.server = server;
+			this.operations = operations;
+			this.operationTime = operationTime;
+			this.operationFailures = operationFailures;
+		}
+
+		/**
+		 * Returns the server as {@literal host:port}.
+		 *
+		 * @return the server.
+		 */
+		public String getServer() {
+			return this.server;
+		}
+
+		/**
+		 * Returns the total number of operations performed on the server.
+		 *
+		 * @return the total number of operations performed on the server.
+		 */
+		public long getOperations() {
+			return this.operations;
+		}
+
+		/**
+		 * Returns the total number of operations that failed on the server.
+		 *
+		 * @return the total number of operations that failed on the server.
+		 */
+		public long getOperationFailures() {
+			return this.operationFailures;
+		}
+
+		/**
+		 * Returns the average latency of an operation performed on the server.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned value.
+		 * @return the average operation latency or {@link #UNAVAILABLE}.
+		 */
+		public long getAverageOperationLatency(TimeUnit timeUnit) {
+			return average(this.operationTime, this.operations, timeUnit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return String.format("%1$s [operations = %2$d, averageLatency = %3$d us, failures = %4$d]",
+				getServer(), getOperations(), getAverageOperationLatency(TimeUnit.MICROSECONDS),
+				getOperationFailures());
+		}
+	}
+}
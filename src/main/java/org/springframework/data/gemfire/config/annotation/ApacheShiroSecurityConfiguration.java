@@ -22,10 +22,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.shiro.SecurityUtils;
+import org.apache.shiro.authz.Authorizer;
 import org.apache.shiro.mgt.DefaultSecurityManager;
 import org.apache.shiro.realm.Realm;
 import org.apache.shiro.spring.LifecycleBeanPostProcessor;
@@ -34,13 +36,18 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.support.CachingAuthorizer;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -64,12 +71,22 @@ import org.springframework.util.ReflectionUtils;
  * @see org.springframework.context.annotation.Conditional
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.data.gemfire.config.annotation.ApacheShiroSecurityConfiguration.ApacheShiroPresentCondition
+ * @see org.springframework.data.gemfire.config.annotation.CachingAuthorizerConfigurer
+ * @see org.springframework.data.gemfire.support.CachingAuthorizer
  * @since 1.9.0
  */
 @Configuration
 @Conditional(ApacheShiroSecurityConfiguration.ApacheShiroPresentCondition.class)
 @SuppressWarnings("unused")
-public class ApacheShiroSecurityConfiguration implements BeanFactoryAware {
+public class ApacheShiroSecurityConfiguration implements BeanFactoryAware, ImportAware {
+
+	public static final int DEFAULT_AUTHORIZATION_CACHE_MAX_ENTRIES = 10000;
+
+	public static final String CACHING_AUTHORIZER_BEAN_NAME = "cachingAuthorizer";
+
+	private int authorizationCacheMaxEntries = 0;
+
+	private long authorizationCacheTimeToLive = 300L;
 
 	private ListableBeanFactory beanFactory;
 
@@ -82,6 +99,28 @@ public class ApacheShiroSecurityConfiguration implements BeanFactoryAware {
 		this.beanFactory = (ListableBeanFactory) beanFactory;
 	}
 
+	/**
+	 * Configures authorization caching from the {@link EnableSecurity} annotation attributes.
+	 *
+	 * @param importMetadata {@link AnnotationMetadata} of the class importing this configuration.
+	 * @see org.springframework.data.gemfire.config.annotation.EnableSecurity#authorizationCacheMaxEntries()
+	 * @see org.springframework.data.gemfire.config.annotation.EnableSecurity#authorizationCacheTimeToLive()
+	 */
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		String enableSecurityAnnotationName = EnableSecurity.class.getName();
+
+		if (importMetadata.hasAnnotation(enableSecurityAnnotationName)) {
+
+			AnnotationAttributes enableSecurityAttributes =
+				AnnotationAttributes.fromMap(importMetadata.getAnnotationAttributes(enableSecurityAnnotationName));
+
+			this.authorizationCacheMaxEntries = enableSecurityAttributes.getNumber("authorizationCacheMaxEntries");
+			this.authorizationCacheTimeToLive = enableSecurityAttributes.<Long>getNumber("authorizationCacheTimeToLive");
+		}
+	}
+
 	/**
 	 * Returns a reference to the Spring {@link BeanFactory}.
 	 *
@@ -143,7 +182,8 @@ public class ApacheShiroSecurityConfiguration implements BeanFactoryAware {
 		List<Realm> realms = resolveRealms();
 
 		if (!realms.isEmpty()) {
-			shiroSecurityManager = registerSecurityManager(new DefaultSecurityManager(realms));
+			shiroSecurityManager = registerSecurityManager(enableAuthorizationCaching(
+				new DefaultSecurityManager(realms)));
 
 			if (!enableApacheGeodeSecurity()) {
 				throw new IllegalStateException("Failed to enable security services in Apache Geode");
@@ -178,6 +218,65 @@ public class ApacheShiroSecurityConfiguration implements BeanFactoryAware {
 		}
 	}
 
+	/**
+	 * Wraps the {@link Authorizer} of the given {@link DefaultSecurityManager}, consulting the configured
+	 * {@link Realm Realms}, with a {@link CachingAuthorizer} if authorization caching is enabled
+	 * with {@link EnableSecurity#authorizationCacheMaxEntries()} or any {@link CachingAuthorizerConfigurer}
+	 * is declared.
+	 *
+	 * The {@link CachingAuthorizer} is customized by the declared
+	 * {@link CachingAuthorizerConfigurer CachingAuthorizerConfigurers}, which may size, enable or disable it,
+	 * and registered as the {@value #CACHING_AUTHORIZER_BEAN_NAME} bean so that the application can invalidate
+	 * cached authorization decisions and monitor the latency of authorization checks.
+	 *
+	 * @param securityManager {@link DefaultSecurityManager} to configure.
+	 * @return the given {@link DefaultSecurityManager}.
+	 * @see org.springframework.data.gemfire.config.annotation.CachingAuthorizerConfigurer
+	 * @see org.springframework.data.gemfire.support.CachingAuthorizer
+	 * @see org.apache.shiro.mgt.DefaultSecurityManager#setAuthorizer(Authorizer)
+	 */
+	protected DefaultSecurityManager enableAuthorizationCaching(DefaultSecurityManager securityManager) {
+
+		List<CachingAuthorizerConfigurer> cachingAuthorizerConfigurers = resolveCachingAuthorizerConfigurers();
+
+		if (this.authorizationCacheMaxEntries > 0 || !cachingAuthorizerConfigurers.isEmpty()) {
+
+			CachingAuthorizer cachingAuthorizer = new CachingAuthorizer(securityManager.getAuthorizer(),
+				(this.authorizationCacheMaxEntries > 0 ? this.authorizationCacheMaxEntries
+					: DEFAULT_AUTHORIZATION_CACHE_MAX_ENTRIES), this.authorizationCacheTimeToLive, TimeUnit.SECONDS);
+
+			cachingAuthorizer.setEnabled(this.authorizationCacheMaxEntries > 0);
+
+			cachingAuthorizerConfigurers.forEach(configurer -> configurer.configure(cachingAuthorizer));
+
+			securityManager.setAuthorizer(cachingAuthorizer);
+
+			if (getBeanFactory() instanceof SingletonBeanRegistry) {
+				((SingletonBeanRegistry) getBeanFactory()).registerSingleton(CACHING_AUTHORIZER_BEAN_NAME,
+					cachingAuthorizer);
+			}
+		}
+
+		return securityManager;
+	}
+
+	/**
+	 * Resolves all the {@link CachingAuthorizerConfigurer CachingAuthorizerConfigurers} declared as Spring beans,
+	 * in order.
+	 *
+	 * @return a {@link List} of the declared {@link CachingAuthorizerConfigurer CachingAuthorizerConfigurers}.
+	 * @see org.springframework.data.gemfire.config.annotation.CachingAuthorizerConfigurer
+	 */
+	protected List<CachingAuthorizerConfigurer> resolveCachingAuthorizerConfigurers() {
+
+		List<CachingAuthorizerConfigurer> cachingAuthorizerConfigurers = new ArrayList<>(CollectionUtils.nullSafeMap(
+			getBeanFactory().getBeansOfType(CachingAuthorizerConfigurer.class, false, true)).values());
+
+		Collections.sort(cachingAuthorizerConfigurers, OrderComparator.INSTANCE);
+
+		return cachingAuthorizerConfigurers;
+	}
+
 	/**
 	 * Registers the given Apache Shiro {@link org.apache.shiro.mgt.SecurityManager} with the Apache Shiro
 	 * security framework.
@@ -196,6 +196,15 @@ public @interface CacheServerApplication {
 	 */
 	String name() default CacheServerConfiguration.DEFAULT_NAME;
 
+	/**
+	 * Enables a parallel bootstrap, creating independent peer Regions concurrently (respecting colocation
+	 * and Sub-Region ordering), recovering persistent Regions in parallel, creating all Indexes in a single batch
+	 * once all Regions exist and logging the time taken to create each GemFire component.
+	 *
+	 * Default is {@literal false}.
+	 */
+	boolean parallelBootstrap() default false;
+
 	/**
 	 * Configures the port on which this cache server listens for clients.
 	 *
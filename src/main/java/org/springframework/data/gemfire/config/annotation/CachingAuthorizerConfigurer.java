@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import org.springframework.data.gemfire.support.CachingAuthorizer;
+
+/**
+ * The {@link CachingAuthorizerConfigurer} interface defines a contract for implementations to customize
+ * the configuration of the {@link CachingAuthorizer} caching the authorization decisions of the Apache Shiro
+ * {@link org.apache.shiro.realm.Realm Realms} securing Apache Geode when the user annotates her Spring application
+ * {@link org.springframework.context.annotation.Configuration} class with {@link EnableSecurity}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.config.annotation.ApacheShiroSecurityConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.EnableSecurity
+ * @see org.springframework.data.gemfire.support.CachingAuthorizer
+ * @since 2.0.0
+ */
+public interface CachingAuthorizerConfigurer {
+
+	/**
+	 * Configuration callback method providing a reference to the {@link CachingAuthorizer}, which may be sized,
+	 * enabled or disabled.
+	 *
+	 * @param cachingAuthorizer reference to the {@link CachingAuthorizer}.
+	 * @see org.springframework.data.gemfire.support.CachingAuthorizer
+	 */
+	void configure(CachingAuthorizer cachingAuthorizer);
+
+}
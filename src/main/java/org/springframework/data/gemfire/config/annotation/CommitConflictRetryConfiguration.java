@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Map;
+
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryAdvisor;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryPolicy;
+
+/**
+ * The {@link CommitConflictRetryConfiguration} class is a Spring {@link ImportBeanDefinitionRegistrar} registering
+ * the {@link CommitConflictRetryAdvisor}, along with an infrastructure auto-proxy creator if necessary, enabled
+ * when a Spring {@link org.springframework.context.annotation.Configuration @Configuration} annotated class is
+ * annotated with {@link EnableCommitConflictRetry}.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
+ * @see org.springframework.data.gemfire.config.annotation.EnableCommitConflictRetry
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryAdvisor
+ * @since 2.0.0
+ */
+public class CommitConflictRetryConfiguration implements ImportBeanDefinitionRegistrar {
+
+	protected static final String COMMIT_CONFLICT_RETRY_ADVISOR_BEAN_NAME =
+		"gemfireCommitConflictRetryAdvisor";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+		if (importingClassMetadata.hasAnnotation(EnableCommitConflictRetry.class.getName())
+				&& !registry.containsBeanDefinition(COMMIT_CONFLICT_RETRY_ADVISOR_BEAN_NAME)) {
+
+			Map<String, Object> enableCommitConflictRetryAttributes =
+				importingClassMetadata.getAnnotationAttributes(EnableCommitConflictRetry.class.getName());
+
+			AopConfigUtils.registerAutoProxyCreatorIfNecessary(registry);
+
+			AbstractBeanDefinition advisorBeanDefinition =
+				BeanDefinitionBuilder.genericBeanDefinition(CommitConflictRetryAdvisor.class)
+					.addConstructorArgValue(newRetryPolicy(AnnotationAttributes.fromMap(
+						enableCommitConflictRetryAttributes)))
+					.setRole(BeanDefinition.ROLE_INFRASTRUCTURE)
+					.getBeanDefinition();
+
+			registry.registerBeanDefinition(COMMIT_CONFLICT_RETRY_ADVISOR_BEAN_NAME, advisorBeanDefinition);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private CommitConflictRetryPolicy newRetryPolicy(AnnotationAttributes enableCommitConflictRetryAttributes) {
+		return new CommitConflictRetryPolicy(
+			enableCommitConflictRetryAttributes.<Integer>getNumber("maxAttempts"),
+			enableCommitConflictRetryAttributes.<Long>getNumber("backoff"),
+			enableCommitConflictRetryAttributes.<Long>getNumber("maxBackoff"),
+			enableCommitConflictRetryAttributes.<Double>getNumber("multiplier"),
+			enableCommitConflictRetryAttributes.<Double>getNumber("jitter"));
+	}
+}
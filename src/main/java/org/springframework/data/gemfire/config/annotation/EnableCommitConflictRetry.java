@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryPolicy;
+
+/**
+ * The {@link EnableCommitConflictRetry} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to retry {@link org.springframework.transaction.annotation.Transactional @Transactional} methods
+ * whose GemFire cache transaction commit fails with a {@link org.apache.geode.cache.CommitConflictException}.
+ *
+ * The attributes of this annotation define the default retry policy, which can be overridden per method or class
+ * with {@link org.springframework.data.gemfire.transaction.RetryOnCommitConflict @RetryOnCommitConflict}.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.config.annotation.CommitConflictRetryConfiguration
+ * @see org.springframework.data.gemfire.transaction.RetryOnCommitConflict
+ * @since 2.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(CommitConflictRetryConfiguration.class)
+@SuppressWarnings({ "unused" })
+public @interface EnableCommitConflictRetry {
+
+	/**
+	 * Maximum number of attempts, including the first.
+	 *
+	 * Defaults to {@literal 3}.
+	 */
+	int maxAttempts() default CommitConflictRetryPolicy.DEFAULT_MAX_ATTEMPTS;
+
+	/**
+	 * Initial time in milliseconds to wait before retrying.
+	 *
+	 * Defaults to {@literal 50} ms.
+	 */
+	long backoff() default CommitConflictRetryPolicy.DEFAULT_BACKOFF;
+
+	/**
+	 * Maximum time in milliseconds to wait before retrying.
+	 *
+	 * Defaults to {@literal 1000} ms.
+	 */
+	long maxBackoff() default CommitConflictRetryPolicy.DEFAULT_MAX_BACKOFF;
+
+	/**
+	 * Multiplier applied to the backoff after each attempt.
+	 *
+	 * Defaults to {@literal 2.0}.
+	 */
+	double multiplier() default CommitConflictRetryPolicy.DEFAULT_MULTIPLIER;
+
+	/**
+	 * Fraction, between 0.0 and 1.0, by which the backoff is randomly increased or decreased.
+	 *
+	 * Defaults to {@literal 0.2}.
+	 */
+	double jitter() default CommitConflictRetryPolicy.DEFAULT_JITTER;
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.wan.support.AdaptiveBatchTuningPolicy;
+import org.springframework.data.gemfire.wan.support.GatewayQueueMonitor;
+
+/**
+ * The {@link EnableGatewayQueueMonitoring} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to periodically sample the queues of all {@link org.apache.geode.cache.wan.GatewaySender GatewaySenders}
+ * and {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue AsyncEventQueues} declared in the Spring application
+ * context, and optionally to adjust their batch settings at runtime.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.config.annotation.GatewayQueueMonitoringConfiguration
+ * @see org.springframework.data.gemfire.wan.support.AdaptiveBatchTuningPolicy
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @since 2.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(GatewayQueueMonitoringConfiguration.class)
+@SuppressWarnings({ "unused" })
+public @interface EnableGatewayQueueMonitoring {
+
+	/**
+	 * Time in milliseconds between samples.
+	 *
+	 * Defaults to {@literal 10000} ms.
+	 */
+	long sampleInterval() default GatewayQueueMonitor.DEFAULT_SAMPLE_INTERVAL;
+
+	/**
+	 * Determines whether the batch size and batch time interval of {@link org.apache.geode.cache.wan.GatewaySender}
+	 * queues are adjusted at runtime.  The batch settings of an {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue}
+	 * cannot be changed at runtime.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean adaptiveBatchTuning() default false;
+
+	/**
+	 * Minimum batch size when adaptive batch tuning is enabled.
+	 *
+	 * Defaults to {@literal 100}.
+	 */
+	int minBatchSize() default AdaptiveBatchTuningPolicy.DEFAULT_MIN_BATCH_SIZE;
+
+	/**
+	 * Maximum batch size when adaptive batch tuning is enabled.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int maxBatchSize() default AdaptiveBatchTuningPolicy.DEFAULT_MAX_BATCH_SIZE;
+
+	/**
+	 * Minimum batch time interval in milliseconds when adaptive batch tuning is enabled.
+	 *
+	 * Defaults to {@literal 10} ms.
+	 */
+	int minBatchTimeInterval() default AdaptiveBatchTuningPolicy.DEFAULT_MIN_BATCH_TIME_INTERVAL;
+
+	/**
+	 * Maximum batch time interval in milliseconds when adaptive batch tuning is enabled.
+	 *
+	 * Defaults to {@literal 1000} ms.
+	 */
+	int maxBatchTimeInterval() default AdaptiveBatchTuningPolicy.DEFAULT_MAX_BATCH_TIME_INTERVAL;
+
+	/**
+	 * Queue size above which a queue is considered backlogged when adaptive batch tuning is enabled.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int targetQueueSize() default AdaptiveBatchTuningPolicy.DEFAULT_TARGET_QUEUE_SIZE;
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.support.RebalanceService;
+
+/**
+ * The {@link EnableRebalancing} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated {@link PeerCacheApplication peer cache} application class to rebalance the buckets of its
+ * {@link org.apache.geode.cache.Region#PARTITION PARTITION} {@link org.apache.geode.cache.Region Regions}
+ * on a schedule or when a member joins the distributed system, publishing the progress of each rebalance
+ * as {@link org.springframework.data.gemfire.support.RebalanceEvent RebalanceEvents}.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.config.annotation.RebalancingConfiguration
+ * @see org.springframework.data.gemfire.support.RebalanceService
+ * @since 2.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(RebalancingConfiguration.class)
+@SuppressWarnings({ "unused" })
+public @interface EnableRebalancing {
+
+	/**
+	 * Groups of {@link org.apache.geode.cache.Region Regions} rebalanced together, in declared order.
+	 *
+	 * Defaults to a single group of all {@link org.apache.geode.cache.Region Regions}.
+	 */
+	RegionGroup[] regionGroups() default {};
+
+	/**
+	 * Time in milliseconds between scheduled rebalances.  A value of {@literal 0} disables scheduled rebalances.
+	 *
+	 * Defaults to {@literal 0}.
+	 */
+	long rebalanceInterval() default 0L;
+
+	/**
+	 * Determines whether a rebalance is triggered when a member joins the distributed system.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean rebalanceOnMembershipChange() default true;
+
+	/**
+	 * Time in milliseconds to wait after the last member joined the distributed system before rebalancing.
+	 *
+	 * Defaults to {@literal 30000} ms.
+	 */
+	long membershipChangeDelay() default RebalanceService.DEFAULT_MEMBERSHIP_CHANGE_DELAY;
+
+	/**
+	 * Minimum number of buckets and primaries a simulated rebalance of a group must move for the group
+	 * to be rebalanced.  A value of {@literal 0} rebalances every group without simulating it first.
+	 *
+	 * Defaults to {@literal 1}.
+	 */
+	int minimumBucketsMoved() default RebalanceService.DEFAULT_MINIMUM_BUCKETS_MOVED;
+
+	/**
+	 * Time in milliseconds to pause between the rebalance of each group.
+	 *
+	 * Defaults to {@literal 0}.
+	 */
+	long pauseBetweenGroups() default 0L;
+
+	/**
+	 * Maximum time in milliseconds the rebalance of a group may take before it is cancelled.
+	 * A value of {@literal 0} does not limit the time.
+	 *
+	 * Defaults to {@literal 0}.
+	 */
+	long maxRebalanceTime() default 0L;
+
+	/**
+	 * Time in milliseconds between progress events published while a group is rebalanced.
+	 *
+	 * Defaults to {@literal 5000} ms.
+	 */
+	long progressInterval() default RebalanceService.DEFAULT_PROGRESS_INTERVAL;
+
+	/**
+	 * Determines whether rebalances are only simulated, reporting the buckets that would be moved
+	 * without moving any.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean simulateOnly() default false;
+
+	/**
+	 * The {@link RegionGroup} annotation declares a named group of {@link org.apache.geode.cache.Region Regions}
+	 * rebalanced together.
+	 */
+	@interface RegionGroup {
+
+		/**
+		 * Name of the group.
+		 */
+		String name();
+
+		/**
+		 * Names of the {@link org.apache.geode.cache.Region Regions} in the group.
+		 */
+		String[] regions();
+
+	}
+}
@@ -50,6 +50,28 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings({ "unused" })
 public @interface EnableSecurity {
 
+	/**
+	 * Maximum number of authorization decisions, per principal and permission, cached when Apache Geode
+	 * is secured with Apache Shiro {@link org.apache.shiro.realm.Realm Realms} declared as Spring beans.
+	 *
+	 * Defaults to {@literal 0}, which disables authorization caching unless enabled by
+	 * a {@link CachingAuthorizerConfigurer}.  The {@link org.springframework.data.gemfire.support.CachingAuthorizer}
+	 * is registered as the {@literal cachingAuthorizer} bean when enabled or configured.
+	 *
+	 * @see org.springframework.data.gemfire.config.annotation.CachingAuthorizerConfigurer
+	 * @see org.springframework.data.gemfire.support.CachingAuthorizer
+	 */
+	int authorizationCacheMaxEntries() default 0;
+
+	/**
+	 * Number of seconds for which authorization decisions are cached.
+	 *
+	 * Defaults to {@literal 300} seconds.
+	 *
+	 * @see #authorizationCacheMaxEntries()
+	 */
+	long authorizationCacheTimeToLive() default 300L;
+
 	/**
 	 * Used for authentication. Static creation method returning an {@link AuthInitialize} object,
 	 * which obtains credentials for clients.
@@ -24,6 +24,7 @@ import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,6 +54,9 @@ import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AspectJTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
@@ -69,14 +73,18 @@ import org.springframework.data.gemfire.ScopeType;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireCacheTypeAwareRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.RoutingKeyPartitionResolver;
 import org.springframework.data.gemfire.mapping.annotation.ClientRegion;
+import org.springframework.data.gemfire.mapping.annotation.ColocatedBy;
 import org.springframework.data.gemfire.mapping.annotation.LocalRegion;
 import org.springframework.data.gemfire.mapping.annotation.PartitionRegion;
 import org.springframework.data.gemfire.mapping.annotation.ReplicateRegion;
+import org.springframework.data.gemfire.mapping.annotation.RoutingKey;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -110,6 +118,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner
  * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
  * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.RoutingKeyPartitionResolver
  * @see org.springframework.data.gemfire.mapping.annotation.ClientRegion
  * @see org.springframework.data.gemfire.mapping.annotation.LocalRegion
  * @see org.springframework.data.gemfire.mapping.annotation.PartitionRegion
@@ -142,6 +151,8 @@ public class EntityDefinedRegionsConfiguration
 
 	private GemfireMappingContext mappingContext;
 
+	private Optional<PersistentEntityIndex> persistentEntityIndex;
+
 	@Autowired(required = false)
 	private List<RegionConfigurer> regionConfigurers = Collections.emptyList();
 
@@ -240,7 +251,11 @@ public class EntityDefinedRegionsConfiguration
 		return AnnotationAttributes.fromMap(importingClassMetadata.getAnnotationAttributes(annotationName));
 	}
 
-	/* (non-Javadoc) */
+	/*
+	 * (non-Javadoc)
+	 * Region meta-data is always resolved through the GemfireMappingContext, even for the persistent entity types
+	 * read from the PersistentEntityIndex, which only records the entity types and their Index definitions.
+	 */
 	protected GemfirePersistentEntity<?> getPersistentEntity(Class<?> persistentEntityType) {
 
 		return resolveMappingContext().getPersistentEntity(persistentEntityType).orElseThrow(
@@ -273,7 +288,7 @@ public class EntityDefinedRegionsConfiguration
 
 			boolean strict = enableEntityDefinedRegionsAttributes.getBoolean("strict");
 
-			newGemFireComponentClassTypeScanner(importingClassMetadata, enableEntityDefinedRegionsAttributes).scan()
+			resolvePersistentEntityTypes(importingClassMetadata, enableEntityDefinedRegionsAttributes)
 				.forEach(persistentEntityClass -> {
 
 					GemfirePersistentEntity persistentEntity = getPersistentEntity(persistentEntityClass);
@@ -284,6 +299,96 @@ public class EntityDefinedRegionsConfiguration
 		}
 	}
 
+	/**
+	 * Resolves the application persistent entity {@link Class types} for which {@link Region Regions} are created.
+	 *
+	 * The {@link Class types} are read from the {@link PersistentEntityIndex} generated at build time when present
+	 * on the classpath, thereby avoiding a scan of the classpath on startup.  Otherwise, the configured base packages
+	 * are scanned for {@link Region} annotated persistent entity {@link Class types}.
+	 *
+	 * The configured base packages are also scanned when include filters are declared, since include filters may
+	 * match {@link Class types} not annotated with a {@link Region} annotation, which are not indexed.
+	 *
+	 * @param importingClassMetadata {@link AnnotationMetadata} of the importing configuration class.
+	 * @param enableEntityDefinedRegionsAttributes {@link AnnotationAttributes} of the enabling annotation.
+	 * @return a {@link Set} of persistent entity {@link Class types}.
+	 * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex
+	 * @see #newGemFireComponentClassTypeScanner(AnnotationMetadata, AnnotationAttributes)
+	 */
+	protected Set<Class<?>> resolvePersistentEntityTypes(AnnotationMetadata importingClassMetadata,
+			AnnotationAttributes enableEntityDefinedRegionsAttributes) {
+
+		boolean includeFiltersDeclared = resolveIncludes(enableEntityDefinedRegionsAttributes).iterator().hasNext();
+
+		Optional<PersistentEntityIndex> persistentEntityIndex =
+			(includeFiltersDeclared ? Optional.empty() : getPersistentEntityIndex());
+
+		return persistentEntityIndex
+			.map(index -> resolveIndexedPersistentEntityTypes(index, importingClassMetadata,
+				enableEntityDefinedRegionsAttributes))
+			.orElseGet(() -> newGemFireComponentClassTypeScanner(importingClassMetadata,
+				enableEntityDefinedRegionsAttributes).scan());
+	}
+
+	/* (non-Javadoc) */
+	private Set<Class<?>> resolveIndexedPersistentEntityTypes(PersistentEntityIndex persistentEntityIndex,
+			AnnotationMetadata importingClassMetadata, AnnotationAttributes enableEntityDefinedRegionsAttributes) {
+
+		ClassLoader beanClassLoader = resolveBeanClassLoader();
+
+		Iterable<TypeFilter> excludes = resolveExcludes(enableEntityDefinedRegionsAttributes);
+
+		MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(beanClassLoader);
+
+		Set<String> resolvedBasePackages =
+			resolveBasePackages(importingClassMetadata, enableEntityDefinedRegionsAttributes);
+
+		return persistentEntityIndex.getEntityClassNames(resolvedBasePackages).stream()
+			.filter(entityClassName -> !isExcluded(entityClassName, excludes, metadataReaderFactory))
+			.map(entityClassName -> ClassUtils.resolveClassName(entityClassName, beanClassLoader))
+			.collect(Collectors.toSet());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isExcluded(String entityClassName, Iterable<TypeFilter> excludes,
+			MetadataReaderFactory metadataReaderFactory) {
+
+		if (!excludes.iterator().hasNext()) {
+			return false;
+		}
+
+		try {
+			MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(entityClassName);
+
+			for (TypeFilter exclude : excludes) {
+				if (exclude.match(metadataReader, metadataReaderFactory)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+		catch (IOException cause) {
+			throw newIllegalStateException(cause, "Failed to read metadata for persistent entity type [%s]",
+				entityClassName);
+		}
+	}
+
+	/**
+	 * Returns the {@link PersistentEntityIndex} generated at build time, if present on the classpath.
+	 *
+	 * @return an {@link Optional} {@link PersistentEntityIndex}.
+	 * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex#load(ClassLoader)
+	 */
+	protected Optional<PersistentEntityIndex> getPersistentEntityIndex() {
+
+		if (this.persistentEntityIndex == null) {
+			this.persistentEntityIndex = PersistentEntityIndex.load(resolveBeanClassLoader());
+		}
+
+		return this.persistentEntityIndex;
+	}
+
 	/* (non-Javadoc) */
 	protected GemFireComponentClassTypeScanner newGemFireComponentClassTypeScanner(
 			AnnotationMetadata importingClassMetadata, AnnotationAttributes enableEntityDefinedRegionsAttributes) {
@@ -512,7 +617,7 @@ public class EntityDefinedRegionsConfiguration
 
 			setClientRegionAttributes(regionAnnotationAttributes, regionFactoryBeanBuilder);
 
-			setPartitionRegionAttributes(regionAnnotationAttributes, regionFactoryBeanBuilder,
+			setPartitionRegionAttributes(persistentEntity, regionAnnotationAttributes, regionFactoryBeanBuilder,
 				regionAttributesFactoryBeanBuilder);
 
 			setReplicateRegionAttributes(regionAnnotationAttributes, regionFactoryBeanBuilder);
@@ -573,11 +678,45 @@ public class EntityDefinedRegionsConfiguration
 	protected BeanDefinitionBuilder setPartitionRegionAttributes(AnnotationAttributes regionAnnotationAttributes,
 			BeanDefinitionBuilder regionFactoryBeanBuilder, BeanDefinitionBuilder regionAttributesFactoryBeanBuilder) {
 
+		return setPartitionRegionAttributes(null, regionAnnotationAttributes, regionFactoryBeanBuilder,
+			regionAttributesFactoryBeanBuilder);
+	}
+
+	/**
+	 * Configures the {@link org.apache.geode.cache.PartitionAttributes} of a {@link PartitionRegion}.
+	 *
+	 * When the {@link GemfirePersistentEntity} declares a {@link RoutingKey} or {@link ColocatedBy} annotated
+	 * identifier, or identifier type property, a {@link RoutingKeyPartitionResolver} is generated for the
+	 * {@link Region} unless a {@literal partitionResolverName} was explicitly configured.  Likewise,
+	 * a {@link ColocatedBy} annotated routing key colocates the {@link Region} with the {@link Region}
+	 * of the referenced entity unless {@literal collocatedWith} was explicitly configured.
+	 *
+	 * @param persistentEntity {@link GemfirePersistentEntity} of the {@link Region}; may be {@literal null}.
+	 * @param regionAnnotationAttributes {@link AnnotationAttributes} of the {@link Region} mapping annotation.
+	 * @param regionFactoryBeanBuilder {@link BeanDefinitionBuilder} of the {@link Region} factory bean.
+	 * @param regionAttributesFactoryBeanBuilder {@link BeanDefinitionBuilder} of the
+	 * {@link org.apache.geode.cache.RegionAttributes} factory bean.
+	 * @return the {@link BeanDefinitionBuilder} of the {@link org.apache.geode.cache.RegionAttributes}
+	 * factory bean.
+	 * @see org.springframework.data.gemfire.mapping.RoutingKeyPartitionResolver
+	 */
+	protected BeanDefinitionBuilder setPartitionRegionAttributes(GemfirePersistentEntity<?> persistentEntity,
+			AnnotationAttributes regionAnnotationAttributes, BeanDefinitionBuilder regionFactoryBeanBuilder,
+			BeanDefinitionBuilder regionAttributesFactoryBeanBuilder) {
+
 		if (regionAnnotationAttributes.containsKey("redundantCopies")) {
 			BeanDefinitionBuilder partitionAttributesFactoryBeanBuilder =
 				BeanDefinitionBuilder.genericBeanDefinition(PartitionAttributesFactoryBean.class);
 
-			String collocatedWith = regionAnnotationAttributes.getString("collocatedWith");
+			Optional<RoutingKeyPartitionResolver> routingKeyPartitionResolver = Optional.ofNullable(persistentEntity)
+				.flatMap(RoutingKeyPartitionResolver::from);
+
+			String collocatedWith = Optional.ofNullable(regionAnnotationAttributes.getString("collocatedWith"))
+				.filter(StringUtils::hasText)
+				.orElseGet(() -> routingKeyPartitionResolver
+					.flatMap(RoutingKeyPartitionResolver::getColocatedType)
+					.map(colocatedType -> getPersistentEntity(colocatedType).getRegionName())
+					.orElse(""));
 
 			setPropertyValueIfNotDefault(partitionAttributesFactoryBeanBuilder, "colocatedWith", collocatedWith, "");
 
@@ -585,8 +724,22 @@ public class EntityDefinedRegionsConfiguration
 				regionFactoryBeanBuilder.addDependsOn(collocatedWith);
 			}
 
-			setPropertyReferenceIfSet(partitionAttributesFactoryBeanBuilder, "partitionResolver",
-				regionAnnotationAttributes.getString("partitionResolverName"));
+			String partitionResolverName = regionAnnotationAttributes.getString("partitionResolverName");
+
+			if (StringUtils.hasText(partitionResolverName)) {
+				setPropertyReferenceIfSet(partitionAttributesFactoryBeanBuilder, "partitionResolver",
+					partitionResolverName);
+			}
+			else {
+				routingKeyPartitionResolver.ifPresent(partitionResolver -> {
+
+					String[] fixedPartitionNames = resolveFixedPartitionNames(regionAnnotationAttributes);
+
+					partitionAttributesFactoryBeanBuilder.addPropertyValue("partitionResolver",
+						(fixedPartitionNames.length > 0 ? partitionResolver.withFixedPartitions(fixedPartitionNames)
+							: partitionResolver));
+				});
+			}
 
 			setPropertyValueIfNotDefault(partitionAttributesFactoryBeanBuilder, "redundantCopies",
 				regionAnnotationAttributes.<Integer>getNumber("redundantCopies"), 0);
@@ -600,6 +753,18 @@ public class EntityDefinedRegionsConfiguration
 		return regionAttributesFactoryBeanBuilder;
 	}
 
+	/* (non-Javadoc) */
+	private String[] resolveFixedPartitionNames(AnnotationAttributes regionAnnotationAttributes) {
+
+		PartitionRegion.FixedPartition[] fixedPartitions = (regionAnnotationAttributes.containsKey("fixedPartitions")
+			? regionAnnotationAttributes.getAnnotationArray("fixedPartitions", PartitionRegion.FixedPartition.class)
+			: null);
+
+		return stream(nullSafeArray(fixedPartitions, PartitionRegion.FixedPartition.class))
+			.map(PartitionRegion.FixedPartition::name)
+			.toArray(String[]::new);
+	}
+
 	/* (non-Javadoc) */
 	protected BeanDefinitionBuilder setFixedPartitionRegionAttributes(AnnotationAttributes regionAnnotationAttributes,
 			BeanDefinitionBuilder partitionAttributesFactoryBeanBuilder) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.wan.support.AdaptiveBatchTuningPolicy;
+import org.springframework.data.gemfire.wan.support.GatewayQueueMonitor;
+
+/**
+ * The {@link GatewayQueueMonitoringConfiguration} class is a Spring {@link ImportBeanDefinitionRegistrar} registering
+ * the {@link GatewayQueueMonitor} enabled when a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class is annotated with {@link EnableGatewayQueueMonitoring}.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
+ * @see org.springframework.data.gemfire.config.annotation.EnableGatewayQueueMonitoring
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @since 2.0.0
+ */
+public class GatewayQueueMonitoringConfiguration implements ImportBeanDefinitionRegistrar {
+
+	protected static final String GATEWAY_QUEUE_MONITOR_BEAN_NAME = "gemfireGatewayQueueMonitor";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		if (importingClassMetadata.hasAnnotation(EnableGatewayQueueMonitoring.class.getName())
+				&& !registry.containsBeanDefinition(GATEWAY_QUEUE_MONITOR_BEAN_NAME)) {
+
+			AnnotationAttributes enableGatewayQueueMonitoringAttributes = AnnotationAttributes.fromMap(
+				importingClassMetadata.getAnnotationAttributes(EnableGatewayQueueMonitoring.class.getName()));
+
+			BeanDefinitionBuilder gatewayQueueMonitorBuilder =
+				BeanDefinitionBuilder.genericBeanDefinition(GatewayQueueMonitor.class)
+					.addPropertyValue("sampleInterval",
+						enableGatewayQueueMonitoringAttributes.<Long>getNumber("sampleInterval"))
+					.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+
+			if (enableGatewayQueueMonitoringAttributes.getBoolean("adaptiveBatchTuning")) {
+				gatewayQueueMonitorBuilder.addPropertyValue("tuningPolicy",
+					newTuningPolicy(enableGatewayQueueMonitoringAttributes));
+			}
+
+			registry.registerBeanDefinition(GATEWAY_QUEUE_MONITOR_BEAN_NAME,
+				gatewayQueueMonitorBuilder.getBeanDefinition());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private AdaptiveBatchTuningPolicy newTuningPolicy(AnnotationAttributes enableGatewayQueueMonitoringAttributes) {
+		return new AdaptiveBatchTuningPolicy(
+			enableGatewayQueueMonitoringAttributes.<Integer>getNumber("minBatchSize"),
+			enableGatewayQueueMonitoringAttributes.<Integer>getNumber("maxBatchSize"),
+			enableGatewayQueueMonitoringAttributes.<Integer>getNumber("minBatchTimeInterval"),
+			enableGatewayQueueMonitoringAttributes.<Integer>getNumber("maxBatchTimeInterval"),
+			enableGatewayQueueMonitoringAttributes.<Integer>getNumber("targetQueueSize"));
+	}
+}
@@ -17,7 +17,9 @@
 
 package org.springframework.data.gemfire.config.annotation;
 
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
@@ -31,18 +33,24 @@ import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.query.Index;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.gemfire.IndexFactoryBean;
 import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex.IndexDefinition;
+import org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.mapping.annotation.Indexes;
 import org.springframework.data.gemfire.mapping.annotation.LuceneIndexed;
 import org.springframework.data.gemfire.search.lucene.LuceneIndexFactoryBean;
 import org.springframework.data.mapping.PropertyHandler;
@@ -70,6 +78,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
  * @see org.springframework.data.gemfire.mapping.GemfirePersistentProperty
  * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+ * @see org.springframework.data.gemfire.mapping.annotation.Indexes
  * @see org.springframework.data.gemfire.mapping.annotation.LuceneIndexed
  * @see org.springframework.data.gemfire.search.lucene.LuceneIndexFactoryBean
  * @since 1.9.0
@@ -135,29 +144,74 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 			AnnotationAttributes enableIndexingAttributes =
 				getAnnotationAttributes(importingClassMetadata, getEnableIndexingAnnotationTypeName());
 
-			localPersistentEntity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			registerDefinedIndexesApplicationListener(enableIndexingAttributes, registry);
 
-				Optional<Id> idAnnotation = persistentProperty.findAnnotation(Id.class);
+			List<IndexDefinition> indexDefinitions = getPersistentEntityIndex()
+				.map(persistentEntityIndex ->
+					persistentEntityIndex.getIndexDefinitions(localPersistentEntity.getType().getName()))
+				.orElse(null);
 
-				idAnnotation.ifPresent(id ->
-					registerIndexBeanDefinition(enableIndexingAttributes, localPersistentEntity, persistentProperty,
-						IndexType.KEY, id, registry));
+			if (indexDefinitions != null) {
+				indexDefinitions.forEach(indexDefinition -> registerIndexBeanDefinition(enableIndexingAttributes,
+					localPersistentEntity, indexDefinition, registry));
+			}
+			else {
+				registerIndexBeanDefinitions(enableIndexingAttributes, localPersistentEntity, registry);
+			}
+		}
 
-				Optional<Indexed> indexedAnnotation = persistentProperty.findAnnotation(Indexed.class);
+		return persistentEntity;
+	}
 
-				indexedAnnotation.ifPresent(indexed ->
-					registerIndexBeanDefinition(enableIndexingAttributes, localPersistentEntity, persistentProperty,
-						indexed.type(), indexed, registry));
+	/**
+	 * Registers the {@link DefinedIndexesApplicationListener} used to create all defined Indexes once the Spring
+	 * container has been refreshed when the {@link EnableIndexing} {@literal define} attribute is {@literal true},
+	 * unless already registered by the cache configuration.
+	 *
+	 * @param enableIndexingAttributes {@link AnnotationAttributes} containing meta-data
+	 * for the {@link EnableIndexing} annotation.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the {@link DefinedIndexesApplicationListener}.
+	 * @see org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener
+	 */
+	protected void registerDefinedIndexesApplicationListener(AnnotationAttributes enableIndexingAttributes,
+			BeanDefinitionRegistry registry) {
 
-				Optional<LuceneIndexed> luceneIndexedAnnotation = persistentProperty.findAnnotation(LuceneIndexed.class);
+		if (resolveDefine(enableIndexingAttributes)
+				&& AbstractCacheConfiguration.DEFINED_INDEXES_APPLICATION_LISTENER_REGISTERED.compareAndSet(false, true)) {
 
-				luceneIndexedAnnotation.ifPresent(luceneIndexed ->
-					registerLuceneIndexBeanDefinition(enableIndexingAttributes, localPersistentEntity,
-						persistentProperty, luceneIndexed, registry));
-			});
+			register(BeanDefinitionBuilder.rootBeanDefinition(DefinedIndexesApplicationListener.class)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE).getBeanDefinition(), registry);
 		}
+	}
 
-		return persistentEntity;
+	/* (non-Javadoc) */
+	private void registerIndexBeanDefinitions(AnnotationAttributes enableIndexingAttributes,
+			GemfirePersistentEntity<?> persistentEntity, BeanDefinitionRegistry registry) {
+
+		persistentEntity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+			Optional<Id> idAnnotation = persistentProperty.findAnnotation(Id.class);
+
+			idAnnotation.ifPresent(id ->
+				registerIndexBeanDefinition(enableIndexingAttributes, persistentEntity, persistentProperty,
+					IndexType.KEY, id, registry));
+
+			Optional<Indexed> indexedAnnotation = persistentProperty.findAnnotation(Indexed.class);
+
+			indexedAnnotation.ifPresent(indexed ->
+				registerIndexBeanDefinition(enableIndexingAttributes, persistentEntity, persistentProperty,
+					indexed.type(), indexed, registry));
+
+			Optional<LuceneIndexed> luceneIndexedAnnotation = persistentProperty.findAnnotation(LuceneIndexed.class);
+
+			luceneIndexedAnnotation.ifPresent(luceneIndexed ->
+				registerLuceneIndexBeanDefinition(enableIndexingAttributes, persistentEntity,
+					persistentProperty, luceneIndexed, registry));
+		});
+
+		AnnotatedElementUtils.findMergedRepeatableAnnotations(persistentEntity.getType(),
+			Indexed.class, Indexes.class).forEach(indexed ->
+				registerCompositeIndexBeanDefinitions(enableIndexingAttributes, persistentEntity, indexed, registry));
 	}
 
 	/**
@@ -187,34 +241,148 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 
 			AnnotationAttributes indexedAttributes = getAnnotationAttributes(localIndexAnnotation);
 
-			BeanDefinitionBuilder indexFactoryBeanBuilder =
-				BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class);
-
 			String indexName = resolveName(persistentEntity, persistentProperty, indexedAttributes, indexType);
 
-			indexFactoryBeanBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+			registerIndexFactoryBeanDefinition(indexName,
+				resolveExpression(persistentEntity, persistentProperty, indexedAttributes),
+				resolveFrom(persistentEntity, persistentProperty, indexedAttributes),
+				resolveType(persistentEntity, persistentProperty, indexedAttributes, indexType),
+				resolveDefine(enableIndexingAttributes), registry);
+		});
+	}
 
-			indexFactoryBeanBuilder.addPropertyValue("define", resolveDefine(enableIndexingAttributes));
+	/**
+	 * Registers an Index on the {@link GemfirePersistentEntity} from an {@link IndexDefinition} read from
+	 * the {@link PersistentEntityIndex} generated at build time, rather than from the annotations
+	 * on the {@link GemfirePersistentEntity} at runtime.
+	 *
+	 * @param enableIndexingAttributes {@link AnnotationAttributes} containing meta-data
+	 * for the {@link EnableIndexing} annotation.
+	 * @param persistentEntity {@link GemfirePersistentEntity} to be indexed.
+	 * @param indexDefinition {@link IndexDefinition} defining the Index.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the Index bean definition.
+	 * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex.IndexDefinition
+	 */
+	protected void registerIndexBeanDefinition(AnnotationAttributes enableIndexingAttributes,
+			GemfirePersistentEntity<?> persistentEntity, IndexDefinition indexDefinition,
+			BeanDefinitionRegistry registry) {
+
+		String property = indexDefinition.getProperty();
+
+		switch (indexDefinition.getKind()) {
+			case ID:
+				registerIndexFactoryBeanDefinition(generateIndexName(persistentEntity, property, IndexType.KEY),
+					property, persistentEntity.getRegionName(), IndexType.KEY,
+					resolveDefine(enableIndexingAttributes), registry);
+				break;
+			case INDEXED:
+				IndexType indexType = (StringUtils.hasText(indexDefinition.getType())
+					? IndexType.valueOf(indexDefinition.getType()) : IndexType.HASH);
+
+				registerIndexFactoryBeanDefinition(
+					(StringUtils.hasText(indexDefinition.getName()) ? indexDefinition.getName()
+						: generateIndexName(persistentEntity, property, indexType)),
+					(StringUtils.hasText(indexDefinition.getExpression()) ? indexDefinition.getExpression() : property),
+					(StringUtils.hasText(indexDefinition.getFrom()) ? indexDefinition.getFrom()
+						: persistentEntity.getRegionName()),
+					indexType, resolveDefine(enableIndexingAttributes), registry);
+				break;
+			case COMPOSITE:
+				registerCompositeIndexBeanDefinitions(enableIndexingAttributes, persistentEntity,
+					indexDefinition.getName(), indexDefinition.getFrom(), (StringUtils.hasText(indexDefinition.getType())
+						? IndexType.valueOf(indexDefinition.getType()) : IndexType.HASH),
+					indexDefinition.getProperties(), registry);
+				break;
+			case LUCENE:
+				registerLuceneIndexFactoryBeanDefinition(indexDefinition.getName(), indexDefinition.isDestroy(),
+					property, persistentEntity.getRegionName(), registry);
+				break;
+		}
+	}
 
-			indexFactoryBeanBuilder.addPropertyValue("expression",
-				resolveExpression(persistentEntity, persistentProperty, indexedAttributes));
+	/**
+	 * Registers an Index for each of the {@link Indexed#properties() properties} declared in a type-level
+	 * {@link Indexed} annotation on the {@link GemfirePersistentEntity}.
+	 *
+	 * Like all other Indexes, the Indexes in the declaration are only defined, to be subsequently created together
+	 * in a single pass over the {@link Region} once the Spring container has been refreshed, when the
+	 * {@link EnableIndexing} {@literal define} attribute is set to {@literal true}.
+	 *
+	 * @param enableIndexingAttributes {@link AnnotationAttributes} containing meta-data
+	 * for the {@link EnableIndexing} annotation.
+	 * @param persistentEntity {@link GemfirePersistentEntity} annotated with {@link Indexed}.
+	 * @param indexed type-level {@link Indexed} declaration.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the Index bean definitions.
+	 * @throws IllegalArgumentException if no properties are declared or a declared property
+	 * does not exist on the {@link GemfirePersistentEntity}.
+	 * @see org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener
+	 * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+	 */
+	protected void registerCompositeIndexBeanDefinitions(AnnotationAttributes enableIndexingAttributes,
+			GemfirePersistentEntity<?> persistentEntity, Indexed indexed, BeanDefinitionRegistry registry) {
 
-			indexFactoryBeanBuilder.addPropertyValue("from",
-				resolveFrom(persistentEntity, persistentProperty, indexedAttributes));
+		registerCompositeIndexBeanDefinitions(enableIndexingAttributes, persistentEntity, indexed.name(),
+			indexed.from(), indexed.type(), indexed.properties(), registry);
+	}
 
-			indexFactoryBeanBuilder.addPropertyValue("ignoreIfExists", Boolean.TRUE);
+	/* (non-Javadoc) */
+	private void registerCompositeIndexBeanDefinitions(AnnotationAttributes enableIndexingAttributes,
+			GemfirePersistentEntity<?> persistentEntity, String name, String from, IndexType indexType,
+			String[] indexedProperties, BeanDefinitionRegistry registry) {
 
-			indexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
+		String[] properties = nullSafeArray(indexedProperties, String.class);
 
-			indexFactoryBeanBuilder.addPropertyValue("name", indexName);
+		if (properties.length == 0) {
+			throw newIllegalArgumentException("Indexed properties are required when declaring @%1$s on type [%2$s]",
+				Indexed.class.getSimpleName(), persistentEntity.getType().getName());
+		}
 
-			indexFactoryBeanBuilder.addPropertyValue("override", Boolean.FALSE);
+		String resolvedFrom = (StringUtils.hasText(from) ? from : persistentEntity.getRegionName());
 
-			indexFactoryBeanBuilder.addPropertyValue("type",
-				resolveType(persistentEntity, persistentProperty, indexedAttributes, indexType).toString());
+		for (String property : properties) {
 
-			registry.registerBeanDefinition(indexName, indexFactoryBeanBuilder.getBeanDefinition());
-		});
+			String propertyName = StringUtils.trimWhitespace(property);
+
+			if (!persistentEntity.getPersistentProperty(propertyName.split("\\.")[0]).isPresent()) {
+				throw newIllegalArgumentException("Indexed property [%1$s] was not found on type [%2$s]",
+					propertyName, persistentEntity.getType().getName());
+			}
+
+			String indexName = (StringUtils.hasText(name)
+				? String.format("%1$s%2$s", name, toIndexNameSuffix(propertyName))
+				: generateIndexName(persistentEntity, propertyName, indexType));
+
+			registerIndexFactoryBeanDefinition(indexName, propertyName, resolvedFrom, indexType,
+				resolveDefine(enableIndexingAttributes), registry);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void registerIndexFactoryBeanDefinition(String indexName, String expression, String from,
+			IndexType indexType, boolean define, BeanDefinitionRegistry registry) {
+
+		BeanDefinitionBuilder indexFactoryBeanBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class);
+
+		indexFactoryBeanBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+
+		indexFactoryBeanBuilder.addPropertyValue("define", define);
+
+		indexFactoryBeanBuilder.addPropertyValue("expression", expression);
+
+		indexFactoryBeanBuilder.addPropertyValue("from", from);
+
+		indexFactoryBeanBuilder.addPropertyValue("ignoreIfExists", Boolean.TRUE);
+
+		indexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
+
+		indexFactoryBeanBuilder.addPropertyValue("name", indexName);
+
+		indexFactoryBeanBuilder.addPropertyValue("override", Boolean.FALSE);
+
+		indexFactoryBeanBuilder.addPropertyValue("type", indexType.toString());
+
+		registry.registerBeanDefinition(indexName, indexFactoryBeanBuilder.getBeanDefinition());
 	}
 
 	/**
@@ -245,26 +413,34 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 			AnnotationAttributes luceneIndexAttributes =
 				AnnotationAttributes.fromMap(AnnotationUtils.getAnnotationAttributes(localLuceneIndexAnnotation));
 
-			BeanDefinitionBuilder luceneIndexFactoryBeanBuilder =
-				BeanDefinitionBuilder.genericBeanDefinition(LuceneIndexFactoryBean.class);
-
 			String indexName = luceneIndexAttributes.getString("name");
 
 			boolean destroy = (luceneIndexAttributes.containsKey("destroy")
 				&& luceneIndexAttributes.getBoolean("destroy"));
 
-			luceneIndexFactoryBeanBuilder.addPropertyValue("destroy", destroy);
+			registerLuceneIndexFactoryBeanDefinition(indexName, destroy, persistentProperty.getName(),
+				persistentEntity.getRegionName(), registry);
+		});
+	}
 
-			luceneIndexFactoryBeanBuilder.addPropertyValue("fields", persistentProperty.getName());
+	/* (non-Javadoc) */
+	private void registerLuceneIndexFactoryBeanDefinition(String indexName, boolean destroy, String fields,
+			String regionPath, BeanDefinitionRegistry registry) {
 
-			luceneIndexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
+		BeanDefinitionBuilder luceneIndexFactoryBeanBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(LuceneIndexFactoryBean.class);
 
-			luceneIndexFactoryBeanBuilder.addPropertyValue("indexName", indexName);
+		luceneIndexFactoryBeanBuilder.addPropertyValue("destroy", destroy);
 
-			luceneIndexFactoryBeanBuilder.addPropertyValue("regionPath", persistentEntity.getRegionName());
+		luceneIndexFactoryBeanBuilder.addPropertyValue("fields", fields);
 
-			registry.registerBeanDefinition(indexName, luceneIndexFactoryBeanBuilder.getBeanDefinition());
-		});
+		luceneIndexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
+
+		luceneIndexFactoryBeanBuilder.addPropertyValue("indexName", indexName);
+
+		luceneIndexFactoryBeanBuilder.addPropertyValue("regionPath", regionPath);
+
+		registry.registerBeanDefinition(indexName, luceneIndexFactoryBeanBuilder.getBeanDefinition());
 	}
 
 	/* (non-Javadoc) */
@@ -328,9 +504,27 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 	private String generateIndexName(GemfirePersistentEntity persistentEntity,
 			GemfirePersistentProperty persistentProperty, IndexType indexType) {
 
-		return String.format("%1$s%2$s%3$sIdx", persistentEntity.getRegionName(),
-			StringUtils.capitalize(persistentProperty.getName()),
-				StringUtils.capitalize(indexType.name().toLowerCase()));
+		return generateIndexName(persistentEntity, persistentProperty.getName(), indexType);
+	}
+
+	/* (non-Javadoc) */
+	private String generateIndexName(GemfirePersistentEntity persistentEntity, String propertyPath,
+			IndexType indexType) {
+
+		return String.format("%1$s%2$s%3$sIdx", persistentEntity.getRegionName(), toIndexNameSuffix(propertyPath),
+			StringUtils.capitalize(indexType.name().toLowerCase()));
+	}
+
+	/* (non-Javadoc) */
+	private String toIndexNameSuffix(String propertyPath) {
+
+		StringBuilder suffix = new StringBuilder();
+
+		for (String propertyName : StringUtils.delimitedListToStringArray(propertyPath, ".")) {
+			suffix.append(StringUtils.capitalize(propertyName));
+		}
+
+		return suffix.toString();
 	}
 
 	/* (non-Javadoc) */
@@ -123,6 +123,15 @@ public @interface PeerCacheApplication {
 	 */
 	String name() default PeerCacheConfiguration.DEFAULT_NAME;
 
+	/**
+	 * Enables a parallel bootstrap, creating independent peer Regions concurrently (respecting colocation
+	 * and Sub-Region ordering), recovering persistent Regions in parallel, creating all Indexes in a single batch
+	 * once all Regions exist and logging the time taken to create each GemFire component.
+	 *
+	 * Default is {@literal false}.
+	 */
+	boolean parallelBootstrap() default false;
+
 	/**
 	 * Configures the number of seconds a cache get operation can spend searching for a value before it times out.
 	 *
@@ -28,10 +28,13 @@ import java.util.stream.Collectors;
 import org.apache.geode.cache.Cache;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.config.support.ParallelBootstrapBeanPostProcessor;
 
 /**
  * Spring {@link Configuration} class used to construct, configure and initialize a peer {@link Cache} instance
@@ -146,12 +149,28 @@ public class PeerCacheConfiguration extends AbstractCacheConfiguration {
             setSearchTimeout((Integer) peerCacheApplicationAttributes.get("searchTimeout"));
             setUseClusterConfiguration(Boolean.TRUE.equals(peerCacheApplicationAttributes.get("useClusterConfiguration")));
 
+            if (Boolean.TRUE.equals(peerCacheApplicationAttributes.get("parallelBootstrap"))) {
+                registerParallelBootstrapBeanPostProcessor();
+            }
+
             Optional.ofNullable((String) peerCacheApplicationAttributes.get("locators"))
                 .filter(PeerCacheConfiguration::hasValue)
                 .ifPresent(this::setLocators);
         }
     }
 
+    /**
+     * Registers the {@link ParallelBootstrapBeanPostProcessor} used to create peer
+     * {@link org.apache.geode.cache.Region Regions} concurrently, create all {@link org.apache.geode.cache.query.Index Indexes} in a single batch and report
+     * the time taken to create each GemFire component.
+     *
+     * @see org.springframework.data.gemfire.config.support.ParallelBootstrapBeanPostProcessor
+     */
+    protected void registerParallelBootstrapBeanPostProcessor() {
+        register(BeanDefinitionBuilder.rootBeanDefinition(ParallelBootstrapBeanPostProcessor.class)
+            .setRole(BeanDefinition.ROLE_INFRASTRUCTURE).getBeanDefinition());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import static java.util.Arrays.asList;
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.support.RebalanceService;
+
+/**
+ * The {@link RebalancingConfiguration} class is a Spring {@link ImportBeanDefinitionRegistrar} registering
+ * the {@link RebalanceService} enabled when a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class is annotated with {@link EnableRebalancing}.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
+ * @see org.springframework.data.gemfire.config.annotation.EnableRebalancing
+ * @see org.springframework.data.gemfire.support.RebalanceService
+ * @since 2.0.0
+ */
+public class RebalancingConfiguration implements ImportBeanDefinitionRegistrar {
+
+	protected static final String REBALANCE_SERVICE_BEAN_NAME = "gemfireRebalanceService";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		if (importingClassMetadata.hasAnnotation(EnableRebalancing.class.getName())
+				&& !registry.containsBeanDefinition(REBALANCE_SERVICE_BEAN_NAME)) {
+
+			AnnotationAttributes enableRebalancingAttributes = AnnotationAttributes.fromMap(
+				importingClassMetadata.getAnnotationAttributes(EnableRebalancing.class.getName()));
+
+			BeanDefinitionBuilder rebalanceServiceBuilder =
+				BeanDefinitionBuilder.genericBeanDefinition(RebalanceService.class)
+					.addPropertyValue("regionGroups", resolveRegionGroups(enableRebalancingAttributes))
+					.addPropertyValue("rebalanceInterval",
+						enableRebalancingAttributes.<Long>getNumber("rebalanceInterval"))
+					.addPropertyValue("rebalanceOnMembershipChange",
+						enableRebalancingAttributes.getBoolean("rebalanceOnMembershipChange"))
+					.addPropertyValue("membershipChangeDelay",
+						enableRebalancingAttributes.<Long>getNumber("membershipChangeDelay"))
+					.addPropertyValue("minimumBucketsMoved",
+						enableRebalancingAttributes.<Integer>getNumber("minimumBucketsMoved"))
+					.addPropertyValue("pauseBetweenGroups",
+						enableRebalancingAttributes.<Long>getNumber("pauseBetweenGroups"))
+					.addPropertyValue("maxRebalanceTime",
+						enableRebalancingAttributes.<Long>getNumber("maxRebalanceTime"))
+					.addPropertyValue("progressInterval",
+						enableRebalancingAttributes.<Long>getNumber("progressInterval"))
+					.addPropertyValue("simulateOnly", enableRebalancingAttributes.getBoolean("simulateOnly"))
+					.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+
+			registry.registerBeanDefinition(REBALANCE_SERVICE_BEAN_NAME, rebalanceServiceBuilder.getBeanDefinition());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Map<String, List<String>> resolveRegionGroups(AnnotationAttributes enableRebalancingAttributes) {
+
+		Map<String, List<String>> regionGroups = new LinkedHashMap<>();
+
+		for (AnnotationAttributes regionGroup : nullSafeArray(
+				enableRebalancingAttributes.getAnnotationArray("regionGroups"), AnnotationAttributes.class)) {
+
+			regionGroups.put(regionGroup.getString("name"), asList(regionGroup.getStringArray("regions")));
+		}
+
+		return regionGroups;
+	}
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
@@ -88,6 +89,19 @@ public class GemFireCacheTypeAwareRegionFactoryBean<K, V> extends RegionLookupFa
 			: newServerRegion(gemfireCache, regionName));
 	}
 
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected String resolveColocatedRegionName() {
+
+		return Optional.ofNullable(getRegionAttributes())
+			.map(RegionAttributes::getPartitionAttributes)
+			.map(PartitionAttributes::getColocatedWith)
+			.filter(StringUtils::hasText)
+			.orElse(null);
+	}
+
 	/**
 	 * Constructs a new client {@link Region} using the {@link ClientRegionFactoryBean}.
 	 *
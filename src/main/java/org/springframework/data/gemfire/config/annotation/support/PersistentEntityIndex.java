@@ -0,0 +1,455 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The {@link PersistentEntityIndex} class is an index of the application persistent entities annotated with
+ * one of the Region mapping annotations (e.g. {@literal @Region}, {@literal @ClientRegion}) along with the Index
+ * definitions declared on each entity (i.e. {@literal @Id}, {@literal @Indexed} and {@literal @LuceneIndexed}).
+ *
+ * The index is generated at build time by the {@link PersistentEntityIndexProcessor} and stored in
+ * {@value #INDEX_LOCATION}.  When present, the index is used in place of scanning the classpath for
+ * persistent entities and looking up the Index annotations on the persistent properties of each entity.
+ * The {@link org.springframework.data.gemfire.mapping.GemfireMappingContext} still introspects each indexed entity
+ * on startup to resolve its Region meta-data, so the index saves the classpath scan, not the entity introspection.
+ * Setting the {@value #IGNORE_INDEX_PROPERTY} System property to {@literal true} ignores the index.
+ *
+ * This class only depends on the JDK so that it may be used by the annotation processor at build time.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndexProcessor
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class PersistentEntityIndex {
+
+	public static final String IGNORE_INDEX_PROPERTY = "spring.data.gemfire.entity-index.ignore";
+	public static final String INDEX_LOCATION = "META-INF/spring.gemfire.entities";
+
+	protected static final String INDEX_DEFINITION_SEPARATOR = "#";
+
+	protected static final String DESTROY_ATTRIBUTE = "destroy";
+	protected static final String EXPRESSION_ATTRIBUTE = "expression";
+	protected static final String FROM_ATTRIBUTE = "from";
+	protected static final String KIND_ATTRIBUTE = "kind";
+	protected static final String NAME_ATTRIBUTE = "name";
+	protected static final String PROPERTIES_ATTRIBUTE = "properties";
+	protected static final String PROPERTY_ATTRIBUTE = "property";
+	protected static final String TYPE_ATTRIBUTE = "type";
+
+	private final Map<String, List<IndexDefinition>> entities = new TreeMap<>();
+
+	/**
+	 * Loads and merges all {@value #INDEX_LOCATION} files visible to the given {@link ClassLoader}.
+	 *
+	 * @param classLoader {@link ClassLoader} used to find the index files.
+	 * @return the {@link PersistentEntityIndex} or {@link Optional#empty()} if no index was found
+	 * or the index is ignored.
+	 * @throws UncheckedIOException if an index file could not be read.
+	 */
+	public static Optional<PersistentEntityIndex> load(ClassLoader classLoader) {
+
+		if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+			return Optional.empty();
+		}
+
+		try {
+			ClassLoader resolvedClassLoader = Optional.ofNullable(classLoader)
+				.orElseGet(PersistentEntityIndex.class::getClassLoader);
+
+			Enumeration<URL> indexFiles = resolvedClassLoader.getResources(INDEX_LOCATION);
+
+			PersistentEntityIndex persistentEntityIndex = null;
+
+			while (indexFiles.hasMoreElements()) {
+
+				Properties indexProperties = new Properties();
+
+				try (InputStream in = indexFiles.nextElement().openStream()) {
+					indexProperties.load(in);
+				}
+
+				persistentEntityIndex = Optional.ofNullable(persistentEntityIndex)
+					.orElseGet(PersistentEntityIndex::new).merge(from(indexProperties));
+			}
+
+			return Optional.ofNullable(persistentEntityIndex);
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(String.format("Failed to load [%s]", INDEX_LOCATION), cause);
+		}
+	}
+
+	/**
+	 * Reads the {@link PersistentEntityIndex} from the given {@link Properties}.
+	 *
+	 * @param indexProperties {@link Properties} containing the index.
+	 * @return the {@link PersistentEntityIndex} read from the given {@link Properties}.
+	 * @see #toProperties()
+	 */
+	public static PersistentEntityIndex from(Properties indexProperties) {
+
+		PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex();
+
+		for (String key : indexProperties.stringPropertyNames()) {
+			if (!key.contains(INDEX_DEFINITION_SEPARATOR)) {
+
+				int indexDefinitionCount = Integer.parseInt(indexProperties.getProperty(key, "0").trim());
+
+				List<IndexDefinition> indexDefinitions = new ArrayList<>(indexDefinitionCount);
+
+				for (int index = 0; index < indexDefinitionCount; index++) {
+					indexDefinitions.add(IndexDefinition.from(indexProperties,
+						key.concat(INDEX_DEFINITION_SEPARATOR).concat(String.valueOf(index)).concat(".")));
+				}
+
+				persistentEntityIndex.add(key, indexDefinitions);
+			}
+		}
+
+		return persistentEntityIndex;
+	}
+
+	/**
+	 * Adds the persistent entity with the given {@link Class} name and Index definitions.
+	 *
+	 * @param entityClassName fully-qualified {@link Class} name of the persistent entity.
+	 * @param indexDefinitions {@link List} of {@link IndexDefinition IndexDefinitions} declared on the entity.
+	 * @return this {@link PersistentEntityIndex}.
+	 */
+	public PersistentEntityIndex add(String entityClassName, List<IndexDefinition> indexDefinitions) {
+		this.entities.put(entityClassName, new ArrayList<>(Optional.ofNullable(indexDefinitions)
+			.orElseGet(Collections::emptyList)));
+		return this;
+	}
+
+	/**
+	 * Merges all persistent entities from the given {@link PersistentEntityIndex} into this index.
+	 *
+	 * @param persistentEntityIndex {@link PersistentEntityIndex} to merge.
+	 * @return this {@link PersistentEntityIndex}.
+	 */
+	public PersistentEntityIndex merge(PersistentEntityIndex persistentEntityIndex) {
+		Optional.ofNullable(persistentEntityIndex).ifPresent(it -> this.entities.putAll(it.entities));
+		return this;
+	}
+
+	/**
+	 * Removes the persistent entity with the given {@link Class} name.
+	 *
+	 * @param entityClassName fully-qualified {@link Class} name of the persistent entity.
+	 * @return this {@link PersistentEntityIndex}.
+	 */
+	public PersistentEntityIndex remove(String entityClassName) {
+		this.entities.remove(entityClassName);
+		return this;
+	}
+
+	/**
+	 * Determines whether the persistent entity with the given {@link Class} name is indexed.
+	 *
+	 * @param entityClassName fully-qualified {@link Class} name of the persistent entity.
+	 * @return a boolean value indicating whether the persistent entity is indexed.
+	 */
+	public boolean contains(String entityClassName) {
+		return this.entities.containsKey(entityClassName);
+	}
+
+	/**
+	 * Returns the {@link Class} names of all indexed persistent entities.
+	 *
+	 * @return a {@link Set} of the {@link Class} names of all indexed persistent entities.
+	 */
+	public Set<String> getEntityClassNames() {
+		return Collections.unmodifiableSet(this.entities.keySet());
+	}
+
+	/**
+	 * Returns the {@link Class} names of all indexed persistent entities in the given base packages,
+	 * or any of their sub-packages.
+	 *
+	 * @param basePackages {@link Collection} of base packages.
+	 * @return a {@link Set} of the {@link Class} names of the indexed persistent entities in the base packages.
+	 */
+	public Set<String> getEntityClassNames(Collection<String> basePackages) {
+
+		Set<String> entityClassNames = new TreeSet<>();
+
+		for (String entityClassName : this.entities.keySet()) {
+			for (String basePackage : basePackages) {
+				if (entityClassName.startsWith(basePackage.concat("."))) {
+					entityClassNames.add(entityClassName);
+					break;
+				}
+			}
+		}
+
+		return entityClassNames;
+	}
+
+	/**
+	 * Returns the Index definitions declared on the persistent entity with the given {@link Class} name.
+	 *
+	 * @param entityClassName fully-qualified {@link Class} name of the persistent entity.
+	 * @return a {@link List} of {@link IndexDefinition IndexDefinitions}, or {@literal null}
+	 * if the persistent entity is not indexed.
+	 */
+	public List<IndexDefinition> getIndexDefinitions(String entityClassName) {
+		return Optional.ofNullable(this.entities.get(entityClassName)).map(Collections::unmodifiableList)
+			.orElse(null);
+	}
+
+	/**
+	 * Writes this {@link PersistentEntityIndex} to {@link Properties}.
+	 *
+	 * @return {@link Properties} containing this {@link PersistentEntityIndex}.
+	 * @see #from(Properties)
+	 */
+	public Properties toProperties() {
+
+		Properties indexProperties = new Properties();
+
+		this.entities.forEach((entityClassName, indexDefinitions) -> {
+
+			indexProperties.setProperty(entityClassName, String.valueOf(indexDefinitions.size()));
+
+			for (int index = 0; index < indexDefinitions.size(); index++) {
+				indexDefinitions.get(index).to(indexProperties,
+					entityClassName.concat(INDEX_DEFINITION_SEPARATOR).concat(String.valueOf(index)).concat("."));
+			}
+		});
+
+		return indexProperties;
+	}
+
+	/**
+	 * The {@link IndexDefinition} class describes a single Index declared on a persistent entity.
+	 */
+	public static class IndexDefinition {
+
+		private boolean destroy;
+
+		private Kind kind;
+
+		private String expression;
+		private String from;
+		private String name;
+		private String property;
+		private String type;
+
+		private String[] properties = {};
+
+		/**
+		 * Defines a KEY Index on the persistent property annotated with {@literal @Id}.
+		 *
+		 * @param property name of the identifier property.
+		 * @return the {@link IndexDefinition}.
+		 */
+		public static IndexDefinition id(String property) {
+
+			IndexDefinition indexDefinition = new IndexDefinition();
+
+			indexDefinition.kind = Kind.ID;
+			indexDefinition.property = property;
+
+			return indexDefinition;
+		}
+
+		/**
+		 * Defines an Index on a persistent property annotated with {@literal @Indexed}.
+		 *
+		 * @param property name of the indexed property.
+		 * @param name name of the Index; may be empty.
+		 * @param expression indexed expression; may be empty.
+		 * @param from {@literal FROM} clause of the Index; may be empty.
+		 * @param type name of the {@link org.springframework.data.gemfire.IndexType}.
+		 * @return the {@link IndexDefinition}.
+		 */
+		public static IndexDefinition indexed(String property, String name, String expression, String from,
+				String type) {
+
+			IndexDefinition indexDefinition = new IndexDefinition();
+
+			indexDefinition.kind = Kind.INDEXED;
+			indexDefinition.property = property;
+			indexDefinition.name = name;
+			indexDefinition.expression = expression;
+			indexDefinition.from = from;
+			indexDefinition.type = type;
+
+			return indexDefinition;
+		}
+
+		/**
+		 * Defines the Indexes declared with a type-level {@literal @Indexed} annotation.
+		 *
+		 * @param name name prefix of the Indexes; may be empty.
+		 * @param from {@literal FROM} clause of the Indexes; may be empty.
+		 * @param type name of the {@link org.springframework.data.gemfire.IndexType}.
+		 * @param properties names of the properties to index together.
+		 * @return the {@link IndexDefinition}.
+		 */
+		public static IndexDefinition composite(String name, String from, String type, String... properties) {
+
+			IndexDefinition indexDefinition = new IndexDefinition();
+
+			indexDefinition.kind = Kind.COMPOSITE;
+			indexDefinition.name = name;
+			indexDefinition.from = from;
+			indexDefinition.type = type;
+			indexDefinition.properties = Optional.ofNullable(properties).orElseGet(() -> new String[0]);
+
+			return indexDefinition;
+		}
+
+		/**
+		 * Defines a Lucene Index on a persistent property annotated with {@literal @LuceneIndexed}.
+		 *
+		 * @param property name of the indexed property.
+		 * @param name name of the Lucene Index.
+		 * @param destroy whether to destroy the Lucene Index on shutdown.
+		 * @return the {@link IndexDefinition}.
+		 */
+		public static IndexDefinition lucene(String property, String name, boolean destroy) {
+
+			IndexDefinition indexDefinition = new IndexDefinition();
+
+			indexDefinition.kind = Kind.LUCENE;
+			indexDefinition.property = property;
+			indexDefinition.name = name;
+			indexDefinition.destroy = destroy;
+
+			return indexDefinition;
+		}
+
+		/* (non-Javadoc) */
+		static IndexDefinition from(Properties indexProperties, String prefix) {
+
+			IndexDefinition indexDefinition = new IndexDefinition();
+
+			indexDefinition.kind = Kind.valueOf(indexProperties.getProperty(prefix.concat(KIND_ATTRIBUTE)));
+			indexDefinition.destroy =
+				Boolean.parseBoolean(indexProperties.getProperty(prefix.concat(DESTROY_ATTRIBUTE)));
+			indexDefinition.expression = indexProperties.getProperty(prefix.concat(EXPRESSION_ATTRIBUTE), "");
+			indexDefinition.from = indexProperties.getProperty(prefix.concat(FROM_ATTRIBUTE), "");
+			indexDefinition.name = indexProperties.getProperty(prefix.concat(NAME_ATTRIBUTE), "");
+			indexDefinition.property = indexProperties.getProperty(prefix.concat(PROPERTY_ATTRIBUTE), "");
+			indexDefinition.type = indexProperties.getProperty(prefix.concat(TYPE_ATTRIBUTE), "");
+
+			String properties = indexProperties.getProperty(prefix.concat(PROPERTIES_ATTRIBUTE), "");
+
+			indexDefinition.properties = (properties.isEmpty() ? new String[0] : properties.split(","));
+
+			return indexDefinition;
+		}
+
+		/* (non-Javadoc) */
+		void to(Properties indexProperties, String prefix) {
+
+			indexProperties.setProperty(prefix.concat(KIND_ATTRIBUTE), this.kind.name());
+
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(EXPRESSION_ATTRIBUTE), this.expression);
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(FROM_ATTRIBUTE), this.from);
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(NAME_ATTRIBUTE), this.name);
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(PROPERTY_ATTRIBUTE), this.property);
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(TYPE_ATTRIBUTE), this.type);
+			setPropertyIfNotEmpty(indexProperties, prefix.concat(PROPERTIES_ATTRIBUTE),
+				String.join(",", this.properties));
+
+			if (this.destroy) {
+				indexProperties.setProperty(prefix.concat(DESTROY_ATTRIBUTE), String.valueOf(true));
+			}
+		}
+
+		/* (non-Javadoc) */
+		private static void setPropertyIfNotEmpty(Properties properties, String key, String value) {
+			if (value != null && !value.isEmpty()) {
+				properties.setProperty(key, value);
+			}
+		}
+
+		public boolean isDestroy() {
+			return this.destroy;
+		}
+
+		public String getExpression() {
+			return nullSafeString(this.expression);
+		}
+
+		public String getFrom() {
+			return nullSafeString(this.from);
+		}
+
+		public Kind getKind() {
+			return this.kind;
+		}
+
+		public String getName() {
+			return nullSafeString(this.name);
+		}
+
+		public String[] getProperties() {
+			return this.properties.clone();
+		}
+
+		public String getProperty() {
+			return nullSafeString(this.property);
+		}
+
+		public String getType() {
+			return nullSafeString(this.type);
+		}
+
+		/* (non-Javadoc) */
+		private static String nullSafeString(String value) {
+			return (value != null ? value : "");
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ kind = %1$s, property = %2$s, name = %3$s, expression = %4$s, from = %5$s,"
+				+ " type = %6$s, properties = %7$s, destroy = %8$s }", getKind(), getProperty(), getName(),
+				getExpression(), getFrom(), getType(), String.join(",", this.properties), isDestroy());
+		}
+
+		/**
+		 * Kind is an enumeration of the Index annotations recorded in the {@link PersistentEntityIndex}.
+		 */
+		public enum Kind {
+			ID,
+			INDEXED,
+			COMPOSITE,
+			LUCENE
+		}
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex.IndexDefinition;
+
+/**
+ * The {@link PersistentEntityIndexProcessor} class is a Java annotation processor generating
+ * the {@link PersistentEntityIndex} at build time from the application persistent entities annotated with one of
+ * the Region mapping annotations, along with the Index annotations declared on each entity.
+ *
+ * The processor is not registered automatically; it is enabled by adding it to the compiler's annotation processors
+ * (e.g. {@literal -processor} or the Maven Compiler Plugin {@literal annotationProcessors} configuration).
+ * On incremental builds, entities in the existing index that were not recompiled are retained as long as their
+ * type still exists.
+ *
+ * Like the {@link org.springframework.core.annotation.AnnotatedElementUtils merged annotation} lookup used at runtime,
+ * the Region and Index annotations are also found when used as meta-annotations on composed annotations, with
+ * attributes overridden by the composed annotation, either explicitly with {@literal @AliasFor} or by convention.
+ *
+ * @author John Blum
+ * @see javax.annotation.processing.AbstractProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex
+ * @since 2.0.0
+ */
+@SupportedAnnotationTypes("*")
+@SuppressWarnings("unused")
+public class PersistentEntityIndexProcessor extends AbstractProcessor {
+
+	protected static final String ALIAS_FOR_ANNOTATION_TYPE_NAME = "org.springframework.core.annotation.AliasFor";
+	protected static final String ID_ANNOTATION_TYPE_NAME = "org.springframework.data.annotation.Id";
+	protected static final String INDEXED_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.mapping.annotation.Indexed";
+	protected static final String INDEXES_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.mapping.annotation.Indexes";
+	protected static final String LUCENE_INDEXED_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.mapping.annotation.LuceneIndexed";
+
+	protected static final Set<String> REGION_ANNOTATION_TYPE_NAMES = Collections.unmodifiableSet(new HashSet<>(
+		Arrays.asList("org.springframework.data.gemfire.mapping.annotation.ClientRegion",
+			"org.springframework.data.gemfire.mapping.annotation.LocalRegion",
+			"org.springframework.data.gemfire.mapping.annotation.PartitionRegion",
+			"org.springframework.data.gemfire.mapping.annotation.ReplicateRegion",
+			"org.springframework.data.gemfire.mapping.annotation.Region")));
+
+	private final PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex();
+
+	private final Set<String> processedTypeNames = new HashSet<>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+
+		for (TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+			process(typeElement);
+		}
+
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private void process(TypeElement typeElement) {
+
+		String typeName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+
+		this.processedTypeNames.add(typeName);
+
+		if (isPersistentEntity(typeElement)) {
+			this.persistentEntityIndex.add(typeName, resolveIndexDefinitions(typeElement));
+		}
+
+		for (TypeElement nestedTypeElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+			if (nestedTypeElement.getModifiers().contains(Modifier.STATIC)) {
+				process(nestedTypeElement);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	boolean isPersistentEntity(TypeElement typeElement) {
+
+		List<? extends AnnotationMirror> annotations =
+			processingEnv.getElementUtils().getAllAnnotationMirrors(typeElement);
+
+		return typeElement.getKind() == ElementKind.CLASS
+			&& !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+			&& REGION_ANNOTATION_TYPE_NAMES.stream()
+				.anyMatch(annotationTypeName -> !findMergedAnnotations(annotations, annotationTypeName).isEmpty());
+	}
+
+	/* (non-Javadoc) */
+	private List<IndexDefinition> resolveIndexDefinitions(TypeElement typeElement) {
+
+		List<IndexDefinition> indexDefinitions = new ArrayList<>();
+
+		for (TypeElement type = typeElement; type != null; type = superclassOf(type)) {
+			for (Element member : type.getEnclosedElements()) {
+				resolvePropertyName(member).ifPresent(propertyName ->
+					resolveIndexDefinitions(member, propertyName, indexDefinitions));
+			}
+		}
+
+		List<? extends AnnotationMirror> annotations =
+			processingEnv.getElementUtils().getAllAnnotationMirrors(typeElement);
+
+		for (Map<String, Object> indexed : findMergedAnnotations(annotations, INDEXED_ANNOTATION_TYPE_NAME)) {
+			indexDefinitions.add(toCompositeIndexDefinition(indexed));
+		}
+
+		for (Map<String, Object> indexes : findMergedAnnotations(annotations, INDEXES_ANNOTATION_TYPE_NAME)) {
+			for (AnnotationValue indexed : getAnnotationValues(indexes, "value")) {
+				indexDefinitions.add(toCompositeIndexDefinition(
+					getAnnotationAttributes((AnnotationMirror) indexed.getValue())));
+			}
+		}
+
+		return indexDefinitions;
+	}
+
+	/* (non-Javadoc) */
+	private void resolveIndexDefinitions(Element member, String propertyName,
+			List<IndexDefinition> indexDefinitions) {
+
+		List<? extends AnnotationMirror> annotations = member.getAnnotationMirrors();
+
+		if (!findMergedAnnotations(annotations, ID_ANNOTATION_TYPE_NAME).isEmpty()) {
+			indexDefinitions.add(IndexDefinition.id(propertyName));
+		}
+
+		for (Map<String, Object> indexed : findMergedAnnotations(annotations, INDEXED_ANNOTATION_TYPE_NAME)) {
+			indexDefinitions.add(IndexDefinition.indexed(propertyName, getName(indexed),
+				getString(indexed, "expression"), getString(indexed, "from"), getEnum(indexed, "type")));
+		}
+
+		for (Map<String, Object> luceneIndexed
+				: findMergedAnnotations(annotations, LUCENE_INDEXED_ANNOTATION_TYPE_NAME)) {
+
+			indexDefinitions.add(IndexDefinition.lucene(propertyName, getName(luceneIndexed),
+				Boolean.TRUE.equals(getValue(luceneIndexed, "destroy"))));
+		}
+	}
+
+	/**
+	 * Finds the annotations of the given type declared directly on, or as meta-annotations of the annotations
+	 * declared on, an {@link Element}, merging the attributes overridden by composed annotations.
+	 *
+	 * @param annotations annotations declared on the {@link Element}.
+	 * @param annotationTypeName fully-qualified name of the annotation type to find.
+	 * @return a {@link List} of the attributes of each annotation found, keyed by attribute name.
+	 */
+	List<Map<String, Object>> findMergedAnnotations(List<? extends AnnotationMirror> annotations,
+			String annotationTypeName) {
+
+		List<Map<String, Object>> mergedAnnotations = new ArrayList<>();
+
+		for (AnnotationMirror annotation : annotations) {
+			findMergedAnnotations(annotation, getAnnotationAttributes(annotation), annotationTypeName,
+				new HashSet<>(), mergedAnnotations);
+		}
+
+		return mergedAnnotations;
+	}
+
+	/* (non-Javadoc) */
+	private void findMergedAnnotations(AnnotationMirror annotation, Map<String, Object> attributes,
+			String annotationTypeName, Set<String> visitedAnnotationTypeNames,
+			List<Map<String, Object>> mergedAnnotations) {
+
+		String typeName = toTypeName(annotation.getAnnotationType());
+
+		if (annotationTypeName.equals(typeName)) {
+			mergedAnnotations.add(attributes);
+		}
+		else if (!typeName.startsWith("java.lang.annotation.") && visitedAnnotationTypeNames.add(typeName)) {
+			for (AnnotationMirror metaAnnotation : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+				findMergedAnnotations(metaAnnotation, mergeAttributes(annotation, attributes, metaAnnotation),
+					annotationTypeName, visitedAnnotationTypeNames, mergedAnnotations);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Map<String, Object> mergeAttributes(AnnotationMirror annotation, Map<String, Object> attributes,
+			AnnotationMirror metaAnnotation) {
+
+		Map<String, Object> metaAttributes = getAnnotationAttributes(metaAnnotation);
+
+		String metaAnnotationTypeName = toTypeName(metaAnnotation.getAnnotationType());
+
+		for (ExecutableElement attribute
+				: ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements())) {
+
+			String attributeName = attribute.getSimpleName().toString();
+			String overriddenAttributeName = resolveOverriddenAttributeName(attribute, metaAnnotationTypeName);
+
+			if (overriddenAttributeName != null && metaAttributes.containsKey(overriddenAttributeName)
+					&& attributes.containsKey(attributeName)) {
+
+				metaAttributes.put(overriddenAttributeName, attributes.get(attributeName));
+			}
+		}
+
+		return metaAttributes;
+	}
+
+	/* (non-Javadoc) */
+	private String resolveOverriddenAttributeName(ExecutableElement attribute, String metaAnnotationTypeName) {
+
+		String attributeName = attribute.getSimpleName().toString();
+
+		for (AnnotationMirror aliasFor : attribute.getAnnotationMirrors()) {
+			if (ALIAS_FOR_ANNOTATION_TYPE_NAME.equals(toTypeName(aliasFor.getAnnotationType()))) {
+
+				Map<String, Object> aliasForAttributes = getAnnotationAttributes(aliasFor);
+
+				Object aliasedAnnotationType = getValue(aliasForAttributes, "annotation");
+
+				if (aliasedAnnotationType instanceof DeclaredType
+						&& metaAnnotationTypeName.equals(toTypeName((DeclaredType) aliasedAnnotationType))) {
+
+					String aliasedAttributeName = getString(aliasForAttributes, "attribute");
+
+					aliasedAttributeName = (aliasedAttributeName.isEmpty()
+						? getString(aliasForAttributes, "value") : aliasedAttributeName);
+
+					return (aliasedAttributeName.isEmpty() ? attributeName : aliasedAttributeName);
+				}
+
+				return null;
+			}
+		}
+
+		return ("value".equals(attributeName) ? null : attributeName);
+	}
+
+	/* (non-Javadoc) */
+	private IndexDefinition toCompositeIndexDefinition(Map<String, Object> indexed) {
+
+		List<String> properties = new ArrayList<>();
+
+		for (AnnotationValue property : getAnnotationValues(indexed, "properties")) {
+			properties.add(String.valueOf(property.getValue()));
+		}
+
+		return IndexDefinition.composite(getName(indexed), getString(indexed, "from"), getEnum(indexed, "type"),
+			properties.toArray(new String[properties.size()]));
+	}
+
+	/* (non-Javadoc) */
+	private Optional<String> resolvePropertyName(Element member) {
+
+		if (member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC)) {
+			return Optional.of(member.getSimpleName().toString());
+		}
+
+		if (member.getKind() == ElementKind.METHOD && ((ExecutableElement) member).getParameters().isEmpty()) {
+
+			String methodName = member.getSimpleName().toString();
+
+			int prefixLength = (methodName.startsWith("get") ? 3 : (methodName.startsWith("is") ? 2 : 0));
+
+			if (prefixLength > 0 && methodName.length() > prefixLength) {
+				return Optional.of(Introspector.decapitalize(methodName.substring(prefixLength)));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/* (non-Javadoc) */
+	private TypeElement superclassOf(TypeElement typeElement) {
+
+		TypeMirror superclass = typeElement.getSuperclass();
+
+		return (superclass.getKind() == TypeKind.DECLARED
+			&& !Object.class.getName().equals(toTypeName((DeclaredType) superclass))
+				? (TypeElement) ((DeclaredType) superclass).asElement() : null);
+	}
+
+	/* (non-Javadoc) */
+	private String toTypeName(DeclaredType type) {
+		return ((TypeElement) type.asElement()).getQualifiedName().toString();
+	}
+
+	/* (non-Javadoc) */
+	private Map<String, Object> getAnnotationAttributes(AnnotationMirror annotation) {
+
+		Map<String, Object> attributes = new LinkedHashMap<>();
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute
+				: processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+
+			attributes.put(attribute.getKey().getSimpleName().toString(), attribute.getValue().getValue());
+		}
+
+		return attributes;
+	}
+
+	/* (non-Javadoc) */
+	private Object getValue(Map<String, Object> attributes, String attributeName) {
+		return attributes.get(attributeName);
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private List<? extends AnnotationValue> getAnnotationValues(Map<String, Object> attributes,
+			String attributeName) {
+
+		Object value = getValue(attributes, attributeName);
+
+		return (value instanceof List ? (List<? extends AnnotationValue>) value : Collections.emptyList());
+	}
+
+	/* (non-Javadoc) */
+	private String getEnum(Map<String, Object> attributes, String attributeName) {
+		Object value = getValue(attributes, attributeName);
+		return (value instanceof VariableElement ? ((VariableElement) value).getSimpleName().toString() : "");
+	}
+
+	/* (non-Javadoc) */
+	private String getName(Map<String, Object> attributes) {
+		String name = getString(attributes, "name");
+		return (name.isEmpty() ? getString(attributes, "value") : name);
+	}
+
+	/* (non-Javadoc) */
+	private String getString(Map<String, Object> attributes, String attributeName) {
+		Object value = getValue(attributes, attributeName);
+		return (value != null ? value.toString() : "");
+	}
+
+	/* (non-Javadoc) */
+	private void writeIndex() {
+
+		PersistentEntityIndex mergedPersistentEntityIndex = readExistingIndex();
+
+		mergedPersistentEntityIndex.merge(this.persistentEntityIndex);
+
+		try {
+			FileObject indexFile = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", PersistentEntityIndex.INDEX_LOCATION);
+
+			try (OutputStream out = indexFile.openOutputStream()) {
+				mergedPersistentEntityIndex.toProperties().store(out, null);
+			}
+		}
+		catch (IOException cause) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+				"Failed to write [%1$s]: %2$s", PersistentEntityIndex.INDEX_LOCATION, cause.getMessage()));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private PersistentEntityIndex readExistingIndex() {
+
+		PersistentEntityIndex existingPersistentEntityIndex = new PersistentEntityIndex();
+
+		try {
+			FileObject indexFile = processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", PersistentEntityIndex.INDEX_LOCATION);
+
+			Properties indexProperties = new Properties();
+
+			try (InputStream in = indexFile.openInputStream()) {
+				indexProperties.load(in);
+			}
+
+			existingPersistentEntityIndex = PersistentEntityIndex.from(indexProperties);
+
+			for (String entityClassName : new ArrayList<>(existingPersistentEntityIndex.getEntityClassNames())) {
+				if (this.processedTypeNames.contains(entityClassName)
+						|| processingEnv.getElementUtils().getTypeElement(entityClassName.replace('$', '.')) == null) {
+
+					existingPersistentEntityIndex.remove(entityClassName);
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException ignore) {
+			// no existing index, or the existing index is not readable; regenerate the index from scratch
+		}
+
+		return existingPersistentEntityIndex;
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.MultiIndexCreationException;
+import org.apache.geode.cache.query.QueryService;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.GemfireUtils;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.RegionLookupFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.GemFireCacheTypeAwareRegionFactoryBean;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.support.ParallelBootstrapCoordinator;
+import org.springframework.data.gemfire.support.StartupTimingReport;
+
+/**
+ * The {@link ParallelBootstrapBeanPostProcessor} class is a Spring {@link BeanPostProcessor} enabling a parallel
+ * bootstrap of the GemFire components declared in the Spring application context.
+ *
+ * Peer {@link org.apache.geode.cache.Region Regions} are created concurrently by a
+ * {@link ParallelBootstrapCoordinator}, respecting colocation as well as Sub-Region ordering, and persistent
+ * {@link org.apache.geode.cache.Region Regions} thereby recover from disk in parallel.  All {@link Index Indexes}
+ * are only defined during initialization and created in a single batch once all
+ * {@link org.apache.geode.cache.Region Regions} exist.  The time taken to initialize each GemFire component
+ * is recorded in a {@link StartupTimingReport}, which is logged once all singleton beans have been instantiated.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.support.ParallelBootstrapCoordinator
+ * @see org.springframework.data.gemfire.support.StartupTimingReport
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class ParallelBootstrapBeanPostProcessor
+		implements BeanFactoryAware, BeanPostProcessor, DisposableBean, SmartInitializingSingleton {
+
+	protected static final String DEFINED_INDEXES_COMPONENT_NAME = "Defined Indexes";
+	protected static final String DEFINED_INDEXES_COMPONENT_TYPE = "Index Batch";
+	protected static final String GEMFIRE_COMPONENT_PACKAGE_NAME = "org.springframework.data.gemfire";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private BeanFactory beanFactory;
+
+	private volatile GemFireCache cache;
+
+	private final Map<String, Long> initializationStartTimes = new ConcurrentHashMap<>();
+
+	private final ParallelBootstrapCoordinator bootstrapCoordinator;
+
+	private final StartupTimingReport startupTimingReport;
+
+	/**
+	 * Constructs an instance of the {@link ParallelBootstrapBeanPostProcessor} creating
+	 * {@link org.apache.geode.cache.Region Regions} with as many threads as there are available processors.
+	 */
+	public ParallelBootstrapBeanPostProcessor() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs an instance of the {@link ParallelBootstrapBeanPostProcessor} creating
+	 * {@link org.apache.geode.cache.Region Regions} with the given number of threads.
+	 *
+	 * @param parallelism number of threads used to create {@link org.apache.geode.cache.Region Regions}.
+	 */
+	public ParallelBootstrapBeanPostProcessor(int parallelism) {
+		this.startupTimingReport = new StartupTimingReport();
+		this.bootstrapCoordinator = new ParallelBootstrapCoordinator(this.startupTimingReport, parallelism);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+		this.bootstrapCoordinator.setRegionResolver(this::resolveRegionBean);
+	}
+
+	/**
+	 * Resolves the {@link org.apache.geode.cache.Region} bean with the given path, or name, from the Spring container,
+	 * for instance a {@link org.apache.geode.cache.Region} that is not created in parallel but that another
+	 * {@link org.apache.geode.cache.Region} is colocated with.
+	 *
+	 * @param regionPath absolute path of the {@link org.apache.geode.cache.Region}.
+	 * @return the {@link org.apache.geode.cache.Region} bean or {@literal null} if no such bean exists.
+	 */
+	Region<?, ?> resolveRegionBean(String regionPath) {
+
+		BeanFactory beanFactory = this.beanFactory;
+
+		return (beanFactory == null ? null : Stream.of(regionPath, regionPath.substring(Region.SEPARATOR.length()))
+			.filter(beanFactory::containsBean)
+			.findFirst()
+			.<Region<?, ?>>map(beanName -> beanFactory.getBean(beanName, Region.class))
+			.orElse(null));
+	}
+
+	/**
+	 * Returns the {@link StartupTimingReport} recording the time taken to initialize each GemFire component.
+	 *
+	 * @return the {@link StartupTimingReport}.
+	 * @see org.springframework.data.gemfire.support.StartupTimingReport
+	 */
+	public StartupTimingReport getStartupTimingReport() {
+		return this.startupTimingReport;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+		if (isParallelizable(bean)) {
+
+			RegionLookupFactoryBean<?, ?> regionFactoryBean = (RegionLookupFactoryBean<?, ?>) bean;
+
+			regionFactoryBean.setBootstrapCoordinator(this.bootstrapCoordinator);
+			this.cache = Optional.ofNullable(this.cache).orElseGet(regionFactoryBean::getCache);
+		}
+		else {
+			if (bean instanceof IndexFactoryBean) {
+				((IndexFactoryBean) bean).setDefine(true);
+				awaitSubmittedRegions(beanName);
+			}
+
+			if (isGemFireComponent(bean)) {
+				this.initializationStartTimes.put(beanName, System.nanoTime());
+			}
+		}
+
+		return bean;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		Optional.ofNullable(this.initializationStartTimes.remove(beanName)).ifPresent(startTime ->
+			this.startupTimingReport.record(beanName, resolveComponentType(bean), System.nanoTime() - startTime));
+
+		return bean;
+	}
+
+	/* (non-Javadoc) */
+	boolean isParallelizable(Object bean) {
+
+		return (bean instanceof RegionFactoryBean || (bean instanceof GemFireCacheTypeAwareRegionFactoryBean
+			&& !GemfireUtils.isClient(((GemFireCacheTypeAwareRegionFactoryBean<?, ?>) bean).getCache())));
+	}
+
+	/* (non-Javadoc) */
+	boolean isGemFireComponent(Object bean) {
+		return (bean instanceof FactoryBean && bean.getClass().getName().startsWith(GEMFIRE_COMPONENT_PACKAGE_NAME));
+	}
+
+	/* (non-Javadoc) */
+	private String resolveComponentType(Object bean) {
+		return bean.getClass().getSimpleName().replace("FactoryBean", "");
+	}
+
+	/* (non-Javadoc) */
+	private void awaitSubmittedRegions(String indexBeanName) {
+		try {
+			this.bootstrapCoordinator.awaitSubmitted();
+		}
+		catch (Exception cause) {
+			throw new BeanInitializationException(String.format(
+				"Failed to create Regions required by Index [%s]", indexBeanName), cause);
+		}
+	}
+
+	/**
+	 * Waits for all {@link org.apache.geode.cache.Region Regions} to be created, creates all defined
+	 * {@link Index Indexes} in a single batch and logs the {@link StartupTimingReport}.
+	 *
+	 * @throws BeanInitializationException if any {@link org.apache.geode.cache.Region} could not be created.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			this.bootstrapCoordinator.awaitAll(this.cache);
+		}
+		catch (Exception cause) {
+			throw new BeanInitializationException("Failed to create Regions in parallel", cause);
+		}
+		finally {
+			this.bootstrapCoordinator.shutdown();
+		}
+
+		createDefinedIndexes();
+
+		if (logger.isInfoEnabled()) {
+			logger.info(this.startupTimingReport.toString());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void createDefinedIndexes() {
+
+		resolveQueryService().ifPresent(queryService -> {
+
+			long startTime = System.nanoTime();
+
+			try {
+				queryService.createDefinedIndexes();
+			}
+			catch (MultiIndexCreationException cause) {
+				logger.warn(String.format("Failed to create pre-defined Indexes: %s", cause.getMessage()), cause);
+			}
+			finally {
+				queryService.clearDefinedIndexes();
+			}
+
+			this.startupTimingReport.record(DEFINED_INDEXES_COMPONENT_NAME, DEFINED_INDEXES_COMPONENT_TYPE,
+				System.nanoTime() - startTime);
+		});
+	}
+
+	/* (non-Javadoc) */
+	private Optional<QueryService> resolveQueryService() {
+
+		String queryServiceBeanName = GemfireConstants.DEFAULT_GEMFIRE_INDEX_DEFINITION_QUERY_SERVICE;
+
+		return Optional.ofNullable(this.beanFactory)
+			.filter(beanFactory -> beanFactory.containsBean(queryServiceBeanName))
+			.map(beanFactory -> beanFactory.getBean(queryServiceBeanName, QueryService.class));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void destroy() throws Exception {
+		this.bootstrapCoordinator.shutdown();
+	}
+}
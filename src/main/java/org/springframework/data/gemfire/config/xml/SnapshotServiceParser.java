@@ -94,6 +94,10 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 
 		snapshotMetadataBuilder.addConstructorArgValue(snapshotMetadataElement.getAttribute("format"));
 
+		if (snapshotMetadataElement.hasAttribute("compression")) {
+			snapshotMetadataBuilder.addConstructorArgValue(snapshotMetadataElement.getAttribute("compression"));
+		}
+
 		return snapshotMetadataBuilder.getBeanDefinition();
 	}
 
@@ -51,6 +51,8 @@ class TransactionManagerParser extends AbstractSingleBeanDefinitionParser {
 		super.doParse(element, builder);
 
 		ParsingUtils.setPropertyValue(element, builder, "copy-on-read", "copyOnRead");
+		ParsingUtils.setPropertyValue(element, builder, "suppress-read-only-cache-transactions",
+			"suppressReadOnlyCacheTransactions");
 		builder.addPropertyReference("cache", ParsingUtils.resolveCacheReference(element));
 	}
 
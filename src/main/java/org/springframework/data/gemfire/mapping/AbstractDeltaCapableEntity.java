@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Delta;
+import org.apache.geode.InvalidDeltaException;
+import org.springframework.data.annotation.Transient;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link AbstractDeltaCapableEntity} class is an abstract base class for application domain objects (entities)
+ * that participate in GemFire/Geode's {@link Delta} propagation, sending only the persistent properties
+ * that changed, rather than the entire entity, to peer members, WAN Gateways and client subscription queues.
+ *
+ * The persistent properties of an entity are the non-static, non-transient fields declared by the entity's
+ * {@link Class} hierarchy that are not annotated with Spring Data's {@link Transient} annotation.  Changes are
+ * detected by comparing the current property values with a snapshot taken when the entity was read
+ * by the {@link MappingPdxSerializer}, when a delta was applied or after the entity was stored
+ * with the {@link org.springframework.data.gemfire.GemfireTemplate}.  Collections, {@link Map Maps} and arrays
+ * are copied in the snapshot, so in-place modifications are detected, but other mutable property values
+ * modified in-place must be explicitly marked with {@link #markDirty(String...)}.
+ *
+ * An entity that has never been snapshotted and that has no explicitly marked properties reports no delta,
+ * in which case GemFire/Geode sends the entire entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.apache.geode.Delta
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.0.0
+ */
+public abstract class AbstractDeltaCapableEntity implements Delta {
+
+	private static final Map<Class<?>, Map<String, Field>> TRACKED_FIELDS = new ConcurrentHashMap<>();
+
+	@Transient
+	private transient Map<String, Object> snapshot;
+
+	@Transient
+	private transient final Set<String> markedProperties = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	/* (non-Javadoc) */
+	static Map<String, Field> resolveTrackedFields(Class<?> entityType) {
+
+		return TRACKED_FIELDS.computeIfAbsent(entityType, type -> {
+
+			Map<String, Field> fields = new LinkedHashMap<>();
+
+			ReflectionUtils.doWithFields(type, field -> {
+				ReflectionUtils.makeAccessible(field);
+				fields.putIfAbsent(field.getName(), field);
+			}, AbstractDeltaCapableEntity::isTracked);
+
+			return Collections.unmodifiableMap(fields);
+		});
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isTracked(Field field) {
+
+		int modifiers = field.getModifiers();
+
+		return (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+			&& !field.isAnnotationPresent(Transient.class)
+			&& !AbstractDeltaCapableEntity.class.equals(field.getDeclaringClass()));
+	}
+
+	/* (non-Javadoc) */
+	private static Object copy(Object value) {
+
+		if (value instanceof List) {
+			return new ArrayList<>((List<?>) value);
+		}
+		else if (value instanceof Set) {
+			return new LinkedHashSet<>((Set<?>) value);
+		}
+		else if (value instanceof Map) {
+			return new LinkedHashMap<>((Map<?, ?>) value);
+		}
+		else if (value != null && value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+
+			System.arraycopy(value, 0, copy, 0, length);
+
+			return copy;
+		}
+
+		return value;
+	}
+
+	/* (non-Javadoc) */
+	private Map<String, Field> getTrackedFields() {
+		return resolveTrackedFields(getClass());
+	}
+
+	/* (non-Javadoc) */
+	private Object getFieldValue(Field field) {
+		return ReflectionUtils.getField(field, this);
+	}
+
+	/**
+	 * Explicitly marks the given persistent properties of this entity as changed, for instance, when a mutable
+	 * property value was modified in-place.
+	 *
+	 * @param propertyNames names of the persistent properties that changed.
+	 * @throws IllegalArgumentException if a named property is not a persistent property of this entity.
+	 */
+	protected void markDirty(String... propertyNames) {
+
+		for (String propertyName : propertyNames) {
+			if (!getTrackedFields().containsKey(propertyName)) {
+				throw new IllegalArgumentException(String.format("Property [%1$s] is not a persistent property of [%2$s]",
+					propertyName, getClass().getName()));
+			}
+
+			this.markedProperties.add(propertyName);
+		}
+	}
+
+	/**
+	 * Returns the names of the persistent properties of this entity that changed since the last snapshot,
+	 * including the properties explicitly marked with {@link #markDirty(String...)}.
+	 *
+	 * @return a {@link Set} of names of the persistent properties of this entity that changed.
+	 */
+	@Transient
+	public Set<String> getDirtyProperties() {
+
+		Set<String> dirtyProperties = new LinkedHashSet<>(this.markedProperties);
+
+		Map<String, Object> snapshot = this.snapshot;
+
+		if (snapshot != null) {
+			getTrackedFields().forEach((propertyName, field) -> {
+				if (!ObjectUtils.nullSafeEquals(snapshot.get(propertyName), copy(getFieldValue(field)))) {
+					dirtyProperties.add(propertyName);
+				}
+			});
+		}
+
+		return dirtyProperties;
+	}
+
+	/**
+	 * Takes a snapshot of the current state of this entity and clears all explicitly marked properties,
+	 * so that subsequent changes are sent as a delta.
+	 */
+	public void resetDirtyProperties() {
+
+		Map<String, Object> snapshot = new HashMap<>();
+
+		getTrackedFields().forEach((propertyName, field) -> snapshot.put(propertyName, copy(getFieldValue(field))));
+
+		this.snapshot = snapshot;
+		this.markedProperties.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasDelta() {
+		return !getDirtyProperties().isEmpty();
+	}
+
+	/**
+	 * Writes the name and value of each changed persistent property of this entity to the given {@link DataOutput}.
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void toDelta(DataOutput out) throws IOException {
+
+		Map<String, Field> trackedFields = getTrackedFields();
+
+		Set<String> dirtyProperties = getDirtyProperties();
+
+		out.writeInt(dirtyProperties.size());
+
+		for (String propertyName : dirtyProperties) {
+			out.writeUTF(propertyName);
+			DataSerializer.writeObject(getFieldValue(trackedFields.get(propertyName)), out);
+		}
+	}
+
+	/**
+	 * Reads the name and value of each changed persistent property from the given {@link DataInput}
+	 * and sets the value on this entity.
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void fromDelta(DataInput in) throws IOException, InvalidDeltaException {
+
+		Map<String, Field> trackedFields = getTrackedFields();
+
+		Map<String, Object> changes = new LinkedHashMap<>();
+
+		for (int count = in.readInt(); count > 0; count--) {
+
+			String propertyName = in.readUTF();
+
+			if (!trackedFields.containsKey(propertyName)) {
+				throw new InvalidDeltaException(String.format("Property [%1$s] is not a persistent property of [%2$s]",
+					propertyName, getClass().getName()));
+			}
+
+			try {
+				changes.put(propertyName, DataSerializer.readObject(in));
+			}
+			catch (ClassNotFoundException cause) {
+				throw new InvalidDeltaException(String.format("Failed to read value of property [%1$s] of [%2$s]",
+					propertyName, getClass().getName()), cause);
+			}
+		}
+
+		changes.forEach((propertyName, value) -> ReflectionUtils.setField(trackedFields.get(propertyName), this, value));
+
+		resetDirtyProperties();
+	}
+}
@@ -223,7 +223,13 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			}
 		});
 
-		return propertyAccessor.getBean();
+		Object bean = propertyAccessor.getBean();
+
+		if (bean instanceof AbstractDeltaCapableEntity) {
+			((AbstractDeltaCapableEntity) bean).resetDirtyProperties();
+		}
+
+		return bean;
 	}
 
 	/**
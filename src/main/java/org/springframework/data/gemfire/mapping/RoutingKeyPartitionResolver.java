@@ -0,0 +1,275 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.FixedPartitionResolver;
+import org.apache.geode.cache.PartitionResolver;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.mapping.annotation.ColocatedBy;
+import org.springframework.data.gemfire.mapping.annotation.RoutingKey;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link RoutingKeyPartitionResolver} class is a GemFire/Geode {@link PartitionResolver} generated from
+ * the {@link RoutingKey} or {@link ColocatedBy} annotated property of a {@link GemfirePersistentEntity}.
+ *
+ * The routing object of an entry is the key itself when the identifier of the entity is the routing key,
+ * or the value of the routing key property of the composite identifier type read directly from its field.
+ * Resolving the routing object does not allocate beyond any boxing of a primitive routing key.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.FixedPartitionResolver
+ * @see org.apache.geode.cache.PartitionResolver
+ * @see org.springframework.data.gemfire.mapping.annotation.ColocatedBy
+ * @see org.springframework.data.gemfire.mapping.annotation.RoutingKey
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class RoutingKeyPartitionResolver implements PartitionResolver<Object, Object> {
+
+	private final Class<?> colocatedType;
+	private final Class<?> keyType;
+
+	private final Field routingKeyField;
+
+	private final String name;
+
+	/**
+	 * Generates a {@link RoutingKeyPartitionResolver} from the {@link RoutingKey} or {@link ColocatedBy} annotated
+	 * property of the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param persistentEntity {@link GemfirePersistentEntity} to evaluate; must not be {@literal null}.
+	 * @return the generated {@link RoutingKeyPartitionResolver}, or {@link Optional#empty()} if the entity
+	 * does not declare a routing key.
+	 * @throws IllegalStateException if the routing key is a property of the entity other than its identifier,
+	 * which cannot be resolved from the key of an entry.
+	 */
+	public static Optional<RoutingKeyPartitionResolver> from(GemfirePersistentEntity<?> persistentEntity) {
+
+		Assert.notNull(persistentEntity, "GemfirePersistentEntity must not be null");
+
+		String name = String.format("%sRoutingKeyPartitionResolver", persistentEntity.getType().getSimpleName());
+
+		Optional<GemfirePersistentProperty> idProperty = persistentEntity.getIdProperty();
+
+		persistentEntity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+			if (!property.isIdProperty() && isRoutingKey(property)) {
+				throw newIllegalStateException("Routing key [%1$s] of entity [%2$s] must be the identifier"
+					+ " or a property of the identifier type so entries can be routed by key",
+						property.getName(), persistentEntity.getType().getName());
+			}
+		});
+
+		return idProperty.map(property -> {
+
+			if (isRoutingKey(property)) {
+				return new RoutingKeyPartitionResolver(name, property.getActualType(), null,
+					resolveColocatedType(property.findAnnotation(ColocatedBy.class).orElse(null)));
+			}
+
+			Class<?> keyType = property.getActualType();
+
+			for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(keyType)) {
+
+				Field field = ReflectionUtils.findField(keyType, propertyDescriptor.getName());
+
+				if (field != null && !Modifier.isStatic(field.getModifiers())
+						&& (isRoutingKey(field) || isRoutingKey(propertyDescriptor.getReadMethod()))) {
+
+					ColocatedBy colocatedBy = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(field,
+						ColocatedBy.class)).orElseGet(() -> findColocatedBy(propertyDescriptor.getReadMethod()));
+
+					return new RoutingKeyPartitionResolver(name, keyType, field, resolveColocatedType(colocatedBy));
+				}
+			}
+
+			for (Field field : keyType.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && isRoutingKey(field)) {
+					return new RoutingKeyPartitionResolver(name, keyType, field,
+						resolveColocatedType(AnnotatedElementUtils.findMergedAnnotation(field, ColocatedBy.class)));
+				}
+			}
+
+			return null;
+		});
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isRoutingKey(GemfirePersistentProperty property) {
+		return (property.isAnnotationPresent(RoutingKey.class) || property.isAnnotationPresent(ColocatedBy.class));
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isRoutingKey(AnnotatedElement element) {
+		return (element != null && (AnnotatedElementUtils.hasAnnotation(element, RoutingKey.class)
+			|| AnnotatedElementUtils.hasAnnotation(element, ColocatedBy.class)));
+	}
+
+	/* (non-Javadoc) */
+	private static ColocatedBy findColocatedBy(AnnotatedElement element) {
+		return (element != null ? AnnotatedElementUtils.findMergedAnnotation(element, ColocatedBy.class) : null);
+	}
+
+	/* (non-Javadoc) */
+	private static Class<?> resolveColocatedType(ColocatedBy colocatedBy) {
+		return (colocatedBy != null ? colocatedBy.value() : null);
+	}
+
+	/**
+	 * Constructs an instance of {@link RoutingKeyPartitionResolver}.
+	 *
+	 * @param name name of this {@link PartitionResolver}.
+	 * @param keyType type of the keys of the {@link org.apache.geode.cache.Region}.
+	 * @param routingKeyField {@link Field} of the key type holding the routing key;
+	 * {@literal null} if the key is the routing key.
+	 * @param colocatedType type of the entity with whose {@link org.apache.geode.cache.Region} the entity
+	 * is colocated; may be {@literal null}.
+	 */
+	protected RoutingKeyPartitionResolver(String name, Class<?> keyType, Field routingKeyField,
+			Class<?> colocatedType) {
+
+		this.name = name;
+		this.keyType = keyType;
+		this.routingKeyField = routingKeyField;
+		this.colocatedType = colocatedType;
+
+		if (routingKeyField != null) {
+			ReflectionUtils.makeAccessible(routingKeyField);
+		}
+	}
+
+	/**
+	 * Returns the type of the entity with whose {@link org.apache.geode.cache.Region} the entity is colocated.
+	 *
+	 * @return an {@link Optional} type of the colocated entity.
+	 * @see org.springframework.data.gemfire.mapping.annotation.ColocatedBy
+	 */
+	public Optional<Class<?>> getColocatedType() {
+		return Optional.ofNullable(this.colocatedType);
+	}
+
+	/**
+	 * Returns the {@link Field} of the key type holding the routing key.
+	 *
+	 * @return an {@link Optional} {@link Field} holding the routing key; empty if the key is the routing key.
+	 */
+	public Optional<Field> getRoutingKeyField() {
+		return Optional.ofNullable(this.routingKeyField);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getRoutingObject(EntryOperation<Object, Object> entryOperation) {
+		return resolveRoutingObject(entryOperation.getKey());
+	}
+
+	/* (non-Javadoc) */
+	Object resolveRoutingObject(Object key) {
+		return (this.routingKeyField != null && this.keyType.isInstance(key)
+			? ReflectionUtils.getField(this.routingKeyField, key) : key);
+	}
+
+	/**
+	 * Returns a {@link FixedPartitionResolver} routing entries with this {@link RoutingKeyPartitionResolver}
+	 * to one of the given fixed partitions.
+	 *
+	 * @param partitionNames names of the fixed partitions declared for the {@link org.apache.geode.cache.Region}.
+	 * @return a {@link FixedPartitionResolver} resolving the partition from the routing key.
+	 * @see FixedPartitionRoutingKeyPartitionResolver
+	 */
+	public RoutingKeyPartitionResolver withFixedPartitions(String... partitionNames) {
+		return new FixedPartitionRoutingKeyPartitionResolver(this.name, this.keyType, this.routingKeyField,
+			this.colocatedType, partitionNames);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * The {@link FixedPartitionRoutingKeyPartitionResolver} class is a {@link FixedPartitionResolver} routing
+	 * an entry to the fixed partition named by its routing key, or otherwise to the fixed partition selected
+	 * by the hash code of its routing key.
+	 */
+	public static class FixedPartitionRoutingKeyPartitionResolver extends RoutingKeyPartitionResolver
+			implements FixedPartitionResolver<Object, Object> {
+
+		private final String[] partitionNames;
+
+		private final Set<String> partitionNameSet;
+
+		/* (non-Javadoc) */
+		FixedPartitionRoutingKeyPartitionResolver(String name, Class<?> keyType, Field routingKeyField,
+				Class<?> colocatedType, String... partitionNames) {
+
+			super(name, keyType, routingKeyField, colocatedType);
+
+			Assert.notEmpty(partitionNames, "Partition names must not be empty");
+
+			this.partitionNames = partitionNames.clone();
+			this.partitionNameSet = new HashSet<>(Arrays.asList(partitionNames));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getPartitionName(EntryOperation<Object, Object> entryOperation, Set<String> targetPartitions) {
+			return resolvePartitionName(getRoutingObject(entryOperation));
+		}
+
+		/* (non-Javadoc) */
+		String resolvePartitionName(Object routingObject) {
+
+			if (routingObject instanceof String && this.partitionNameSet.contains(routingObject)) {
+				return (String) routingObject;
+			}
+
+			int hashCode = (routingObject != null ? routingObject.hashCode() : 0);
+
+			return this.partitionNames[Math.floorMod(hashCode, this.partitionNames.length)];
+		}
+	}
+}
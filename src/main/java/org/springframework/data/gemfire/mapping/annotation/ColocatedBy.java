@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link ColocatedBy} annotation marks the {@link RoutingKey} property referring to the identifier of
+ * a related entity (e.g. the order ID of an order line), colocating the {@link PartitionRegion} of the annotated
+ * entity with the {@link PartitionRegion} of the related entity.  Related entities are then stored in the same
+ * bucket on the same member, so Functions and transactions operating on them remain member-local.
+ *
+ * A property annotated with {@link ColocatedBy} is a {@link RoutingKey}.  A {@link PartitionRegion#collocatedWith()}
+ * declared on the entity takes precedence.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.annotation.PartitionRegion
+ * @see org.springframework.data.gemfire.mapping.annotation.RoutingKey
+ * @since 2.0.0
+ */
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings({ "unused" })
+public @interface ColocatedBy {
+
+	/**
+	 * Type of the related entity with whose {@link PartitionRegion} the {@link PartitionRegion}
+	 * of the annotated entity is colocated.
+	 */
+	Class<?> value();
+
+}
@@ -20,6 +20,7 @@ package org.springframework.data.gemfire.mapping.annotation;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -34,17 +35,26 @@ import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
  * The {@link Indexed} annotation is used to index a {@link GemfirePersistentEntity} {@link GemfirePersistentProperty},
  * which creates a GemFire/Geode {@link Index} on a GemFire/Geode {@link org.apache.geode.cache.Region}.
  *
+ * The {@link Indexed} annotation may also be declared on the {@link GemfirePersistentEntity} type, listing
+ * multiple {@link #properties()} that are commonly queried together (e.g. {@literal findByLastNameAndCity}).
+ * A type-level declaration results in one {@link Index} per property, which the OQL query engine can intersect
+ * when evaluating conjunctive predicates.  Set {@literal @EnableIndexing(define = true)} to define all Indexes
+ * up front and then create them together in a single pass over the {@link org.apache.geode.cache.Region}.
+ * Use {@link IndexType#FUNCTIONAL} for range Indexes.
+ *
  * @author John Blum
  * @see org.springframework.core.annotation.AliasFor
  * @see org.springframework.data.gemfire.IndexType
+ * @see org.springframework.data.gemfire.mapping.annotation.Indexes
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.cache.query.Index
  * @since 1.9.0
  */
-@Target({ ElementType.FIELD, ElementType.METHOD })
+@Target({ ElementType.TYPE, ElementType.FIELD, ElementType.METHOD })
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
 @Documented
+@Repeatable(Indexes.class)
 @SuppressWarnings({ "unused" })
 public @interface Indexed {
 
@@ -70,10 +80,17 @@ public @interface Indexed {
 	 */
 	String from() default "";
 
+	/**
+	 * Names (or dot-separated paths) of the persistent entity properties to index together.
+	 *
+	 * Only applies when {@link Indexed} is declared on the persistent entity type.
+	 */
+	String[] properties() default {};
+
 	/**
 	 * Type of Index to create.
 	 *
-	 * Defaults to {@link IndexType#HASH}.
+	 * Defaults to {@link IndexType#HASH}.  Use {@link IndexType#FUNCTIONAL} for range Indexes.
 	 */
 	IndexType type() default IndexType.HASH;
 
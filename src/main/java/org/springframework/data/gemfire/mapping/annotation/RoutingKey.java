@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link RoutingKey} annotation marks the property determining the bucket in which an entity is stored
+ * in a {@link PartitionRegion}.  Entities with equal routing keys are stored in the same bucket, and in the same
+ * bucket of colocated {@link PartitionRegion PartitionRegions}.
+ *
+ * Since entries are also routed when accessed by key alone (e.g. {@link org.apache.geode.cache.Region#get(Object)}),
+ * the routing key must be derivable from the key: either the identifier of the entity, or a property of a composite
+ * identifier type (e.g. the order ID of an order line ID).
+ *
+ * {@link org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions} generates
+ * a {@link org.apache.geode.cache.PartitionResolver} for the {@link PartitionRegion} of the entity
+ * unless a {@link PartitionRegion#partitionResolverName()} is declared.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.annotation.ColocatedBy
+ * @see org.springframework.data.gemfire.mapping.annotation.PartitionRegion
+ * @see org.springframework.data.gemfire.mapping.RoutingKeyPartitionResolver
+ * @since 2.0.0
+ */
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings({ "unused" })
+public @interface RoutingKey {
+
+}
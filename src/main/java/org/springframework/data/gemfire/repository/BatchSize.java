@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.gemfire.repository.support.SimpleGemfireRepository;
+
+/**
+ * The {@link BatchSize} annotation is declared on a GemFire/Geode Repository interface to configure the maximum
+ * number of entities stored with a single {@link org.apache.geode.cache.Region#putAll(java.util.Map)} operation
+ * when saving multiple entities with {@link org.springframework.data.repository.CrudRepository#saveAll(Iterable)}.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository#setBatchSize(int)
+ * @since 2.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@SuppressWarnings("unused")
+public @interface BatchSize {
+
+	int value() default SimpleGemfireRepository.DEFAULT_BATCH_SIZE;
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link KeysetCursor} class is the position of a {@link org.springframework.data.domain.Slice} of the results
+ * of a derived query method ordered by one or more properties, for keyset (seek-based) pagination.
+ *
+ * A {@link KeysetCursor} consists of the size of the {@link org.springframework.data.domain.Slice} and the values
+ * of the sort properties of the last entity of the previous {@link org.springframework.data.domain.Slice}.
+ * The next {@link org.springframework.data.domain.Slice} is queried with range predicates on the sort properties
+ * rather than by skipping the preceding results, so the cost of a query does not depend on how deep the client pages.
+ *
+ * Declare a {@link KeysetCursor} parameter on a derived query method returning a
+ * {@link org.springframework.data.domain.Slice}, start with {@link #first(int)} and continue with
+ * the {@link KeysetSlice#getNextCursor() next cursor} of each {@link KeysetSlice} returned.
+ * The identifier of the entity is always the last sort property, making the order of the results unique.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.springframework.data.gemfire.repository.KeysetSlice
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class KeysetCursor implements Serializable {
+
+	private static final long serialVersionUID = -8184016577813468223L;
+
+	private final int page;
+	private final int size;
+
+	private final Map<String, Object> keys;
+
+	/**
+	 * Returns a {@link KeysetCursor} positioned at the first {@link org.springframework.data.domain.Slice}
+	 * of the given size.
+	 *
+	 * @param size number of results per {@link org.springframework.data.domain.Slice}; must be greater than 0.
+	 * @return a {@link KeysetCursor} positioned at the first {@link org.springframework.data.domain.Slice}.
+	 * @throws IllegalArgumentException if {@code size} is less than 1.
+	 */
+	public static KeysetCursor first(int size) {
+		return new KeysetCursor(0, size, Collections.emptyMap());
+	}
+
+	/* (non-Javadoc) */
+	private KeysetCursor(int page, int size, Map<String, Object> keys) {
+
+		Assert.isTrue(size > 0, String.format("Size [%d] must be greater than 0", size));
+
+		this.page = page;
+		this.size = size;
+		this.keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+	}
+
+	/**
+	 * Returns a {@link KeysetCursor} positioned after the entity with the given values of the sort properties.
+	 *
+	 * @param keys {@link Map} of sort property names to the values of the last entity, in sort order.
+	 * @return a {@link KeysetCursor} positioned at the next {@link org.springframework.data.domain.Slice}.
+	 * @throws IllegalArgumentException if {@code keys} is empty.
+	 */
+	public KeysetCursor next(Map<String, Object> keys) {
+
+		Assert.notEmpty(keys, "Keys must not be empty");
+
+		return new KeysetCursor(this.page + 1, this.size, keys);
+	}
+
+	/**
+	 * Determines whether this {@link KeysetCursor} is positioned at the first
+	 * {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @return a boolean value indicating whether this is the first {@link org.springframework.data.domain.Slice}.
+	 */
+	public boolean isFirst() {
+		return this.keys.isEmpty();
+	}
+
+	/**
+	 * Returns the values of the sort properties of the last entity of the previous
+	 * {@link org.springframework.data.domain.Slice}, keyed by property name in sort order.
+	 *
+	 * @return an unmodifiable {@link Map} of the sort property values; empty for the first
+	 * {@link org.springframework.data.domain.Slice}.
+	 */
+	public Map<String, Object> getKeys() {
+		return this.keys;
+	}
+
+	/**
+	 * Returns the number of the {@link org.springframework.data.domain.Slice}, starting at 0.
+	 *
+	 * @return the number of the {@link org.springframework.data.domain.Slice}.
+	 */
+	public int getPage() {
+		return this.page;
+	}
+
+	/**
+	 * Returns the number of results per {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @return the number of results per {@link org.springframework.data.domain.Slice}.
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetCursor)) {
+			return false;
+		}
+
+		KeysetCursor that = (KeysetCursor) obj;
+
+		return (this.page == that.page && this.size == that.size
+			&& ObjectUtils.nullSafeEquals(this.keys, that.keys));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + this.page;
+		hashValue = 37 * hashValue + this.size;
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.keys);
+
+		return hashValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, page = %2$d, size = %3$d, keys = %4$s }",
+			getClass().getName(), getPage(), getSize(), getKeys());
+	}
+}
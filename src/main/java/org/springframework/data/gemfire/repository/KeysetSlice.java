@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The {@link KeysetSlice} class is a {@link org.springframework.data.domain.Slice} of the results of a derived
+ * query method using keyset pagination, carrying the {@link KeysetCursor} of the next
+ * {@link org.springframework.data.domain.Slice}.
+ *
+ * @param <T> type of the content.
+ * @author John Blum
+ * @see org.springframework.data.domain.SliceImpl
+ * @see org.springframework.data.gemfire.repository.KeysetCursor
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 2751375297434839548L;
+
+	private final KeysetCursor cursor;
+	private final KeysetCursor nextCursor;
+
+	/**
+	 * Constructs an instance of {@link KeysetSlice} with the given content.
+	 *
+	 * @param content {@link List} of results in this {@link KeysetSlice}; must not be {@literal null}.
+	 * @param cursor {@link KeysetCursor} of this {@link KeysetSlice}; must not be {@literal null}.
+	 * @param nextCursor {@link KeysetCursor} of the next {@link KeysetSlice}; {@literal null} if this is the last.
+	 * @param sort {@link Sort} order of the results; must not be {@literal null}.
+	 */
+	public KeysetSlice(List<T> content, KeysetCursor cursor, KeysetCursor nextCursor, Sort sort) {
+
+		super(content, PageRequest.of(cursor.getPage(), cursor.getSize(), sort), nextCursor != null);
+
+		this.cursor = cursor;
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * Returns the {@link KeysetCursor} with which this {@link KeysetSlice} was queried.
+	 *
+	 * @return the {@link KeysetCursor} of this {@link KeysetSlice}.
+	 */
+	public KeysetCursor getCursor() {
+		return this.cursor;
+	}
+
+	/**
+	 * Returns the {@link KeysetCursor} with which to query the next {@link KeysetSlice}.
+	 *
+	 * @return the {@link KeysetCursor} of the next {@link KeysetSlice}, or {@literal null}
+	 * if this is the last {@link KeysetSlice}.
+	 * @see #hasNext()
+	 */
+	public KeysetCursor getNextCursor() {
+		return this.nextCursor;
+	}
+}
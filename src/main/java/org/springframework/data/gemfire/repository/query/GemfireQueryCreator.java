@@ -16,12 +16,15 @@
 
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.KeysetCursor;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -36,8 +39,14 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 
 	private static final Log LOG = LogFactory.getLog(GemfireQueryCreator.class);
 
+	private int keysetIndex;
+
 	private Iterator<Integer> indexes;
 
+	private KeysetCursor keysetCursor;
+
+	private final PartTree tree;
+
 	private final QueryBuilder queryBuilder;
 
 	/**
@@ -47,12 +56,41 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 * @param entity must not be {@literal null}.
 	 */
 	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity) {
+		this(tree, entity, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link GemfireQueryCreator} using the given {@link PartTree} and domain class,
+	 * selecting only the given properties of the entity.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param selectedProperties properties to select; the entire entity is selected if empty.
+	 */
+	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity, List<String> selectedProperties) {
 		super(tree);
 
-		this.queryBuilder = new QueryBuilder(entity, tree);
+		this.tree = tree;
+		this.queryBuilder = new QueryBuilder(entity, tree, selectedProperties);
 		this.indexes = new IndexProvider();
 	}
 
+	/**
+	 * Creates queries for the {@link org.springframework.data.domain.Slice} at the given {@link KeysetCursor},
+	 * limited to one result more than the size of the {@link org.springframework.data.domain.Slice} to determine
+	 * whether a next {@link org.springframework.data.domain.Slice} exists.
+	 *
+	 * @param keysetCursor {@link KeysetCursor} of the {@link org.springframework.data.domain.Slice} to query.
+	 * @param keysetIndex index of the query parameter bound to the value of the first sort property.
+	 * @return this {@link GemfireQueryCreator}.
+	 * @see org.springframework.data.gemfire.repository.KeysetCursor
+	 */
+	GemfireQueryCreator withKeyset(KeysetCursor keysetCursor, int keysetIndex) {
+		this.keysetCursor = keysetCursor;
+		this.keysetIndex = keysetIndex;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#createQuery(org.springframework.data.domain.Sort)
@@ -96,7 +134,21 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 */
 	@Override
 	protected QueryString complete(Predicates criteria, Sort sort) {
-		QueryString query = queryBuilder.create(criteria).orderBy(sort);
+		boolean keysetQuery = (keysetCursor != null && !tree.isCountProjection() && !tree.isExistsProjection());
+
+		QueryString query = queryBuilder.create(keysetQuery && !keysetCursor.isFirst()
+			? Predicates.keyset(criteria, sort, keysetIndex) : criteria);
+
+		if (tree.isExistsProjection()) {
+			query = query.withLimit(1);
+		}
+		else if (!tree.isCountProjection()) {
+			query = query.orderBy(sort);
+		}
+
+		if (keysetQuery) {
+			query = query.withLimit(keysetCursor.getSize() + 1);
+		}
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created Query [%s]", query.toString()));
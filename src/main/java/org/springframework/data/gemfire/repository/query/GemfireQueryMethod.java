@@ -22,7 +22,10 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.repository.KeysetCursor;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.Cached;
+import org.springframework.data.gemfire.repository.query.annotation.DataAware;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
 import org.springframework.data.gemfire.repository.query.annotation.Limit;
@@ -50,6 +53,8 @@ public class GemfireQueryMethod extends QueryMethod {
 
 	private final Method method;
 
+	private final Class<?> repositoryInterface;
+
 	/**
 	 * Creates a new {@link GemfireQueryMethod} from the given {@link Method} and {@link RepositoryMetadata}.
 	 *
@@ -65,8 +70,10 @@ public class GemfireQueryMethod extends QueryMethod {
 
 		Assert.notNull(mappingContext, "MappingContext must not be null");
 		assertNonPagingQueryMethod(method);
+		assertKeysetQueryMethodReturnsSlice(method);
 
 		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface();
 		this.entity = mappingContext.getPersistentEntity(getDomainClass()).orElseThrow(
 			() -> new IllegalArgumentException(String.format("Failed to resolve PersistentEntity for type [%s]",
 				getDomainClass())));
@@ -90,6 +97,36 @@ public class GemfireQueryMethod extends QueryMethod {
 		}
 	}
 
+	/**
+	 * Asserts that a query method accepting a {@link KeysetCursor} returns
+	 * a {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @param method the query method to be evaluated
+	 * @throws java.lang.IllegalStateException if the query method accepts a {@link KeysetCursor}
+	 * but does not return a {@link org.springframework.data.domain.Slice}.
+	 * @see org.springframework.data.gemfire.repository.KeysetCursor
+	 */
+	private void assertKeysetQueryMethodReturnsSlice(Method method) {
+		if (getKeysetCursorIndex(method) > -1 && !isSliceQuery()) {
+			throw new IllegalStateException(String.format("Keyset pagination requires the query method to return"
+				+ " a Slice; Offending method: %1$s", method.getName()));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static int getKeysetCursorIndex(Method method) {
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int index = 0; index < parameterTypes.length; index++) {
+			if (KeysetCursor.class.isAssignableFrom(parameterTypes[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
 	/**
 	 * Returns the {@link GemfirePersistentEntity} the method deals with.
 	 *
@@ -206,4 +243,73 @@ public class GemfireQueryMethod extends QueryMethod {
 		return method.isAnnotationPresent(Trace.class);
 	}
 
+	/**
+	 * Determines whether this query method is executed as a data-aware Function on the Region, as declared
+	 * on either the query method or the Repository interface.
+	 *
+	 * @return a boolean value indicating whether this query method is executed as a data-aware Function.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.DataAware
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 */
+	public boolean isDataAwareQuery() {
+		return (method.isAnnotationPresent(DataAware.class)
+			|| (repositoryInterface != null && repositoryInterface.isAnnotationPresent(DataAware.class)));
+	}
+
+	/**
+	 * Determines whether the results of this query method are cached.
+	 *
+	 * @return a boolean value indicating whether the results of this query method are cached.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.Cached
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 */
+	public boolean isCachedQuery() {
+		return method.isAnnotationPresent(Cached.class);
+	}
+
+	/**
+	 * Gets the maximum number of results of this query method that are cached.
+	 *
+	 * @return the maximum number of cached results of this query method.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.Cached#maxEntries()
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 */
+	public int getCacheMaxEntries() {
+		Cached cached = method.getAnnotation(Cached.class);
+		return (cached != null ? cached.maxEntries() : 0);
+	}
+
+	/**
+	 * Gets the number of milliseconds for which the results of this query method are cached.
+	 *
+	 * @return the time-to-live of cached results in milliseconds; results never expire if less than or equal to 0.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.Cached#timeToLive()
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 */
+	public long getCacheTimeToLive() {
+		Cached cached = method.getAnnotation(Cached.class);
+		return (cached != null ? cached.timeUnit().toMillis(cached.timeToLive()) : 0L);
+	}
+
+	/**
+	 * Determines whether this query method pages through the results with a {@link KeysetCursor}.
+	 *
+	 * @return a boolean value indicating whether this query method accepts a {@link KeysetCursor}.
+	 * @see org.springframework.data.gemfire.repository.KeysetCursor
+	 */
+	public boolean isKeysetQuery() {
+		return (getKeysetCursorIndex() > -1);
+	}
+
+	/**
+	 * Gets the index of the {@link KeysetCursor} parameter of this query method.
+	 *
+	 * @return the index of the {@link KeysetCursor} parameter, or {@literal -1} if this query method
+	 * does not accept a {@link KeysetCursor}.
+	 * @see org.springframework.data.gemfire.repository.KeysetCursor
+	 */
+	public int getKeysetCursorIndex() {
+		return getKeysetCursorIndex(method);
+	}
+
 }
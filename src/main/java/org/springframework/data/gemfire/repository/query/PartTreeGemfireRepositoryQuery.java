@@ -15,16 +15,34 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.repository.KeysetCursor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
-import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link GemfireRepositoryQuery} backed by a {@link PartTree} and thus, deriving an OQL query from the backing query
@@ -38,6 +56,8 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	private final PartTree tree;
 	private final GemfireTemplate template;
 
+	private final QueryResultCache resultCache;
+
 	/**
 	 * Creates a new {@link PartTreeGemfireRepositoryQuery} using the given {@link GemfireQueryMethod} and
 	 * {@link GemfireTemplate}.
@@ -54,6 +74,7 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.tree = new PartTree(method.getName(), domainClass);
 		this.method = method;
 		this.template = template;
+		this.resultCache = (method.isCachedQuery() ? QueryResultCache.create(template.getRegion(), method) : null);
 	}
 
 	/* 
@@ -64,12 +85,243 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	public Object execute(Object[] parameters) {
 		ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(method.getParameters(), parameters);
 
-		QueryString query = new GemfireQueryCreator(tree, method.getPersistentEntity())
-			.createQuery(parameterAccessor.getSort());
+		KeysetCursor keysetCursor = resolveKeysetCursor(parameters);
+
+		Sort dynamicSort = (keysetCursor != null ? withIdentifierOrder(parameterAccessor.getSort())
+			: parameterAccessor.getSort());
+
+		List<String> selectedProperties = resolveSelectedProperties(dynamicSort);
+
+		QueryString query = new GemfireQueryCreator(tree, method.getPersistentEntity(), selectedProperties)
+			.withKeyset(keysetCursor, parameters.length + 1)
+			.createQuery(dynamicSort);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery =
+			new StringBasedGemfireRepositoryQuery(query.toString(), method, template)
+				.withSelectedProperties(selectedProperties)
+				.withResultCache(this.resultCache);
+
+		if (tree.isExistsProjection()) {
+			repositoryQuery.asExistsQuery();
+		}
+
+		if (keysetCursor != null) {
+			repositoryQuery.withKeyset(keysetCursor, resolveKeysetSort(keysetCursor, dynamicSort));
+		}
+
+		if (method.isDataAwareQuery() && !isSorted(dynamicSort)) {
+			repositoryQuery.onRegion(resolveFilter(parameterAccessor));
+		}
+
+		Object result = repositoryQuery.execute(prepareStringParameters(parameters));
+
+		return (tree.isCountProjection() ? toCount(result) : result);
+	}
+
+	/**
+	 * Resolves the {@link KeysetCursor} passed to a query method paging through the results with keyset pagination.
+	 *
+	 * @param parameters arguments passed to the query method.
+	 * @return the {@link KeysetCursor}, or {@literal null} if the query method does not accept a {@link KeysetCursor}.
+	 * @throws IllegalArgumentException if the {@link KeysetCursor} argument is {@literal null}.
+	 */
+	KeysetCursor resolveKeysetCursor(Object[] parameters) {
+
+		int keysetCursorIndex = method.getKeysetCursorIndex();
+
+		if (keysetCursorIndex < 0 || tree.isCountProjection() || tree.isExistsProjection()) {
+			return null;
+		}
+
+		Object keysetCursor = parameters[keysetCursorIndex];
+
+		if (keysetCursor == null) {
+			throw newIllegalArgumentException("KeysetCursor must not be null; use KeysetCursor.first(size)");
+		}
+
+		return (KeysetCursor) keysetCursor;
+	}
+
+	/**
+	 * Appends the identifier of the entity to the given dynamic {@link Sort} unless the results are already
+	 * ordered by the identifier, making the order of the results unique as required by keyset pagination.
+	 *
+	 * @param dynamicSort {@link Sort} passed to the query method; may be {@literal null}.
+	 * @return the dynamic {@link Sort} ending with the identifier of the entity.
+	 */
+	Sort withIdentifierOrder(Sort dynamicSort) {
+
+		Sort resolvedDynamicSort = Optional.ofNullable(dynamicSort).orElseGet(Sort::unsorted);
+
+		return method.getPersistentEntity().getIdProperty()
+			.map(GemfirePersistentProperty::getName)
+			.filter(idPropertyName -> tree.getSort().and(resolvedDynamicSort).getOrderFor(idPropertyName) == null)
+			.map(idPropertyName -> resolvedDynamicSort.and(Sort.by(idPropertyName)))
+			.orElse(resolvedDynamicSort);
+	}
+
+	/**
+	 * Resolves the order of the results of a keyset query, which is the order declared by the query method name
+	 * followed by the dynamic {@link Sort}, and verifies the given {@link KeysetCursor} was created for that order.
+	 *
+	 * @param keysetCursor {@link KeysetCursor} passed to the query method.
+	 * @param dynamicSort {@link Sort} passed to the query method, ending with the identifier of the entity.
+	 * @return the {@link Sort} order of the results.
+	 * @throws IllegalArgumentException if the {@link KeysetCursor} holds values for different sort properties.
+	 */
+	Sort resolveKeysetSort(KeysetCursor keysetCursor, Sort dynamicSort) {
+
+		Sort keysetSort = tree.getSort().and(dynamicSort);
+
+		List<String> sortProperties = new ArrayList<>();
+
+		keysetSort.forEach(order -> sortProperties.add(order.getProperty()));
+
+		if (!keysetCursor.isFirst() && !sortProperties.equals(new ArrayList<>(keysetCursor.getKeys().keySet()))) {
+			throw newIllegalArgumentException("KeysetCursor keys %1$s do not match the sort properties %2$s",
+				keysetCursor.getKeys().keySet(), sortProperties);
+		}
+
+		return keysetSort;
+	}
+
+	/**
+	 * Converts the result of a count query to the {@link Number} type returned by the query method.
+	 *
+	 * @param result result of the count query.
+	 * @return the count converted to the {@link Number} type returned by the query method.
+	 */
+	@SuppressWarnings("unchecked")
+	Object toCount(Object result) {
+
+		Class<?> returnedObjectType = ClassUtils.resolvePrimitiveIfNecessary(method.getReturnedObjectType());
+
+		return (result instanceof Number && Number.class.isAssignableFrom(returnedObjectType)
+			? NumberUtils.convertNumberToTargetClass((Number) result, (Class<Number>) returnedObjectType)
+			: result);
+	}
+
+	/**
+	 * Resolves the properties of the entity to select when the query method returns a projection,
+	 * avoiding the deserialization of the entire entity.  Along with the properties of the projection,
+	 * the identifier is selected to retain one result per entity, and the sorted properties are selected
+	 * as required by OQL.  Only the identifier is selected by exists queries and by query methods
+	 * returning the identifiers (keys) of the entities.
+	 *
+	 * @param dynamicSort {@link Sort} passed to the query method; may be {@literal null}.
+	 * @return the properties to select, or an empty {@link List} if the entire entity must be selected.
+	 * @see #isKeyQuery()
+	 */
+	List<String> resolveSelectedProperties(Sort dynamicSort) {
+
+		GemfirePersistentEntity<?> entity = method.getPersistentEntity();
+
+		if (tree.isExistsProjection() || isKeyQuery()) {
+			return entity.getIdProperty().map(idProperty -> Collections.singletonList(idProperty.getName()))
+				.orElseGet(Collections::emptyList);
+		}
+
+		ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+
+		if (!returnedType.isProjecting() || returnedType.getInputProperties().isEmpty()
+				|| tree.isCountProjection() || tree.isDelete()) {
+
+			return Collections.emptyList();
+		}
+
+		Set<String> selectedProperties = new LinkedHashSet<>();
+
+		entity.getIdProperty().ifPresent(idProperty -> selectedProperties.add(idProperty.getName()));
+		selectedProperties.addAll(returnedType.getInputProperties());
+
+		for (Sort sort : new Sort[] { tree.getSort(), dynamicSort }) {
+			Optional.ofNullable(sort).ifPresent(it -> it.forEach(order -> selectedProperties.add(order.getProperty())));
+		}
+
+		return (selectedProperties.stream().allMatch(property -> entity.getPersistentProperty(property).isPresent())
+			? new ArrayList<>(selectedProperties) : Collections.emptyList());
+	}
+
+	/**
+	 * Determines whether the query results are ordered, either by the query method name or the given dynamic
+	 * {@link Sort}, in which case the query is executed by the querying member.
+	 *
+	 * @param dynamicSort {@link Sort} passed to the query method; may be {@literal null}.
+	 * @return a boolean value indicating whether the query results are ordered.
+	 */
+	boolean isSorted(Sort dynamicSort) {
+		return Stream.of(tree.getSort(), dynamicSort).filter(Objects::nonNull)
+			.anyMatch(sort -> sort.iterator().hasNext());
+	}
+
+	/**
+	 * Resolves the keys used to filter the members on which a data-aware query is executed from the equality
+	 * and {@literal IN} predicates on the identifier of the entity, which is the key of the entity
+	 * in the {@link org.apache.geode.cache.Region}.  Keys are only resolved when the query criteria
+	 * are not combined with {@literal OR}.
+	 *
+	 * @param parameterAccessor {@link ParametersParameterAccessor} used to access the query method arguments.
+	 * @return a {@link Set} of keys, or an empty {@link Set} if the query does not constrain the identifier.
+	 */
+	Set<Object> resolveFilter(ParametersParameterAccessor parameterAccessor) {
+
+		Iterator<OrPart> orParts = tree.iterator();
+
+		OrPart orPart = (orParts.hasNext() ? orParts.next() : null);
+
+		Optional<String> idPropertyName = method.getPersistentEntity().getIdProperty()
+			.map(GemfirePersistentProperty::getName);
+
+		if (orPart != null && !orParts.hasNext() && idPropertyName.isPresent()) {
+
+			int index = 0;
+
+			for (Part part : orPart) {
+
+				boolean idPart = idPropertyName.get().equals(part.getProperty().toDotPath());
+				boolean keyPart = (Part.Type.SIMPLE_PROPERTY.equals(part.getType()) || Part.Type.IN.equals(part.getType()));
+
+				if (idPart && keyPart) {
+
+					Object value = parameterAccessor.getBindableValue(index);
+
+					Set<Object> filter = new HashSet<>();
+
+					if (value instanceof Collection) {
+						filter.addAll((Collection<?>) value);
+					}
+					else if (ObjectUtils.isArray(value)) {
+						filter.addAll(Arrays.asList(ObjectUtils.toObjectArray(value)));
+					}
+					else if (value != null) {
+						filter.add(value);
+					}
+
+					return filter;
+				}
+
+				index += part.getNumberOfArguments();
+			}
+		}
+
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Determines whether the query method returns the identifiers (keys) of the entities matching the query,
+	 * rather than the entities themselves.
+	 *
+	 * @return a boolean value indicating whether the query method returns the identifiers of the entities.
+	 */
+	boolean isKeyQuery() {
 
-		RepositoryQuery repositoryQuery = new StringBasedGemfireRepositoryQuery(query.toString(), method, template);
+		Class<?> returnedObjectType = method.getReturnedObjectType();
 
-		return repositoryQuery.execute(prepareStringParameters(parameters));
+		return (!(tree.isCountProjection() || tree.isDelete() || tree.isExistsProjection())
+			&& returnedObjectType != null && !Object.class.equals(returnedObjectType)
+			&& method.getPersistentEntity().getIdProperty()
+				.filter(idProperty -> ClassUtils.isAssignable(returnedObjectType, idProperty.getType()))
+				.isPresent());
 	}
 
 	private Object[] prepareStringParameters(Object[] parameters) {
@@ -77,7 +329,7 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		List<Object> stringParameters = new ArrayList<Object>(parameters.length);
 
 		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
+			if (parameter == null || parameter instanceof Sort || parameter instanceof KeysetCursor) {
 				stringParameters.add(parameter);
 			}
 			else {
@@ -15,8 +15,14 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.util.Assert;
@@ -49,19 +55,33 @@ class Predicates implements Predicate {
 		return create(new AtomicPredicate(part, indexes));
 	}
 
+	/**
+	 * Creates a new Predicate restricting the results of the given criteria to those ordered after the values
+	 * of the sort properties bound to the query parameters starting at the given index, for keyset pagination.
+	 *
+	 * @param criteria query criteria; may be {@literal null}.
+	 * @param sort {@link Sort} order of the results; must not be {@literal null}.
+	 * @param index index of the query parameter bound to the value of the first sort property.
+	 * @return an instance of {@link Predicates} wrapping the keyset condition.
+	 * @see KeysetPredicate
+	 */
+	public static Predicates keyset(Predicate criteria, Sort sort, int index) {
+		return create(new KeysetPredicate(criteria, sort, index));
+	}
+
 	/**
 	 * And-concatenates the given {@link Predicate} to the current one.
 	 *
+	 * The operands of an AND condition are rendered in index-friendly order (equality first, then set containment,
+	 * relational comparisons, wildcard matches and finally negations), preserving the declared order between operands
+	 * of the same kind.  Query parameter placeholders keep the position of the corresponding method argument.
+	 *
 	 * @param predicate must not be {@literal null}.
 	 * @return an instance of {@link Predicates} wrapping an AND condition.
+	 * @see Conjunction
 	 */
 	public Predicates and(final Predicate predicate) {
-		return create(new Predicate() {
-			@Override
-			public String toString(String alias) {
-				return String.format("%s AND %s", Predicates.this.current.toString(alias), predicate.toString(alias));
-			}
-		});
+		return create(Conjunction.of(this.current, predicate));
 	}
 
 	/**
@@ -88,6 +108,66 @@ class Predicates implements Predicate {
 		return current.toString(alias);
 	}
 
+	/* (non-Javadoc) */
+	static int indexRankOf(Predicate predicate) {
+
+		Predicate resolvedPredicate = (predicate instanceof Predicates ? ((Predicates) predicate).current : predicate);
+
+		return (resolvedPredicate instanceof AtomicPredicate ? ((AtomicPredicate) resolvedPredicate).getIndexRank()
+			: AtomicPredicate.NON_INDEXABLE_RANK);
+	}
+
+	/**
+	 * {@link Predicate} joining multiple operands with {@literal AND}, ordered by how likely GemFire/Geode
+	 * is able to satisfy each operand using an {@link org.apache.geode.cache.query.Index}.
+	 */
+	static class Conjunction implements Predicate {
+
+		private final List<Predicate> operands = new ArrayList<>();
+
+		/* (non-Javadoc) */
+		static Conjunction of(Predicate left, Predicate right) {
+
+			Conjunction conjunction = new Conjunction();
+
+			conjunction.add(left);
+			conjunction.add(right);
+
+			return conjunction;
+		}
+
+		/* (non-Javadoc) */
+		private void add(Predicate predicate) {
+
+			Predicate resolvedPredicate = (predicate instanceof Predicates ? ((Predicates) predicate).current : predicate);
+
+			if (resolvedPredicate instanceof Conjunction) {
+				this.operands.addAll(((Conjunction) resolvedPredicate).operands);
+			}
+			else {
+				this.operands.add(resolvedPredicate);
+			}
+		}
+
+		/* (non-Javadoc) */
+		List<Predicate> getOperands() {
+			return Collections.unmodifiableList(this.operands);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.gemfire.repository.query.Predicate#toString(java.lang.String)
+		 */
+		@Override
+		public String toString(String alias) {
+
+			return this.operands.stream()
+				.sorted(Comparator.comparingInt(Predicates::indexRankOf))
+				.map(operand -> operand.toString(alias))
+				.collect(Collectors.joining(" AND "));
+		}
+	}
+
 	/**
 	 * Predicate to create a predicate expression for a {@link Part}.
 	 *
@@ -95,7 +175,13 @@ class Predicates implements Predicate {
 	 */
 	public static class AtomicPredicate implements Predicate {
 
-		private final Iterator<Integer> indexes;
+		static final int EQUALITY_RANK = 0;
+		static final int SET_CONTAINMENT_RANK = 1;
+		static final int RELATIONAL_RANK = 2;
+		static final int WILDCARD_RANK = 3;
+		static final int NON_INDEXABLE_RANK = 4;
+
+		private final Integer index;
 
 		private final Part part;
 
@@ -110,7 +196,57 @@ class Predicates implements Predicate {
 			Assert.notNull(indexes, "Iterator of numeric, indexed query parameter placeholders must not be null");
 
 			this.part = part;
-			this.indexes = indexes;
+			this.index = (requiresParameter() ? indexes.next() : null);
+		}
+
+		/* (non-Javadoc) */
+		private boolean requiresParameter() {
+
+			switch (part.getType()) {
+				case IS_NULL:
+				case IS_NOT_NULL:
+				case FALSE:
+				case TRUE:
+					return isIgnoreCase();
+				default:
+					return true;
+			}
+		}
+
+		/**
+		 * Determines how likely the condition expression for this {@link Part} is to be satisfied by an Index,
+		 * lower being better.
+		 *
+		 * @return an {@link Integer} indicating the rank of this predicate when ordering the operands
+		 * of an {@literal AND} condition.
+		 */
+		int getIndexRank() {
+
+			if (isIgnoreCase()) {
+				return NON_INDEXABLE_RANK;
+			}
+
+			switch (part.getType()) {
+				case FALSE:
+				case IS_NULL:
+				case SIMPLE_PROPERTY:
+				case TRUE:
+					return EQUALITY_RANK;
+				case IN:
+					return SET_CONTAINMENT_RANK;
+				case GREATER_THAN:
+				case GREATER_THAN_EQUAL:
+				case LESS_THAN:
+				case LESS_THAN_EQUAL:
+					return RELATIONAL_RANK;
+				case LIKE:
+				case STARTING_WITH:
+				case ENDING_WITH:
+				case CONTAINING:
+					return WILDCARD_RANK;
+				default:
+					return NON_INDEXABLE_RANK;
+			}
 		}
 
 		/**
@@ -122,7 +258,7 @@ class Predicates implements Predicate {
 		@Override
 		public String toString(String alias) {
 			if (isIgnoreCase()) {
-				return String.format("%s.equalsIgnoreCase($%d)", resolveProperty(alias), indexes.next());
+				return String.format("%s.equalsIgnoreCase($%d)", resolveProperty(alias), this.index);
 			}
 			else {
 				Type partType = part.getType();
@@ -137,7 +273,7 @@ class Predicates implements Predicate {
 							Type.TRUE.equals(partType));
 					default:
 						return String.format("%s %s $%d", resolveProperty(alias), resolveOperator(partType),
-							indexes.next());
+							this.index);
 				}
 			}
 		}
@@ -204,4 +340,78 @@ class Predicates implements Predicate {
 			}
 		}
 	}
+
+	/**
+	 * {@link Predicate} selecting the results ordered after the values of the sort properties of the last result
+	 * of the previous page.  The first sort property is also constrained by an inclusive range so that
+	 * an {@link org.apache.geode.cache.query.Index} on the property can be used to seek to the page.
+	 */
+	static class KeysetPredicate implements Predicate {
+
+		private final int index;
+
+		private final List<Sort.Order> orders = new ArrayList<>();
+
+		private final Predicate criteria;
+
+		/* (non-Javadoc) */
+		KeysetPredicate(Predicate criteria, Sort sort, int index) {
+
+			Assert.notNull(sort, "Sort must not be null");
+
+			sort.forEach(this.orders::add);
+
+			Assert.notEmpty(this.orders, "Sort must contain at least one order");
+
+			this.criteria = criteria;
+			this.index = index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.gemfire.repository.query.Predicate#toString(java.lang.String)
+		 */
+		@Override
+		public String toString(String alias) {
+
+			String keyset = toKeysetString(alias);
+
+			return (this.criteria != null ? String.format("(%1$s) AND %2$s", this.criteria.toString(alias), keyset)
+				: keyset);
+		}
+
+		/* (non-Javadoc) */
+		private String toKeysetString(String alias) {
+
+			List<String> disjuncts = new ArrayList<>(this.orders.size());
+
+			for (int orderIndex = 0; orderIndex < this.orders.size(); orderIndex++) {
+
+				List<String> terms = new ArrayList<>(orderIndex + 1);
+
+				for (int equalityIndex = 0; equalityIndex < orderIndex; equalityIndex++) {
+					terms.add(toComparisonString(alias, equalityIndex, "="));
+				}
+
+				terms.add(toComparisonString(alias, orderIndex, (isAscending(orderIndex) ? ">" : "<")));
+
+				disjuncts.add(terms.size() > 1 ? String.format("(%s)", String.join(" AND ", terms)) : terms.get(0));
+			}
+
+			return (disjuncts.size() > 1 ? String.format("%1$s AND (%2$s)",
+				toComparisonString(alias, 0, (isAscending(0) ? ">=" : "<=")), String.join(" OR ", disjuncts))
+				: disjuncts.get(0));
+		}
+
+		/* (non-Javadoc) */
+		private boolean isAscending(int orderIndex) {
+			return this.orders.get(orderIndex).isAscending();
+		}
+
+		/* (non-Javadoc) */
+		private String toComparisonString(String alias, int orderIndex, String operator) {
+			return String.format("%1$s.%2$s %3$s $%4$d", alias, this.orders.get(orderIndex).getProperty(), operator,
+				this.index + orderIndex);
+		}
+	}
 }
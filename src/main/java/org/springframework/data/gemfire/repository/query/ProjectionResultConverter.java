@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * The {@link ProjectionResultConverter} class is a Spring {@link Converter} preparing the results of an OQL query
+ * for a projection returned by a repository query method.
+ *
+ * Results containing only the projected properties, that is, a {@link Struct} or a single property value
+ * when the query selected only the properties of the projection, as well as {@link PdxInstance PdxInstances},
+ * from which only the projected properties are read, are converted into a {@link Map} of the projected properties,
+ * from which Spring Data creates the interface-based projection.  Class-based (DTO) projections are instantiated
+ * directly from the projected properties, or from the entity when the query selected the entire entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Struct
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.core.convert.converter.Converter
+ * @see org.springframework.data.repository.query.ReturnedType
+ * @since 2.0.0
+ */
+class ProjectionResultConverter implements Converter<Object, Object> {
+
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	private final List<String> selectedProperties;
+
+	private final ReturnedType returnedType;
+
+	/**
+	 * Constructs an instance of {@link ProjectionResultConverter} initialized with the {@link ReturnedType}
+	 * of the query method and the properties selected by the OQL query.
+	 *
+	 * @param returnedType {@link ReturnedType} of the query method.
+	 * @param selectedProperties properties selected by the OQL query; empty if the query selected the entire entity.
+	 * @see org.springframework.data.repository.query.ReturnedType
+	 */
+	ProjectionResultConverter(ReturnedType returnedType, List<String> selectedProperties) {
+		this.returnedType = returnedType;
+		this.selectedProperties = nullSafeList(selectedProperties);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object convert(Object source) {
+
+		Object resolvedSource = toProjectedProperties(source);
+
+		return (needsInstantiation(resolvedSource) ? instantiate(asProperties(resolvedSource)) : resolvedSource);
+	}
+
+	/* (non-Javadoc) */
+	private Object toProjectedProperties(Object source) {
+
+		if (source instanceof Struct) {
+
+			Struct struct = (Struct) source;
+
+			String[] fieldNames = struct.getStructType().getFieldNames();
+			Object[] fieldValues = struct.getFieldValues();
+
+			Map<String, Object> properties = new HashMap<>(fieldNames.length);
+
+			for (int index = 0; index < fieldNames.length; index++) {
+				properties.put(fieldNames[index], fieldValues[index]);
+			}
+
+			return properties;
+		}
+		else if (source instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) source;
+
+			Map<String, Object> properties = new HashMap<>();
+
+			this.returnedType.getInputProperties().stream().filter(pdxInstance::hasField)
+				.forEach(propertyName -> properties.put(propertyName, pdxInstance.getField(propertyName)));
+
+			return properties;
+		}
+		else if (this.selectedProperties.size() == 1) {
+			return Collections.singletonMap(this.selectedProperties.get(0), source);
+		}
+
+		return source;
+	}
+
+	/* (non-Javadoc) */
+	private boolean needsInstantiation(Object source) {
+		return (source != null && !this.returnedType.getReturnedType().isInterface()
+			&& !this.returnedType.getReturnedType().isInstance(source));
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> asProperties(Object source) {
+
+		if (source instanceof Map) {
+			return (Map<String, Object>) source;
+		}
+
+		DirectFieldAccessFallbackBeanWrapper beanWrapper = new DirectFieldAccessFallbackBeanWrapper(source);
+
+		Map<String, Object> properties = new HashMap<>();
+
+		this.returnedType.getInputProperties().forEach(propertyName ->
+			properties.put(propertyName, beanWrapper.getPropertyValue(propertyName)));
+
+		return properties;
+	}
+
+	/* (non-Javadoc) */
+	private Object instantiate(Map<String, Object> properties) {
+
+		Class<?> type = this.returnedType.getReturnedType();
+
+		Constructor<?> resolvedConstructor = null;
+
+		String[] resolvedParameterNames = null;
+
+		for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+
+			String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(constructor);
+
+			if (parameterNames != null && properties.keySet().containsAll(Arrays.asList(parameterNames))
+					&& (resolvedParameterNames == null || parameterNames.length > resolvedParameterNames.length)) {
+
+				resolvedConstructor = constructor;
+				resolvedParameterNames = parameterNames;
+			}
+		}
+
+		if (resolvedConstructor == null) {
+			throw newIllegalStateException("No constructor of projection [%1$s] matches the properties %2$s",
+				type.getName(), properties.keySet());
+		}
+
+		Object[] arguments = new Object[resolvedParameterNames.length];
+
+		for (int index = 0; index < arguments.length; index++) {
+			arguments[index] = properties.get(resolvedParameterNames[index]);
+		}
+
+		return BeanUtils.instantiateClass(resolvedConstructor, arguments);
+	}
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -31,16 +35,32 @@ import org.springframework.util.Assert;
  */
 class QueryBuilder {
 
+	static final String COUNT_PROJECTION = "COUNT(*)";
 	static final String DEFAULT_ALIAS = "x";
-	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s * FROM /%2$s %3$s";
+	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s %2$s FROM /%3$s %4$s";
 	static final String WHERE_CLAUSE_TEMPLATE = "%1$s WHERE %2$s";
 
 	private final String query;
 
 	/* (non-Javadoc) */
 	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree) {
-		return String.format(SELECT_OQL_TEMPLATE, (tree.isDistinct() ? OqlKeyword.DISTINCT : ""),
-			entity.getRegionName(), DEFAULT_ALIAS).replaceAll("\\s{2,}", " ");
+		return asQuery(entity, tree, Collections.emptyList());
+	}
+
+	/* (non-Javadoc) */
+	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree, List<String> selectedProperties) {
+		boolean count = tree.isCountProjection();
+
+		return String.format(SELECT_OQL_TEMPLATE, (tree.isDistinct() && !count ? OqlKeyword.DISTINCT : ""),
+			(count ? COUNT_PROJECTION : asProjection(selectedProperties)), entity.getRegionName(), DEFAULT_ALIAS)
+				.replaceAll("\\s{2,}", " ");
+	}
+
+	/* (non-Javadoc) */
+	static String asProjection(List<String> selectedProperties) {
+		return (selectedProperties == null || selectedProperties.isEmpty() ? "*"
+			: selectedProperties.stream().map(property -> String.format("%1$s.%2$s", DEFAULT_ALIAS, property))
+				.collect(Collectors.joining(", ")));
 	}
 
 	/* (non-Javadoc) */
@@ -75,6 +95,21 @@ class QueryBuilder {
 		this(asQuery(entity, tree));
 	}
 
+	/**
+	 * Constructs an instance of {@link QueryBuilder} with the given {@link GemfirePersistentEntity}
+	 * and {@link PartTree} selecting only the given properties of the entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} used to determine the GemFire
+	 * {@link org.apache.geode.cache.Region} to query.
+	 * @param tree {@link PartTree} containing parts of the OQL Query for determining things
+	 * like uniqueness.
+	 * @param selectedProperties {@link List} of properties to select; the entire entity is selected if empty.
+	 * @see #QueryBuilder(GemfirePersistentEntity, PartTree)
+	 */
+	public QueryBuilder(GemfirePersistentEntity<?> entity, PartTree tree, List<String> selectedProperties) {
+		this(asQuery(entity, tree, selectedProperties));
+	}
+
 	/**
 	 * Constructs a {@link QueryString} with the given {@link Predicate}.
 	 *
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link QueryResultCache} class caches the results of the OQL queries executed by a query method
+ * annotated with {@link org.springframework.data.gemfire.repository.query.annotation.Cached}, keyed by
+ * the OQL query and query parameters.
+ *
+ * All cached results are invalidated when an entry in the queried {@link Region} is created, updated, destroyed
+ * or invalidated, as notified to a {@link org.apache.geode.cache.CacheListener} registered on the {@link Region}
+ * the first time a query is executed.  Results are therefore only cached when the local {@link Region} is notified
+ * of all changes:
+ *
+ * <ul>
+ *     <li>A client {@link Region} must have registered interest in all keys (e.g. {@literal ALL_KEYS}
+ *     or the {@literal .*} regular expression) so that changes made on the servers are notified as well.
+ *     Interest is never registered implicitly.</li>
+ *     <li>A peer {@link org.apache.geode.cache.DataPolicy#PARTITION} {@link Region} is never cached since
+ *     the local {@link org.apache.geode.cache.CacheListener} is not notified of changes to buckets hosted
+ *     by other members.</li>
+ * </ul>
+ *
+ * Otherwise, a warning is logged and queries are always executed.
+ *
+ * Results are cached with the version of the {@link Region} at the time the query was executed, therefore results
+ * from a query concurrent with a change are never served.  The result {@link Collection} is copied on read, but
+ * the cached objects themselves (e.g. entities) are shared by all callers and must be treated as read-only.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.repository.query.annotation.Cached
+ * @since 2.0.0
+ */
+public class QueryResultCache {
+
+	protected static final String ALL_KEYS = "ALL_KEYS";
+	protected static final String ALL_KEYS_REGEX = ".*";
+
+	private volatile boolean enabled = true;
+	private volatile boolean initialized = false;
+
+	private final int maxEntries;
+
+	private final long timeToLive;
+
+	private final AtomicLong hits = new AtomicLong(0L);
+	private final AtomicLong misses = new AtomicLong(0L);
+	private final AtomicLong version = new AtomicLong(0L);
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<CacheKey, CacheEntry> entries;
+
+	private final Region<?, ?> region;
+
+	/**
+	 * Creates a {@link QueryResultCache} caching the results of queries on the given {@link Region}
+	 * as configured by the {@link org.springframework.data.gemfire.repository.query.annotation.Cached}
+	 * annotation of the given {@link GemfireQueryMethod}.
+	 *
+	 * @param region queried {@link Region}; must not be {@literal null}.
+	 * @param queryMethod cached {@link GemfireQueryMethod}; must not be {@literal null}.
+	 * @return a new {@link QueryResultCache}.
+	 * @see GemfireQueryMethod#isCachedQuery()
+	 */
+	public static QueryResultCache create(Region<?, ?> region, GemfireQueryMethod queryMethod) {
+		return new QueryResultCache(region, queryMethod.getCacheTimeToLive(), TimeUnit.MILLISECONDS,
+			queryMethod.getCacheMaxEntries());
+	}
+
+	/**
+	 * Constructs an instance of {@link QueryResultCache} caching the results of queries on the given {@link Region}.
+	 *
+	 * @param region queried {@link Region}; must not be {@literal null}.
+	 * @param timeToLive duration for which results are cached; results never expire if less than or equal to 0.
+	 * @param timeUnit {@link TimeUnit} of the {@code timeToLive}; must not be {@literal null}.
+	 * @param maxEntries maximum number of results cached; must be greater than 0.
+	 * @throws IllegalArgumentException if the {@link Region} or {@link TimeUnit} is {@literal null}
+	 * or {@code maxEntries} is less than 1.
+	 */
+	@SuppressWarnings("serial")
+	public QueryResultCache(Region<?, ?> region, long timeToLive, TimeUnit timeUnit, int maxEntries) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(timeUnit, "TimeUnit must not be null");
+		Assert.isTrue(maxEntries > 0, String.format("Max entries [%d] must be greater than 0", maxEntries));
+
+		this.region = region;
+		this.timeToLive = timeUnit.toMillis(Math.max(timeToLive, 0L));
+		this.maxEntries = maxEntries;
+
+		this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				return (size() > QueryResultCache.this.maxEntries);
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached results of the given OQL query and query parameters, or executes the query
+	 * with the given {@link Supplier} and caches the results if no valid results are cached.
+	 *
+	 * The returned objects are shared with the cache and all other callers; they must not be modified.
+	 *
+	 * @param query OQL query.
+	 * @param parameters query parameters.
+	 * @param queryExecution {@link Supplier} executing the query.
+	 * @return the cached or query results.
+	 */
+	public Collection<?> get(String query, Object[] parameters, Supplier<Collection<?>> queryExecution) {
+
+		if (!initialize()) {
+			return queryExecution.get();
+		}
+
+		CacheKey key = new CacheKey(query, parameters);
+
+		long currentVersion = this.version.get();
+
+		CacheEntry entry;
+
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+		}
+
+		if (entry != null && entry.isValid(currentVersion, System.currentTimeMillis())) {
+			this.hits.incrementAndGet();
+			return new ArrayList<>(entry.getResults());
+		}
+
+		this.misses.incrementAndGet();
+
+		Collection<?> results = queryExecution.get();
+
+		long expirationTime = (this.timeToLive > 0L ? System.currentTimeMillis() + this.timeToLive : Long.MAX_VALUE);
+
+		synchronized (this.entries) {
+			this.entries.put(key, new CacheEntry(new ArrayList<>(results), currentVersion, expirationTime));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Invalidates all cached results.
+	 */
+	public void invalidate() {
+
+		this.version.incrementAndGet();
+
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Registers the {@link org.apache.geode.cache.CacheListener} invalidating the cached results on the {@link Region}
+	 * the first time this cache is used.
+	 *
+	 * @return a boolean value indicating whether results can be cached.
+	 */
+	boolean initialize() {
+
+		if (!this.initialized) {
+			synchronized (this) {
+				if (!this.initialized) {
+					this.enabled = registerInvalidationListener(this.region);
+					this.initialized = true;
+				}
+			}
+		}
+
+		return this.enabled;
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	boolean registerInvalidationListener(Region region) {
+
+		if (isClientRegion(region)) {
+			if (!isInterestedInAllKeys(region)) {
+				logger.warn(String.format("Query results on client Region [%s] are not cached;"
+					+ " interest in all keys must be registered to be notified of changes on the servers",
+						region.getFullPath()));
+
+				return false;
+			}
+		}
+		else if (isPartitionRegion(region)) {
+			logger.warn(String.format("Query results on PARTITION Region [%s] are not cached;"
+				+ " changes to buckets hosted by other members are not notified", region.getFullPath()));
+
+			return false;
+		}
+
+		region.getAttributesMutator().addCacheListener(new InvalidatingCacheListener());
+
+		return true;
+	}
+
+	/* (non-Javadoc) */
+	boolean isInterestedInAllKeys(Region<?, ?> region) {
+
+		try {
+			List<?> interestList = region.getInterestList();
+			List<String> interestListRegex = region.getInterestListRegex();
+
+			return ((interestList != null && interestList.contains(ALL_KEYS))
+				|| (interestListRegex != null && interestListRegex.contains(ALL_KEYS_REGEX)));
+		}
+		catch (RuntimeException cause) {
+			return false;
+		}
+	}
+
+	/* (non-Javadoc) */
+	boolean isPartitionRegion(Region<?, ?> region) {
+		return (region.getAttributes() != null && region.getAttributes().getDataPolicy() != null
+			&& region.getAttributes().getDataPolicy().withPartitioning());
+	}
+
+	/* (non-Javadoc) */
+	boolean isClientRegion(Region<?, ?> region) {
+		return (region.getAttributes() != null && StringUtils.hasText(region.getAttributes().getPoolName()));
+	}
+
+	/**
+	 * Returns the number of queries answered from the cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Returns the number of queries executed because no valid results were cached.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Returns the maximum number of results cached.
+	 *
+	 * @return the maximum number of results cached.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Returns the number of milliseconds for which results are cached; {@literal 0} if results never expire.
+	 *
+	 * @return the time-to-live of cached results in milliseconds.
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Returns the number of results currently cached.
+	 *
+	 * @return the number of results currently cached.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/* (non-Javadoc) */
+	class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			invalidate();
+		}
+	}
+
+	/* (non-Javadoc) */
+	static class CacheEntry {
+
+		private final Collection<?> results;
+
+		private final long expirationTime;
+		private final long version;
+
+		CacheEntry(Collection<?> results, long version, long expirationTime) {
+			this.results = results;
+			this.version = version;
+			this.expirationTime = expirationTime;
+		}
+
+		Collection<?> getResults() {
+			return this.results;
+		}
+
+		boolean isValid(long currentVersion, long currentTime) {
+			return (this.version == currentVersion && currentTime < this.expirationTime);
+		}
+	}
+
+	/* (non-Javadoc) */
+	static class CacheKey {
+
+		private final Object[] parameters;
+
+		private final String query;
+
+		CacheKey(String query, Object[] parameters) {
+			this.query = query;
+			this.parameters = (parameters != null ? parameters : new Object[0]);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return (ObjectUtils.nullSafeEquals(this.query, that.query)
+				&& Arrays.deepEquals(this.parameters, that.parameters));
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * ObjectUtils.nullSafeHashCode(this.query) + Arrays.deepHashCode(this.parameters));
+		}
+	}
+}
@@ -15,14 +15,40 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate;
+import org.springframework.data.gemfire.repository.KeysetCursor;
+import org.springframework.data.gemfire.repository.KeysetSlice;
+import org.springframework.data.gemfire.repository.query.support.OqlQueryFunction;
+import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -36,12 +62,28 @@ import org.springframework.util.StringUtils;
  */
 public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	private static final Pattern COUNT_PATTERN = Pattern.compile("^SELECT (DISTINCT )?COUNT\\(\\*\\)",
+		Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern DISTINCT_PATTERN = Pattern.compile("^SELECT DISTINCT ", Pattern.CASE_INSENSITIVE);
+
 	private static final String INVALID_QUERY = "Paging and modifying queries are not supported";
 
+	private boolean existsQuery = false;
 	private boolean userDefinedQuery = false;
 
+	private Set<?> filter;
+
+	private KeysetCursor keysetCursor;
+
+	private Sort keysetSort;
+
+	private volatile QueryResultCache resultCache;
+
 	private final GemfireTemplate template;
 
+	private List<String> selectedProperties = Collections.emptyList();
+
 	private final QueryString query;
 
 	/*
@@ -90,6 +132,13 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 * (non-Javadoc)
 	 */
 	public StringBasedGemfireRepositoryQuery asUserDefinedQuery() {
+		QueryMethod queryMethod = getQueryMethod();
+
+		if (queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).isKeysetQuery()) {
+			throw new IllegalStateException(String.format("Keyset pagination is only supported by derived queries;"
+				+ " Offending method: %1$s", queryMethod.getName()));
+		}
+
 		this.userDefinedQuery = true;
 		return this;
 	}
@@ -101,6 +150,104 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return userDefinedQuery;
 	}
 
+	/**
+	 * Marks this query as determining whether any result exists, in which case the query method returns
+	 * {@literal true} if the query returned at least one result, and {@literal false} otherwise.
+	 *
+	 * @return this {@link StringBasedGemfireRepositoryQuery}.
+	 */
+	StringBasedGemfireRepositoryQuery asExistsQuery() {
+		this.existsQuery = true;
+		return this;
+	}
+
+	/* (non-Javadoc) */
+	boolean isExistsQuery() {
+		return this.existsQuery;
+	}
+
+	/**
+	 * Executes this query as a data-aware {@link OqlQueryFunction} on the {@link org.apache.geode.cache.Region}
+	 * filtered by the given keys, merging the results of each member executing the query on its local data.
+	 *
+	 * @param filter {@link Set} of keys identifying the members on which to execute the query;
+	 * the query is executed on all members hosting the {@link org.apache.geode.cache.Region} if empty.
+	 * @return this {@link StringBasedGemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.query.support.OqlQueryFunction
+	 */
+	StringBasedGemfireRepositoryQuery onRegion(Set<?> filter) {
+		this.filter = (filter != null ? filter : Collections.emptySet());
+		return this;
+	}
+
+	/* (non-Javadoc) */
+	boolean isDataAwareQuery() {
+		return (this.filter != null);
+	}
+
+	/**
+	 * Pages through the results of this query with the given {@link KeysetCursor}, in which case the query method
+	 * returns a {@link KeysetSlice}.  The values of the sort properties held by the {@link KeysetCursor} are bound
+	 * to the query parameters following the arguments of the query method.
+	 *
+	 * @param keysetCursor {@link KeysetCursor} of the {@link KeysetSlice} to query.
+	 * @param keysetSort {@link Sort} order of the results, ending with the identifier of the entity.
+	 * @return this {@link StringBasedGemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.KeysetCursor
+	 */
+	StringBasedGemfireRepositoryQuery withKeyset(KeysetCursor keysetCursor, Sort keysetSort) {
+		this.keysetCursor = keysetCursor;
+		this.keysetSort = keysetSort;
+		return this;
+	}
+
+	/* (non-Javadoc) */
+	boolean isKeysetQuery() {
+		return (this.keysetCursor != null);
+	}
+
+	/**
+	 * Sets the {@link QueryResultCache} caching the results of this query, which is otherwise created
+	 * the first time a query method annotated with
+	 * {@link org.springframework.data.gemfire.repository.query.annotation.Cached} is executed.
+	 *
+	 * @param resultCache {@link QueryResultCache} caching the results of this query.
+	 * @return this {@link StringBasedGemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.query.QueryResultCache
+	 */
+	StringBasedGemfireRepositoryQuery withResultCache(QueryResultCache resultCache) {
+		this.resultCache = resultCache;
+		return this;
+	}
+
+	/* (non-Javadoc) */
+	QueryResultCache resolveResultCache(QueryMethod queryMethod) {
+
+		if (this.resultCache == null && queryMethod instanceof GemfireQueryMethod
+				&& ((GemfireQueryMethod) queryMethod).isCachedQuery()) {
+
+			synchronized (this) {
+				if (this.resultCache == null) {
+					this.resultCache = QueryResultCache.create(template.getRegion(), (GemfireQueryMethod) queryMethod);
+				}
+			}
+		}
+
+		return this.resultCache;
+	}
+
+	/**
+	 * Sets the properties of the entity selected by the query instead of the entire entity,
+	 * from which the projection returned by the query method is created.
+	 *
+	 * @param selectedProperties {@link List} of properties selected by the query.
+	 * @return this {@link StringBasedGemfireRepositoryQuery}.
+	 */
+	StringBasedGemfireRepositoryQuery withSelectedProperties(List<String> selectedProperties) {
+		this.selectedProperties = (selectedProperties != null ? selectedProperties : Collections.emptyList());
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
@@ -121,17 +268,41 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		query = applyQueryAnnotationExtensions(localQueryMethod, query);
 
-		Collection<?> result = toCollection(template.find(query.toString(), parameters));
+		QueryString resolvedQuery = query;
+		QueryResultCache localResultCache = resolveResultCache(localQueryMethod);
 
-		if (localQueryMethod.isCollectionQuery()) {
-			return result;
+		Object[] queryParameters = (isKeysetQuery() ? withKeysetParameters(parameters) : parameters);
+
+		Collection<?> result = (localResultCache != null
+			? localResultCache.get(resolvedQuery.toString(), queryParameters,
+				() -> find(resolvedQuery, queryParameters))
+			: find(resolvedQuery, queryParameters));
+
+		if (isExistsQuery()) {
+			return !result.isEmpty();
+		}
+
+		ResultProcessor resultProcessor = localQueryMethod.getResultProcessor();
+
+		boolean projecting = resultProcessor.getReturnedType().isProjecting();
+
+		ProjectionResultConverter converter =
+			new ProjectionResultConverter(resultProcessor.getReturnedType(), this.selectedProperties);
+
+		if (isKeysetQuery()) {
+			return toKeysetSlice(result, element -> (projecting
+				? resultProcessor.processResult(element, converter) : element));
+		}
+		else if (localQueryMethod.isCollectionQuery()) {
+			return (projecting ? resultProcessor.processResult(result, converter) : result);
 		}
-		else if (localQueryMethod.isQueryForEntity()) {
+		else if (localQueryMethod.isQueryForEntity() || projecting) {
 			if (result.isEmpty()) {
 				return null;
 			}
 			else if (result.size() == 1) {
-				return result.iterator().next();
+				return (projecting ? resultProcessor.processResult(result.iterator().next(), converter)
+					: result.iterator().next());
 			}
 			else {
 				throw new IncorrectResultSizeDataAccessException(1, result.size());
@@ -145,6 +316,167 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
+	/* (non-Javadoc) */
+	Object[] withKeysetParameters(Object[] parameters) {
+
+		List<Object> keysetParameters = new ArrayList<>(Arrays.asList(ArrayUtils.nullSafeArray(parameters, Object.class)));
+
+		keysetParameters.addAll(this.keysetCursor.getKeys().values());
+
+		return keysetParameters.toArray();
+	}
+
+	/**
+	 * Converts the results of a keyset query, which are limited to one result more than the size
+	 * of the {@link KeysetSlice}, into a {@link KeysetSlice} with the {@link KeysetCursor} positioned after
+	 * the last result if more results exist.
+	 *
+	 * @param result results of the keyset query.
+	 * @param converter {@link Function} converting each result into the type returned by the query method.
+	 * @return a {@link KeysetSlice} containing the converted results.
+	 */
+	KeysetSlice<Object> toKeysetSlice(Collection<?> result, Function<Object, Object> converter) {
+
+		List<?> results = new ArrayList<>(result);
+
+		int size = this.keysetCursor.getSize();
+
+		boolean hasNext = (results.size() > size);
+
+		List<?> content = (hasNext ? results.subList(0, size) : results);
+
+		KeysetCursor nextCursor = (hasNext ? this.keysetCursor.next(resolveKeys(content.get(size - 1))) : null);
+
+		return new KeysetSlice<>(content.stream().map(converter).collect(Collectors.toList()),
+			this.keysetCursor, nextCursor, this.keysetSort);
+	}
+
+	/* (non-Javadoc) */
+	Map<String, Object> resolveKeys(Object result) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : this.keysetSort) {
+
+			Object value = resolveKey(result, order.getProperty());
+
+			if (value == null) {
+				throw newIllegalStateException("Keyset pagination requires a value for sort property [%1$s] of [%2$s]",
+					order.getProperty(), result);
+			}
+
+			keys.put(order.getProperty(), value);
+		}
+
+		return keys;
+	}
+
+	/* (non-Javadoc) */
+	private Object resolveKey(Object result, String property) {
+
+		if (result instanceof Struct) {
+			return ((Struct) result).get(property.substring(property.lastIndexOf('.') + 1));
+		}
+		else if (result instanceof PdxInstance) {
+			return ((PdxInstance) result).getField(property);
+		}
+		else if (result == null || BeanUtils.isSimpleValueType(result.getClass())) {
+			return result;
+		}
+
+		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(result);
+
+		return (beanWrapper.isReadableProperty(property) ? beanWrapper.getPropertyValue(property)
+			: PropertyAccessorFactory.forDirectFieldAccess(result).getPropertyValue(property));
+	}
+
+	/* (non-Javadoc) */
+	Collection<?> find(QueryString query, Object[] parameters) {
+		return (isDataAwareQuery() ? executeOnRegion(query, parameters)
+			: toCollection(template.find(query.toString(), parameters)));
+	}
+
+	/**
+	 * Executes the OQL query with the {@link OqlQueryFunction} on the members hosting the data of the
+	 * {@link org.apache.geode.cache.Region} and merges the results of each member, summing counts
+	 * and re-applying DISTINCT and LIMIT across members.
+	 *
+	 * @param query {@link QueryString} containing the OQL query to execute.
+	 * @param parameters query parameters.
+	 * @return a {@link Collection} containing the merged results.
+	 * @see org.springframework.data.gemfire.repository.query.support.OqlQueryFunction
+	 */
+	Collection<?> executeOnRegion(QueryString query, Object[] parameters) {
+		Object[] queryParameters = Arrays.stream(ArrayUtils.nullSafeArray(parameters, Object.class))
+			.filter(parameter -> !(parameter instanceof Sort)).toArray();
+
+		Iterable<Object> memberResults = new GemfireOnRegionFunctionTemplate(template.getRegion())
+			.execute(OqlQueryFunction.ID, this.filter, query.toString(), queryParameters);
+
+		List<Object> results = new ArrayList<>();
+
+		for (Object memberResult : nullSafeIterable(memberResults)) {
+			if (memberResult instanceof Collection) {
+				results.addAll((Collection<?>) memberResult);
+			}
+			else if (memberResult != null) {
+				results.add(memberResult);
+			}
+		}
+
+		return mergeResults(query.toString(), results, getQueryMethod().getReturnedObjectType());
+	}
+
+	/* (non-Javadoc) */
+	Collection<?> mergeResults(String query, List<Object> results) {
+		return mergeResults(query, results, null);
+	}
+
+	/* (non-Javadoc) */
+	Collection<?> mergeResults(String query, List<Object> results, Class<?> countType) {
+		if (COUNT_PATTERN.matcher(query).find()) {
+			return Collections.singletonList(toCount(results.stream().filter(Number.class::isInstance)
+				.mapToLong(count -> ((Number) count).longValue()).sum(), countType));
+		}
+
+		List<Object> mergedResults = (DISTINCT_PATTERN.matcher(query).find()
+			? new ArrayList<>(new LinkedHashSet<>(results)) : results);
+
+		Matcher limitMatcher = QueryString.LIMIT_PATTERN.matcher(query);
+
+		if (limitMatcher.find()) {
+			int limit = Integer.parseInt(limitMatcher.group().replaceAll("\\D", ""));
+
+			mergedResults = (mergedResults.size() > limit ? mergedResults.subList(0, limit) : mergedResults);
+		}
+
+		return mergedResults;
+	}
+
+	/**
+	 * Converts the sum of the counts returned by each member into the {@link Class type} declared by the query method.
+	 *
+	 * A count declared as {@link Integer} that overflows fails fast rather than wrapping around. When the query method
+	 * does not declare a specific numeric type, the sum is returned as an {@link Integer}, the type GemFire returns
+	 * for a COUNT on a single member, unless it overflows, in which case it is returned as a {@link Long}.
+	 *
+	 * @param count sum of the counts returned by each member.
+	 * @param countType {@link Class type} declared by the query method; may be {@literal null}.
+	 * @return the count converted into the declared {@link Class type}.
+	 * @throws ArithmeticException if the count overflows the declared {@link Integer} type.
+	 */
+	Object toCount(long count, Class<?> countType) {
+		if (Long.class.equals(countType) || Long.TYPE.equals(countType)) {
+			return count;
+		}
+		else if (Integer.class.equals(countType) || Integer.TYPE.equals(countType)) {
+			return Math.toIntExact(count);
+		}
+		else {
+			return (count > Integer.MAX_VALUE ? (Object) count : (Object) (int) count);
+		}
+	}
+
 	QueryString applyQueryAnnotationExtensions(QueryMethod queryMethod, QueryString queryString) {
 		QueryString resolvedQueryString = queryString;
 
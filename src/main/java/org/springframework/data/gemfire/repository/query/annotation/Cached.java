@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Cached class is an annotation type indicating that the results of a query method are cached by the OQL query
+ * and query arguments.  All cached results of the query method are invalidated when an entry
+ * in the queried {@link org.apache.geode.cache.Region} changes.
+ *
+ * Results are only cached on a client {@link org.apache.geode.cache.Region} that registered interest in all keys,
+ * and never on a peer PARTITION {@link org.apache.geode.cache.Region}.  Cached objects are shared by all callers
+ * and must be treated as read-only.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see java.util.concurrent.TimeUnit
+ * @since 2.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface Cached {
+
+	/**
+	 * Maximum number of query results cached; the least recently used results are evicted first.
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * Duration for which query results are cached; results never expire if less than or equal to {@literal 0}.
+	 */
+	long timeToLive() default 60L;
+
+	/**
+	 * {@link TimeUnit} of the {@link #timeToLive()}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
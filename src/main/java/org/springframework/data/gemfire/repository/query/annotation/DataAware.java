@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The DataAware class is an annotation type indicating that derived queries are executed as a data-aware
+ * GemFire/Geode {@link org.apache.geode.cache.execute.Function} on the {@link org.apache.geode.cache.Region}
+ * rather than by the querying member.  Each member hosting data executes the OQL Query on its local data
+ * in parallel, and a query constraining the identifier of the entity is only routed to the members hosting
+ * the matching keys.
+ *
+ * May be declared on a query method or on the Repository interface to apply to all derived query methods.
+ * Derived queries with ordering are always executed by the querying member.
+ *
+ * The {@link org.springframework.data.gemfire.repository.query.support.OqlQueryFunction} must be registered
+ * on the members hosting the {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.springframework.data.gemfire.repository.query.support.OqlQueryFunction
+ * @since 2.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@SuppressWarnings("unused")
+public @interface DataAware {
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * The {@link OqlQueryFunction} class is a data-aware GemFire/Geode {@link Function} executing an OQL query
+ * on the local data of the member on which the {@link Function} was invoked with
+ * {@link FunctionService#onRegion(Region)}.
+ *
+ * The {@link Function} arguments are the OQL query {@link String} followed by an {@link Object} array
+ * of query parameters.  Each member sends the results of the OQL query on its local data (i.e. buckets
+ * of a {@link org.apache.geode.cache.DataPolicy#PARTITION PARTITION} {@link Region} selected by the filter)
+ * as a single {@link List}.
+ *
+ * This {@link Function} must be registered on all members hosting the {@link Region}, for instance,
+ * by declaring it with the {@link org.springframework.data.gemfire.function.FunctionServiceFactoryBean}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query#execute(RegionFunctionContext, Object[])
+ * @see org.springframework.data.gemfire.repository.query.annotation.DataAware
+ * @since 2.0.0
+ */
+@SuppressWarnings("serial")
+public class OqlQueryFunction implements Function {
+
+	public static final String ID = OqlQueryFunction.class.getName();
+
+	/**
+	 * Registers an instance of the {@link OqlQueryFunction} with the {@link FunctionService}
+	 * unless the {@link OqlQueryFunction} was already registered.
+	 *
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static void registerIfNecessary() {
+		if (!FunctionService.isRegistered(ID)) {
+			FunctionService.registerFunction(new OqlQueryFunction());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void execute(FunctionContext functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", ID));
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object[] arguments = resolveArguments(functionContext.getArguments());
+
+		String queryString = String.valueOf(arguments[0]);
+
+		Object[] queryParameters = (arguments.length > 1 && arguments[1] instanceof Object[]
+			? (Object[]) arguments[1] : new Object[0]);
+
+		Region<?, ?> region = regionFunctionContext.getDataSet();
+
+		Query query = region.getRegionService().getQueryService().newQuery(queryString);
+
+		try {
+			Object result = (PartitionRegionHelper.isPartitionedRegion(region)
+				? query.execute(regionFunctionContext, queryParameters) : query.execute(queryParameters));
+
+			functionContext.getResultSender().lastResult(toList(result));
+		}
+		catch (QueryException cause) {
+			throw new FunctionException(String.format("Failed to execute OQL query [%1$s] on Region [%2$s]",
+				queryString, region.getFullPath()), cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object[] resolveArguments(Object arguments) {
+
+		Object[] resolvedArguments = (arguments instanceof Object[] ? (Object[]) arguments
+			: new Object[] { arguments });
+
+		if (resolvedArguments.length == 0 || resolvedArguments[0] == null) {
+			throw new FunctionException(String.format("An OQL query is required to execute Function [%s]", ID));
+		}
+
+		return resolvedArguments;
+	}
+
+	/* (non-Javadoc) */
+	private List<Object> toList(Object result) {
+
+		if (result instanceof SelectResults) {
+			return new ArrayList<>(((SelectResults<?>) result).asList());
+		}
+		else if (result instanceof Collection) {
+			return new ArrayList<>((Collection<?>) result);
+		}
+
+		return (result != null ? Collections.singletonList(result) : Collections.emptyList());
+	}
+}
@@ -24,15 +24,19 @@ import java.lang.reflect.Method;
 import java.util.Optional;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.support.AdaptivePoolController;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Regions;
+import org.springframework.data.gemfire.repository.BatchSize;
 import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
 import org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.support.OqlQueryFunction;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -59,6 +63,8 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Regions regions;
 
+	private AdaptivePoolController poolController;
+
 	/**
 	 * Creates a new {@link GemfireRepositoryFactory}.
 	 *
@@ -76,6 +82,26 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		this.regions = new Regions(regions, this.mappingContext);
 	}
 
+	/**
+	 * Sets the {@link AdaptivePoolController} gating the operations of the Repositories accessing
+	 * a {@link Region} that uses a controlled client {@link org.apache.geode.cache.client.Pool}.
+	 *
+	 * @param poolController {@link AdaptivePoolController}; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.client.support.AdaptivePoolController
+	 */
+	public void setPoolController(AdaptivePoolController poolController) {
+		this.poolController = poolController;
+	}
+
+	/**
+	 * Returns the {@link AdaptivePoolController} gating the operations of the Repositories.
+	 *
+	 * @return the {@link Optional} {@link AdaptivePoolController}.
+	 */
+	protected Optional<AdaptivePoolController> getPoolController() {
+		return Optional.ofNullable(this.poolController);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
@@ -103,7 +129,13 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfireTemplate gemfireTemplate = getTemplate(repositoryInformation);
 
-		return getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+
+		Optional.ofNullable(getRepositoryBatchSize(repositoryInformation.getRepositoryInterface()))
+			.filter(batchSize -> repository instanceof SimpleGemfireRepository)
+			.ifPresent(batchSize -> ((SimpleGemfireRepository<?, ?>) repository).setBatchSize(batchSize));
+
+		return repository;
 	}
 
 	GemfireTemplate getTemplate(RepositoryMetadata metadata) {
@@ -133,7 +165,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 					regionKeyType.getName(), entityIdType.getName()));
 		}
 
-		return new GemfireTemplate(region);
+		GemfireTemplate template = new GemfireTemplate(region);
+
+		getPoolController().flatMap(poolController -> poolController.findLimiter(region))
+			.ifPresent(template::setConcurrencyLimiter);
+
+		return template;
 	}
 
 	String getRepositoryRegionName(Class<?> repositoryInterface) {
@@ -141,6 +178,15 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 			repositoryInterface.getAnnotation(org.springframework.data.gemfire.mapping.annotation.Region.class).value() : null);
 	}
 
+	boolean isClientRegion(Region<?, ?> region) {
+		return (region.getRegionService() instanceof ClientCache);
+	}
+
+	Integer getRepositoryBatchSize(Class<?> repositoryInterface) {
+		return (repositoryInterface.isAnnotationPresent(BatchSize.class) ?
+			repositoryInterface.getAnnotation(BatchSize.class).value() : null);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -177,6 +223,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 						queryMethod, template).asUserDefinedQuery();
 				}
 
+				if (queryMethod.isDataAwareQuery() && !isClientRegion(template.getRegion())) {
+					OqlQueryFunction.registerIfNecessary();
+				}
+
 				return new PartTreeGemfireRepositoryQuery(queryMethod, template);
 			});
 	}
@@ -25,6 +25,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.gemfire.client.support.AdaptivePoolController;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -53,6 +54,8 @@ import org.springframework.util.Assert;
 public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends RepositoryFactoryBeanSupport<T, S, ID> implements ApplicationContextAware {
 
+	private AdaptivePoolController poolController;
+
 	private Iterable<Region<?, ?>> regions;
 
 	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
@@ -80,6 +83,8 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		Collection<Region> regions = applicationContext.getBeansOfType(Region.class).values();
 		this.regions = (Iterable) Collections.unmodifiableCollection(regions);
+		this.poolController = applicationContext.getBeansOfType(AdaptivePoolController.class).values().stream()
+			.findFirst().orElse(null);
 	}
 
 	/**
@@ -125,7 +130,12 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 	 */
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
-		return new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+
+		repositoryFactory.setPoolController(this.poolController);
+
+		return repositoryFactory;
 	}
 
 	/*
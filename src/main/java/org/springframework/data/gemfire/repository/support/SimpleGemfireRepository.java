@@ -17,7 +17,7 @@
 package org.springframework.data.gemfire.repository.support;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,6 +28,7 @@ import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.query.SelectResults;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
@@ -40,6 +41,7 @@ import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Basic Repository implementation for GemFire.
@@ -55,6 +57,10 @@ import org.springframework.util.Assert;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	private final EntityInformation<T, ID> entityInformation;
 
 	private final GemfireTemplate template;
@@ -73,6 +79,31 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		this.entityInformation = entityInformation;
 	}
 
+	/**
+	 * Sets the maximum number of entities stored in the {@link Region} with a single {@link Region#putAll(Map)}
+	 * operation by {@link #saveAll(Iterable)}.
+	 *
+	 * @param batchSize maximum number of entities stored with a single {@link Region#putAll(Map)} operation;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code batchSize} is less than {@literal 1}.
+	 * @see #saveAll(Iterable)
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities stored in the {@link Region} with a single {@link Region#putAll(Map)}
+	 * operation by {@link #saveAll(Iterable)}.
+	 *
+	 * @return the maximum number of entities stored with a single {@link Region#putAll(Map)} operation.
+	 * @see #DEFAULT_BATCH_SIZE
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#save(S)
@@ -86,19 +117,40 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return entity;
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Iterable)
+	/**
+	 * Saves the given entities in batches of at most {@link #getBatchSize()} entities, preserving the order
+	 * in which the entities are given within each batch.  Each batch is stored as soon as it is full,
+	 * while the given {@link Iterable} is iterated, so that at most one batch of entities is held in memory.
+	 *
+	 * The given {@link Iterable} is returned, since the saved entities are the given entities.
+	 *
+	 * @param entities {@link Iterable} of entities to save.
+	 * @return the given {@link Iterable} of saved entities.
+	 * @see org.springframework.data.repository.CrudRepository#saveAll(Iterable)
+	 * @see #getBatchSize()
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(Iterable<U> entities) {
-		Map<ID, U> entitiesToSave = new HashMap<>();
+		int batchSize = getBatchSize();
+
+		Map<ID, U> batch = new LinkedHashMap<>();
+
+		for (U entity : entities) {
+			ID id = entityInformation.getRequiredId(entity);
+
+			if (batch.size() >= batchSize || batch.containsKey(id)) {
+				template.putAll(batch);
+				batch = new LinkedHashMap<>();
+			}
 
-		entities.forEach(entity -> entitiesToSave.put(entityInformation.getRequiredId(entity), entity));
+			batch.put(id, entity);
+		}
 
-		template.putAll(entitiesToSave);
+		if (!batch.isEmpty()) {
+			template.putAll(batch);
+		}
 
-		return entitiesToSave.values();
+		return entities;
 	}
 
 	/*
@@ -126,13 +178,23 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return Long.valueOf(results.iterator().next());
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.data.repository.CrudRepository#existsById(java.lang.Object)
+	/**
+	 * Determines whether an entity with the given ID exists, that is, whether the entry has a value.
+	 *
+	 * Peer {@link Region Regions} holding all of their data, either partitioned or replicated, are checked with
+	 * {@link Region#containsValueForKey(Object)} so the value is not deserialized. All other {@link Region Regions},
+	 * including client {@link Region Regions} and {@link Region Regions} with a
+	 * {@link org.apache.geode.cache.CacheLoader}, fall back to {@link #findById(Object)} so that invalidated entries
+	 * do not exist and the {@link org.apache.geode.cache.CacheLoader} is still consulted.
+	 *
+	 * @param id identifier of the entity.
+	 * @return a boolean value indicating whether an entity with the given ID exists.
+	 * @see #isValueForKeyLocal(Region)
 	 */
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		return (isValueForKeyLocal(template.getRegion()) ? template.containsValueForKey(id)
+			: findById(id).isPresent());
 	}
 
 	/*
@@ -210,6 +272,31 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		entities.forEach(this::delete);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.Region#getAttributes()
+	 * @see org.apache.geode.cache.RegionAttributes#getPoolName()
+	 */
+	boolean isClientProxy(Region<?, ?> region) {
+		return (region != null && region.getAttributes() != null
+			&& StringUtils.hasText(region.getAttributes().getPoolName()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.Region#getAttributes()
+	 * @see org.apache.geode.cache.RegionAttributes#getCacheLoader()
+	 * @see org.apache.geode.cache.RegionAttributes#getDataPolicy()
+	 */
+	boolean isValueForKeyLocal(Region<?, ?> region) {
+		RegionAttributes<?, ?> regionAttributes = (region != null ? region.getAttributes() : null);
+
+		DataPolicy dataPolicy = (regionAttributes != null ? regionAttributes.getDataPolicy() : null);
+
+		return (regionAttributes != null && !isClientProxy(region) && regionAttributes.getCacheLoader() == null
+			&& dataPolicy != null && (dataPolicy.withPartitioning() || dataPolicy.withReplication()));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.apache.geode.cache.Region#getAttributes()
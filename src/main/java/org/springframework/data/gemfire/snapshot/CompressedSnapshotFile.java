@@ -0,0 +1,435 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * The CompressedSnapshotFile class encodes and decodes GemFire snapshot files in a block compressed,
+ * checksummed file format.
+ *
+ * The snapshot is split into fixed size blocks, each compressed independently.  The file starts with a small header
+ * followed by an index of the compressed length and CRC32 checksum of each block, which allows each block to be
+ * located, decompressed and verified independently on import.  Given an {@link Executor}, the blocks are decoded
+ * in parallel.  The header and index are protected by their own CRC32 checksum and validated against the length
+ * of the file before any block is read.
+ *
+ * <pre>
+ * header: magic (int), version (byte), codec (byte), block size (int), block count (int), length (long),
+ *         CRC32 of the preceding header fields and the index (int)
+ * index:  compressed length (int), CRC32 of the uncompressed block (int), for each block
+ * blocks: compressed block data
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.SnapshotCompression
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public abstract class CompressedSnapshotFile {
+
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+	public static final int MAGIC = 0x53444743;
+
+	protected static final byte VERSION = 1;
+
+	protected static final int HEADER_SIZE = 26;
+	protected static final int HEADER_CHECKSUM_OFFSET = 22;
+	protected static final int INDEX_ENTRY_SIZE = 8;
+
+	/**
+	 * Determines whether the given File is a compressed snapshot file.
+	 *
+	 * @param file the File to evaluate.
+	 * @return a boolean value indicating whether the given File is a compressed snapshot file.
+	 */
+	public static boolean isCompressed(File file) {
+		if (file != null && file.isFile() && file.length() >= HEADER_SIZE) {
+			try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+				return (in.read(magic, 0) == Integer.BYTES && magic.getInt(0) == MAGIC);
+			}
+			catch (IOException ignore) {
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compresses the source snapshot file into the target file using the default block size.
+	 *
+	 * @param source the GemFire snapshot file to compress.
+	 * @param target the compressed snapshot file.
+	 * @param compression the codec used to compress the blocks.
+	 * @throws IOException if the source cannot be read or the target cannot be written.
+	 * @see #compress(File, File, SnapshotCompression, int)
+	 */
+	public static void compress(File source, File target, SnapshotCompression compression) throws IOException {
+		compress(source, target, compression, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Compresses the source snapshot file into the target file, block by block.
+	 *
+	 * @param source the GemFire snapshot file to compress.
+	 * @param target the compressed snapshot file.
+	 * @param compression the codec used to compress the blocks.
+	 * @param blockSize the size in bytes of each uncompressed block.
+	 * @throws IOException if the source cannot be read or the target cannot be written.
+	 */
+	public static void compress(File source, File target, SnapshotCompression compression, int blockSize)
+			throws IOException {
+
+		Assert.isTrue(compression != null && compression.isCompressed(),
+			String.format("SnapshotCompression [%s] must compress", compression));
+
+		Assert.isTrue(blockSize > 0, String.format("Block size [%d] must be greater than 0", blockSize));
+
+		long length = source.length();
+		long blockCount = (length + blockSize - 1) / blockSize;
+
+		Assert.state(blockCount <= Integer.MAX_VALUE, String.format(
+			"Snapshot (%1$s) is too large for block size [%2$d]", source, blockSize));
+
+		try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+			 FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+				 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			ByteBuffer index = ByteBuffer.allocate((int) blockCount * INDEX_ENTRY_SIZE);
+			ByteBuffer block = ByteBuffer.allocate(blockSize);
+
+			long position = HEADER_SIZE + index.capacity();
+
+			for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+				block.clear();
+				readFully(in, block, (long) blockIndex * blockSize);
+
+				byte[] compressedBlock = compress(block.array(), block.position());
+
+				position += writeFully(out, ByteBuffer.wrap(compressedBlock), position);
+
+				index.putInt(compressedBlock.length);
+				index.putInt(checksum(block.array(), block.position()));
+			}
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.putInt(MAGIC)
+				.put(VERSION)
+				.put(compression.getId())
+				.putInt(blockSize)
+				.putInt((int) blockCount)
+				.putLong(length);
+
+			header.putInt(checksum(header.array(), index.array(), index.position()));
+			header.flip();
+			index.flip();
+
+			writeFully(out, header, 0);
+			writeFully(out, index, HEADER_SIZE);
+		}
+	}
+
+	/**
+	 * Decompresses the source compressed snapshot file into the target file, decoding and verifying
+	 * each block in turn.
+	 *
+	 * @param source the compressed snapshot file.
+	 * @param target the GemFire snapshot file.
+	 * @throws IOException if the source is not a valid compressed snapshot, the header, index or a block fails
+	 * checksum verification or the target cannot be written.
+	 * @see #decompress(File, File, Executor)
+	 */
+	public static void decompress(File source, File target) throws IOException {
+		decompress(source, target, null);
+	}
+
+	/**
+	 * Decompresses the source compressed snapshot file into the target file, decoding and verifying the blocks
+	 * located by the block index in parallel on the given {@link Executor}.
+	 *
+	 * The calling Thread decodes blocks as well and never waits on a block that has not been claimed
+	 * by a running Thread, so this may safely be called from a task running on the same, bounded Executor.
+	 *
+	 * @param source the compressed snapshot file.
+	 * @param target the GemFire snapshot file.
+	 * @param executor the {@link Executor} used to decode blocks in parallel; blocks are decoded
+	 * by the calling Thread only if {@literal null}.
+	 * @throws IOException if the source is not a valid compressed snapshot, the header, index or a block fails
+	 * checksum verification or the target cannot be written.
+	 */
+	public static void decompress(File source, File target, Executor executor) throws IOException {
+		try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+			 FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+				 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			long fileLength = in.size();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+			readFully(in, header, 0);
+			header.flip();
+
+			if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+				throw new IOException(String.format("File (%s) is not a compressed snapshot", source));
+			}
+
+			byte version = header.get();
+
+			if (version != VERSION) {
+				throw new IOException(String.format("Unsupported compressed snapshot version [%1$d] in file (%2$s)",
+					version, source));
+			}
+
+			SnapshotCompression compression = SnapshotCompression.valueOf(header.get());
+
+			if (compression == null || !compression.isCompressed()) {
+				throw new IOException(String.format("Unknown compression codec in file (%s)", source));
+			}
+
+			int blockSize = header.getInt();
+			int blockCount = header.getInt();
+			long length = header.getLong();
+			int headerChecksum = header.getInt();
+
+			long indexLength = (long) blockCount * INDEX_ENTRY_SIZE;
+
+			if (blockSize <= 0 || blockCount < 0 || length < 0
+					|| blockCount != length / blockSize + (length % blockSize == 0 ? 0 : 1)
+					|| HEADER_SIZE + indexLength > fileLength) {
+
+				throw new IOException(String.format("Invalid header [blockSize = %1$d, blockCount = %2$d,"
+					+ " length = %3$d] in compressed snapshot (%4$s) of [%5$d] bytes",
+						blockSize, blockCount, length, source, fileLength));
+			}
+
+			ByteBuffer index = ByteBuffer.allocate((int) indexLength);
+
+			readFully(in, index, HEADER_SIZE);
+
+			if (checksum(header.array(), index.array(), index.position()) != headerChecksum) {
+				throw new IOException(String.format("Checksum mismatch in header of compressed snapshot (%s)",
+					source));
+			}
+
+			index.flip();
+
+			long[] positions = new long[blockCount];
+			int[] compressedLengths = new int[blockCount];
+			int[] blockChecksums = new int[blockCount];
+
+			long position = HEADER_SIZE + indexLength;
+
+			for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+				compressedLengths[blockIndex] = index.getInt();
+				blockChecksums[blockIndex] = index.getInt();
+
+				if (compressedLengths[blockIndex] < 0 || position + compressedLengths[blockIndex] > fileLength) {
+					throw new IOException(String.format(
+						"Invalid length [%1$d] of block [%2$d] in compressed snapshot (%3$s)",
+							compressedLengths[blockIndex], blockIndex, source));
+				}
+
+				positions[blockIndex] = position;
+				position += compressedLengths[blockIndex];
+			}
+
+			decodeBlocks(blockCount, executor, blockIndex -> {
+				ByteBuffer compressedBlock = ByteBuffer.allocate(compressedLengths[blockIndex]);
+
+				readFully(in, compressedBlock, positions[blockIndex]);
+
+				long blockOffset = (long) blockIndex * blockSize;
+				int blockLength = (int) Math.min(blockSize, length - blockOffset);
+
+				byte[] block = decompress(compressedBlock.array(), blockLength);
+
+				if (checksum(block, blockLength) != blockChecksums[blockIndex]) {
+					throw new IOException(String.format(
+						"Checksum mismatch in block [%1$d] of compressed snapshot (%2$s)", blockIndex, source));
+				}
+
+				writeFully(out, ByteBuffer.wrap(block, 0, blockLength), blockOffset);
+			});
+		}
+	}
+
+	/**
+	 * Decodes all blocks, claiming them one at a time from a shared counter.  The calling Thread decodes blocks
+	 * along with up to one helper task per available processor submitted to the Executor.  Each claimed block is
+	 * counted down whether or not it was decoded, so the calling Thread only waits for blocks being decoded
+	 * by running Threads; helper tasks that start after all blocks were claimed return immediately.
+	 * After the first failure, the remaining blocks are claimed but not decoded.
+	 *
+	 * @param blockCount the number of blocks to decode.
+	 * @param executor the {@link Executor} running the helper tasks; may be {@literal null}.
+	 * @param blockDecoder decodes the block with the given index.
+	 * @throws IOException if any block fails to decode.
+	 */
+	static void decodeBlocks(int blockCount, Executor executor, BlockDecoder blockDecoder) throws IOException {
+		AtomicInteger nextBlockIndex = new AtomicInteger(0);
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		CountDownLatch decodedBlocks = new CountDownLatch(blockCount);
+
+		Runnable decoder = () -> {
+			for (int blockIndex = nextBlockIndex.getAndIncrement(); blockIndex < blockCount;
+					blockIndex = nextBlockIndex.getAndIncrement()) {
+
+				try {
+					if (failure.get() == null) {
+						blockDecoder.decode(blockIndex);
+					}
+				}
+				catch (Exception cause) {
+					failure.compareAndSet(null, cause);
+				}
+				finally {
+					decodedBlocks.countDown();
+				}
+			}
+		};
+
+		if (executor != null) {
+			int helpers = Math.min(blockCount, Runtime.getRuntime().availableProcessors()) - 1;
+
+			try {
+				for (int helper = 0; helper < helpers; helper++) {
+					executor.execute(decoder);
+				}
+			}
+			catch (RejectedExecutionException ignore) {
+				// the calling Thread decodes the remaining blocks
+			}
+		}
+
+		decoder.run();
+
+		try {
+			decodedBlocks.await();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for compressed snapshot blocks to decode");
+		}
+
+		Exception cause = failure.get();
+
+		if (cause instanceof IOException) {
+			throw (IOException) cause;
+		}
+		else if (cause != null) {
+			throw new IOException("Failed to decode compressed snapshot block", cause);
+		}
+	}
+
+	/**
+	 * The BlockDecoder interface decodes a single block of a compressed snapshot.
+	 */
+	@FunctionalInterface
+	interface BlockDecoder {
+		void decode(int blockIndex) throws IOException;
+	}
+
+	/* (non-Javadoc) */
+	static int checksum(byte[] header, byte[] index, int indexLength) {
+		CRC32 checksum = new CRC32();
+		checksum.update(header, 0, HEADER_CHECKSUM_OFFSET);
+		checksum.update(index, 0, indexLength);
+		return (int) checksum.getValue();
+	}
+
+	/* (non-Javadoc) */
+	static int checksum(byte[] data, int length) {
+		CRC32 checksum = new CRC32();
+		checksum.update(data, 0, length);
+		return (int) checksum.getValue();
+	}
+
+	/* (non-Javadoc) */
+	static byte[] compress(byte[] data, int length) throws IOException {
+		ByteArrayOutputStream compressedData = new ByteArrayOutputStream(Math.max(length / 2, 32));
+
+		try (GZIPOutputStream out = new GZIPOutputStream(compressedData)) {
+			out.write(data, 0, length);
+		}
+
+		return compressedData.toByteArray();
+	}
+
+	/* (non-Javadoc) */
+	static byte[] decompress(byte[] compressedData, int length) throws IOException {
+		byte[] data = new byte[length];
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressedData))) {
+			int offset = 0;
+
+			while (offset < length) {
+				int bytesRead = in.read(data, offset, length - offset);
+
+				if (bytesRead < 0) {
+					throw new IOException(String.format("Expected [%1$d] bytes in compressed block; but was [%2$d]",
+						length, offset));
+				}
+
+				offset += bytesRead;
+			}
+		}
+
+		return data;
+	}
+
+	/* (non-Javadoc) */
+	static void readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int bytesRead = in.read(buffer, position);
+
+			if (bytesRead < 0) {
+				break;
+			}
+
+			position += bytesRead;
+		}
+	}
+
+	/* (non-Javadoc) */
+	static int writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+		int bytesWritten = 0;
+
+		while (buffer.hasRemaining()) {
+			bytesWritten += out.write(buffer, position + bytesWritten);
+		}
+
+		return bytesWritten;
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.geode.DataSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * The EntrySnapshotFile class writes and reads Region entries, one record at a time, in a simple file format
+ * used for snapshots that GemFire's snapshot services cannot write, such as delta snapshots.
+ *
+ * Each record is either an entry (key and value) to put into the Region, or a tombstone (key only) of an entry
+ * to remove from the Region.  Records are written as they are produced and read back in bounded batches,
+ * so neither side holds all entries in memory.  A trailing end marker detects truncated files.
+ *
+ * <pre>
+ * header:  magic (int), version (byte)
+ * records: ENTRY (byte), key, value | TOMBSTONE (byte), key
+ * end:     END (byte)
+ * </pre>
+ *
+ * Keys and values are serialized with the GemFire {@link DataSerializer}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public abstract class EntrySnapshotFile {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final int MAGIC = 0x53444745;
+
+	protected static final byte VERSION = 1;
+
+	protected static final byte END = 0;
+	protected static final byte ENTRY = 1;
+	protected static final byte TOMBSTONE = 2;
+
+	protected static final int HEADER_SIZE = 5;
+
+	/**
+	 * Determines whether the given File is an entry snapshot file.
+	 *
+	 * @param file the File to evaluate.
+	 * @return a boolean value indicating whether the given File is an entry snapshot file.
+	 */
+	public static boolean isEntrySnapshot(File file) {
+		if (file != null && file.isFile() && file.length() >= HEADER_SIZE) {
+			try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+				return (in.read(magic, 0) == Integer.BYTES && magic.getInt(0) == MAGIC);
+			}
+			catch (IOException ignore) {
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Opens a {@link Writer} writing records to the given File, replacing any existing content.
+	 *
+	 * @param file the entry snapshot File to write.
+	 * @return a {@link Writer} writing to the given File.
+	 * @throws IOException if the File cannot be opened.
+	 */
+	public static Writer newWriter(File file) throws IOException {
+		return new Writer(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath()))));
+	}
+
+	/**
+	 * Reads the records of the given entry snapshot File, handing the entries and the keys of the tombstones
+	 * to the given consumers in batches of at most the given size.  Records are handed over in file order;
+	 * pending entries are handed over before any subsequent tombstones, and vice versa.
+	 *
+	 * @param <K> the class type of the Region key.
+	 * @param <V> the class type of the Region value.
+	 * @param file the entry snapshot File to read.
+	 * @param batchSize the maximum number of records in each batch.
+	 * @param entries consumer of each batch of entries to put.
+	 * @param tombstones consumer of each batch of keys to remove.
+	 * @throws IOException if the File is not an entry snapshot, is truncated or cannot be read.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> void read(File file, int batchSize, Consumer<Map<K, V>> entries,
+			Consumer<Set<K>> tombstones) throws IOException {
+
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException(String.format("File (%s) is not an entry snapshot", file));
+			}
+
+			byte version = in.readByte();
+
+			if (version != VERSION) {
+				throw new IOException(String.format("Unsupported entry snapshot version [%1$d] in file (%2$s)",
+					version, file));
+			}
+
+			Map<K, V> entryBatch = new HashMap<>();
+			Set<K> tombstoneBatch = new HashSet<>();
+
+			for (byte record = in.readByte(); record != END; record = in.readByte()) {
+				if (record == ENTRY) {
+					flush(tombstoneBatch, tombstones);
+					entryBatch.put(DataSerializer.readObject(in), DataSerializer.readObject(in));
+
+					if (entryBatch.size() >= batchSize) {
+						flush(entryBatch, entries);
+					}
+				}
+				else if (record == TOMBSTONE) {
+					flush(entryBatch, entries);
+					tombstoneBatch.add(DataSerializer.readObject(in));
+
+					if (tombstoneBatch.size() >= batchSize) {
+						flush(tombstoneBatch, tombstones);
+					}
+				}
+				else {
+					throw new IOException(String.format("Invalid record type [%1$d] in entry snapshot (%2$s)",
+						record, file));
+				}
+			}
+
+			flush(entryBatch, entries);
+			flush(tombstoneBatch, tombstones);
+		}
+		catch (ClassNotFoundException cause) {
+			throw new IOException(String.format("Failed to deserialize a record of entry snapshot (%s)", file), cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static <K, V> void flush(Map<K, V> batch, Consumer<Map<K, V>> consumer) {
+		if (!batch.isEmpty()) {
+			consumer.accept(new HashMap<>(batch));
+			batch.clear();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static <K> void flush(Set<K> batch, Consumer<Set<K>> consumer) {
+		if (!batch.isEmpty()) {
+			consumer.accept(new HashSet<>(batch));
+			batch.clear();
+		}
+	}
+
+	/**
+	 * The Writer class streams entry and tombstone records to an entry snapshot file.  Closing the Writer
+	 * writes the end marker.
+	 */
+	public static final class Writer implements Closeable {
+
+		private long count = 0L;
+
+		private final DataOutputStream out;
+
+		Writer(DataOutputStream out) throws IOException {
+			this.out = out;
+			this.out.writeInt(MAGIC);
+			this.out.writeByte(VERSION);
+		}
+
+		/**
+		 * Writes an entry to put into the Region.
+		 *
+		 * @param key the key of the Region entry.
+		 * @param value the value of the Region entry.
+		 * @throws IOException if the entry cannot be written.
+		 */
+		public void writeEntry(Object key, Object value) throws IOException {
+			out.writeByte(ENTRY);
+			DataSerializer.writeObject(key, out);
+			DataSerializer.writeObject(value, out);
+			count++;
+		}
+
+		/**
+		 * Writes a tombstone of an entry to remove from the Region.
+		 *
+		 * @param key the key of the Region entry.
+		 * @throws IOException if the tombstone cannot be written.
+		 */
+		public void writeTombstone(Object key) throws IOException {
+			out.writeByte(TOMBSTONE);
+			DataSerializer.writeObject(key, out);
+			count++;
+		}
+
+		/**
+		 * Returns the number of records written so far.
+		 *
+		 * @return the number of records written so far.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				out.writeByte(END);
+			}
+			finally {
+				out.close();
+			}
+		}
+	}
+}
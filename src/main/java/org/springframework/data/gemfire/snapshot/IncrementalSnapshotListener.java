@@ -0,0 +1,232 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+/**
+ * The IncrementalSnapshotListener class is a GemFire CacheListener tracking the keys of all entries created, updated
+ * or destroyed in a Region since the last snapshot, used to export only the changed entries in an incremental
+ * (delta) snapshot.
+ *
+ * Only changes observed by the local member are tracked, therefore incremental snapshots are best suited
+ * for REPLICATE Regions.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.0.0
+ */
+public class IncrementalSnapshotListener<K, V> extends CacheListenerAdapter<K, V> {
+
+	private final ReadWriteLock changesLock = new ReentrantReadWriteLock();
+
+	private volatile Changes<K> changes = new Changes<>();
+
+	/**
+	 * Atomically returns all changes tracked since the last call to drain, or {@link #reset()}, and begins
+	 * tracking a new set of changes.
+	 *
+	 * @return the Changes tracked since the last drain.
+	 */
+	public Changes<K> drain() {
+		changesLock.writeLock().lock();
+
+		try {
+			Changes<K> drainedChanges = this.changes;
+			this.changes = new Changes<>();
+			return drainedChanges;
+		}
+		finally {
+			changesLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Merges the given, previously drained changes back into the changes currently being tracked, for instance
+	 * after the snapshot export of the drained changes failed.  Changes tracked since the drain take precedence.
+	 *
+	 * @param drainedChanges the Changes previously returned by {@link #drain()}.
+	 */
+	public void restore(Changes<K> drainedChanges) {
+		if (drainedChanges != null) {
+			changesLock.writeLock().lock();
+
+			try {
+				this.changes.merge(drainedChanges);
+			}
+			finally {
+				changesLock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Discards all tracked changes, for instance after the Region has been loaded from a snapshot.
+	 */
+	public void reset() {
+		drain();
+	}
+
+	/* (non-Javadoc) */
+	private void record(K key, boolean updated) {
+		changesLock.readLock().lock();
+
+		try {
+			this.changes.record(key, updated);
+		}
+		finally {
+			changesLock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<K, V> event) {
+		record(event.getKey(), true);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<K, V> event) {
+		record(event.getKey(), true);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<K, V> event) {
+		record(event.getKey(), true);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<K, V> event) {
+		record(event.getKey(), false);
+	}
+
+	@Override
+	public void afterRegionClear(RegionEvent<K, V> event) {
+		changesLock.readLock().lock();
+
+		try {
+			this.changes.clear();
+		}
+		finally {
+			changesLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * The Changes class captures the keys of the Region entries created or updated and destroyed,
+	 * last change wins, along with whether the Region was cleared.
+	 *
+	 * @param <K> the class type of the Region key.
+	 */
+	public static class Changes<K> {
+
+		private volatile boolean cleared = false;
+
+		private final Map<K, Boolean> changedKeys = new ConcurrentHashMap<>();
+
+		/* (non-Javadoc) */
+		void record(K key, boolean updated) {
+			changedKeys.put(key, updated);
+		}
+
+		/* (non-Javadoc) */
+		void clear() {
+			cleared = true;
+			changedKeys.clear();
+		}
+
+		/* (non-Javadoc) */
+		void merge(Changes<K> previousChanges) {
+			if (!isCleared()) {
+				cleared = previousChanges.isCleared();
+				previousChanges.changedKeys.forEach(changedKeys::putIfAbsent);
+			}
+		}
+
+		/**
+		 * Determines whether the Region was cleared, in which case a new baseline snapshot is required.
+		 *
+		 * @return a boolean value indicating whether the Region was cleared.
+		 */
+		public boolean isCleared() {
+			return cleared;
+		}
+
+		/**
+		 * Determines whether no changes were tracked.
+		 *
+		 * @return a boolean value indicating whether no changes were tracked.
+		 */
+		public boolean isEmpty() {
+			return (!isCleared() && changedKeys.isEmpty());
+		}
+
+		/**
+		 * Determines whether the entry with the given key was created or updated.
+		 *
+		 * @param key the key of the Region entry.
+		 * @return a boolean value indicating whether the entry with the given key was created or updated.
+		 */
+		public boolean isUpdated(Object key) {
+			return Boolean.TRUE.equals(changedKeys.get(key));
+		}
+
+		/**
+		 * Gets the keys of all destroyed Region entries.
+		 *
+		 * @return a Set of keys of all destroyed Region entries.
+		 */
+		public Set<K> getDestroyedKeys() {
+			Set<K> destroyedKeys = new HashSet<>();
+
+			changedKeys.forEach((key, updated) -> {
+				if (!updated) {
+					destroyedKeys.add(key);
+				}
+			});
+
+			return Collections.unmodifiableSet(destroyedKeys);
+		}
+
+		/**
+		 * Gets the keys of all created or updated Region entries.
+		 *
+		 * @return a Set of keys of all created or updated Region entries.
+		 */
+		public Set<K> getUpdatedKeys() {
+			Set<K> updatedKeys = new HashSet<>();
+
+			changedKeys.forEach((key, updated) -> {
+				if (updated) {
+					updatedKeys.add(key);
+				}
+			});
+
+			return Collections.unmodifiableSet(updatedKeys);
+		}
+	}
+}
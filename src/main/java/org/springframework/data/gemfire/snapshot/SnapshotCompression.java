@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+/**
+ * The SnapshotCompression enum is an enumeration of the compression codecs supported when writing
+ * GemFire Cache and Region snapshots.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotFile
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public enum SnapshotCompression {
+
+	NONE((byte) 0),
+	GZIP((byte) 1);
+
+	private final byte id;
+
+	SnapshotCompression(byte id) {
+		this.id = id;
+	}
+
+	/**
+	 * Returns the SnapshotCompression identified by the given codec ID as stored in the header
+	 * of a compressed snapshot file.
+	 *
+	 * @param id the codec ID.
+	 * @return the SnapshotCompression identified by the given ID, or {@literal null} if no match was found.
+	 * @see #getId()
+	 */
+	public static SnapshotCompression valueOf(byte id) {
+		for (SnapshotCompression compression : values()) {
+			if (compression.getId() == id) {
+				return compression;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the ID of this codec stored in the header of a compressed snapshot file.
+	 *
+	 * @return the ID of this codec.
+	 */
+	public byte getId() {
+		return id;
+	}
+
+	/**
+	 * Determines whether this codec actually compresses the snapshot.
+	 *
+	 * @return a boolean value indicating whether this codec actually compresses the snapshot.
+	 */
+	public boolean isCompressed() {
+		return !NONE.equals(this);
+	}
+}
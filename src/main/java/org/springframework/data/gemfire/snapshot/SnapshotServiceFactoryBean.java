@@ -20,15 +20,33 @@ import static org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
 
 import java.io.Closeable;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -39,16 +57,22 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
-import org.springframework.util.FileCopyUtils;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -57,26 +81,44 @@ import org.springframework.util.StringUtils;
  * of an appropriate GemFire Snapshot Service to perform data import and exports.  A CacheSnapshotService is created
  * if the Region is not specified, otherwise a RegionSnapshotService is used based on the configured Region.
  *
+ * When configured with a {@link #setParallelism(Integer) parallelism} greater than 1, or an explicit
+ * {@link #setTaskExecutor(Executor) task executor}, the individual snapshots (one per SnapshotMetadata, and one per
+ * Region for Cache-wide snapshots) are imported/exported concurrently.  The progress and throughput of each snapshot
+ * is published as a {@link SnapshotProgressApplicationEvent}.
+ *
  * @author John Blum
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
  * @see org.apache.geode.cache.snapshot.RegionSnapshotService
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotServiceAdapter<K, V>>,
-		InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	private boolean manageTaskExecutor = false;
+
+	private Boolean incremental;
 	private Boolean suppressImportOnInit;
 
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	private Cache cache;
 
+	private Executor taskExecutor;
+
+	private Integer maxDeltas;
+	private Integer parallelism;
+
 	private Region<K, V> region;
 
 	private SnapshotMetadata<K, V>[] exports;
@@ -90,6 +132,11 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		return (configurations != null ? configurations : EMPTY_ARRAY);
 	}
 
+	/* (non-Javadoc) */
+	static File[] nullSafeArray(File[] files) {
+		return (files != null ? files : new File[0]);
+	}
+
 	/* (non-Javadoc) */
 	static boolean nullSafeIsDirectory(File file) {
 		return (file != null && file.isDirectory());
@@ -211,6 +258,140 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		return Boolean.TRUE.equals(suppressImportOnInit);
 	}
 
+	/**
+	 * Sets a boolean condition to indicate whether Region snapshots are taken incrementally.  When incremental,
+	 * the first export writes a full baseline snapshot and each subsequent export writes only the entries created,
+	 * updated or destroyed since the previous export.  Imports apply the baseline followed by the chain of deltas.
+	 *
+	 * The SnapshotMetadata location of an incremental snapshot is a directory.  Only applies to Region snapshots
+	 * and does not support selective exports by key or OQL predicate.
+	 *
+	 * @param incremental a Boolean value to indicate whether Region snapshots are taken incrementally.
+	 * @see org.springframework.data.gemfire.snapshot.IncrementalSnapshotListener
+	 * @see #setMaxDeltas(Integer)
+	 */
+	public void setIncremental(Boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Determines whether Region snapshots are taken incrementally.
+	 *
+	 * @return a boolean value indicating whether Region snapshots are taken incrementally.
+	 * @see #setIncremental(Boolean)
+	 */
+	protected boolean isIncremental() {
+		return Boolean.TRUE.equals(incremental);
+	}
+
+	/**
+	 * Sets the maximum number of deltas exported after a baseline before a new baseline snapshot is exported.
+	 *
+	 * @param maxDeltas an Integer value indicating the maximum length of the chain of deltas; unlimited if unset,
+	 * or set to 0 or less.
+	 * @see #setIncremental(Boolean)
+	 */
+	public void setMaxDeltas(Integer maxDeltas) {
+		this.maxDeltas = maxDeltas;
+	}
+
+	/**
+	 * Gets the maximum number of deltas exported after a baseline before a new baseline snapshot is exported.
+	 *
+	 * @return an int value indicating the maximum length of the chain of deltas; 0 if unlimited.
+	 * @see #setMaxDeltas(Integer)
+	 */
+	protected int getMaxDeltas() {
+		return (maxDeltas != null ? Math.max(maxDeltas, 0) : 0);
+	}
+
+	/**
+	 * Sets the Spring ApplicationEventPublisher used to publish snapshot progress events.
+	 *
+	 * @param applicationEventPublisher the Spring ApplicationEventPublisher used to publish
+	 * SnapshotProgressApplicationEvents.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Gets the Spring ApplicationEventPublisher used to publish snapshot progress events.
+	 *
+	 * @return the Spring ApplicationEventPublisher used to publish SnapshotProgressApplicationEvents.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	protected ApplicationEventPublisher getApplicationEventPublisher() {
+		return applicationEventPublisher;
+	}
+
+	/**
+	 * Sets the maximum number of snapshots imported/exported concurrently.  If unset, or set to 1 or less,
+	 * snapshots are imported/exported serially unless a {@link #setTaskExecutor(Executor) task executor}
+	 * has been configured.
+	 *
+	 * @param parallelism an Integer value indicating the maximum number of concurrent snapshot operations.
+	 * @see #setTaskExecutor(Executor)
+	 */
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Gets the maximum number of snapshots imported/exported concurrently.
+	 *
+	 * @return an int value indicating the maximum number of concurrent snapshot operations; defaults to 1.
+	 * @see #setParallelism(Integer)
+	 */
+	protected int getParallelism() {
+		return (parallelism != null ? Math.max(parallelism, 1) : 1);
+	}
+
+	/**
+	 * Sets the Executor used to import/export snapshots concurrently.  The Executor should be bounded.
+	 * If no Executor is set and the {@link #setParallelism(Integer) parallelism} is greater than 1,
+	 * a fixed-size thread pool is created and managed by this FactoryBean.
+	 *
+	 * @param taskExecutor the Executor used to import/export snapshots concurrently.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Gets the Executor used to import/export snapshots concurrently.
+	 *
+	 * @return the Executor used to import/export snapshots concurrently, or {@literal null}
+	 * if snapshots are imported/exported serially.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected Executor getTaskExecutor() {
+		return taskExecutor;
+	}
+
+	/* (non-Javadoc) */
+	Executor initTaskExecutor() {
+		if (taskExecutor == null && getParallelism() > 1) {
+			taskExecutor = Executors.newFixedThreadPool(getParallelism(), new SnapshotThreadFactory());
+			manageTaskExecutor = true;
+		}
+
+		return taskExecutor;
+	}
+
+	/* (non-Javadoc) */
+	void destroyTaskExecutor() {
+		if (manageTaskExecutor && taskExecutor instanceof ExecutorService) {
+			((ExecutorService) taskExecutor).shutdownNow();
+			taskExecutor = null;
+			manageTaskExecutor = false;
+		}
+	}
+
 	/**
 	 * Gets the reference to the GemFire Snapshot Service created by this FactoryBean.
 	 *
@@ -279,7 +460,55 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	protected SnapshotServiceAdapter create() {
 		Region<K, V> region = getRegion();
-		return (region != null ? wrap(region.getSnapshotService()) : wrap(getCache().getSnapshotService()));
+
+		SnapshotServiceAdapter snapshotServiceAdapter = (region == null ? wrap(getCache().getSnapshotService())
+			: (isIncremental() ? wrapIncremental(region) : wrap(region.getSnapshotService())));
+
+		return configure(snapshotServiceAdapter);
+	}
+
+	/**
+	 * Wraps the GemFire Region's RegionSnapshotService into an Adapter taking incremental snapshots
+	 * of the Region, tracking changes with an IncrementalSnapshotListener registered on the Region.
+	 *
+	 * @param region the GemFire Region to snapshot incrementally.
+	 * @return a SnapshotServiceAdapter taking incremental snapshots of the Region.
+	 * @see SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter
+	 * @see org.springframework.data.gemfire.snapshot.IncrementalSnapshotListener
+	 */
+	protected SnapshotServiceAdapter<K, V> wrapIncremental(Region<K, V> region) {
+		IncrementalSnapshotListener<K, V> listener = new IncrementalSnapshotListener<K, V>();
+
+		region.getAttributesMutator().addCacheListener(listener);
+
+		return new IncrementalRegionSnapshotServiceAdapter<K, V>(region, listener, getMaxDeltas());
+	}
+
+	/**
+	 * Configures the SnapshotServiceAdapter to import/export snapshots concurrently and publish progress events.
+	 *
+	 * @param snapshotServiceAdapter the SnapshotServiceAdapter to configure.
+	 * @return the configured SnapshotServiceAdapter.
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 */
+	protected SnapshotServiceAdapter configure(SnapshotServiceAdapter snapshotServiceAdapter) {
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+			SnapshotServiceAdapterSupport snapshotServiceAdapterSupport =
+				(SnapshotServiceAdapterSupport) snapshotServiceAdapter;
+
+			snapshotServiceAdapterSupport.setApplicationEventPublisher(getApplicationEventPublisher());
+			snapshotServiceAdapterSupport.setRegionPath(getRegion() != null ? getRegion().getFullPath() : null);
+			snapshotServiceAdapterSupport.setTaskExecutor(initTaskExecutor());
+
+			if (snapshotServiceAdapter instanceof CacheSnapshotServiceAdapter) {
+				((CacheSnapshotServiceAdapter) snapshotServiceAdapter).setCache(this.cache);
+			}
+			else if (snapshotServiceAdapter instanceof RegionSnapshotServiceAdapter) {
+				((RegionSnapshotServiceAdapter) snapshotServiceAdapter).setRegion(getRegion());
+			}
+		}
+
+		return snapshotServiceAdapter;
 	}
 
 	/**
@@ -320,7 +549,12 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	@Override
 	public void destroy() throws Exception {
-		getObject().doExport(getExports());
+		try {
+			getObject().doExport(getExports());
+		}
+		finally {
+			destroyTaskExecutor();
+		}
 	}
 
 	/**
@@ -362,7 +596,8 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 * @see SnapshotApplicationEvent
 	 */
 	protected boolean isMatch(SnapshotApplicationEvent event) {
-		return (event.isCacheSnapshotEvent() || event.matches(getRegion()));
+		return (!(event instanceof SnapshotProgressApplicationEvent)
+			&& (event.isCacheSnapshotEvent() || event.matches(getRegion())));
 	}
 
 	/**
@@ -422,10 +657,46 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		protected final Log log = createLog();
 
+		private ApplicationEventPublisher applicationEventPublisher;
+
+		private Executor taskExecutor;
+
+		private final Set<File> extractedArchiveDirectories = ConcurrentHashMap.newKeySet();
+
+		private String regionPath;
+
 		Log createLog() {
 			return LogFactory.getLog(getClass());
 		}
 
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.applicationEventPublisher = applicationEventPublisher;
+		}
+
+		protected ApplicationEventPublisher getApplicationEventPublisher() {
+			return applicationEventPublisher;
+		}
+
+		public void setRegionPath(String regionPath) {
+			this.regionPath = regionPath;
+		}
+
+		protected String getRegionPath() {
+			return regionPath;
+		}
+
+		public void setTaskExecutor(Executor taskExecutor) {
+			this.taskExecutor = taskExecutor;
+		}
+
+		protected Executor getTaskExecutor() {
+			return taskExecutor;
+		}
+
+		protected boolean isParallel() {
+			return (getTaskExecutor() != null);
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			throw new UnsupportedOperationException("not implemented");
@@ -437,18 +708,305 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		@Override
 		public void doExport(SnapshotMetadata<K, V>... configurations) {
+			List<Runnable> exports = new ArrayList<Runnable>();
+
 			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration.getFilter()));
+				addExports(exports, configuration);
 			}
+
+			runAll(exports);
+		}
+
+		/**
+		 * Adds the snapshot operations exporting the given configuration to the List of exports.  All exports
+		 * are run by a single, flat call to {@link #runAll(List)}, so that no operation running on the Executor
+		 * ever waits on other operations queued to the same Executor.
+		 *
+		 * @param exports the List of snapshot operations to which the exports are added.
+		 * @param configuration SnapshotMetadata describing the export.
+		 */
+		protected void addExports(List<Runnable> exports, SnapshotMetadata<K, V> configuration) {
+			exports.add(() -> doExport(configuration));
+		}
+
+		protected void doExport(SnapshotMetadata<K, V> configuration) {
+			trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.EXPORT,
+				() -> exportTo(configuration.getLocation(), configuration.getCompression(), isDirectoryBased(),
+					location -> save(location, configuration.getFormat(), createOptions(configuration.getFilter()))),
+						configuration.getLocation());
 		}
 
 		@Override
 		public void doImport(SnapshotMetadata<K, V>... configurations) {
+			List<Runnable> imports = new ArrayList<Runnable>();
+
 			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
-				load(configuration.getFormat(), createOptions(configuration.getFilter()), handleLocation(configuration));
+				addImports(imports, configuration);
+			}
+
+			runAll(imports);
+		}
+
+		/**
+		 * Adds the snapshot operations importing the given configuration to the List of imports.
+		 *
+		 * @param imports the List of snapshot operations to which the imports are added.
+		 * @param configuration SnapshotMetadata describing the import.
+		 * @see #addExports(List, SnapshotMetadata)
+		 */
+		protected void addImports(List<Runnable> imports, SnapshotMetadata<K, V> configuration) {
+			imports.add(() -> doImport(configuration));
+		}
+
+		protected void doImport(SnapshotMetadata<K, V> configuration) {
+			doImport(configuration, handleLocation(configuration));
+		}
+
+		/* (non-Javadoc) */
+		void doImport(SnapshotMetadata<K, V> configuration, File[] snapshots) {
+			try {
+				trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.IMPORT,
+					() -> importFrom(snapshots, resolvedSnapshots -> load(configuration.getFormat(),
+						createOptions(configuration.getFilter()), resolvedSnapshots)), snapshots);
+			}
+			finally {
+				deleteExtractedSnapshots(snapshots);
+			}
+		}
+
+		/**
+		 * Determines whether the underlying GemFire SnapshotService exports snapshots to a directory
+		 * rather than to a single file.
+		 *
+		 * @return a boolean value indicating whether snapshots are exported to a directory.
+		 */
+		protected boolean isDirectoryBased() {
+			return false;
+		}
+
+		/**
+		 * Exports a snapshot to the given location using the snapshot writer.  When compression is enabled,
+		 * the snapshot is first written by GemFire to a temporary staging directory, after which each snapshot file
+		 * is compressed to the given location.
+		 *
+		 * @param location the File or directory to which the snapshot is exported.
+		 * @param compression the SnapshotCompression codec; may be {@literal null}.
+		 * @param directory a boolean value indicating whether the location is a directory.
+		 * @param snapshotWriter the operation writing the uncompressed snapshot to the given File or directory.
+		 * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotFile#compress(File, File, SnapshotCompression)
+		 */
+		protected void exportTo(File location, SnapshotCompression compression, boolean directory,
+				Consumer<File> snapshotWriter) {
+
+			if (compression == null || !compression.isCompressed()) {
+				snapshotWriter.accept(location);
+			}
+			else {
+				File stagingDirectory = createStagingDirectory();
+
+				try {
+					File stagedLocation = (directory ? stagingDirectory
+						: new File(stagingDirectory, location.getName()));
+
+					snapshotWriter.accept(stagedLocation);
+
+					if (directory) {
+						Assert.state(location.isDirectory() || location.mkdirs(), String.format(
+							"Failed to create directory (%s) in which to export compressed snapshots", location));
+
+						for (File stagedSnapshot : nullSafeArray(handleDirectoryLocation(stagingDirectory))) {
+							compress(stagedSnapshot, new File(location, stagedSnapshot.getName()), compression);
+						}
+					}
+					else {
+						compress(stagedLocation, location, compression);
+					}
+				}
+				finally {
+					deleteStagingDirectory(stagingDirectory);
+				}
 			}
 		}
 
+		/**
+		 * Imports the snapshots using the snapshot reader after decompressing any compressed snapshot
+		 * to a temporary staging directory.  The blocks of a compressed snapshot are decoded in parallel
+		 * on the configured Executor, if any.
+		 *
+		 * @param snapshots the snapshot files to import.
+		 * @param snapshotReader the operation loading the uncompressed snapshot files.
+		 * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotFile#decompress(File, File, Executor)
+		 */
+		protected void importFrom(File[] snapshots, Consumer<File[]> snapshotReader) {
+			File stagingDirectory = null;
+
+			try {
+				File[] resolvedSnapshots = nullSafeArray(snapshots).clone();
+
+				for (int index = 0; index < resolvedSnapshots.length; index++) {
+					File snapshot = resolvedSnapshots[index];
+
+					if (CompressedSnapshotFile.isCompressed(snapshot)) {
+						stagingDirectory = (stagingDirectory != null ? stagingDirectory : createStagingDirectory());
+						resolvedSnapshots[index] = new File(stagingDirectory, snapshot.getName());
+						decompress(snapshot, resolvedSnapshots[index]);
+					}
+				}
+
+				snapshotReader.accept(resolvedSnapshots);
+			}
+			finally {
+				if (stagingDirectory != null) {
+					deleteStagingDirectory(stagingDirectory);
+				}
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void compress(File snapshot, File compressedSnapshot, SnapshotCompression compression) {
+			try {
+				CompressedSnapshotFile.compress(snapshot, compressedSnapshot, compression);
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to compress snapshot (%1$s) to file (%2$s)",
+					snapshot, compressedSnapshot), cause);
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void decompress(File compressedSnapshot, File snapshot) {
+			try {
+				CompressedSnapshotFile.decompress(compressedSnapshot, snapshot, getTaskExecutor());
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to decompress snapshot (%1$s) to file (%2$s)",
+					compressedSnapshot, snapshot), cause);
+			}
+		}
+
+		/* (non-Javadoc) */
+		File createStagingDirectory() {
+			try {
+				return Files.createTempDirectory(TEMPORARY_DIRECTORY.toPath(), "gemfire-snapshot-").toFile();
+			}
+			catch (IOException cause) {
+				throw new IllegalStateException(String.format(
+					"Failed to create staging directory in (%s)", TEMPORARY_DIRECTORY), cause);
+			}
+		}
+
+		/* (non-Javadoc) */
+		void deleteStagingDirectory(File stagingDirectory) {
+			if (!FileSystemUtils.deleteRecursively(stagingDirectory)) {
+				logDebug(null, "Failed to delete staging directory (%s)", stagingDirectory);
+			}
+		}
+
+		/**
+		 * Runs all snapshot operations, concurrently using the configured Executor if present, waiting for all
+		 * operations to complete.  The first failure is rethrown after all operations have completed.
+		 *
+		 * @param operations the List of snapshot operations to run.
+		 */
+		protected void runAll(List<Runnable> operations) {
+			if (!isParallel() || operations.size() < 2) {
+				for (Runnable operation : operations) {
+					operation.run();
+				}
+			}
+			else {
+				List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(operations.size());
+
+				for (Runnable operation : operations) {
+					futures.add(CompletableFuture.runAsync(operation, getTaskExecutor()));
+				}
+
+				RuntimeException failure = null;
+
+				for (CompletableFuture<Void> future : futures) {
+					try {
+						future.join();
+					}
+					catch (CompletionException cause) {
+						if (failure == null) {
+							failure = (cause.getCause() instanceof RuntimeException
+								? (RuntimeException) cause.getCause() : cause);
+						}
+					}
+				}
+
+				if (failure != null) {
+					throw failure;
+				}
+			}
+		}
+
+		/**
+		 * Runs the snapshot operation publishing a SnapshotProgressApplicationEvent when the operation starts
+		 * and when it completes or fails.
+		 *
+		 * @param regionPath absolute pathname of the Region; {@literal null} for Cache-wide snapshots.
+		 * @param configuration SnapshotMetadata describing the snapshot.
+		 * @param operation snapshot Operation (import or export).
+		 * @param snapshotOperation the snapshot operation to run.
+		 * @param snapshots the snapshot files used to determine the size of the snapshot.
+		 */
+		protected void trackProgress(String regionPath, SnapshotMetadata<K, V> configuration,
+				SnapshotProgressApplicationEvent.Operation operation, Runnable snapshotOperation, File... snapshots) {
+
+			long startTime = System.nanoTime();
+
+			publishProgress(regionPath, configuration, operation, SnapshotProgressApplicationEvent.State.STARTED,
+				startTime, null, snapshots);
+
+			try {
+				snapshotOperation.run();
+			}
+			catch (RuntimeException cause) {
+				publishProgress(regionPath, configuration, operation, SnapshotProgressApplicationEvent.State.FAILED,
+					startTime, cause, snapshots);
+
+				throw cause;
+			}
+
+			publishProgress(regionPath, configuration, operation, SnapshotProgressApplicationEvent.State.COMPLETED,
+				startTime, null, snapshots);
+		}
+
+		/* (non-Javadoc) */
+		private void publishProgress(String regionPath, SnapshotMetadata<K, V> configuration,
+				SnapshotProgressApplicationEvent.Operation operation, SnapshotProgressApplicationEvent.State state,
+				long startTime, Throwable cause, File... snapshots) {
+
+			ApplicationEventPublisher eventPublisher = getApplicationEventPublisher();
+
+			if (eventPublisher != null) {
+				long elapsedTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+				long bytes = (SnapshotProgressApplicationEvent.State.STARTED.equals(state)
+					&& SnapshotProgressApplicationEvent.Operation.EXPORT.equals(operation) ? 0L : sizeOf(snapshots));
+
+				eventPublisher.publishEvent(new SnapshotProgressApplicationEvent<K, V>(this, regionPath, configuration,
+					operation, state, bytes, elapsedTimeMillis, cause));
+			}
+		}
+
+		/* (non-Javadoc) */
+		long sizeOf(File... snapshots) {
+			long size = 0L;
+
+			for (File snapshot : (snapshots != null ? snapshots : new File[0])) {
+				if (nullSafeIsDirectory(snapshot)) {
+					size += sizeOf(snapshot.listFiles());
+				}
+				else if (nullSafeIsFile(snapshot)) {
+					size += snapshot.length();
+				}
+			}
+
+			return size;
+		}
+
 		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
 
 		protected File[] handleDirectoryLocation(File directory) {
@@ -459,39 +1017,56 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			});
 		}
 
+		/**
+		 * Resolves the snapshot files to import from the given File.  A JAR or ZIP archive is extracted
+		 * to a staging directory created for this import only, so that concurrent imports of archives
+		 * with the same name never share files.  The extracted snapshots must be released with
+		 * {@link #deleteExtractedSnapshots(File...)} once loaded.
+		 *
+		 * @param file the snapshot File or archive to import.
+		 * @return the snapshot files to import.
+		 * @throws ImportSnapshotException if the archive cannot be extracted.
+		 */
 		protected File[] handleFileLocation(File file) {
 			if (ArchiveFileFilter.INSTANCE.accept(file)) {
-				try {
-					File extractedArchiveDirectory = new File(TEMPORARY_DIRECTORY, file.getName().replaceAll("\\.", "-"));
+				File extractedArchiveDirectory = null;
 
-					Assert.state(extractedArchiveDirectory.isDirectory() || extractedArchiveDirectory.mkdirs(),
-						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
-							extractedArchiveDirectory, file));
+				try {
+					extractedArchiveDirectory = createStagingDirectory();
 
 					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
 						? new JarFile(file, false, JarFile.OPEN_READ)
 							: new ZipFile(file, ZipFile.OPEN_READ));
 
-					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
-						if (!entry.isDirectory()) {
-							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
-
-							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
-								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
-
-							try {
-								FileCopyUtils.copy(entryInputStream, entryOutputStream);
-							}
-							finally {
-								exceptionSuppressingClose(entryInputStream);
-								exceptionSuppressingClose(entryOutputStream);
+					// GemFire only loads snapshots from Files; stream each entry straight to disk
+					try {
+						for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
+							if (!entry.isDirectory()) {
+								InputStream entryInputStream = zipFile.getInputStream(entry);
+
+								try {
+									Files.copy(entryInputStream, new File(extractedArchiveDirectory,
+										toSimpleFilename(entry.getName())).toPath(), StandardCopyOption.REPLACE_EXISTING);
+								}
+								finally {
+									exceptionSuppressingClose(entryInputStream);
+								}
 							}
 						}
 					}
+					finally {
+						exceptionSuppressingClose(zipFile);
+					}
+
+					extractedArchiveDirectories.add(extractedArchiveDirectory);
 
 					return handleDirectoryLocation(extractedArchiveDirectory);
 				}
 				catch (Throwable t) {
+					if (extractedArchiveDirectory != null) {
+						deleteStagingDirectory(extractedArchiveDirectory);
+					}
+
 					throw new ImportSnapshotException(String.format(
 						"Failed to extract archive (%1$s) to import", file), t);
 				}
@@ -500,6 +1075,29 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			return new File[] { file };
 		}
 
+		/**
+		 * Deletes the given snapshot files that were extracted from an archive by
+		 * {@link #handleFileLocation(File)}, along with their staging directory once it is empty.
+		 * Snapshot files that were not extracted from an archive are left untouched.
+		 *
+		 * @param snapshots the imported snapshot files.
+		 */
+		protected void deleteExtractedSnapshots(File... snapshots) {
+			for (File snapshot : nullSafeArray(snapshots)) {
+				File directory = (snapshot != null ? snapshot.getParentFile() : null);
+
+				if (directory != null && extractedArchiveDirectories.contains(directory)) {
+					if (snapshot.exists() && !snapshot.delete()) {
+						logDebug(null, "Failed to delete extracted snapshot (%s)", snapshot);
+					}
+
+					if (directory.delete()) {
+						extractedArchiveDirectories.remove(directory);
+					}
+				}
+			}
+		}
+
 		protected boolean exceptionSuppressingClose(Closeable closeable) {
 			try {
 				closeable.close();
@@ -551,6 +1149,8 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
 
+		private Cache cache;
+
 		private final CacheSnapshotService snapshotService;
 
 		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
@@ -558,10 +1158,121 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			this.snapshotService = snapshotService;
 		}
 
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		protected Cache getCache() {
+			return cache;
+		}
+
 		protected CacheSnapshotService getSnapshotService() {
 			return snapshotService;
 		}
 
+		@Override
+		protected boolean isDirectoryBased() {
+			return true;
+		}
+
+		/**
+		 * Exports each Region in the Cache to a separate snapshot file, concurrently, when configured
+		 * with an Executor and the snapshot location is a directory; otherwise the GemFire CacheSnapshotService
+		 * exports all Regions serially.  The per-Region exports are added directly to the List of exports
+		 * rather than run by a nested {@link #runAll(List)}.
+		 *
+		 * @throws IllegalArgumentException if the SnapshotMetadata selects entries by key or OQL predicate.
+		 */
+		@Override
+		protected void addExports(List<Runnable> exports, SnapshotMetadata<Object, Object> configuration) {
+			Assert.isTrue(!configuration.isSelective(), String.format(
+				"Selective exports [%s] only apply to Region snapshots", configuration.getSelection()));
+
+			Cache cache = getCache();
+
+			if (isParallel() && cache != null && !configuration.isFile()) {
+				File directory = configuration.getLocation();
+
+				Assert.state(directory.isDirectory() || directory.mkdirs(), String.format(
+					"Failed to create directory (%s) in which to export snapshots", directory));
+
+				for (Region<?, ?> rootRegion : cache.rootRegions()) {
+					addRegionExports(exports, rootRegion, configuration);
+				}
+			}
+			else {
+				super.addExports(exports, configuration);
+			}
+		}
+
+		/* (non-Javadoc) */
+		@SuppressWarnings("unchecked")
+		private void addRegionExports(List<Runnable> exports, Region<?, ?> region,
+				SnapshotMetadata<Object, Object> configuration) {
+
+			exports.add(() -> {
+				String regionPath = region.getFullPath();
+
+				// same naming convention used by GemFire's CacheSnapshotService
+				File snapshot = new File(configuration.getLocation(), String.format("snapshot%1$s%2$s",
+					regionPath.replace('/', '-'), RegionSnapshotService.SNAPSHOT_FILE_EXTENSION));
+
+				RegionSnapshotService<Object, Object> regionSnapshotService =
+					(RegionSnapshotService<Object, Object>) region.getSnapshotService();
+
+				trackProgress(regionPath, configuration, SnapshotProgressApplicationEvent.Operation.EXPORT,
+					() -> exportTo(snapshot, configuration.getCompression(), false, location -> {
+						try {
+							SnapshotOptions<Object, Object> options = regionSnapshotService.createOptions();
+							regionSnapshotService.save(location, configuration.getFormat(),
+								options.setFilter(configuration.getFilter()));
+						}
+						catch (Throwable t) {
+							throw new ExportSnapshotException(String.format(
+								"Failed to save snapshot of Region (%1$s) to file (%2$s) in format (%3$s)",
+									regionPath, snapshot, configuration.getFormat()), t);
+						}
+					}), snapshot);
+			});
+
+			for (Region<?, ?> subregion : region.subregions(false)) {
+				addRegionExports(exports, subregion, configuration);
+			}
+		}
+
+		/**
+		 * Imports each snapshot file concurrently when configured with an Executor, otherwise the GemFire
+		 * CacheSnapshotService imports all snapshot files serially.  The per-file imports are added directly
+		 * to the List of imports rather than run by a nested {@link #runAll(List)}.
+		 */
+		@Override
+		protected void addImports(List<Runnable> imports, SnapshotMetadata<Object, Object> configuration) {
+			File[] snapshots = (isParallel() ? handleLocation(configuration) : null);
+
+			if (snapshots != null && snapshots.length > 1) {
+				SnapshotOptions<Object, Object> options = createOptions(configuration.getFilter());
+
+				for (File snapshot : snapshots) {
+					imports.add(() -> {
+						try {
+							trackProgress(null, configuration, SnapshotProgressApplicationEvent.Operation.IMPORT,
+								() -> importFrom(new File[] { snapshot }, resolvedSnapshots ->
+									load(configuration.getFormat(), options, resolvedSnapshots)), snapshot);
+						}
+						finally {
+							deleteExtractedSnapshots(snapshot);
+						}
+					});
+				}
+			}
+			else if (snapshots != null) {
+				imports.add(() -> doImport(configuration, snapshots));
+			}
+			else {
+				super.addImports(imports, configuration);
+			}
+		}
+
 		@Override
 		public SnapshotOptions<Object, Object> createOptions() {
 			return getSnapshotService().createOptions();
@@ -629,6 +1340,10 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	protected static class RegionSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
+		protected static final String SELECTION_QUERY = "SELECT e.key, e.value FROM %1$s.entrySet e WHERE %2$s";
+
+		private Region<K, V> region;
+
 		private final RegionSnapshotService<K, V> snapshotService;
 
 		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService) {
@@ -636,10 +1351,110 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			this.snapshotService = snapshotService;
 		}
 
+		public void setRegion(Region<K, V> region) {
+			this.region = region;
+		}
+
+		protected Region<K, V> getRegion() {
+			return region;
+		}
+
 		protected RegionSnapshotService<K, V> getSnapshotService() {
 			return snapshotService;
 		}
 
+		/**
+		 * Exports only the selected entries when the SnapshotMetadata specifies a key set or an OQL predicate,
+		 * otherwise the GemFire RegionSnapshotService exports all entries of the Region.
+		 */
+		@Override
+		protected void doExport(SnapshotMetadata<K, V> configuration) {
+			if (configuration.isSelective()) {
+				trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.EXPORT,
+					() -> exportTo(configuration.getLocation(), configuration.getCompression(), false,
+						location -> saveSelection(location, configuration)), configuration.getLocation());
+			}
+			else {
+				super.doExport(configuration);
+			}
+		}
+
+		/**
+		 * Saves only the entries selected by the SnapshotMetadata's key set and/or OQL predicate, streaming them
+		 * into an {@link EntrySnapshotFile}, so that the cost of the export is proportional to the size
+		 * of the selection rather than the Region.  With a predicate, the entries are selected by an OQL query
+		 * (using any available Indexes); otherwise each key is looked up, without invoking a CacheLoader.
+		 * The configured SnapshotFilter, if any, is applied to the selected entries.
+		 *
+		 * Entry snapshots are imported by this adapter's {@link #load(SnapshotFormat, SnapshotOptions, File...)}.
+		 *
+		 * @param snapshot the snapshot File to write.
+		 * @param configuration SnapshotMetadata describing the selection.
+		 * @throws ExportSnapshotException if the selection cannot be queried or written.
+		 */
+		@SuppressWarnings("unchecked")
+		protected void saveSelection(File snapshot, SnapshotMetadata<K, V> configuration) {
+			Region<K, V> region = getRegion();
+
+			Assert.state(region != null, "A Region is required to export a selection of entries");
+
+			SnapshotFilter<K, V> filter = configuration.getFilter();
+
+			try (EntrySnapshotFile.Writer writer = EntrySnapshotFile.newWriter(snapshot)) {
+				if (configuration.isPredicatePresent()) {
+					for (Object result : selectByPredicate(region, configuration)) {
+						Object[] keyValue = ((Struct) result).getFieldValues();
+						writeSelectedEntry(writer, (K) keyValue[0], (V) keyValue[1], filter);
+					}
+				}
+				else {
+					for (K key : configuration.getKeys()) {
+						Region.Entry<K, V> entry = region.getEntry(key);
+
+						if (entry != null) {
+							writeSelectedEntry(writer, key, entry.getValue(), filter);
+						}
+					}
+				}
+			}
+			catch (Exception cause) {
+				// never leave a partial, yet well-formed, entry snapshot behind
+				if (snapshot.exists() && !snapshot.delete()) {
+					logDebug(null, "Failed to delete partial snapshot (%s)", snapshot);
+				}
+
+				throw new ExportSnapshotException(String.format("Failed to export entries (%1$s) of Region (%2$s)"
+					+ " to file (%3$s)", configuration.getSelection(), region.getFullPath(), snapshot), cause);
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void writeSelectedEntry(EntrySnapshotFile.Writer writer, K key, V value, SnapshotFilter<K, V> filter)
+				throws IOException {
+
+			if (value != null && (filter == null
+					|| filter.accept(new AbstractMap.SimpleImmutableEntry<K, V>(key, value)))) {
+
+				writer.writeEntry(key, value);
+			}
+		}
+
+		/* (non-Javadoc) */
+		SelectResults<?> selectByPredicate(Region<K, V> region, SnapshotMetadata<K, V> configuration)
+				throws Exception {
+
+			QueryService queryService = region.getRegionService().getQueryService();
+
+			if (configuration.isKeysPresent()) {
+				return (SelectResults<?>) queryService.newQuery(String.format(SELECTION_QUERY, region.getFullPath(),
+					String.format("e.key IN $1 AND (%s)", configuration.getPredicate())))
+						.execute(configuration.getKeys());
+			}
+
+			return (SelectResults<?>) queryService.newQuery(String.format(SELECTION_QUERY, region.getFullPath(),
+				configuration.getPredicate())).execute();
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			return getSnapshotService().createOptions();
@@ -650,8 +1465,43 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			return new File[] { configuration.getLocation() };
 		}
 
+		/**
+		 * Loads the entries of an {@link EntrySnapshotFile}, written by a selective export or as a delta,
+		 * into the Region in batches, putting the entries accepted by the SnapshotFilter
+		 * and removing the entries of the tombstones.
+		 *
+		 * @param snapshot the entry snapshot File to load.
+		 * @param filter the SnapshotFilter selecting the entries to load; may be {@literal null}.
+		 * @throws ImportSnapshotException if the entry snapshot cannot be read.
+		 */
+		protected void loadEntries(File snapshot, SnapshotFilter<K, V> filter) {
+			Region<K, V> region = getRegion();
+
+			Assert.state(region != null, "A Region is required to import an entry snapshot");
+
+			try {
+				EntrySnapshotFile.<K, V>read(snapshot, EntrySnapshotFile.DEFAULT_BATCH_SIZE, entries -> {
+					if (filter != null) {
+						entries.entrySet().removeIf(entry -> !filter.accept(entry));
+					}
+
+					if (!entries.isEmpty()) {
+						region.putAll(entries);
+					}
+				}, region::removeAll);
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read entry snapshot (%s)", snapshot), cause);
+			}
+		}
+
 		@Override
 		public void load(File snapshot, SnapshotFormat format) {
+			if (EntrySnapshotFile.isEntrySnapshot(snapshot)) {
+				loadEntries(snapshot, null);
+				return;
+			}
+
 			try {
 				getSnapshotService().load(snapshot, format);
 			}
@@ -666,7 +1516,12 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
 			try {
 				for (File snapshot : snapshots) {
-					getSnapshotService().load(snapshot, format, options);
+					if (EntrySnapshotFile.isEntrySnapshot(snapshot)) {
+						loadEntries(snapshot, options.getFilter());
+					}
+					else {
+						getSnapshotService().load(snapshot, format, options);
+					}
 				}
 			}
 			catch (Throwable t) {
@@ -701,6 +1556,288 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		}
 	}
 
+	/**
+	 * The IncrementalRegionSnapshotServiceAdapter is a RegionSnapshotServiceAdapter exporting a baseline snapshot
+	 * followed by a chain of delta snapshots containing only the entries changed since the previous export.
+	 *
+	 * Each baseline starts a new generation; older generations are only deleted once the new baseline
+	 * has been successfully written.  A delta is an {@link EntrySnapshotFile} containing the created and updated
+	 * entries, looked up by key without invoking a CacheLoader, along with tombstones for the destroyed entries
+	 * and for changed entries that are now invalid or rejected by the SnapshotFilter.  Every snapshot is first
+	 * written to a temporary file and then atomically renamed, so that a failed export never leaves a partial
+	 * snapshot behind.
+	 *
+	 * @see SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter
+	 * @see org.springframework.data.gemfire.snapshot.IncrementalSnapshotListener
+	 */
+	protected static class IncrementalRegionSnapshotServiceAdapter<K, V> extends RegionSnapshotServiceAdapter<K, V> {
+
+		protected static final String DELTA_FILE_EXTENSION = ".delta";
+		protected static final String TEMPORARY_FILENAME_PREFIX = "tmp-";
+
+		protected static final Pattern SNAPSHOT_FILENAME_PATTERN =
+			Pattern.compile("snapshot-g(\\d+)(?:-d(\\d+)\\.delta|\\.gfd)");
+
+		private volatile boolean synchronizedWithSnapshot = false;
+
+		private final int maxDeltas;
+
+		private final IncrementalSnapshotListener<K, V> listener;
+
+		public IncrementalRegionSnapshotServiceAdapter(Region<K, V> region, IncrementalSnapshotListener<K, V> listener,
+				int maxDeltas) {
+
+			super(region.getSnapshotService());
+
+			Assert.notNull(listener, "IncrementalSnapshotListener must not be null");
+
+			this.listener = listener;
+			this.maxDeltas = maxDeltas;
+
+			setRegion(region);
+		}
+
+		protected IncrementalSnapshotListener<K, V> getListener() {
+			return listener;
+		}
+
+		protected int getMaxDeltas() {
+			return maxDeltas;
+		}
+
+		/**
+		 * Exports a baseline snapshot or a delta snapshot of the entries changed since the previous export.
+		 * When the export fails, the drained changes are merged back into the IncrementalSnapshotListener
+		 * and the next export writes a new baseline.
+		 *
+		 * @throws IllegalArgumentException if the SnapshotMetadata selects entries by key or OQL predicate.
+		 */
+		@Override
+		protected synchronized void doExport(SnapshotMetadata<K, V> configuration) {
+			Assert.isTrue(!configuration.isSelective(), String.format(
+				"Selective exports [%s] are not supported by incremental snapshots", configuration.getSelection()));
+
+			File directory = configuration.getLocation();
+
+			Assert.state(directory.isDirectory() || directory.mkdirs(), String.format(
+				"Failed to create directory (%s) in which to export incremental snapshots", directory));
+
+			IncrementalSnapshotListener.Changes<K> changes = getListener().drain();
+
+			try {
+				int generation = latestGeneration(directory);
+
+				List<File> deltas = listDeltas(directory, generation);
+
+				boolean baselineRequired = (generation == 0 || !synchronizedWithSnapshot || changes.isCleared()
+					|| (getMaxDeltas() > 0 && deltas.size() >= getMaxDeltas()));
+
+				if (baselineRequired) {
+					File baseline = toBaselineFile(directory, generation + 1);
+
+					trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.EXPORT,
+						() -> exportAtomically(baseline, configuration.getCompression(), location -> save(location,
+							configuration.getFormat(), createOptions(configuration.getFilter()))), baseline);
+
+					synchronizedWithSnapshot = true;
+					deletePreviousGenerations(directory, generation + 1);
+				}
+				else if (!changes.isEmpty()) {
+					File delta = toDeltaFile(directory, generation, deltas.size() + 1);
+
+					trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.EXPORT,
+						() -> exportAtomically(delta, configuration.getCompression(), location -> writeDelta(location,
+							changes.getUpdatedKeys(), changes.getDestroyedKeys(), configuration.getFilter())), delta);
+				}
+			}
+			catch (RuntimeException cause) {
+				getListener().restore(changes);
+				synchronizedWithSnapshot = false;
+				throw cause;
+			}
+		}
+
+		/**
+		 * Writes the snapshot to a temporary file in the same directory, which is atomically renamed
+		 * to the given snapshot file on success and deleted on failure.
+		 *
+		 * @param snapshot the snapshot File to write.
+		 * @param compression the SnapshotCompression codec; may be {@literal null}.
+		 * @param snapshotWriter the operation writing the uncompressed snapshot to the given File.
+		 * @throws ExportSnapshotException if the temporary file cannot be renamed.
+		 */
+		protected void exportAtomically(File snapshot, SnapshotCompression compression,
+				Consumer<File> snapshotWriter) {
+
+			File temporarySnapshot = new File(snapshot.getParentFile(),
+				TEMPORARY_FILENAME_PREFIX.concat(snapshot.getName()));
+
+			try {
+				exportTo(temporarySnapshot, compression, false, snapshotWriter);
+				Files.move(temporarySnapshot.toPath(), snapshot.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to rename snapshot (%1$s) to file (%2$s)",
+					temporarySnapshot, snapshot), cause);
+			}
+			finally {
+				if (temporarySnapshot.exists() && !temporarySnapshot.delete()) {
+					logDebug(null, "Failed to delete temporary snapshot (%s)", temporarySnapshot);
+				}
+			}
+		}
+
+		/**
+		 * Returns the current value of the Region entry with the given key, without invoking a CacheLoader.
+		 *
+		 * @param key the key of the Region entry.
+		 * @return the current value, or {@literal null} if the entry does not exist or is invalid.
+		 */
+		protected V peek(K key) {
+			Region.Entry<K, V> entry = getRegion().getEntry(key);
+			return (entry != null ? entry.getValue() : null);
+		}
+
+		@Override
+		protected synchronized void doImport(SnapshotMetadata<K, V> configuration) {
+			File directory = configuration.getLocation();
+
+			int generation = latestGeneration(directory);
+
+			if (generation > 0) {
+				File baseline = toBaselineFile(directory, generation);
+				List<File> deltas = listDeltas(directory, generation);
+				File[] snapshots = toArray(baseline, deltas);
+
+				trackProgress(getRegionPath(), configuration, SnapshotProgressApplicationEvent.Operation.IMPORT, () -> {
+					SnapshotOptions<K, V> options = createOptions(configuration.getFilter());
+
+					importFrom(new File[] { baseline }, resolvedSnapshots -> load(configuration.getFormat(), options,
+						resolvedSnapshots));
+
+					for (File delta : deltas) {
+						importFrom(new File[] { delta }, resolvedSnapshots -> applyDelta(resolvedSnapshots[0],
+							configuration.getFilter()));
+					}
+				}, snapshots);
+
+				getListener().reset();
+				synchronizedWithSnapshot = true;
+			}
+			else if (nullSafeIsFile(directory)) {
+				super.doImport(configuration);
+			}
+		}
+
+		/* (non-Javadoc) */
+		void applyDelta(File delta, SnapshotFilter<K, V> filter) {
+			loadEntries(delta, filter);
+		}
+
+		/* (non-Javadoc) */
+		void deletePreviousGenerations(File directory, int currentGeneration) {
+			for (File file : nullSafeListFiles(directory)) {
+				Matcher matcher = SNAPSHOT_FILENAME_PATTERN.matcher(file.getName());
+
+				if (matcher.matches() && Integer.parseInt(matcher.group(1)) < currentGeneration && !file.delete()) {
+					logDebug(null, "Failed to delete snapshot (%1$s) of a previous generation", file);
+				}
+			}
+		}
+
+		/* (non-Javadoc) */
+		int latestGeneration(File directory) {
+			int generation = 0;
+
+			for (File file : nullSafeListFiles(directory)) {
+				Matcher matcher = SNAPSHOT_FILENAME_PATTERN.matcher(file.getName());
+
+				if (matcher.matches() && matcher.group(2) == null) {
+					generation = Math.max(generation, Integer.parseInt(matcher.group(1)));
+				}
+			}
+
+			return generation;
+		}
+
+		/* (non-Javadoc) */
+		List<File> listDeltas(File directory, int generation) {
+			List<File> deltas = new ArrayList<File>();
+
+			for (int delta = 1; toDeltaFile(directory, generation, delta).isFile(); delta++) {
+				deltas.add(toDeltaFile(directory, generation, delta));
+			}
+
+			return deltas;
+		}
+
+		/* (non-Javadoc) */
+		File[] nullSafeListFiles(File directory) {
+			File[] files = (nullSafeIsDirectory(directory) ? directory.listFiles() : null);
+			return (files != null ? files : new File[0]);
+		}
+
+		/* (non-Javadoc) */
+		File toBaselineFile(File directory, int generation) {
+			return new File(directory, String.format("snapshot-g%1$05d%2$s", generation,
+				RegionSnapshotService.SNAPSHOT_FILE_EXTENSION));
+		}
+
+		/* (non-Javadoc) */
+		File toDeltaFile(File directory, int generation, int delta) {
+			return new File(directory, String.format("snapshot-g%1$05d-d%2$05d%3$s", generation, delta,
+				DELTA_FILE_EXTENSION));
+		}
+
+		/* (non-Javadoc) */
+		private File[] toArray(File baseline, List<File> deltas) {
+			List<File> snapshots = new ArrayList<File>(deltas.size() + 1);
+
+			snapshots.add(baseline);
+			snapshots.addAll(deltas);
+
+			return snapshots.toArray(new File[snapshots.size()]);
+		}
+
+		/**
+		 * Writes a delta snapshot streaming the current value of each updated key, read without invoking
+		 * a CacheLoader.  Updated keys whose entry is now invalid or rejected by the SnapshotFilter are written
+		 * as tombstones, like the destroyed keys, so that applying the delta never restores a stale baseline value.
+		 *
+		 * @param delta the delta snapshot File to write.
+		 * @param updatedKeys the keys of the entries created or updated since the previous export.
+		 * @param destroyedKeys the keys of the entries destroyed since the previous export.
+		 * @param filter the SnapshotFilter selecting the entries to export; may be {@literal null}.
+		 * @throws ExportSnapshotException if the delta cannot be written.
+		 */
+		protected void writeDelta(File delta, Set<K> updatedKeys, Set<K> destroyedKeys, SnapshotFilter<K, V> filter) {
+			try (EntrySnapshotFile.Writer writer = EntrySnapshotFile.newWriter(delta)) {
+				Set<K> removedKeys = new HashSet<K>(destroyedKeys);
+
+				for (K key : updatedKeys) {
+					V value = peek(key);
+
+					if (value != null && (filter == null
+							|| filter.accept(new AbstractMap.SimpleImmutableEntry<K, V>(key, value)))) {
+
+						writer.writeEntry(key, value);
+					}
+					else {
+						removedKeys.add(key);
+					}
+				}
+
+				// tombstones last, so that imports remove them in as few batches as possible
+				for (K key : removedKeys) {
+					writer.writeTombstone(key);
+				}
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to write delta snapshot (%s)", delta), cause);
+			}
+		}
+	}
+
 	/**
 	 * The SnapshotMetadata class encapsulates details of the GemFire Cache or Region data snapshot
 	 * on either import or export.
@@ -716,16 +1853,33 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		private final SnapshotFormat format;
 
+		private final SnapshotCompression compression;
+
+		private Collection<K> keys;
+
+		private String predicate;
+
 		public SnapshotMetadata(File location, SnapshotFormat format) {
 			this(location, null, format);
 		}
 
+		public SnapshotMetadata(File location, SnapshotFormat format, SnapshotCompression compression) {
+			this(location, null, format, compression);
+		}
+
 		public SnapshotMetadata(File location, SnapshotFilter<K, V> filter, SnapshotFormat format) {
+			this(location, filter, format, null);
+		}
+
+		public SnapshotMetadata(File location, SnapshotFilter<K, V> filter, SnapshotFormat format,
+				SnapshotCompression compression) {
+
 			Assert.notNull(location, "Location must not be null");
 
 			this.location = location;
 			this.filter = filter;
 			this.format = format;
+			this.compression = compression;
 		}
 
 		public boolean isDirectory() {
@@ -752,10 +1906,91 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			return (format != null ? format : SnapshotFormat.GEMFIRE);
 		}
 
+		public boolean isCompressed() {
+			return getCompression().isCompressed();
+		}
+
+		public SnapshotCompression getCompression() {
+			return (compression != null ? compression : SnapshotCompression.NONE);
+		}
+
+		/**
+		 * Restricts a Region snapshot export to the entries with the given keys.  Cache-wide and incremental
+		 * snapshot exports reject a selection.  A selection is written as an {@link EntrySnapshotFile},
+		 * which is imported by the Region SnapshotServiceAdapter rather than GemFire's RegionSnapshotService.
+		 *
+		 * @param keys the keys of the Region entries to export.
+		 * @return this SnapshotMetadata.
+		 */
+		public SnapshotMetadata<K, V> withKeys(Collection<K> keys) {
+			this.keys = keys;
+			return this;
+		}
+
+		/**
+		 * Restricts a Region snapshot export to the entries matching the given OQL predicate, which is evaluated
+		 * by the GemFire query engine using any available Indexes.  The predicate refers to the Region entry
+		 * as {@literal e}, for example: {@literal e.value.tenantId = 'acme'}.
+		 *
+		 * @param predicate the OQL predicate selecting the Region entries to export.
+		 * @return this SnapshotMetadata.
+		 */
+		public SnapshotMetadata<K, V> withPredicate(String predicate) {
+			this.predicate = predicate;
+			return this;
+		}
+
+		public boolean isKeysPresent() {
+			return (keys != null);
+		}
+
+		public Collection<K> getKeys() {
+			return (keys != null ? keys : Collections.<K>emptyList());
+		}
+
+		public boolean isPredicatePresent() {
+			return StringUtils.hasText(predicate);
+		}
+
+		public String getPredicate() {
+			return predicate;
+		}
+
+		public boolean isSelective() {
+			return (isKeysPresent() || isPredicatePresent());
+		}
+
+		/* (non-Javadoc) */
+		String getSelection() {
+			return (isPredicatePresent() ? (isKeysPresent() ? String.format("keys %1$s and %2$s", getKeys(),
+				getPredicate()) : getPredicate()) : String.format("keys %s", getKeys()));
+		}
+
 		@Override
 		public String toString() {
-			return String.format("{ @type = %1$s, location = %2$s, filter = %2$s, format = %4$s }",
-				getClass().getName(), getLocation().getAbsolutePath(), getFilter(), getFormat());
+			return String.format("{ @type = %1$s, location = %2$s, filter = %3$s, format = %4$s, compression = %5$s }",
+				getClass().getName(), getLocation().getAbsolutePath(), getFilter(), getFormat(), getCompression());
+		}
+	}
+
+	/**
+	 * The SnapshotThreadFactory class is a Java ThreadFactory creating daemon Threads used to import/export
+	 * snapshots concurrently.
+	 *
+	 * @see java.util.concurrent.ThreadFactory
+	 */
+	protected static final class SnapshotThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, String.format("GemFire-Snapshot-Thread-%d",
+				threadCount.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
 		}
 	}
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SnapshotProgressApplicationEvent class is a Spring ApplicationEvent reporting the progress of an individual
+ * GemFire Cache or Region snapshot import/export.  Unlike the other SnapshotApplicationEvents, this event is published
+ * by the SnapshotServiceFactoryBean and does not trigger a snapshot to occur.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotProgressApplicationEvent<K, V> extends SnapshotApplicationEvent<K, V> {
+
+	private final long bytes;
+	private final long elapsedTimeMillis;
+
+	private final Operation operation;
+
+	private final State state;
+
+	private final Throwable cause;
+
+	/**
+	 * Constructs an instance of SnapshotProgressApplicationEvent initialized with an event source, the pathname
+	 * of the Region (or {@literal null} for Cache-wide snapshots), details of the snapshot along with
+	 * the snapshot operation, state, size in bytes and elapsed time.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param snapshotMetadata SnapshotMetadata describing the snapshot.
+	 * @param operation snapshot Operation (import or export).
+	 * @param state State of the snapshot operation.
+	 * @param bytes size of the snapshot in bytes; 0 if unknown.
+	 * @param elapsedTimeMillis time in milliseconds since the snapshot operation started.
+	 * @param cause Throwable causing the snapshot operation to fail; {@literal null} unless {@link State#FAILED}.
+	 */
+	@SuppressWarnings("unchecked")
+	public SnapshotProgressApplicationEvent(Object source, String regionPath, SnapshotMetadata<K, V> snapshotMetadata,
+			Operation operation, State state, long bytes, long elapsedTimeMillis, Throwable cause) {
+
+		super(source, regionPath, snapshotMetadata);
+
+		this.operation = operation;
+		this.state = state;
+		this.bytes = bytes;
+		this.elapsedTimeMillis = elapsedTimeMillis;
+		this.cause = cause;
+	}
+
+	/**
+	 * Gets the size in bytes of the snapshot, or 0 if unknown.
+	 *
+	 * @return the size in bytes of the snapshot.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Gets the Throwable causing the snapshot operation to fail.
+	 *
+	 * @return the Throwable causing the snapshot operation to fail, or {@literal null}.
+	 */
+	public Throwable getCause() {
+		return cause;
+	}
+
+	/**
+	 * Gets the time in milliseconds since the snapshot operation started.
+	 *
+	 * @return the elapsed time in milliseconds.
+	 */
+	public long getElapsedTimeMillis() {
+		return elapsedTimeMillis;
+	}
+
+	/**
+	 * Gets the snapshot Operation (import or export) in progress.
+	 *
+	 * @return the snapshot Operation.
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Gets the State of the snapshot operation.
+	 *
+	 * @return the State of the snapshot operation.
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Computes the throughput of the snapshot operation in bytes per second.
+	 *
+	 * @return the throughput in bytes per second, or 0 if the size or elapsed time is not known.
+	 */
+	public double getThroughputBytesPerSecond() {
+		return (bytes > 0 && elapsedTimeMillis > 0
+			? (bytes / (double) elapsedTimeMillis) * TimeUnit.SECONDS.toMillis(1) : 0.0d);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, regionPath = %2$s, operation = %3$s, state = %4$s, bytes = %5$d,"
+				+ " elapsedTimeMillis = %6$d }", getClass().getName(), getRegionPath(), getOperation(), getState(),
+			getBytes(), getElapsedTimeMillis());
+	}
+
+	/**
+	 * Operation is an enumeration of snapshot operations.
+	 */
+	public enum Operation {
+		EXPORT,
+		IMPORT
+	}
+
+	/**
+	 * State is an enumeration of the states of a snapshot operation.
+	 */
+	public enum State {
+		STARTED,
+		COMPLETED,
+		FAILED
+	}
+
+}
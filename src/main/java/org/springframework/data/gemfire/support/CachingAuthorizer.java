@@ -0,0 +1,548 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.apache.shiro.authz.AuthorizationException;
+import org.apache.shiro.authz.Authorizer;
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.UnauthorizedException;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link CachingAuthorizer} class is an Apache Shiro {@link Authorizer} caching the permission decisions
+ * of a delegate {@link Authorizer} (e.g. the {@link org.apache.shiro.authz.ModularRealmAuthorizer} consulting
+ * the configured {@link org.apache.shiro.realm.Realm Realms}) per principal and permission, such as the
+ * {@link org.apache.geode.security.ResourcePermission} checked by Apache Geode for each data access
+ * and administrative operation.
+ *
+ * Decisions are held in a {@link ConcurrentHashMap} so that concurrent permission checks do not contend
+ * on a single lock.  Each decision expires after the configured time-to-live.  When more than {@code maxEntries}
+ * decisions are cached, a single thread evicts the expired decisions and then arbitrary decisions until
+ * the cache is a tenth below {@code maxEntries}; eviction is therefore coarse rather than least recently used.
+ * Decisions are invalidated explicitly with {@link #invalidate()} or {@link #invalidate(PrincipalCollection)},
+ * for instance, when the permissions of a user change, and caching can be turned off at runtime
+ * with {@link #setEnabled(boolean)}.  Role checks are not cached.
+ *
+ * The {@link CachingAuthorizer} also records the number and latency of permission checks.
+ *
+ * @author John Blum
+ * @see org.apache.shiro.authz.Authorizer
+ * @see org.apache.shiro.authz.Permission
+ * @see org.apache.shiro.subject.PrincipalCollection
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class CachingAuthorizer implements Authorizer {
+
+	private volatile boolean enabled = true;
+
+	private volatile int maxEntries;
+
+	private volatile long timeToLive;
+
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+	private final AtomicLong authorizationCount = new AtomicLong(0L);
+	private final AtomicLong authorizationTime = new AtomicLong(0L);
+	private final AtomicLong hits = new AtomicLong(0L);
+	private final AtomicLong maxAuthorizationTime = new AtomicLong(0L);
+	private final AtomicLong misses = new AtomicLong(0L);
+
+	private final Authorizer authorizer;
+
+	private final ConcurrentMap<CacheKey, CacheEntry> decisions = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs an instance of {@link CachingAuthorizer} caching the permission decisions
+	 * of the given {@link Authorizer}.
+	 *
+	 * @param authorizer delegate {@link Authorizer}; must not be {@literal null}.
+	 * @param maxEntries maximum number of permission decisions cached; must be greater than 0.
+	 * @param timeToLive duration for which permission decisions are cached; must be greater than 0.
+	 * @param timeUnit {@link TimeUnit} of the {@code timeToLive}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Authorizer} or {@link TimeUnit} is {@literal null},
+	 * or {@code maxEntries} or {@code timeToLive} is less than 1.
+	 */
+	public CachingAuthorizer(Authorizer authorizer, int maxEntries, long timeToLive, TimeUnit timeUnit) {
+
+		Assert.notNull(authorizer, "Authorizer must not be null");
+
+		this.authorizer = authorizer;
+
+		setMaxEntries(maxEntries);
+		setTimeToLive(timeToLive, timeUnit);
+	}
+
+	/**
+	 * Returns the delegate {@link Authorizer} whose permission decisions are cached.
+	 *
+	 * @return the delegate {@link Authorizer}.
+	 */
+	public Authorizer getAuthorizer() {
+		return this.authorizer;
+	}
+
+	/**
+	 * Enables or disables caching of permission decisions.  Disabling caching invalidates all cached decisions
+	 * and delegates every permission check to the {@link Authorizer}.
+	 *
+	 * @param enabled boolean indicating whether permission decisions are cached.
+	 */
+	public void setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+
+		if (!enabled) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Determines whether permission decisions are cached.
+	 *
+	 * @return a boolean value indicating whether permission decisions are cached.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Sets the maximum number of permission decisions cached.
+	 *
+	 * @param maxEntries maximum number of permission decisions cached; must be greater than 0.
+	 * @throws IllegalArgumentException if {@code maxEntries} is less than 1.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, String.format("Max entries [%d] must be greater than 0", maxEntries));
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the maximum number of permission decisions cached.
+	 *
+	 * @return the maximum number of permission decisions cached.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Sets the duration for which permission decisions are cached.  Decisions already cached keep
+	 * the time-to-live with which they were cached.
+	 *
+	 * @param timeToLive duration for which permission decisions are cached; must be greater than 0.
+	 * @param timeUnit {@link TimeUnit} of the {@code timeToLive}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link TimeUnit} is {@literal null}
+	 * or {@code timeToLive} is less than 1.
+	 */
+	public void setTimeToLive(long timeToLive, TimeUnit timeUnit) {
+		Assert.notNull(timeUnit, "TimeUnit must not be null");
+		Assert.isTrue(timeToLive > 0, String.format("Time-to-live [%d] must be greater than 0", timeToLive));
+		this.timeToLive = timeUnit.toNanos(timeToLive);
+	}
+
+	/**
+	 * Returns the duration for which permission decisions are cached.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned duration.
+	 * @return the time-to-live of cached permission decisions.
+	 */
+	public long getTimeToLive(TimeUnit timeUnit) {
+		return timeUnit.convert(this.timeToLive, TimeUnit.NANOSECONDS);
+	}
+
+	/* (non-Javadoc) */
+	boolean isPermittedCached(PrincipalCollection principals, Object permission, BooleanSupplier authorization) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			if (!isEnabled()) {
+				return authorization.getAsBoolean();
+			}
+
+			CacheKey key = new CacheKey(principals, permission);
+
+			CacheEntry entry = this.decisions.get(key);
+
+			if (entry != null && !entry.isExpired(startTime)) {
+				this.hits.incrementAndGet();
+				return entry.isPermitted();
+			}
+
+			this.misses.incrementAndGet();
+
+			boolean permitted = authorization.getAsBoolean();
+
+			this.decisions.put(key, new CacheEntry(permitted, startTime + this.timeToLive));
+
+			evictIfNecessary(startTime);
+
+			return permitted;
+		}
+		finally {
+			recordAuthorizationTime(System.nanoTime() - startTime);
+		}
+	}
+
+	/* (non-Javadoc) */
+	void evictIfNecessary(long currentTime) {
+
+		int maxEntries = getMaxEntries();
+
+		if (this.decisions.size() > maxEntries && this.evicting.compareAndSet(false, true)) {
+			try {
+				this.decisions.values().removeIf(entry -> entry.isExpired(currentTime));
+
+				int excess = this.decisions.size() - (maxEntries - maxEntries / 10);
+
+				for (Iterator<CacheKey> keys = this.decisions.keySet().iterator(); excess > 0 && keys.hasNext();
+						excess--) {
+
+					keys.next();
+					keys.remove();
+				}
+			}
+			finally {
+				this.evicting.set(false);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void recordAuthorizationTime(long elapsedTime) {
+
+		this.authorizationCount.incrementAndGet();
+		this.authorizationTime.addAndGet(elapsedTime);
+		this.maxAuthorizationTime.accumulateAndGet(elapsedTime, Math::max);
+	}
+
+	/**
+	 * Invalidates all cached permission decisions.
+	 */
+	public void invalidate() {
+		this.decisions.clear();
+	}
+
+	/**
+	 * Invalidates the cached permission decisions of the given principals.
+	 *
+	 * @param principals {@link PrincipalCollection} identifying the user whose permission decisions are invalidated.
+	 */
+	public void invalidate(PrincipalCollection principals) {
+		this.decisions.keySet().removeIf(key -> ObjectUtils.nullSafeEquals(key.principals, principals));
+	}
+
+	/**
+	 * Returns the number of permission decisions currently cached.
+	 *
+	 * @return the number of permission decisions currently cached.
+	 */
+	public int size() {
+		return this.decisions.size();
+	}
+
+	/**
+	 * Returns the number of permission checks performed.
+	 *
+	 * @return the number of permission checks performed.
+	 */
+	public long getAuthorizationCount() {
+		return this.authorizationCount.get();
+	}
+
+	/**
+	 * Returns the average time taken by a permission check, including cache hits.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned duration.
+	 * @return the average time taken by a permission check.
+	 */
+	public long getAverageAuthorizationTime(TimeUnit timeUnit) {
+
+		long count = getAuthorizationCount();
+
+		return (count > 0 ? timeUnit.convert(this.authorizationTime.get() / count, TimeUnit.NANOSECONDS) : 0L);
+	}
+
+	/**
+	 * Returns the maximum time taken by a permission check.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned duration.
+	 * @return the maximum time taken by a permission check.
+	 */
+	public long getMaxAuthorizationTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxAuthorizationTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of permission checks answered from the cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Returns the number of permission checks delegated to the {@link Authorizer}.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPermitted(PrincipalCollection principals, String permission) {
+		return isPermittedCached(principals, permission, () -> getAuthorizer().isPermitted(principals, permission));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPermitted(PrincipalCollection principals, Permission permission) {
+		return isPermittedCached(principals, permission, () -> getAuthorizer().isPermitted(principals, permission));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean[] isPermitted(PrincipalCollection principals, String... permissions) {
+
+		boolean[] permitted = new boolean[permissions.length];
+
+		for (int index = 0; index < permissions.length; index++) {
+			permitted[index] = isPermitted(principals, permissions[index]);
+		}
+
+		return permitted;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean[] isPermitted(PrincipalCollection principals, List<Permission> permissions) {
+
+		boolean[] permitted = new boolean[permissions.size()];
+
+		int index = 0;
+
+		for (Permission permission : permissions) {
+			permitted[index++] = isPermitted(principals, permission);
+		}
+
+		return permitted;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPermittedAll(PrincipalCollection principals, String... permissions) {
+
+		for (String permission : permissions) {
+			if (!isPermitted(principals, permission)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPermittedAll(PrincipalCollection principals, Collection<Permission> permissions) {
+
+		for (Permission permission : permissions) {
+			if (!isPermitted(principals, permission)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkPermission(PrincipalCollection principals, String permission) throws AuthorizationException {
+		if (!isPermitted(principals, permission)) {
+			throw new UnauthorizedException(String.format("Subject does not have permission [%s]", permission));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkPermission(PrincipalCollection principals, Permission permission) throws AuthorizationException {
+		if (!isPermitted(principals, permission)) {
+			throw new UnauthorizedException(String.format("Subject does not have permission [%s]", permission));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkPermissions(PrincipalCollection principals, String... permissions)
+			throws AuthorizationException {
+
+		for (String permission : permissions) {
+			checkPermission(principals, permission);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkPermissions(PrincipalCollection principals, Collection<Permission> permissions)
+			throws AuthorizationException {
+
+		for (Permission permission : permissions) {
+			checkPermission(principals, permission);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasRole(PrincipalCollection principals, String roleIdentifier) {
+		return getAuthorizer().hasRole(principals, roleIdentifier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean[] hasRoles(PrincipalCollection principals, List<String> roleIdentifiers) {
+		return getAuthorizer().hasRoles(principals, roleIdentifiers);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasAllRoles(PrincipalCollection principals, Collection<String> roleIdentifiers) {
+		return getAuthorizer().hasAllRoles(principals, roleIdentifiers);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkRole(PrincipalCollection principals, String roleIdentifier) throws AuthorizationException {
+		getAuthorizer().checkRole(principals, roleIdentifier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkRoles(PrincipalCollection principals, Collection<String> roleIdentifiers)
+			throws AuthorizationException {
+
+		getAuthorizer().checkRoles(principals, roleIdentifiers);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void checkRoles(PrincipalCollection principals, String... roleIdentifiers) throws AuthorizationException {
+		getAuthorizer().checkRoles(principals, roleIdentifiers);
+	}
+
+	/* (non-Javadoc) */
+	static class CacheEntry {
+
+		private final boolean permitted;
+
+		private final long expirationTime;
+
+		CacheEntry(boolean permitted, long expirationTime) {
+			this.permitted = permitted;
+			this.expirationTime = expirationTime;
+		}
+
+		boolean isExpired(long currentTime) {
+			return (currentTime - this.expirationTime >= 0);
+		}
+
+		boolean isPermitted() {
+			return this.permitted;
+		}
+	}
+
+	/* (non-Javadoc) */
+	static class CacheKey {
+
+		private final Object permission;
+
+		private final PrincipalCollection principals;
+
+		CacheKey(PrincipalCollection principals, Object permission) {
+			this.principals = principals;
+			this.permission = permission;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return (ObjectUtils.nullSafeEquals(this.principals, that.principals)
+				&& ObjectUtils.nullSafeEquals(this.permission, that.permission));
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * ObjectUtils.nullSafeHashCode(this.principals) + ObjectUtils.nullSafeHashCode(this.permission));
+		}
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ParallelBootstrapCoordinator} class creates GemFire cache {@link Region Regions} concurrently
+ * during startup of the Spring container.
+ *
+ * {@link Region Regions} are created in the order submitted, but without waiting on each other, except for
+ * a {@link Region} colocated with another {@link Region}, which is only created once the {@link Region}
+ * it is colocated with exists.  Persistent {@link Region Regions} recover their data from disk as part of
+ * creation and therefore recover in parallel as well.  The time taken to create each {@link Region} is recorded
+ * in the {@link StartupTimingReport}.
+ *
+ * A {@link Region} colocated with a {@link Region} that is not created in parallel is resolved when waited on,
+ * first in the {@link GemFireCache} and then with the configured {@link #setRegionResolver(Function) resolver},
+ * failing fast when the {@link Region} it is colocated with cannot be resolved.  All waits are bounded by
+ * the configured {@link #setTimeout(long) timeout}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.support.StartupTimingReport
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class ParallelBootstrapCoordinator {
+
+	protected static final String REGION_COMPONENT_TYPE = "Region";
+	protected static final String PERSISTENT_REGION_COMPONENT_TYPE = "Persistent Region";
+	protected static final String THREAD_NAME_PREFIX = "Region Bootstrap Thread-";
+
+	protected static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+	private final ExecutorService executorService;
+
+	private Function<String, Region<?, ?>> regionResolver = regionPath -> null;
+
+	private volatile long timeout = DEFAULT_TIMEOUT;
+
+	private final Map<String, CompletableFuture<Region<?, ?>>> regions = new ConcurrentHashMap<>();
+
+	private final Map<String, String> colocatedRegionPaths = new ConcurrentHashMap<>();
+
+	private final Set<String> submittedRegionPaths = ConcurrentHashMap.newKeySet();
+
+	private final StartupTimingReport startupTimingReport;
+
+	/**
+	 * Constructs an instance of the {@link ParallelBootstrapCoordinator} creating {@link Region Regions}
+	 * with as many threads as there are available processors.
+	 *
+	 * @param startupTimingReport {@link StartupTimingReport} used to record the creation time of each {@link Region}.
+	 * @see #ParallelBootstrapCoordinator(StartupTimingReport, int)
+	 */
+	public ParallelBootstrapCoordinator(StartupTimingReport startupTimingReport) {
+		this(startupTimingReport, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs an instance of the {@link ParallelBootstrapCoordinator} creating {@link Region Regions}
+	 * with the given number of threads.
+	 *
+	 * @param startupTimingReport {@link StartupTimingReport} used to record the creation time of each {@link Region}.
+	 * @param parallelism number of threads used to create {@link Region Regions}.
+	 * @throws IllegalArgumentException if the {@link StartupTimingReport} is {@literal null}
+	 * or parallelism is less than 1.
+	 */
+	public ParallelBootstrapCoordinator(StartupTimingReport startupTimingReport, int parallelism) {
+
+		Assert.notNull(startupTimingReport, "StartupTimingReport is required");
+		Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		this.startupTimingReport = startupTimingReport;
+
+		this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Returns the {@link StartupTimingReport} recording the creation time of each {@link Region}.
+	 *
+	 * @return the {@link StartupTimingReport}.
+	 * @see org.springframework.data.gemfire.support.StartupTimingReport
+	 */
+	public StartupTimingReport getStartupTimingReport() {
+		return this.startupTimingReport;
+	}
+
+	/**
+	 * Sets the {@link Function} used to resolve a {@link Region}, by path, that another {@link Region}
+	 * is colocated with but that is not created in parallel and does not exist in the {@link GemFireCache} yet,
+	 * for example by looking up the {@link Region} bean in the Spring container.
+	 *
+	 * @param regionResolver {@link Function} resolving a {@link Region} by path; returns {@literal null}
+	 * if the {@link Region} cannot be resolved.
+	 * @throws IllegalArgumentException if the {@link Function} is {@literal null}.
+	 */
+	public void setRegionResolver(Function<String, Region<?, ?>> regionResolver) {
+		Assert.notNull(regionResolver, "Region resolver is required");
+		this.regionResolver = regionResolver;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds to wait for a {@link Region} to be created.
+	 *
+	 * @param timeout maximum time in milliseconds to wait for a {@link Region} to be created.
+	 * @throws IllegalArgumentException if the timeout is less than 1.
+	 */
+	public void setTimeout(long timeout) {
+		Assert.isTrue(timeout > 0, String.format("Timeout [%d] must be greater than 0", timeout));
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds to wait for a {@link Region} to be created.
+	 *
+	 * @return the maximum time in milliseconds to wait for a {@link Region} to be created.
+	 */
+	public long getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Submits the creation of the {@link Region} with the given path.
+	 *
+	 * @param <K> {@link Class} type of the {@link Region} key.
+	 * @param <V> {@link Class} type of the {@link Region} value.
+	 * @param cache {@link GemFireCache} in which the {@link Region} is created.
+	 * @param regionPath absolute path of the {@link Region}.
+	 * @param colocatedWith name or path of the {@link Region} the new {@link Region} is colocated with;
+	 * may be {@literal null}.
+	 * @param regionCreator {@link Callable} creating the {@link Region}.
+	 * @return a {@link Future} completing with the new {@link Region}.
+	 * @throws IllegalStateException if a {@link Region} with the given path was already submitted.
+	 * @see java.util.concurrent.Future
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Future<Region<K, V>> submit(GemFireCache cache, String regionPath, String colocatedWith,
+			Callable<Region<K, V>> regionCreator) {
+
+		String resolvedRegionPath = toRegionPath(regionPath);
+
+		Assert.state(this.submittedRegionPaths.add(resolvedRegionPath),
+			String.format("Region [%s] was already submitted for creation", resolvedRegionPath));
+
+		CompletableFuture<Region<?, ?>> region = getRegionFuture(resolvedRegionPath);
+
+		CompletableFuture<Region<?, ?>> colocatedRegion =
+			resolveColocatedRegion(cache, resolvedRegionPath, colocatedWith);
+
+		colocatedRegion.whenCompleteAsync((resolvedColocatedRegion, cause) -> {
+			if (cause != null) {
+				region.completeExceptionally(cause);
+			}
+			else {
+				try {
+					region.complete(createRegion(resolvedRegionPath, regionCreator));
+				}
+				catch (Throwable regionCreationFailure) {
+					region.completeExceptionally(regionCreationFailure);
+				}
+			}
+		}, this.executorService);
+
+		return (Future) region;
+	}
+
+	/* (non-Javadoc) */
+	private CompletableFuture<Region<?, ?>> getRegionFuture(String regionPath) {
+		return this.regions.computeIfAbsent(regionPath, key -> new CompletableFuture<>());
+	}
+
+	/* (non-Javadoc) */
+	private CompletableFuture<Region<?, ?>> resolveColocatedRegion(GemFireCache cache, String regionPath,
+			String colocatedWith) {
+
+		return Optional.ofNullable(colocatedWith).filter(StringUtils::hasText).map(this::toRegionPath)
+			.map(colocatedRegionPath -> Optional.<Region<?, ?>>ofNullable(cache.getRegion(colocatedRegionPath))
+				.map(CompletableFuture::<Region<?, ?>>completedFuture)
+				.orElseGet(() -> {
+					this.colocatedRegionPaths.put(regionPath, colocatedRegionPath);
+					return getRegionFuture(colocatedRegionPath);
+				}))
+			.orElseGet(() -> CompletableFuture.completedFuture(null));
+	}
+
+	/* (non-Javadoc) */
+	private <K, V> Region<K, V> createRegion(String regionPath, Callable<Region<K, V>> regionCreator)
+			throws Exception {
+
+		long startTime = System.nanoTime();
+
+		Region<K, V> region = regionCreator.call();
+
+		this.startupTimingReport.record(regionPath, resolveComponentType(region), System.nanoTime() - startTime);
+
+		return region;
+	}
+
+	/* (non-Javadoc) */
+	private String resolveComponentType(Region<?, ?> region) {
+
+		return (region != null && region.getAttributes() != null && region.getAttributes().getDataPolicy() != null
+			&& region.getAttributes().getDataPolicy().withPersistence() ? PERSISTENT_REGION_COMPONENT_TYPE
+			: REGION_COMPONENT_TYPE);
+	}
+
+	/* (non-Javadoc) */
+	private String toRegionPath(String regionNameOrPath) {
+
+		return (regionNameOrPath.startsWith(Region.SEPARATOR) ? regionNameOrPath
+			: Region.SEPARATOR.concat(regionNameOrPath));
+	}
+
+	/**
+	 * Waits until the submitted {@link Region} with the given path has been created.  Any {@link Region}
+	 * it is, directly or transitively, colocated with that was never submitted is resolved first.
+	 *
+	 * @param <K> {@link Class} type of the {@link Region} key.
+	 * @param <V> {@link Class} type of the {@link Region} value.
+	 * @param cache {@link GemFireCache} used to lookup {@link Region Regions} that were not submitted.
+	 * @param regionPath absolute path of the {@link Region}.
+	 * @return the {@link Region}.
+	 * @throws Exception if the creation of the {@link Region} failed or timed out.
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Region<K, V> await(GemFireCache cache, String regionPath) throws Exception {
+
+		String resolvedRegionPath = toRegionPath(regionPath);
+
+		resolveColocatedRegions(cache, resolvedRegionPath);
+
+		return (Region<K, V>) await(resolvedRegionPath, getRegionFuture(resolvedRegionPath));
+	}
+
+	/* (non-Javadoc) */
+	private void resolveColocatedRegions(GemFireCache cache, String regionPath) {
+
+		for (String dependentRegionPath = regionPath, colocatedRegionPath = this.colocatedRegionPaths.get(regionPath);
+				colocatedRegionPath != null;
+				dependentRegionPath = colocatedRegionPath,
+					colocatedRegionPath = this.colocatedRegionPaths.get(colocatedRegionPath)) {
+
+			if (!this.submittedRegionPaths.contains(colocatedRegionPath)) {
+				resolveRegion(cache, dependentRegionPath, colocatedRegionPath);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void resolveRegion(GemFireCache cache, String dependentRegionPath, String regionPath) {
+
+		CompletableFuture<Region<?, ?>> region = getRegionFuture(regionPath);
+
+		if (!region.isDone()) {
+			try {
+				Region<?, ?> resolvedRegion = (cache != null ? cache.getRegion(regionPath) : null);
+
+				resolvedRegion = (resolvedRegion != null ? resolvedRegion : this.regionResolver.apply(regionPath));
+
+				if (resolvedRegion != null) {
+					region.complete(resolvedRegion);
+				}
+				else {
+					region.completeExceptionally(newIllegalStateException(
+						"Region [%1$s] is colocated with Region [%2$s], which was not found", dependentRegionPath,
+							regionPath));
+				}
+			}
+			catch (RuntimeException cause) {
+				region.completeExceptionally(newIllegalStateException(cause,
+					"Region [%1$s] is colocated with Region [%2$s], which could not be resolved",
+						dependentRegionPath, regionPath));
+			}
+		}
+	}
+
+	/**
+	 * Waits until all {@link Region Regions} submitted so far have been created, except those colocated with
+	 * a {@link Region} that has not been submitted yet.
+	 *
+	 * @throws Exception if the creation of any {@link Region} failed or timed out.
+	 */
+	public void awaitSubmitted() throws Exception {
+
+		for (String regionPath : this.submittedRegionPaths) {
+			if (isCreatable(regionPath)) {
+				await(regionPath, getRegionFuture(regionPath));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private boolean isCreatable(String regionPath) {
+
+		String colocatedRegionPath = this.colocatedRegionPaths.get(regionPath);
+
+		return (colocatedRegionPath == null || getRegionFuture(colocatedRegionPath).isDone()
+			|| (this.submittedRegionPaths.contains(colocatedRegionPath) && isCreatable(colocatedRegionPath)));
+	}
+
+	/**
+	 * Waits until all submitted {@link Region Regions} have been created.  Any {@link Region} that another
+	 * {@link Region} is colocated with, but that was never submitted, is resolved first.
+	 *
+	 * @param cache {@link GemFireCache} used to lookup {@link Region Regions} that were not submitted.
+	 * @throws Exception if the creation of any {@link Region} failed or timed out.
+	 */
+	public void awaitAll(GemFireCache cache) throws Exception {
+
+		for (String regionPath : this.submittedRegionPaths) {
+			resolveColocatedRegions(cache, regionPath);
+		}
+
+		for (Map.Entry<String, CompletableFuture<Region<?, ?>>> region : this.regions.entrySet()) {
+			await(region.getKey(), region.getValue());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Region<?, ?> await(String regionPath, Future<Region<?, ?>> region) throws Exception {
+		try {
+			return await(region, getTimeout(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException cause) {
+			throw newIllegalStateException(cause, "Timed out after [%1$d] ms waiting for Region [%2$s] to be created",
+				getTimeout(), regionPath);
+		}
+	}
+
+	/**
+	 * Waits until the {@link Region} created by the given {@link Future} exists.
+	 *
+	 * @param <T> {@link Class} type of the created object.
+	 * @param future {@link Future} creating the {@link Region}.
+	 * @return the {@link Region}.
+	 * @throws Exception if the creation of the {@link Region} failed or the current {@link Thread}
+	 * was interrupted while waiting.
+	 */
+	public static <T> T await(Future<T> future) throws Exception {
+		return await(future, Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Waits, at most the given amount of time, until the {@link Region} created by the given {@link Future} exists.
+	 *
+	 * @param <T> {@link Class} type of the created object.
+	 * @param future {@link Future} creating the {@link Region}.
+	 * @param timeout maximum time to wait.
+	 * @param timeUnit {@link TimeUnit} of the timeout.
+	 * @return the {@link Region}.
+	 * @throws TimeoutException if the {@link Region} was not created in time.
+	 * @throws Exception if the creation of the {@link Region} failed or the current {@link Thread}
+	 * was interrupted while waiting.
+	 */
+	public static <T> T await(Future<T> future, long timeout, TimeUnit timeUnit) throws Exception {
+		try {
+			return future.get(timeout, timeUnit);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw cause;
+		}
+		catch (ExecutionException cause) {
+			Throwable resolvedCause = cause.getCause();
+
+			if (resolvedCause instanceof Exception) {
+				throw (Exception) resolvedCause;
+			}
+
+			if (resolvedCause instanceof Error) {
+				throw (Error) resolvedCause;
+			}
+
+			throw cause;
+		}
+	}
+
+	/**
+	 * Releases the {@link Thread Threads} used to create {@link Region Regions}.
+	 */
+	public void shutdown() {
+		this.executorService.shutdown();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * The {@link RebalanceEvent} class is a Spring {@link ApplicationEvent} published by the {@link RebalanceService}
+ * as the rebalance of a group of {@link org.apache.geode.cache.Region Regions} progresses.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.support.RebalanceService
+ * @see org.springframework.data.gemfire.support.RebalanceStatistics
+ * @since 2.0.0
+ */
+@SuppressWarnings("serial")
+public class RebalanceEvent extends ApplicationEvent {
+
+	private final long elapsedTime;
+
+	private final transient RebalanceStatistics statistics;
+
+	private final String regionGroup;
+
+	private final Status status;
+
+	/**
+	 * Constructs a new instance of {@link RebalanceEvent}.
+	 *
+	 * @param source {@link RebalanceService} rebalancing the group of {@link org.apache.geode.cache.Region Regions}.
+	 * @param regionGroup name of the group of {@link org.apache.geode.cache.Region Regions} being rebalanced.
+	 * @param status {@link Status} of the rebalance.
+	 * @param elapsedTime time in milliseconds since the rebalance started.
+	 * @param statistics {@link RebalanceStatistics} of the rebalance; {@literal null} while in progress.
+	 */
+	public RebalanceEvent(RebalanceService source, String regionGroup, Status status, long elapsedTime,
+			RebalanceStatistics statistics) {
+
+		super(source);
+
+		this.regionGroup = regionGroup;
+		this.status = status;
+		this.elapsedTime = elapsedTime;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Returns the time in milliseconds since the rebalance started.
+	 *
+	 * @return the time in milliseconds since the rebalance started.
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Returns the name of the group of {@link org.apache.geode.cache.Region Regions} being rebalanced.
+	 *
+	 * @return the name of the group of {@link org.apache.geode.cache.Region Regions} being rebalanced.
+	 */
+	public String getRegionGroup() {
+		return this.regionGroup;
+	}
+
+	/**
+	 * Returns the {@link RebalanceStatistics} of the simulated or completed rebalance.
+	 *
+	 * @return an {@link Optional} {@link RebalanceStatistics}; empty while the rebalance is in progress.
+	 */
+	public Optional<RebalanceStatistics> getStatistics() {
+		return Optional.ofNullable(this.statistics);
+	}
+
+	/**
+	 * Returns the {@link Status} of the rebalance.
+	 *
+	 * @return the {@link Status} of the rebalance.
+	 */
+	public Status getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s { regionGroup = %2$s, status = %3$s, elapsedTime = %4$d ms, statistics = %5$s }",
+			getClass().getSimpleName(), getRegionGroup(), getStatus(), getElapsedTime(), this.statistics);
+	}
+
+	/**
+	 * The {@link Status} enum enumerates the stages of the rebalance of a group
+	 * of {@link org.apache.geode.cache.Region Regions}.
+	 */
+	public enum Status {
+
+		SIMULATED,
+		SKIPPED,
+		STARTED,
+		IN_PROGRESS,
+		COMPLETED,
+		CANCELLED,
+		FAILED
+
+	}
+}
@@ -0,0 +1,827 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.RebalanceFactory;
+import org.apache.geode.cache.control.RebalanceOperation;
+import org.apache.geode.cache.control.RebalanceResults;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.membership.MembershipEvent;
+import org.apache.geode.management.membership.MembershipListener;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RebalanceService} class orchestrates the rebalancing of the buckets of the
+ * {@link org.apache.geode.cache.Region#PARTITION PARTITION} {@link org.apache.geode.cache.Region Regions}
+ * of a peer {@link Cache}, one group of {@link org.apache.geode.cache.Region Regions} at a time.
+ *
+ * Each group is first simulated and only rebalanced when the simulation moves at least the configured minimum
+ * number of buckets.  Rebalances are throttled by running the groups sequentially, pausing between groups
+ * and cancelling a rebalance that exceeds the configured maximum time.  Progress is published
+ * as {@link RebalanceEvent RebalanceEvents} and the buckets and bytes moved are accumulated as metrics.
+ *
+ * Rebalances can be triggered on demand, on a fixed schedule, or when a member joins the distributed system,
+ * so that capacity added to the cluster receives its share of the data without operator intervention.
+ *
+ * Since every member running a {@link RebalanceService} is notified when a member joins, only one member
+ * rebalances at a time.  A rebalance is skipped when another rebalance is in progress on this member,
+ * or when another member holds the rebalance lock of the {@link DistributedLockService}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.control.RebalanceFactory
+ * @see org.apache.geode.cache.control.RebalanceOperation
+ * @see org.apache.geode.distributed.DistributedLockService
+ * @see org.apache.geode.management.membership.MembershipListener
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.data.gemfire.support.RebalanceEvent
+ * @see org.springframework.data.gemfire.support.RebalanceStatistics
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class RebalanceService implements ApplicationEventPublisherAware, BeanFactoryAware, SmartLifecycle {
+
+	public static final int DEFAULT_MINIMUM_BUCKETS_MOVED = 1;
+
+	public static final long DEFAULT_MEMBERSHIP_CHANGE_DELAY = TimeUnit.SECONDS.toMillis(30);
+	public static final long DEFAULT_PROGRESS_INTERVAL = TimeUnit.SECONDS.toMillis(5);
+
+	public static final String ALL_REGIONS_GROUP = "ALL";
+	public static final String DISTRIBUTED_LOCK_SERVICE_NAME = "RebalanceService";
+	public static final String REBALANCE_LOCK_NAME = "rebalance";
+
+	protected static final String THREAD_NAME = "Rebalance Service";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private final AtomicBoolean rebalancing = new AtomicBoolean(false);
+
+	private final AtomicLong rebalanceCount = new AtomicLong(0L);
+	private final AtomicLong totalBucketsMoved = new AtomicLong(0L);
+	private final AtomicLong totalBytesMoved = new AtomicLong(0L);
+	private final AtomicLong totalPrimaryTransfers = new AtomicLong(0L);
+	private final AtomicLong totalRebalanceTime = new AtomicLong(0L);
+
+	private BeanFactory beanFactory;
+
+	private boolean rebalanceOnMembershipChange;
+	private boolean simulateOnly;
+
+	private Cache cache;
+
+	private DistributedLockService distributedLockService;
+
+	private int minimumBucketsMoved = DEFAULT_MINIMUM_BUCKETS_MOVED;
+
+	private long maxRebalanceTime;
+	private long membershipChangeDelay = DEFAULT_MEMBERSHIP_CHANGE_DELAY;
+	private long pauseBetweenGroups;
+	private long progressInterval = DEFAULT_PROGRESS_INTERVAL;
+	private long rebalanceInterval;
+
+	private final Map<String, Set<String>> regionGroups = new LinkedHashMap<>();
+
+	private final Map<String, RebalanceStatistics> statistics = new ConcurrentHashMap<>();
+
+	private ManagementService managementService;
+
+	private MembershipListener membershipListener;
+
+	private volatile ScheduledExecutorService scheduler;
+
+	private ScheduledFuture<?> pendingMembershipChangeRebalance;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Sets the peer {@link Cache} whose {@link org.apache.geode.cache.Region Regions} are rebalanced.
+	 * Resolved from the Spring application context if not set.
+	 *
+	 * @param cache peer {@link Cache} to rebalance.
+	 */
+	public void setCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	/* (non-Javadoc) */
+	protected Cache resolveCache() {
+
+		if (this.cache == null) {
+			Assert.state(this.beanFactory != null, "Cache was not configured");
+			this.cache = this.beanFactory.getBean(Cache.class);
+		}
+
+		return this.cache;
+	}
+
+	/**
+	 * Sets the {@link DistributedLockService} used to ensure only one member rebalances at a time.
+	 * Resolved from, or created in, the {@link DistributedSystem} of the {@link Cache} if not set.
+	 *
+	 * @param distributedLockService {@link DistributedLockService} used to coordinate rebalances.
+	 */
+	public void setDistributedLockService(DistributedLockService distributedLockService) {
+		this.distributedLockService = distributedLockService;
+	}
+
+	/* (non-Javadoc) */
+	protected synchronized DistributedLockService resolveDistributedLockService() {
+
+		if (this.distributedLockService == null) {
+
+			DistributedSystem distributedSystem = resolveCache().getDistributedSystem();
+
+			if (distributedSystem != null) {
+
+				this.distributedLockService = DistributedLockService.getServiceNamed(DISTRIBUTED_LOCK_SERVICE_NAME);
+
+				if (this.distributedLockService == null) {
+					try {
+						this.distributedLockService =
+							DistributedLockService.create(DISTRIBUTED_LOCK_SERVICE_NAME, distributedSystem);
+					}
+					catch (IllegalArgumentException alreadyCreated) {
+						this.distributedLockService =
+							DistributedLockService.getServiceNamed(DISTRIBUTED_LOCK_SERVICE_NAME);
+					}
+				}
+			}
+		}
+
+		return this.distributedLockService;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds a rebalance of a group of {@link org.apache.geode.cache.Region Regions}
+	 * may take before it is cancelled.  A value of {@literal 0} does not limit the time.
+	 *
+	 * @param maxRebalanceTime maximum time in milliseconds allowed for the rebalance of a group.
+	 */
+	public void setMaxRebalanceTime(long maxRebalanceTime) {
+		this.maxRebalanceTime = Math.max(maxRebalanceTime, 0L);
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds a rebalance of a group of {@link org.apache.geode.cache.Region Regions}
+	 * may take before it is cancelled.
+	 *
+	 * @return the maximum time in milliseconds allowed for the rebalance of a group; {@literal 0} if unlimited.
+	 */
+	public long getMaxRebalanceTime() {
+		return this.maxRebalanceTime;
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait after the last member joined the distributed system
+	 * before rebalancing, allowing several members added together to be rebalanced once.
+	 *
+	 * @param membershipChangeDelay time in milliseconds to wait after a member joined.
+	 */
+	public void setMembershipChangeDelay(long membershipChangeDelay) {
+		this.membershipChangeDelay = Math.max(membershipChangeDelay, 0L);
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait after the last member joined the distributed system
+	 * before rebalancing.
+	 *
+	 * @return the time in milliseconds to wait after a member joined.
+	 */
+	public long getMembershipChangeDelay() {
+		return this.membershipChangeDelay;
+	}
+
+	/**
+	 * Sets the minimum number of buckets and primaries a simulated rebalance of a group
+	 * of {@link org.apache.geode.cache.Region Regions} must move for the group to be rebalanced.
+	 * A value of {@literal 0} rebalances every group without simulating it first.
+	 *
+	 * @param minimumBucketsMoved minimum number of buckets and primaries moved by the simulation.
+	 */
+	public void setMinimumBucketsMoved(int minimumBucketsMoved) {
+		this.minimumBucketsMoved = Math.max(minimumBucketsMoved, 0);
+	}
+
+	/**
+	 * Returns the minimum number of buckets and primaries a simulated rebalance of a group
+	 * of {@link org.apache.geode.cache.Region Regions} must move for the group to be rebalanced.
+	 *
+	 * @return the minimum number of buckets and primaries moved by the simulation.
+	 */
+	public int getMinimumBucketsMoved() {
+		return this.minimumBucketsMoved;
+	}
+
+	/**
+	 * Sets the time in milliseconds to pause between the rebalance of each group
+	 * of {@link org.apache.geode.cache.Region Regions}.
+	 *
+	 * @param pauseBetweenGroups time in milliseconds to pause between groups.
+	 */
+	public void setPauseBetweenGroups(long pauseBetweenGroups) {
+		this.pauseBetweenGroups = Math.max(pauseBetweenGroups, 0L);
+	}
+
+	/**
+	 * Returns the time in milliseconds to pause between the rebalance of each group
+	 * of {@link org.apache.geode.cache.Region Regions}.
+	 *
+	 * @return the time in milliseconds to pause between groups.
+	 */
+	public long getPauseBetweenGroups() {
+		return this.pauseBetweenGroups;
+	}
+
+	/**
+	 * Sets the time in milliseconds between {@link RebalanceEvent.Status#IN_PROGRESS} events.
+	 *
+	 * @param progressInterval time in milliseconds between progress events.
+	 * @throws IllegalArgumentException if the progress interval is less than 1.
+	 */
+	public void setProgressInterval(long progressInterval) {
+		Assert.isTrue(progressInterval > 0, String.format("Progress interval [%d] must be greater than 0",
+			progressInterval));
+		this.progressInterval = progressInterval;
+	}
+
+	/**
+	 * Returns the time in milliseconds between {@link RebalanceEvent.Status#IN_PROGRESS} events.
+	 *
+	 * @return the time in milliseconds between progress events.
+	 */
+	public long getProgressInterval() {
+		return this.progressInterval;
+	}
+
+	/**
+	 * Sets the time in milliseconds between scheduled rebalances.  A value of {@literal 0} disables
+	 * scheduled rebalances.
+	 *
+	 * @param rebalanceInterval time in milliseconds between scheduled rebalances.
+	 */
+	public void setRebalanceInterval(long rebalanceInterval) {
+		this.rebalanceInterval = Math.max(rebalanceInterval, 0L);
+	}
+
+	/**
+	 * Returns the time in milliseconds between scheduled rebalances.
+	 *
+	 * @return the time in milliseconds between scheduled rebalances; {@literal 0} if disabled.
+	 */
+	public long getRebalanceInterval() {
+		return this.rebalanceInterval;
+	}
+
+	/**
+	 * Sets whether a rebalance is triggered when a member joins the distributed system.
+	 *
+	 * @param rebalanceOnMembershipChange boolean indicating whether to rebalance when a member joins.
+	 * @see #setMembershipChangeDelay(long)
+	 */
+	public void setRebalanceOnMembershipChange(boolean rebalanceOnMembershipChange) {
+		this.rebalanceOnMembershipChange = rebalanceOnMembershipChange;
+	}
+
+	/**
+	 * Determines whether a rebalance is triggered when a member joins the distributed system.
+	 *
+	 * @return a boolean value indicating whether to rebalance when a member joins.
+	 */
+	public boolean isRebalanceOnMembershipChange() {
+		return this.rebalanceOnMembershipChange;
+	}
+
+	/**
+	 * Sets the groups of {@link org.apache.geode.cache.Region Regions} rebalanced together, keyed by group name.
+	 * Groups are rebalanced in iteration order.  All {@link org.apache.geode.cache.Region Regions}
+	 * are rebalanced together if no groups are set.
+	 *
+	 * @param regionGroups {@link Map} of {@link org.apache.geode.cache.Region} names keyed by group name.
+	 */
+	public void setRegionGroups(Map<String, ? extends Collection<String>> regionGroups) {
+		this.regionGroups.clear();
+		nullSafeMap(regionGroups).forEach((name, regionNames) ->
+			this.regionGroups.put(name, Collections.unmodifiableSet(new LinkedHashSet<>(regionNames))));
+	}
+
+	/**
+	 * Returns the groups of {@link org.apache.geode.cache.Region Regions} rebalanced together, keyed by group name.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link org.apache.geode.cache.Region} names keyed by group name;
+	 * the {@link #ALL_REGIONS_GROUP} group of all {@link org.apache.geode.cache.Region Regions} if no groups are set.
+	 */
+	public Map<String, Set<String>> getRegionGroups() {
+		return Collections.unmodifiableMap(this.regionGroups.isEmpty()
+			? Collections.singletonMap(ALL_REGIONS_GROUP, Collections.emptySet()) : this.regionGroups);
+	}
+
+	/**
+	 * Sets whether rebalances are only simulated, reporting the buckets that would be moved
+	 * without moving any.
+	 *
+	 * @param simulateOnly boolean indicating whether rebalances are only simulated.
+	 */
+	public void setSimulateOnly(boolean simulateOnly) {
+		this.simulateOnly = simulateOnly;
+	}
+
+	/**
+	 * Determines whether rebalances are only simulated.
+	 *
+	 * @return a boolean value indicating whether rebalances are only simulated.
+	 */
+	public boolean isSimulateOnly() {
+		return this.simulateOnly;
+	}
+
+	/**
+	 * Returns the number of rebalances of a group of {@link org.apache.geode.cache.Region Regions} completed.
+	 *
+	 * @return the number of rebalances completed.
+	 */
+	public long getRebalanceCount() {
+		return this.rebalanceCount.get();
+	}
+
+	/**
+	 * Returns the total number of buckets created and moved by all rebalances.
+	 *
+	 * @return the total number of buckets created and moved.
+	 */
+	public long getTotalBucketsMoved() {
+		return this.totalBucketsMoved.get();
+	}
+
+	/**
+	 * Returns the total number of bytes of the buckets created and moved by all rebalances.
+	 *
+	 * @return the total number of bytes of the buckets created and moved.
+	 */
+	public long getTotalBytesMoved() {
+		return this.totalBytesMoved.get();
+	}
+
+	/**
+	 * Returns the total number of primary buckets reassigned by all rebalances.
+	 *
+	 * @return the total number of primary buckets reassigned.
+	 */
+	public long getTotalPrimaryTransfers() {
+		return this.totalPrimaryTransfers.get();
+	}
+
+	/**
+	 * Returns the total time in milliseconds taken by all rebalances.
+	 *
+	 * @return the total time in milliseconds taken by all rebalances.
+	 */
+	public long getTotalRebalanceTime() {
+		return this.totalRebalanceTime.get();
+	}
+
+	/**
+	 * Returns the {@link RebalanceStatistics} of the last simulated or completed rebalance of each group
+	 * of {@link org.apache.geode.cache.Region Regions}, keyed by group name.
+	 *
+	 * @return an unmodifiable {@link Map} of the last {@link RebalanceStatistics} of each group.
+	 */
+	public Map<String, RebalanceStatistics> getStatistics() {
+		return Collections.unmodifiableMap(this.statistics);
+	}
+
+	/**
+	 * Determines whether a rebalance is currently in progress.
+	 *
+	 * @return a boolean value indicating whether a rebalance is in progress.
+	 */
+	public boolean isRebalancing() {
+		return this.rebalancing.get();
+	}
+
+	/**
+	 * Simulates the rebalance of each group of {@link org.apache.geode.cache.Region Regions},
+	 * publishing a {@link RebalanceEvent.Status#SIMULATED} event for each group.
+	 *
+	 * @return a {@link List} of the {@link RebalanceStatistics} of each simulated group.
+	 */
+	public List<RebalanceStatistics> simulate() {
+
+		List<RebalanceStatistics> results = new ArrayList<>();
+
+		for (Map.Entry<String, Set<String>> regionGroup : getRegionGroups().entrySet()) {
+			try {
+				results.add(simulateRegionGroup(regionGroup.getKey(), regionGroup.getValue()));
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			catch (RuntimeException cause) {
+				failed(regionGroup.getKey(), 0L, cause);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Rebalances each group of {@link org.apache.geode.cache.Region Regions} in turn, skipping groups
+	 * whose simulated rebalance moves fewer than the minimum number of buckets.  Does nothing if a rebalance
+	 * is already in progress on this member, or on another member holding the rebalance lock.
+	 *
+	 * @return a {@link List} of the {@link RebalanceStatistics} of each group rebalanced, or simulated
+	 * when {@link #isSimulateOnly() simulate only}.
+	 */
+	public List<RebalanceStatistics> rebalance() {
+
+		if (!this.rebalancing.compareAndSet(false, true)) {
+			logger.info("Rebalance already in progress");
+			return Collections.emptyList();
+		}
+
+		try {
+			if (!resolveCache().getResourceManager().getRebalanceOperations().isEmpty()) {
+				logger.info("Rebalance already in progress on this member");
+				return Collections.emptyList();
+			}
+
+			DistributedLockService lockService = resolveDistributedLockService();
+
+			if (lockService != null && !lockService.lock(REBALANCE_LOCK_NAME, 0L, -1L)) {
+				logger.info("Rebalance already in progress on another member");
+				return Collections.emptyList();
+			}
+
+			try {
+				return rebalanceRegionGroups();
+			}
+			finally {
+				if (lockService != null) {
+					lockService.unlock(REBALANCE_LOCK_NAME);
+				}
+			}
+		}
+		finally {
+			this.rebalancing.set(false);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private List<RebalanceStatistics> rebalanceRegionGroups() {
+
+		List<RebalanceStatistics> results = new ArrayList<>();
+
+		boolean pause = false;
+
+		for (Map.Entry<String, Set<String>> regionGroup : getRegionGroups().entrySet()) {
+			try {
+				if (pause && getPauseBetweenGroups() > 0) {
+					Thread.sleep(getPauseBetweenGroups());
+				}
+
+				RebalanceStatistics groupStatistics = rebalanceRegionGroup(regionGroup.getKey(),
+					regionGroup.getValue());
+
+				pause = (groupStatistics != null && !groupStatistics.isSimulated());
+
+				Optional.ofNullable(groupStatistics).ifPresent(results::add);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		return results;
+	}
+
+	/* (non-Javadoc) */
+	private RebalanceStatistics rebalanceRegionGroup(String regionGroup, Set<String> regionNames)
+			throws InterruptedException {
+
+		long startTime = System.currentTimeMillis();
+
+		try {
+			if (isSimulateOnly() || getMinimumBucketsMoved() > 0) {
+
+				RebalanceStatistics simulation = simulateRegionGroup(regionGroup, regionNames);
+
+				if (isSimulateOnly()) {
+					return simulation;
+				}
+
+				if (simulation.getBucketsMoved() + simulation.getPrimaryTransfersCompleted()
+						< getMinimumBucketsMoved()) {
+
+					publish(regionGroup, RebalanceEvent.Status.SKIPPED, elapsedSince(startTime), simulation);
+
+					return null;
+				}
+			}
+
+			RebalanceOperation rebalanceOperation = newRebalanceFactory(regionNames).start();
+
+			startTime = System.currentTimeMillis();
+
+			publish(regionGroup, RebalanceEvent.Status.STARTED, 0L, null);
+
+			RebalanceResults results = await(regionGroup, rebalanceOperation, startTime);
+
+			return (results != null ? completed(regionGroup, startTime, results) : null);
+		}
+		catch (RuntimeException cause) {
+			failed(regionGroup, elapsedSince(startTime), cause);
+			return null;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private RebalanceStatistics simulateRegionGroup(String regionGroup, Set<String> regionNames)
+			throws InterruptedException {
+
+		long startTime = System.currentTimeMillis();
+
+		RebalanceStatistics simulation =
+			RebalanceStatistics.from(regionGroup, true, newRebalanceFactory(regionNames).simulate().getResults());
+
+		this.statistics.put(regionGroup, simulation);
+
+		publish(regionGroup, RebalanceEvent.Status.SIMULATED, elapsedSince(startTime), simulation);
+
+		return simulation;
+	}
+
+	/* (non-Javadoc) */
+	private RebalanceResults await(String regionGroup, RebalanceOperation rebalanceOperation, long startTime)
+			throws InterruptedException {
+
+		while (true) {
+			try {
+				return rebalanceOperation.getResults(getProgressInterval(), TimeUnit.MILLISECONDS);
+			}
+			catch (TimeoutException ignore) {
+
+				long elapsedTime = elapsedSince(startTime);
+
+				if (getMaxRebalanceTime() > 0 && elapsedTime >= getMaxRebalanceTime()) {
+					rebalanceOperation.cancel();
+					publish(regionGroup, RebalanceEvent.Status.CANCELLED, elapsedTime, null);
+					logger.warn(String.format("Cancelled rebalance of Region group [%1$s] after [%2$d] ms",
+						regionGroup, elapsedTime));
+					return null;
+				}
+
+				publish(regionGroup, RebalanceEvent.Status.IN_PROGRESS, elapsedTime, null);
+			}
+			catch (CancellationException cause) {
+				publish(regionGroup, RebalanceEvent.Status.CANCELLED, elapsedSince(startTime), null);
+				return null;
+			}
+			catch (InterruptedException cause) {
+				rebalanceOperation.cancel();
+				publish(regionGroup, RebalanceEvent.Status.CANCELLED, elapsedSince(startTime), null);
+				throw cause;
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private RebalanceStatistics completed(String regionGroup, long startTime, RebalanceResults results) {
+
+		RebalanceStatistics groupStatistics = RebalanceStatistics.from(regionGroup, false, results);
+
+		this.statistics.put(regionGroup, groupStatistics);
+		this.rebalanceCount.incrementAndGet();
+		this.totalBucketsMoved.addAndGet(groupStatistics.getBucketsMoved());
+		this.totalBytesMoved.addAndGet(groupStatistics.getBytesMoved());
+		this.totalPrimaryTransfers.addAndGet(groupStatistics.getPrimaryTransfersCompleted());
+		this.totalRebalanceTime.addAndGet(groupStatistics.getTotalTime());
+
+		publish(regionGroup, RebalanceEvent.Status.COMPLETED, elapsedSince(startTime), groupStatistics);
+
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Rebalanced Region group %s", groupStatistics));
+		}
+
+		return groupStatistics;
+	}
+
+	/* (non-Javadoc) */
+	private void failed(String regionGroup, long elapsedTime, RuntimeException cause) {
+		publish(regionGroup, RebalanceEvent.Status.FAILED, elapsedTime, null);
+		logger.warn(String.format("Failed to rebalance Region group [%s]", regionGroup), cause);
+	}
+
+	/* (non-Javadoc) */
+	private long elapsedSince(long startTime) {
+		return (System.currentTimeMillis() - startTime);
+	}
+
+	/* (non-Javadoc) */
+	private RebalanceFactory newRebalanceFactory(Set<String> regionNames) {
+
+		RebalanceFactory rebalanceFactory = resolveCache().getResourceManager().createRebalanceFactory();
+
+		return (regionNames.isEmpty() ? rebalanceFactory : rebalanceFactory.includeRegions(regionNames));
+	}
+
+	/* (non-Javadoc) */
+	private void publish(String regionGroup, RebalanceEvent.Status status, long elapsedTime,
+			RebalanceStatistics statistics) {
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Rebalance of Region group [%1$s] %2$s after [%3$d] ms", regionGroup,
+				status, elapsedTime));
+		}
+
+		Optional.ofNullable(this.applicationEventPublisher).ifPresent(applicationEventPublisher ->
+			applicationEventPublisher.publishEvent(new RebalanceEvent(this, regionGroup, status, elapsedTime,
+				statistics)));
+	}
+
+	/**
+	 * Schedules a rebalance once no other member has joined the distributed system
+	 * for the {@link #getMembershipChangeDelay() membership change delay}.
+	 *
+	 * @return a boolean value indicating whether a rebalance was scheduled.
+	 */
+	public synchronized boolean onMembershipChange() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+
+			Optional.ofNullable(this.pendingMembershipChangeRebalance).ifPresent(pendingRebalance ->
+				pendingRebalance.cancel(false));
+
+			this.pendingMembershipChangeRebalance =
+				scheduler.schedule(this::rebalance, getMembershipChangeDelay(), TimeUnit.MILLISECONDS);
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Starts scheduled rebalances and listens for members joining the distributed system, when configured.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (!isRunning()) {
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			if (getRebalanceInterval() > 0) {
+				this.scheduler.scheduleWithFixedDelay(this::rebalance, getRebalanceInterval(), getRebalanceInterval(),
+					TimeUnit.MILLISECONDS);
+			}
+
+			if (isRebalanceOnMembershipChange()) {
+				registerMembershipListener();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	void registerMembershipListener() {
+
+		this.managementService = ManagementService.getManagementService(resolveCache());
+
+		this.membershipListener = new MembershipListener() {
+
+			@Override
+			public void memberJoined(MembershipEvent event) {
+				onMembershipChange();
+			}
+
+			@Override
+			public void memberLeft(MembershipEvent event) {
+			}
+
+			@Override
+			public void memberCrashed(MembershipEvent event) {
+			}
+		};
+
+		this.managementService.addMembershipListener(this.membershipListener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isRunning() {
+		return (this.scheduler != null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void stop() {
+
+		Optional.ofNullable(this.managementService).ifPresent(managementService ->
+			managementService.removeMembershipListener(this.membershipListener));
+
+		Optional.ofNullable(this.scheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.managementService = null;
+		this.membershipListener = null;
+		this.pendingMembershipChangeRebalance = null;
+		this.scheduler = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	/**
+	 * Returns the phase of this {@link SmartLifecycle}, starting after all other components.
+	 *
+	 * @return {@link Integer#MAX_VALUE}.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+}
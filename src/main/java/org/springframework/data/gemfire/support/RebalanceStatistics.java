@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import org.apache.geode.cache.control.RebalanceResults;
+
+/**
+ * The {@link RebalanceStatistics} class is an immutable summary of the {@link RebalanceResults}
+ * of a simulated or actual rebalance of a group of {@link org.apache.geode.cache.Region Regions}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.control.RebalanceResults
+ * @see org.springframework.data.gemfire.support.RebalanceService
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class RebalanceStatistics {
+
+	private final boolean simulated;
+
+	private final int bucketCreatesCompleted;
+	private final int bucketTransfersCompleted;
+	private final int primaryTransfersCompleted;
+
+	private final long bucketCreateBytes;
+	private final long bucketTransferBytes;
+	private final long timestamp;
+	private final long totalTime;
+
+	private final String regionGroup;
+
+	/**
+	 * Factory method used to summarize the given {@link RebalanceResults}.
+	 *
+	 * @param regionGroup name of the group of {@link org.apache.geode.cache.Region Regions} rebalanced.
+	 * @param simulated boolean indicating whether the rebalance was simulated.
+	 * @param results {@link RebalanceResults} of the rebalance.
+	 * @return a new {@link RebalanceStatistics} summarizing the given {@link RebalanceResults}.
+	 * @see org.apache.geode.cache.control.RebalanceResults
+	 */
+	public static RebalanceStatistics from(String regionGroup, boolean simulated, RebalanceResults results) {
+
+		return new RebalanceStatistics(regionGroup, simulated, results.getTotalBucketCreatesCompleted(),
+			results.getTotalBucketCreateBytes(), results.getTotalBucketTransfersCompleted(),
+			results.getTotalBucketTransferBytes(), results.getTotalPrimaryTransfersCompleted(),
+			results.getTotalTime());
+	}
+
+	/**
+	 * Constructs an instance of {@link RebalanceStatistics}.
+	 *
+	 * @param regionGroup name of the group of {@link org.apache.geode.cache.Region Regions} rebalanced.
+	 * @param simulated boolean indicating whether the rebalance was simulated.
+	 * @param bucketCreatesCompleted number of redundant buckets created.
+	 * @param bucketCreateBytes number of bytes of the redundant buckets created.
+	 * @param bucketTransfersCompleted number of buckets moved between members.
+	 * @param bucketTransferBytes number of bytes of the buckets moved between members.
+	 * @param primaryTransfersCompleted number of primary buckets reassigned.
+	 * @param totalTime time in milliseconds taken by the rebalance.
+	 */
+	public RebalanceStatistics(String regionGroup, boolean simulated, int bucketCreatesCompleted,
+			long bucketCreateBytes, int bucketTransfersCompleted, long bucketTransferBytes,
+			int primaryTransfersCompleted, long totalTime) {
+
+		this.regionGroup = regionGroup;
+		this.simulated = simulated;
+		this.bucketCreatesCompleted = bucketCreatesCompleted;
+		this.bucketCreateBytes = bucketCreateBytes;
+		this.bucketTransfersCompleted = bucketTransfersCompleted;
+		this.bucketTransferBytes = bucketTransferBytes;
+		this.primaryTransfersCompleted = primaryTransfersCompleted;
+		this.totalTime = totalTime;
+		this.timestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the number of bytes of the redundant buckets created.
+	 *
+	 * @return the number of bytes of the redundant buckets created.
+	 */
+	public long getBucketCreateBytes() {
+		return this.bucketCreateBytes;
+	}
+
+	/**
+	 * Returns the number of redundant buckets created.
+	 *
+	 * @return the number of redundant buckets created.
+	 */
+	public int getBucketCreatesCompleted() {
+		return this.bucketCreatesCompleted;
+	}
+
+	/**
+	 * Returns the number of bytes of the buckets moved between members.
+	 *
+	 * @return the number of bytes of the buckets moved between members.
+	 */
+	public long getBucketTransferBytes() {
+		return this.bucketTransferBytes;
+	}
+
+	/**
+	 * Returns the number of buckets moved between members.
+	 *
+	 * @return the number of buckets moved between members.
+	 */
+	public int getBucketTransfersCompleted() {
+		return this.bucketTransfersCompleted;
+	}
+
+	/**
+	 * Returns the total number of buckets created and moved.
+	 *
+	 * @return the total number of buckets created and moved.
+	 * @see #getBucketCreatesCompleted()
+	 * @see #getBucketTransfersCompleted()
+	 */
+	public int getBucketsMoved() {
+		return (getBucketCreatesCompleted() + getBucketTransfersCompleted());
+	}
+
+	/**
+	 * Returns the total number of bytes of the buckets created and moved.
+	 *
+	 * @return the total number of bytes of the buckets created and moved.
+	 * @see #getBucketCreateBytes()
+	 * @see #getBucketTransferBytes()
+	 */
+	public long getBytesMoved() {
+		return (getBucketCreateBytes() + getBucketTransferBytes());
+	}
+
+	/**
+	 * Returns the number of primary buckets reassigned.
+	 *
+	 * @return the number of primary buckets reassigned.
+	 */
+	public int getPrimaryTransfersCompleted() {
+		return this.primaryTransfersCompleted;
+	}
+
+	/**
+	 * Returns the name of the group of {@link org.apache.geode.cache.Region Regions} rebalanced.
+	 *
+	 * @return the name of the group of {@link org.apache.geode.cache.Region Regions} rebalanced.
+	 */
+	public String getRegionGroup() {
+		return this.regionGroup;
+	}
+
+	/**
+	 * Returns the time, in milliseconds since the epoch, at which the rebalance completed.
+	 *
+	 * @return the time at which the rebalance completed.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Returns the time in milliseconds taken by the rebalance.
+	 *
+	 * @return the time in milliseconds taken by the rebalance.
+	 */
+	public long getTotalTime() {
+		return this.totalTime;
+	}
+
+	/**
+	 * Determines whether the rebalance was simulated.
+	 *
+	 * @return a boolean value indicating whether the rebalance was simulated.
+	 */
+	public boolean isSimulated() {
+		return this.simulated;
+	}
+
+	/**
+	 * Determines whether the rebalance moved, or would move, any buckets or primaries.
+	 *
+	 * @return a boolean value indicating whether the rebalance changed, or would change, the bucket layout.
+	 */
+	public boolean isEmpty() {
+		return (getBucketsMoved() == 0 && getPrimaryTransfersCompleted() == 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ regionGroup = %1$s, simulated = %2$s, bucketCreatesCompleted = %3$d,"
+			+ " bucketCreateBytes = %4$d, bucketTransfersCompleted = %5$d, bucketTransferBytes = %6$d,"
+			+ " primaryTransfersCompleted = %7$d, totalTime = %8$d ms }", getRegionGroup(), isSimulated(),
+			getBucketCreatesCompleted(), getBucketCreateBytes(), getBucketTransfersCompleted(),
+			getBucketTransferBytes(), getPrimaryTransfersCompleted(), getTotalTime());
+	}
+}
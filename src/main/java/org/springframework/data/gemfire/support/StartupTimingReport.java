@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link StartupTimingReport} class records the time taken to create and initialize each GemFire component
+ * (e.g. the cache, Disk Stores, Regions and Indexes) while bootstrapping a Spring Data GemFire application.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.support.ParallelBootstrapCoordinator
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class StartupTimingReport {
+
+	private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Records the time taken to create the named component.
+	 *
+	 * @param name name of the component.
+	 * @param type type of the component (e.g. Region).
+	 * @param elapsedTimeNanos time in nanoseconds taken to create the component.
+	 */
+	public void record(String name, String type, long elapsedTimeNanos) {
+		this.entries.add(new Entry(name, type, Thread.currentThread().getName(), elapsedTimeNanos));
+	}
+
+	/**
+	 * Returns all recorded entries in the order recorded.
+	 *
+	 * @return a {@link List} of all recorded entries.
+	 */
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(new ArrayList<>(this.entries));
+	}
+
+	/**
+	 * Returns all recorded entries, slowest first.
+	 *
+	 * @return a {@link List} of all recorded entries sorted by elapsed time in descending order.
+	 */
+	public List<Entry> getEntriesBySlowest() {
+
+		List<Entry> entries = new ArrayList<>(this.entries);
+
+		entries.sort(Comparator.comparingLong(Entry::getElapsedTimeNanos).reversed());
+
+		return Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Returns the sum of the time taken to create all recorded components.  When components were created
+	 * concurrently, the sum exceeds the actual startup time.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the sum of the time taken to create all recorded components.
+	 */
+	public long getTotalTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.entries.stream().mapToLong(Entry::getElapsedTimeNanos).sum(),
+			TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder report = new StringBuilder("Startup timing report (slowest first):");
+
+		getEntriesBySlowest().forEach(entry -> report.append(String.format("%n  %1$s [%2$s] took %3$d ms on %4$s",
+			entry.getType(), entry.getName(), entry.getElapsedTime(TimeUnit.MILLISECONDS), entry.getThreadName())));
+
+		return report.toString();
+	}
+
+	/**
+	 * The {@link Entry} class records the time taken to create a single component.
+	 */
+	public static class Entry {
+
+		private final long elapsedTimeNanos;
+
+		private final String name;
+		private final String threadName;
+		private final String type;
+
+		/* (non-Javadoc) */
+		Entry(String name, String type, String threadName, long elapsedTimeNanos) {
+			this.name = name;
+			this.type = type;
+			this.threadName = threadName;
+			this.elapsedTimeNanos = elapsedTimeNanos;
+		}
+
+		public long getElapsedTime(TimeUnit timeUnit) {
+			return timeUnit.convert(this.elapsedTimeNanos, TimeUnit.NANOSECONDS);
+		}
+
+		long getElapsedTimeNanos() {
+			return this.elapsedTimeNanos;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getThreadName() {
+			return this.threadName;
+		}
+
+		public String getType() {
+			return this.type;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ name = %1$s, type = %2$s, thread = %3$s, elapsedTimeNanos = %4$d }",
+				getName(), getType(), getThreadName(), this.elapsedTimeNanos);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The {@link CommitConflictRetryAdvisor} class is a Spring AOP {@link org.springframework.aop.Advisor} applying
+ * the {@link CommitConflictRetryInterceptor} to all {@link Transactional @Transactional} and
+ * {@link RetryOnCommitConflict @RetryOnCommitConflict} annotated methods and classes.
+ *
+ * The advisor is ordered with the {@link Ordered#HIGHEST_PRECEDENCE highest precedence} by default so that
+ * each retry runs in a new transaction started by the Spring
+ * {@link org.springframework.transaction.interceptor.TransactionInterceptor}.
+ *
+ * @author John Blum
+ * @see org.springframework.aop.support.AbstractPointcutAdvisor
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @since 2.0.0
+ */
+@SuppressWarnings({ "serial", "unused" })
+public class CommitConflictRetryAdvisor extends AbstractPointcutAdvisor implements BeanFactoryAware {
+
+	private final CommitConflictRetryInterceptor retryInterceptor;
+
+	private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+
+		@Override
+		public boolean matches(Method method, Class<?> targetClass) {
+			Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+			return (isAnnotated(specificMethod) || isAnnotated(specificMethod.getDeclaringClass())
+				|| isAnnotated(method) || (targetClass != null && isAnnotated(targetClass)));
+		}
+
+		private boolean isAnnotated(AnnotatedElement element) {
+			return (AnnotatedElementUtils.hasAnnotation(element, Transactional.class)
+				|| AnnotatedElementUtils.hasAnnotation(element, RetryOnCommitConflict.class));
+		}
+	};
+
+	/**
+	 * Constructs an instance of the {@link CommitConflictRetryAdvisor} using
+	 * the {@link CommitConflictRetryPolicy#DEFAULT default retry policy}.
+	 */
+	public CommitConflictRetryAdvisor() {
+		this(CommitConflictRetryPolicy.DEFAULT);
+	}
+
+	/**
+	 * Constructs an instance of the {@link CommitConflictRetryAdvisor} initialized with
+	 * the default {@link CommitConflictRetryPolicy}.
+	 *
+	 * @param defaultRetryPolicy {@link CommitConflictRetryPolicy} applied to methods not annotated with
+	 * {@link RetryOnCommitConflict}.
+	 */
+	public CommitConflictRetryAdvisor(CommitConflictRetryPolicy defaultRetryPolicy) {
+		this.retryInterceptor = new CommitConflictRetryInterceptor(defaultRetryPolicy);
+		setOrder(Ordered.HIGHEST_PRECEDENCE);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.retryInterceptor.setBeanFactory(beanFactory);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Advice getAdvice() {
+		return this.retryInterceptor;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Pointcut getPointcut() {
+		return this.pointcut;
+	}
+}
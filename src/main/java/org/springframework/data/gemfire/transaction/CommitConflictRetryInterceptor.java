@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.CommitConflictException;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The {@link CommitConflictRetryInterceptor} class is an AOP Alliance {@link MethodInterceptor} retrying
+ * a transactional method in a new transaction when the commit of the GemFire cache transaction fails with
+ * a {@link CommitConflictException}.
+ *
+ * The {@link CommitConflictRetryPolicy} is declared with the {@link RetryOnCommitConflict} annotation on the method
+ * or class, otherwise the default policy applies.  This interceptor must be ordered before (outside) the Spring
+ * {@link org.springframework.transaction.interceptor.TransactionInterceptor} and only retries the outermost
+ * transactional method, since a method participating in an existing transaction cannot be retried on its own.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryPolicy
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+ * @see org.springframework.data.gemfire.transaction.RetryOnCommitConflict
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class CommitConflictRetryInterceptor implements MethodInterceptor, BeanFactoryAware {
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private BeanFactory beanFactory;
+
+	private final CommitConflictRetryPolicy defaultRetryPolicy;
+
+	private volatile GemfireTransactionMetrics transactionMetrics;
+
+	/**
+	 * Constructs an instance of the {@link CommitConflictRetryInterceptor} using
+	 * the {@link CommitConflictRetryPolicy#DEFAULT default retry policy}.
+	 */
+	public CommitConflictRetryInterceptor() {
+		this(CommitConflictRetryPolicy.DEFAULT);
+	}
+
+	/**
+	 * Constructs an instance of the {@link CommitConflictRetryInterceptor} initialized with
+	 * the {@link CommitConflictRetryPolicy} applied to methods not annotated with {@link RetryOnCommitConflict}.
+	 *
+	 * @param defaultRetryPolicy default {@link CommitConflictRetryPolicy}.
+	 * @throws IllegalArgumentException if the default {@link CommitConflictRetryPolicy} is {@literal null}.
+	 */
+	public CommitConflictRetryInterceptor(CommitConflictRetryPolicy defaultRetryPolicy) {
+		Assert.notNull(defaultRetryPolicy, "Default CommitConflictRetryPolicy must not be null");
+		this.defaultRetryPolicy = defaultRetryPolicy;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	protected CommitConflictRetryPolicy getDefaultRetryPolicy() {
+		return this.defaultRetryPolicy;
+	}
+
+	/**
+	 * Sets the {@link GemfireTransactionMetrics} in which retries are recorded.  When not set, the metrics
+	 * of the single {@link GemfireTransactionManager} in the Spring context are used, if present.
+	 *
+	 * @param transactionMetrics {@link GemfireTransactionMetrics} in which retries are recorded.
+	 */
+	public void setTransactionMetrics(GemfireTransactionMetrics transactionMetrics) {
+		this.transactionMetrics = transactionMetrics;
+	}
+
+	/* (non-Javadoc) */
+	protected GemfireTransactionMetrics getTransactionMetrics() {
+		if (this.transactionMetrics == null && this.beanFactory instanceof ListableBeanFactory) {
+			Map<String, GemfireTransactionManager> transactionManagers = ((ListableBeanFactory) this.beanFactory)
+				.getBeansOfType(GemfireTransactionManager.class, false, false);
+
+			if (transactionManagers.size() == 1) {
+				this.transactionMetrics = transactionManagers.values().iterator().next().getTransactionMetrics();
+			}
+		}
+
+		return this.transactionMetrics;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				|| !(invocation instanceof ProxyMethodInvocation)) {
+
+			return invocation.proceed();
+		}
+
+		Class<?> targetClass = (invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null);
+
+		CommitConflictRetryPolicy retryPolicy = resolveRetryPolicy(invocation.getMethod(), targetClass);
+
+		for (int attempt = 1; true; attempt++) {
+			try {
+				// each attempt must run through the remaining interceptors, including the TransactionInterceptor
+				return ((ProxyMethodInvocation) invocation).invocableClone().proceed();
+			}
+			catch (Throwable cause) {
+				if (attempt >= retryPolicy.getMaxAttempts() || !isCommitConflict(cause)) {
+					throw cause;
+				}
+
+				String transactionName = ClassUtils.getQualifiedMethodName(invocation.getMethod(), targetClass);
+
+				long backoff = retryPolicy.getBackoff(attempt);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Commit of transaction [%1$s] conflicted on attempt [%2$d];"
+						+ " retrying in [%3$d] ms", transactionName, attempt, backoff));
+				}
+
+				recordRetry(transactionName);
+
+				try {
+					Thread.sleep(backoff);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+					throw cause;
+				}
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void recordRetry(String transactionName) {
+		GemfireTransactionMetrics transactionMetrics = getTransactionMetrics();
+
+		if (transactionMetrics != null) {
+			transactionMetrics.recordRetry(transactionName);
+		}
+	}
+
+	/**
+	 * Resolves the {@link CommitConflictRetryPolicy} declared with {@link RetryOnCommitConflict} on the method,
+	 * or the class, otherwise returns the default policy.
+	 *
+	 * @param method invoked {@link Method}.
+	 * @param targetClass {@link Class} of the target object; may be {@literal null}.
+	 * @return the resolved {@link CommitConflictRetryPolicy}.
+	 */
+	protected CommitConflictRetryPolicy resolveRetryPolicy(Method method, Class<?> targetClass) {
+		Method specificMethod = ClassUtils.getMostSpecificMethod(method, targetClass);
+
+		RetryOnCommitConflict retryOnCommitConflict =
+			AnnotatedElementUtils.findMergedAnnotation(specificMethod, RetryOnCommitConflict.class);
+
+		if (retryOnCommitConflict == null && targetClass != null) {
+			retryOnCommitConflict = AnnotatedElementUtils.findMergedAnnotation(targetClass,
+				RetryOnCommitConflict.class);
+		}
+
+		return (retryOnCommitConflict != null ? CommitConflictRetryPolicy.from(retryOnCommitConflict)
+			: getDefaultRetryPolicy());
+	}
+
+	/**
+	 * Determines whether the given {@link Throwable} was caused by a GemFire {@link CommitConflictException}.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @return a boolean value indicating whether the {@link Throwable} was caused by
+	 * a {@link CommitConflictException}.
+	 */
+	protected boolean isCommitConflict(Throwable cause) {
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof CommitConflictException) {
+				return true;
+			}
+
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+
+		return false;
+	}
+}
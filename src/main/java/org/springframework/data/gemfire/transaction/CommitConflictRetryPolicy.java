@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CommitConflictRetryPolicy} class defines the number of attempts and the backoff between attempts
+ * of a transactional method whose GemFire cache transaction commit conflicts.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.transaction.RetryOnCommitConflict
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class CommitConflictRetryPolicy {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final long DEFAULT_BACKOFF = 50L;
+	public static final long DEFAULT_MAX_BACKOFF = 1000L;
+
+	public static final double DEFAULT_MULTIPLIER = 2.0d;
+	public static final double DEFAULT_JITTER = 0.2d;
+
+	public static final CommitConflictRetryPolicy DEFAULT = new CommitConflictRetryPolicy(DEFAULT_MAX_ATTEMPTS,
+		DEFAULT_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+
+	private final int maxAttempts;
+
+	private final long backoff;
+	private final long maxBackoff;
+
+	private final double multiplier;
+	private final double jitter;
+
+	/**
+	 * Factory method used to construct a {@link CommitConflictRetryPolicy} from
+	 * the {@link RetryOnCommitConflict} annotation.
+	 *
+	 * @param retryOnCommitConflict {@link RetryOnCommitConflict} annotation declaring the retry policy.
+	 * @return a new {@link CommitConflictRetryPolicy}.
+	 */
+	public static CommitConflictRetryPolicy from(RetryOnCommitConflict retryOnCommitConflict) {
+		return new CommitConflictRetryPolicy(retryOnCommitConflict.maxAttempts(), retryOnCommitConflict.backoff(),
+			retryOnCommitConflict.maxBackoff(), retryOnCommitConflict.multiplier(), retryOnCommitConflict.jitter());
+	}
+
+	/**
+	 * Constructs an instance of the {@link CommitConflictRetryPolicy}.
+	 *
+	 * @param maxAttempts maximum number of attempts, including the first.
+	 * @param backoff initial time in milliseconds to wait before retrying.
+	 * @param maxBackoff maximum time in milliseconds to wait before retrying.
+	 * @param multiplier multiplier applied to the backoff after each attempt.
+	 * @param jitter fraction by which the backoff is randomly increased or decreased.
+	 * @throws IllegalArgumentException if any of the arguments are out of range.
+	 */
+	public CommitConflictRetryPolicy(int maxAttempts, long backoff, long maxBackoff, double multiplier,
+			double jitter) {
+
+		Assert.isTrue(maxAttempts > 0, String.format("maxAttempts [%d] must be greater than 0", maxAttempts));
+		Assert.isTrue(backoff >= 0, String.format("backoff [%d] must be greater than equal to 0", backoff));
+		Assert.isTrue(maxBackoff >= backoff, String.format(
+			"maxBackoff [%1$d] must be greater than equal to backoff [%2$d]", maxBackoff, backoff));
+		Assert.isTrue(multiplier >= 1.0d, String.format("multiplier [%s] must be greater than equal to 1.0",
+			multiplier));
+		Assert.isTrue(jitter >= 0.0d && jitter <= 1.0d, String.format("jitter [%s] must be between 0.0 and 1.0",
+			jitter));
+
+		this.maxAttempts = maxAttempts;
+		this.backoff = backoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	public long getBackoff() {
+		return this.backoff;
+	}
+
+	public long getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	public double getMultiplier() {
+		return this.multiplier;
+	}
+
+	public double getJitter() {
+		return this.jitter;
+	}
+
+	/**
+	 * Computes the time in milliseconds to wait before the next attempt.
+	 *
+	 * @param attempt number of the attempt that failed, starting at 1.
+	 * @return the time in milliseconds to wait before the next attempt.
+	 */
+	public long getBackoff(int attempt) {
+		double backoff = Math.min(getBackoff() * Math.pow(getMultiplier(), Math.max(attempt - 1, 0)),
+			getMaxBackoff());
+
+		double jitter = (getJitter() > 0.0d ? ThreadLocalRandom.current().nextDouble(-getJitter(), getJitter())
+			: 0.0d);
+
+		return Math.max(Math.round(backoff * (1.0d + jitter)), 0L);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ maxAttempts = %1$d, backoff = %2$d, maxBackoff = %3$d, multiplier = %4$s,"
+			+ " jitter = %5$s }", getMaxAttempts(), getBackoff(), getMaxBackoff(), getMultiplier(), getJitter());
+	}
+}
@@ -18,17 +18,20 @@
 package org.springframework.data.gemfire.transaction;
 
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newCacheHolder;
+import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newReadOnlyCacheHolder;
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheTransactionObject.newCacheTransactionObject;
 
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.TransactionId;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -55,7 +58,20 @@ import org.springframework.util.Assert;
  * <p>
  * By default, to prevent dirty reads, the {@link GemFireCache} is configured to return copies rather then direct references
  * for <code>get</code> data access operations. As a workaround, one could use explicitly deep copy objects before
- * making changes to them to avoid unnecessary copying on every fetch.
+ * making changes to them to avoid unnecessary copying on every fetch.  With {@link #setCopyOnRead(boolean) copy-on-read}
+ * disabled, only values read with the {@link org.springframework.data.gemfire.GemfireTemplate} inside a read-write
+ * cache transaction are copied.
+ *
+ * <p>
+ * When {@link #setSuppressReadOnlyCacheTransactions(boolean) enabled}, read-only transactions
+ * (e.g. {@literal @Transactional(readOnly = true)}) do not begin a GemFire cache transaction at all.  A read-write
+ * participant joining such a read-only transaction fails with an
+ * {@link org.springframework.transaction.IllegalTransactionStateException} rather than writing outside
+ * of any cache transaction.
+ *
+ * <p>
+ * The latency along with the number of commits, commit conflicts and rollbacks of each named transaction
+ * are recorded in {@link GemfireTransactionMetrics}.
  *
  * @author Costin Leau
  * @author John Blum
@@ -70,6 +86,7 @@ import org.springframework.util.Assert;
  * @see org.springframework.transaction.support.AbstractPlatformTransactionManager
  * @see org.springframework.transaction.support.ResourceTransactionManager
  * @see org.springframework.transaction.support.TransactionSynchronizationManager
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
  * @see #setCopyOnRead(boolean)
  */
 @SuppressWarnings("unused")
@@ -81,6 +98,9 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	private GemFireCache cache;
 
 	private boolean copyOnRead = true;
+	private boolean suppressReadOnlyCacheTransactions = false;
+
+	private final GemfireTransactionMetrics transactionMetrics = new GemfireTransactionMetrics();
 
 	private Long resumeWaitTime;
 
@@ -140,6 +160,14 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			CacheTransactionObject cacheTransaction = (CacheTransactionObject) transaction;
 			GemFireCache cache = getCache();
 
+			// read-only transactions do not require a GemFire cache transaction
+			if (definition.isReadOnly() && isSuppressReadOnlyCacheTransactions()) {
+				TransactionSynchronizationManager.bindResource(cache,
+					cacheTransaction.setAndGetHolder(newReadOnlyCacheHolder(definition.getName())));
+
+				return;
+			}
+
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Acquired GemFire Cache [%s] for local cache transaction", cache));
 			}
@@ -153,7 +181,9 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			if (transactionId != null) {
 				TransactionSynchronizationManager.bindResource(cache,
-					cacheTransaction.setAndGetHolder(newCacheHolder(transactionId)));
+					cacheTransaction.setAndGetHolder(newCacheHolder(transactionId, definition.getName())));
+
+				getTransactionMetrics().recordBegin(definition.getName());
 			}
 		}
 		catch (IllegalStateException e) {
@@ -163,22 +193,63 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		}
 	}
 
+	/**
+	 * Rejects a read-write participant joining a read-only transaction for which no GemFire cache transaction
+	 * was begun, since its writes would not be transactional.
+	 *
+	 * @inheritDoc
+	 */
+	@Override
+	protected DefaultTransactionStatus newTransactionStatus(TransactionDefinition definition, Object transaction,
+			boolean newTransaction, boolean newSynchronization, boolean debug, Object suspendedResources) {
+
+		CacheHolder holder = (transaction instanceof CacheTransactionObject
+			? ((CacheTransactionObject) transaction).getHolder() : null);
+
+		if (!newTransaction && holder != null && holder.isReadOnly() && !definition.isReadOnly()) {
+			throw new IllegalTransactionStateException(String.format(
+				"Participating transaction [%s] is not marked as read-only but the existing transaction is;"
+					+ " no GemFire cache transaction was begun for the read-only transaction", definition));
+		}
+
+		return super.newTransactionStatus(definition, transaction, newTransaction, newSynchronization, debug,
+			suspendedResources);
+	}
+
 	/**
 	 * @inheritDoc
 	 */
 	@Override
 	protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
+		CacheHolder holder = ((CacheTransactionObject) status.getTransaction()).getHolder();
+
+		if (holder != null && holder.isReadOnly()) {
+			return;
+		}
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Committing local cache transaction");
 			}
 
 			getCacheTransactionManager().commit();
+
+			if (holder != null) {
+				getTransactionMetrics().recordCommit(holder.getTransactionName(), holder.complete());
+			}
 		}
 		catch (IllegalStateException e) {
 			throw new NoTransactionException(
 				"No transaction is associated with the current thread; are multiple transaction managers present?", e);
 		}
+		catch (CommitConflictException e) {
+			if (holder != null) {
+				getTransactionMetrics().recordCommitConflict(holder.getTransactionName(), holder.complete());
+			}
+
+			throw new GemfireTransactionCommitException(
+				"Conflict occurred on commit of local cache transaction", e);
+		}
 		catch (org.apache.geode.cache.TransactionException e) {
 			throw new GemfireTransactionCommitException(
 				"Unexpected failure occurred on commit of local cache transaction", e);
@@ -190,6 +261,13 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 */
 	@Override
 	protected Object doSuspend(Object transaction) throws TransactionException {
+		CacheHolder holder = ((CacheTransactionObject) transaction).getHolder();
+
+		if (holder != null && holder.isReadOnly()) {
+			TransactionSynchronizationManager.unbindResource(getCache());
+			return ((CacheTransactionObject) transaction).setAndGetExistingHolder(null);
+		}
+
 		if (getCacheTransactionManager().suspend() != null) {
 			TransactionSynchronizationManager.unbindResource(getCache());
 			return ((CacheTransactionObject) transaction).setAndGetExistingHolder(null);
@@ -206,10 +284,10 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		if (suspendedResources instanceof CacheHolder) {
 			CacheHolder holder = (CacheHolder) suspendedResources;
 
-			boolean resumeSuccessful = (isResumeWaitTimeSet()
+			boolean resumeSuccessful = (holder.isReadOnly() || (isResumeWaitTimeSet()
 				? getCacheTransactionManager().tryResume(holder.getTransactionId(),
 				getResumeWaitTime(), getResumeWaitTimeUnit())
-				: getCacheTransactionManager().tryResume(holder.getTransactionId()));
+				: getCacheTransactionManager().tryResume(holder.getTransactionId())));
 
 			if (resumeSuccessful) {
 				TransactionSynchronizationManager.bindResource(getCache(),
@@ -223,12 +301,22 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 */
 	@Override
 	protected void doRollback(DefaultTransactionStatus status) throws TransactionException {
+		CacheHolder holder = ((CacheTransactionObject) status.getTransaction()).getHolder();
+
+		if (holder != null && holder.isReadOnly()) {
+			return;
+		}
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Rolling back local cache transaction");
 			}
 
 			getCacheTransactionManager().rollback();
+
+			if (holder != null && !holder.isCompleted()) {
+				getTransactionMetrics().recordRollback(holder.getTransactionName(), holder.complete());
+			}
 		}
 		catch (IllegalStateException e) {
 			throw new NoTransactionException(
@@ -285,6 +373,17 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		return getCache().getCacheTransactionManager();
 	}
 
+	/**
+	 * Returns the {@link GemfireTransactionMetrics} recording the latency, commits, commit conflicts and rollbacks
+	 * of the local cache transactions managed by this transaction manager.
+	 *
+	 * @return the {@link GemfireTransactionMetrics} for this transaction manager.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+	 */
+	public GemfireTransactionMetrics getTransactionMetrics() {
+		return this.transactionMetrics;
+	}
+
 	/**
 	 * Set whether the cache returns direct object references or copies of the objects it manages.
 	 * While copies imply additional work for every fetch operation, direct object references can
@@ -311,7 +410,32 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 * @see #setCopyOnRead(boolean)
 	 */
 	public boolean isCopyOnRead() {
-		return copyOnRead;
+		return this.copyOnRead;
+	}
+
+	/**
+	 * Sets whether read-only transactions (e.g. {@literal @Transactional(readOnly = true)}) skip beginning
+	 * a GemFire cache transaction, avoiding the cost of the cache transaction for transactions that only read.
+	 * Defaults to {@literal false}.
+	 *
+	 * A read-write participant cannot join a read-only transaction for which no cache transaction was begun
+	 * and fails with an {@link IllegalTransactionStateException}.
+	 *
+	 * @param suppressReadOnlyCacheTransactions boolean value indicating whether read-only transactions
+	 * skip beginning a GemFire cache transaction.
+	 */
+	public void setSuppressReadOnlyCacheTransactions(boolean suppressReadOnlyCacheTransactions) {
+		this.suppressReadOnlyCacheTransactions = suppressReadOnlyCacheTransactions;
+	}
+
+	/**
+	 * Indicates whether read-only transactions skip beginning a GemFire cache transaction.
+	 *
+	 * @return a boolean value indicating whether read-only transactions skip beginning a GemFire cache transaction.
+	 * @see #setSuppressReadOnlyCacheTransactions(boolean)
+	 */
+	public boolean isSuppressReadOnlyCacheTransactions() {
+		return this.suppressReadOnlyCacheTransactions;
 	}
 
 	/**
@@ -442,17 +566,52 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 */
 	protected static class CacheHolder {
 
+		private boolean completed = false;
+		private boolean readOnly = false;
 		private boolean rollbackOnly = false;
 
+		private final long startTime = System.nanoTime();
+
+		private String transactionName;
+
 		private TransactionId transactionId;
 
 		/* (non-Javadoc) */
 		static CacheHolder newCacheHolder(TransactionId transactionId) {
+			return newCacheHolder(transactionId, null);
+		}
+
+		/* (non-Javadoc) */
+		static CacheHolder newCacheHolder(TransactionId transactionId, String transactionName) {
 			CacheHolder cacheHolder = new CacheHolder();
 			cacheHolder.transactionId = transactionId;
+			cacheHolder.transactionName = transactionName;
+			return cacheHolder;
+		}
+
+		/* (non-Javadoc) */
+		static CacheHolder newReadOnlyCacheHolder(String transactionName) {
+			CacheHolder cacheHolder = newCacheHolder(null, transactionName);
+			cacheHolder.readOnly = true;
 			return cacheHolder;
 		}
 
+		/* (non-Javadoc) */
+		boolean isReadOnly() {
+			return this.readOnly;
+		}
+
+		/* (non-Javadoc) */
+		long complete() {
+			this.completed = true;
+			return (System.nanoTime() - this.startTime);
+		}
+
+		/* (non-Javadoc) */
+		boolean isCompleted() {
+			return this.completed;
+		}
+
 		/* (non-Javadoc) */
 		boolean isRollbackOnly() {
 			return this.rollbackOnly;
@@ -467,5 +626,10 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		TransactionId getTransactionId() {
 			return this.transactionId;
 		}
+
+		/* (non-Javadoc) */
+		String getTransactionName() {
+			return this.transactionName;
+		}
 	}
 }
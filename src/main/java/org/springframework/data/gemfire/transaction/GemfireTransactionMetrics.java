@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link GemfireTransactionMetrics} class records the latency, commit, commit conflict, rollback and retry counts
+ * of GemFire cache transactions managed by the {@link GemfireTransactionManager}, per transaction name.
+ *
+ * The transaction name is the name of the Spring {@link org.springframework.transaction.TransactionDefinition},
+ * which for {@link org.springframework.transaction.annotation.Transactional @Transactional} methods is the fully
+ * qualified method name.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GemfireTransactionMetrics {
+
+	protected static final String UNNAMED_TRANSACTION = "unnamed";
+
+	private final ConcurrentMap<String, TransactionStatistics> statistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the {@link TransactionStatistics} for all named transactions.
+	 *
+	 * @return an unmodifiable {@link Map} of transaction name to {@link TransactionStatistics}.
+	 */
+	public Map<String, TransactionStatistics> getAllStatistics() {
+		return Collections.unmodifiableMap(this.statistics);
+	}
+
+	/**
+	 * Returns the {@link TransactionStatistics} for the named transaction.
+	 *
+	 * @param transactionName name of the transaction.
+	 * @return the {@link TransactionStatistics} for the named transaction; never {@literal null}.
+	 */
+	public TransactionStatistics getStatistics(String transactionName) {
+		return this.statistics.computeIfAbsent(toTransactionName(transactionName), key -> new TransactionStatistics());
+	}
+
+	/* (non-Javadoc) */
+	private String toTransactionName(String transactionName) {
+		return (StringUtils.hasText(transactionName) ? transactionName : UNNAMED_TRANSACTION);
+	}
+
+	/* (non-Javadoc) */
+	void recordBegin(String transactionName) {
+		getStatistics(transactionName).begins.increment();
+	}
+
+	/* (non-Javadoc) */
+	void recordCommit(String transactionName, long durationNanos) {
+		TransactionStatistics transactionStatistics = getStatistics(transactionName);
+		transactionStatistics.commits.increment();
+		transactionStatistics.recordLatency(durationNanos);
+	}
+
+	/* (non-Javadoc) */
+	void recordCommitConflict(String transactionName, long durationNanos) {
+		TransactionStatistics transactionStatistics = getStatistics(transactionName);
+		transactionStatistics.commitConflicts.increment();
+		transactionStatistics.recordLatency(durationNanos);
+	}
+
+	/* (non-Javadoc) */
+	void recordRollback(String transactionName, long durationNanos) {
+		TransactionStatistics transactionStatistics = getStatistics(transactionName);
+		transactionStatistics.rollbacks.increment();
+		transactionStatistics.recordLatency(durationNanos);
+	}
+
+	/* (non-Javadoc) */
+	void recordRetry(String transactionName) {
+		getStatistics(transactionName).retries.increment();
+	}
+
+	/**
+	 * Resets all recorded statistics.
+	 */
+	public void reset() {
+		this.statistics.clear();
+	}
+
+	/**
+	 * The {@link TransactionStatistics} class holds the counters and latencies of a single named transaction.
+	 */
+	public static class TransactionStatistics {
+
+		private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+		private final LongAdder begins = new LongAdder();
+		private final LongAdder commits = new LongAdder();
+		private final LongAdder commitConflicts = new LongAdder();
+		private final LongAdder completions = new LongAdder();
+		private final LongAdder retries = new LongAdder();
+		private final LongAdder rollbacks = new LongAdder();
+		private final LongAdder totalLatencyNanos = new LongAdder();
+
+		/* (non-Javadoc) */
+		void recordLatency(long durationNanos) {
+			this.completions.increment();
+			this.totalLatencyNanos.add(durationNanos);
+			this.maxLatencyNanos.accumulate(durationNanos);
+		}
+
+		public long getBeginCount() {
+			return this.begins.sum();
+		}
+
+		public long getCommitCount() {
+			return this.commits.sum();
+		}
+
+		public long getCommitConflictCount() {
+			return this.commitConflicts.sum();
+		}
+
+		public long getRetryCount() {
+			return this.retries.sum();
+		}
+
+		public long getRollbackCount() {
+			return this.rollbacks.sum();
+		}
+
+		/**
+		 * Returns the average time from begin to commit or rollback of the transaction.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned latency.
+		 * @return the average latency of the transaction in the given {@link TimeUnit}.
+		 */
+		public double getAverageLatency(TimeUnit timeUnit) {
+			long completions = this.completions.sum();
+
+			return (completions > 0 ? (double) this.totalLatencyNanos.sum() / completions
+				/ TimeUnit.NANOSECONDS.convert(1, timeUnit) : 0.0d);
+		}
+
+		/**
+		 * Returns the maximum time from begin to commit or rollback of the transaction.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned latency.
+		 * @return the maximum latency of the transaction in the given {@link TimeUnit}.
+		 */
+		public long getMaxLatency(TimeUnit timeUnit) {
+			return timeUnit.convert(this.maxLatencyNanos.get(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ begins = %1$d, commits = %2$d, commitConflicts = %3$d, rollbacks = %4$d,"
+				+ " retries = %5$d, averageLatencyMillis = %6$.3f, maxLatencyMillis = %7$d }", getBeginCount(),
+					getCommitCount(), getCommitConflictCount(), getRollbackCount(), getRetryCount(),
+						getAverageLatency(TimeUnit.MILLISECONDS), getMaxLatency(TimeUnit.MILLISECONDS));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link RetryOnCommitConflict} annotation declares the retry policy applied to a transactional method,
+ * or all transactional methods of a class, when the commit of the GemFire cache transaction fails with
+ * a {@link org.apache.geode.cache.CommitConflictException}.
+ *
+ * The method is retried in a new transaction after waiting for the backoff, which grows by the multiplier
+ * on each attempt up to the maximum backoff and is randomized by the jitter.  Retries only apply to
+ * the outermost transactional method.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @see org.springframework.data.gemfire.config.annotation.EnableCommitConflictRetry
+ * @since 2.0.0
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings("unused")
+public @interface RetryOnCommitConflict {
+
+	/**
+	 * Maximum number of attempts, including the first; a value of 1 disables retries.
+	 *
+	 * Defaults to {@literal 3}.
+	 */
+	int maxAttempts() default CommitConflictRetryPolicy.DEFAULT_MAX_ATTEMPTS;
+
+	/**
+	 * Initial time in milliseconds to wait before retrying.
+	 *
+	 * Defaults to {@literal 50} ms.
+	 */
+	long backoff() default CommitConflictRetryPolicy.DEFAULT_BACKOFF;
+
+	/**
+	 * Maximum time in milliseconds to wait before retrying.
+	 *
+	 * Defaults to {@literal 1000} ms.
+	 */
+	long maxBackoff() default CommitConflictRetryPolicy.DEFAULT_MAX_BACKOFF;
+
+	/**
+	 * Multiplier applied to the backoff after each attempt.
+	 *
+	 * Defaults to {@literal 2.0}.
+	 */
+	double multiplier() default CommitConflictRetryPolicy.DEFAULT_MULTIPLIER;
+
+	/**
+	 * Fraction, between 0.0 and 1.0, by which the backoff is randomly increased or decreased
+	 * to spread out retries of conflicting transactions.
+	 *
+	 * Defaults to {@literal 0.2}.
+	 */
+	double jitter() default CommitConflictRetryPolicy.DEFAULT_JITTER;
+
+}
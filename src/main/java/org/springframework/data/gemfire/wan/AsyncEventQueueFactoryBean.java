@@ -15,12 +15,17 @@
  */
 package org.springframework.data.gemfire.wan;
 
+import java.util.function.Function;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheClosedException;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
 import org.apache.geode.cache.asyncqueue.AsyncEventListener;
 import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
 import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
 import org.apache.geode.cache.wan.GatewaySender;
+import org.springframework.data.gemfire.wan.support.ShardedOrderingAsyncEventListener;
+import org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener;
 import org.springframework.util.Assert;
 
 /**
@@ -33,6 +38,7 @@ import org.springframework.util.Assert;
 public class AsyncEventQueueFactoryBean extends AbstractWANComponentFactoryBean<AsyncEventQueue> {
 
 	private AsyncEventListener asyncEventListener;
+	private AsyncEventListener registeredAsyncEventListener;
 
 	private AsyncEventQueue asyncEventQueue;
 
@@ -46,6 +52,9 @@ public class AsyncEventQueueFactoryBean extends AbstractWANComponentFactoryBean<
 	private Integer batchTimeInterval;
 	private Integer dispatcherThreads;
 	private Integer maximumQueueMemory;
+	private Integer orderedLanes;
+
+	private Function<AsyncEvent<?, ?>, Object> orderingKeyExtractor;
 
 	private String diskStoreReference;
 	private String orderPolicy;
@@ -136,14 +145,27 @@ public class AsyncEventQueueFactoryBean extends AbstractWANComponentFactoryBean<
 			asyncEventQueueFactory.setPersistent(persistent);
 		}
 
-		asyncEventQueue = asyncEventQueueFactory.create(getName(), this.asyncEventListener);
+		AsyncEventListener targetAsyncEventListener = this.asyncEventListener;
+
+		this.registeredAsyncEventListener = (orderedLanes != null && orderedLanes > 1
+			? (orderingKeyExtractor != null
+				? new ShardedOrderingAsyncEventListener(targetAsyncEventListener, orderedLanes, orderingKeyExtractor)
+				: new ShardedOrderingAsyncEventListener(targetAsyncEventListener, orderedLanes))
+			: targetAsyncEventListener);
+
+		asyncEventQueue = asyncEventQueueFactory.create(getName(), this.registeredAsyncEventListener);
+
+		if (targetAsyncEventListener instanceof WriteBehindAsyncEventListener) {
+			((WriteBehindAsyncEventListener) targetAsyncEventListener).setAsyncEventQueue(asyncEventQueue);
+		}
 	}
 
 	@Override
 	public void destroy() throws Exception {
 		if (!cache.isClosed()) {
 			try {
-				this.asyncEventListener.close();
+				(this.registeredAsyncEventListener != null ? this.registeredAsyncEventListener
+					: this.asyncEventListener).close();
 			}
 			catch (CacheClosedException ignore) {
 			}
@@ -240,6 +262,28 @@ public class AsyncEventQueueFactoryBean extends AbstractWANComponentFactoryBean<
 		this.orderPolicy = orderPolicy;
 	}
 
+	/**
+	 * Set the number of lanes across which each batch of events is sharded by key and processed concurrently
+	 * by the {@link AsyncEventListener}, preserving the order of events with the same key.
+	 *
+	 * @param orderedLanes number of lanes; values less than 2 disable sharding.
+	 * @see org.springframework.data.gemfire.wan.support.ShardedOrderingAsyncEventListener
+	 */
+	public void setOrderedLanes(Integer orderedLanes) {
+		this.orderedLanes = orderedLanes;
+	}
+
+	/**
+	 * Set the {@link Function} extracting the key by which events are sharded across ordered lanes.
+	 * Defaults to the {@link AsyncEvent#getKey() Region entry key}.
+	 *
+	 * @param orderingKeyExtractor {@link Function} extracting the ordering key from an {@link AsyncEvent}.
+	 * @see #setOrderedLanes(Integer)
+	 */
+	public void setOrderingKeyExtractor(Function<AsyncEvent<?, ?>, Object> orderingKeyExtractor) {
+		this.orderingKeyExtractor = orderingKeyExtractor;
+	}
+
 	public void setParallel(Boolean parallel) {
 		this.parallel = parallel;
 	}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AdaptiveBatchTuningPolicy} class decides the batch size and batch time interval of a queue
+ * from a {@link GatewayQueueStatistics} sample, within configured bounds.
+ *
+ * When the queue backlog exceeds the target queue size, batches are always full and the batch size is doubled
+ * to drain the backlog with fewer round trips, while the batch time interval is halved so that a partially filled
+ * batch does not hold back the backlog.  When the queue holds less than half a batch, batches are only dispatched
+ * once the batch time interval elapses, so the batch size is reduced by a quarter and, when the observed throughput
+ * would not fill a batch within the interval, the interval is grown by half, up to the interval in which a batch
+ * is expected to fill, to dispatch fewer, fuller batches.  However, when the replication lag rises between two
+ * samples of an underfilled queue, that is, either the queue size or the average batch latency grows, the interval
+ * is shrunk by a quarter instead, so that events do not wait longer to be dispatched while the lag is already
+ * rising.  The settings are left unchanged while the queue size
+ * lies between the two thresholds, so that the settings do not oscillate between samples, apart from being
+ * kept within bounds.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueStatistics
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class AdaptiveBatchTuningPolicy {
+
+	public static final int DEFAULT_MIN_BATCH_SIZE = 100;
+	public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+	public static final int DEFAULT_MIN_BATCH_TIME_INTERVAL = 10;
+	public static final int DEFAULT_MAX_BATCH_TIME_INTERVAL = 1000;
+	public static final int DEFAULT_TARGET_QUEUE_SIZE = 1000;
+
+	private final int maxBatchSize;
+	private final int maxBatchTimeInterval;
+	private final int minBatchSize;
+	private final int minBatchTimeInterval;
+	private final int targetQueueSize;
+
+	/**
+	 * Constructs an instance of the {@link AdaptiveBatchTuningPolicy} with the default bounds.
+	 */
+	public AdaptiveBatchTuningPolicy() {
+		this(DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MIN_BATCH_TIME_INTERVAL,
+			DEFAULT_MAX_BATCH_TIME_INTERVAL, DEFAULT_TARGET_QUEUE_SIZE);
+	}
+
+	/**
+	 * Constructs an instance of the {@link AdaptiveBatchTuningPolicy} with the given bounds.
+	 *
+	 * @param minBatchSize minimum batch size.
+	 * @param maxBatchSize maximum batch size.
+	 * @param minBatchTimeInterval minimum batch time interval in milliseconds.
+	 * @param maxBatchTimeInterval maximum batch time interval in milliseconds.
+	 * @param targetQueueSize queue size above which the queue is considered backlogged.
+	 * @throws IllegalArgumentException if the bounds are invalid.
+	 */
+	public AdaptiveBatchTuningPolicy(int minBatchSize, int maxBatchSize, int minBatchTimeInterval,
+			int maxBatchTimeInterval, int targetQueueSize) {
+
+		Assert.isTrue(minBatchSize > 0 && minBatchSize <= maxBatchSize, String.format(
+			"Batch size bounds [%1$d, %2$d] are invalid", minBatchSize, maxBatchSize));
+
+		Assert.isTrue(minBatchTimeInterval > 0 && minBatchTimeInterval <= maxBatchTimeInterval, String.format(
+			"Batch time interval bounds [%1$d, %2$d] are invalid", minBatchTimeInterval, maxBatchTimeInterval));
+
+		Assert.isTrue(targetQueueSize > 0, String.format("Target queue size [%d] must be greater than 0",
+			targetQueueSize));
+
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.minBatchTimeInterval = minBatchTimeInterval;
+		this.maxBatchTimeInterval = maxBatchTimeInterval;
+		this.targetQueueSize = targetQueueSize;
+	}
+
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	public int getMaxBatchTimeInterval() {
+		return this.maxBatchTimeInterval;
+	}
+
+	public int getMinBatchSize() {
+		return this.minBatchSize;
+	}
+
+	public int getMinBatchTimeInterval() {
+		return this.minBatchTimeInterval;
+	}
+
+	public int getTargetQueueSize() {
+		return this.targetQueueSize;
+	}
+
+	/**
+	 * Decides the batch size for the queue sampled by the given {@link GatewayQueueStatistics}.
+	 *
+	 * @param statistics {@link GatewayQueueStatistics} sample of the queue.
+	 * @return the batch size.
+	 */
+	public int resolveBatchSize(GatewayQueueStatistics statistics) {
+
+		int batchSize = statistics.getBatchSize();
+
+		if (isBacklogged(statistics)) {
+			batchSize = batchSize * 2;
+		}
+		else if (isUnderfilled(statistics)) {
+			batchSize = batchSize - (batchSize / 4);
+		}
+
+		return Math.min(Math.max(batchSize, getMinBatchSize()), getMaxBatchSize());
+	}
+
+	/**
+	 * Decides the batch time interval for the queue sampled by the given {@link GatewayQueueStatistics}.
+	 *
+	 * @param statistics {@link GatewayQueueStatistics} sample of the queue.
+	 * @return the batch time interval in milliseconds.
+	 * @see #resolveBatchTimeInterval(GatewayQueueStatistics, GatewayQueueStatistics)
+	 */
+	public int resolveBatchTimeInterval(GatewayQueueStatistics statistics) {
+		return resolveBatchTimeInterval(statistics, null);
+	}
+
+	/**
+	 * Decides the batch time interval for the queue sampled by the given {@link GatewayQueueStatistics},
+	 * taking into account whether the replication lag rose since the previous sample of the queue.
+	 *
+	 * @param statistics {@link GatewayQueueStatistics} sample of the queue.
+	 * @param previousStatistics previous {@link GatewayQueueStatistics} sample of the queue;
+	 * may be {@literal null}.
+	 * @return the batch time interval in milliseconds.
+	 */
+	public int resolveBatchTimeInterval(GatewayQueueStatistics statistics, GatewayQueueStatistics previousStatistics) {
+
+		long batchTimeInterval = statistics.getBatchTimeInterval();
+
+		if (isBacklogged(statistics)) {
+			batchTimeInterval = batchTimeInterval / 2;
+		}
+		else if (isUnderfilled(statistics) && isLagRising(statistics, previousStatistics)) {
+			batchTimeInterval = batchTimeInterval - (batchTimeInterval / 4);
+		}
+		else if (isUnderfilled(statistics) && statistics.getThroughput() >= 0.0d) {
+
+			long fillTimeInterval = resolveFillTimeInterval(statistics);
+
+			if (batchTimeInterval < fillTimeInterval) {
+				batchTimeInterval = Math.min(batchTimeInterval + Math.max(batchTimeInterval / 2, 1L),
+					fillTimeInterval);
+			}
+		}
+
+		return (int) Math.min(Math.max(batchTimeInterval, getMinBatchTimeInterval()), getMaxBatchTimeInterval());
+	}
+
+	/**
+	 * Resolves the time in milliseconds in which a batch is expected to fill at the sampled throughput.
+	 *
+	 * @param statistics {@link GatewayQueueStatistics} sample of the queue.
+	 * @return the time in milliseconds in which a batch is expected to fill; the maximum batch time interval
+	 * if no events are being dispatched.
+	 */
+	protected long resolveFillTimeInterval(GatewayQueueStatistics statistics) {
+
+		double throughput = statistics.getThroughput();
+
+		return (throughput > 0.0d
+			? (long) Math.min(statistics.getBatchSize() * 1000.0d / throughput, getMaxBatchTimeInterval())
+			: getMaxBatchTimeInterval());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isBacklogged(GatewayQueueStatistics statistics) {
+		return (statistics.getQueueSize() > getTargetQueueSize());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isLagRising(GatewayQueueStatistics statistics, GatewayQueueStatistics previousStatistics) {
+
+		return (previousStatistics != null && (statistics.getQueueSize() > previousStatistics.getQueueSize()
+			|| (previousStatistics.getAverageBatchLatency() >= 0L
+				&& statistics.getAverageBatchLatency() > previousStatistics.getAverageBatchLatency())));
+	}
+
+	/* (non-Javadoc) */
+	private boolean isUnderfilled(GatewayQueueStatistics statistics) {
+		return (statistics.getQueueSize() < statistics.getBatchSize() / 2);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AsyncEventQueueMonitoredQueue} class is a {@link MonitoredGatewayQueue} for an {@link AsyncEventQueue}.
+ *
+ * Throughput and batch latency are only available when the {@link AsyncEventQueue} is processed by
+ * a {@link WriteBehindAsyncEventListener}.  The batch settings of an {@link AsyncEventQueue} cannot be changed
+ * at runtime.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.data.gemfire.wan.support.MonitoredGatewayQueue
+ * @since 2.0.0
+ */
+class AsyncEventQueueMonitoredQueue implements MonitoredGatewayQueue {
+
+	private final AsyncEventQueue asyncEventQueue;
+
+	/* (non-Javadoc) */
+	AsyncEventQueueMonitoredQueue(AsyncEventQueue asyncEventQueue) {
+		Assert.notNull(asyncEventQueue, "AsyncEventQueue is required");
+		this.asyncEventQueue = asyncEventQueue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getId() {
+		return this.asyncEventQueue.getId();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GatewayQueueStatistics sample() {
+
+		double throughput = GatewayQueueStatistics.UNAVAILABLE;
+
+		long averageBatchLatency = GatewayQueueStatistics.UNAVAILABLE;
+
+		AsyncEventListener asyncEventListener = this.asyncEventQueue.getAsyncEventListener();
+
+		if (asyncEventListener instanceof ShardedOrderingAsyncEventListener) {
+			asyncEventListener = ((ShardedOrderingAsyncEventListener) asyncEventListener).getDelegate();
+		}
+
+		if (asyncEventListener instanceof WriteBehindAsyncEventListener) {
+
+			WriteBehindMetrics metrics = ((WriteBehindAsyncEventListener) asyncEventListener).getMetrics();
+
+			throughput = metrics.getThroughput();
+			averageBatchLatency = metrics.getAverageBatchWriteTime(TimeUnit.MILLISECONDS);
+		}
+
+		return new GatewayQueueStatistics(getId(), this.asyncEventQueue.size(), this.asyncEventQueue.getBatchSize(),
+			this.asyncEventQueue.getBatchTimeInterval(), throughput, averageBatchLatency);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isTunable() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void tune(int batchSize, int batchTimeInterval) {
+		throw new UnsupportedOperationException(String.format(
+			"The batch settings of AsyncEventQueue [%s] cannot be changed at runtime", getId()));
+	}
+}
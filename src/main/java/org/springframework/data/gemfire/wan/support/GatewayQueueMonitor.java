@@ -0,0 +1,323 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link GatewayQueueMonitor} class periodically samples the queues of the {@link GatewaySender GatewaySenders}
+ * and {@link AsyncEventQueue AsyncEventQueues} declared in the Spring application context, recording
+ * the queue size, batch latency and throughput in {@link GatewayQueueStatistics}.
+ *
+ * Each sample is published as a {@link GatewayQueueSampledEvent}.  When configured with
+ * an {@link AdaptiveBatchTuningPolicy}, the batch size and batch time interval of each tunable queue are adjusted
+ * after each sample, within the bounds of the policy, to keep the queue backlog and replication lag low.
+ *
+ * @author John Blum
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.data.gemfire.wan.support.AdaptiveBatchTuningPolicy
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueSampledEvent
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueStatistics
+ * @see org.springframework.data.gemfire.wan.support.MonitoredGatewayQueue
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GatewayQueueMonitor implements ApplicationEventPublisherAware, BeanFactoryAware, SmartLifecycle {
+
+	public static final long DEFAULT_SAMPLE_INTERVAL = TimeUnit.SECONDS.toMillis(10);
+
+	protected static final String THREAD_NAME = "Gateway Queue Monitor";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private AdaptiveBatchTuningPolicy tuningPolicy;
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private BeanFactory beanFactory;
+
+	private final List<MonitoredGatewayQueue> queues = new CopyOnWriteArrayList<>();
+
+	private boolean declaredQueuesResolved;
+
+	private long sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+
+	private final Map<String, GatewayQueueStatistics> statistics = new ConcurrentHashMap<>();
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Adds the given queue to the queues monitored, in addition to the queues declared
+	 * in the Spring application context.
+	 *
+	 * @param queue {@link MonitoredGatewayQueue} to monitor.
+	 * @return this {@link GatewayQueueMonitor}.
+	 */
+	public GatewayQueueMonitor monitor(MonitoredGatewayQueue queue) {
+		Assert.notNull(queue, "MonitoredGatewayQueue is required");
+		this.queues.add(queue);
+		return this;
+	}
+
+	/**
+	 * Returns the queues monitored.
+	 *
+	 * @return an unmodifiable {@link List} of the queues monitored.
+	 */
+	public List<MonitoredGatewayQueue> getQueues() {
+		return Collections.unmodifiableList(this.queues);
+	}
+
+	/**
+	 * Sets the time in milliseconds between samples.
+	 *
+	 * @param sampleInterval time in milliseconds between samples.
+	 * @throws IllegalArgumentException if the sample interval is less than 1.
+	 */
+	public void setSampleInterval(long sampleInterval) {
+		Assert.isTrue(sampleInterval > 0, String.format("Sample interval [%d] must be greater than 0",
+			sampleInterval));
+		this.sampleInterval = sampleInterval;
+	}
+
+	/**
+	 * Returns the time in milliseconds between samples.
+	 *
+	 * @return the time in milliseconds between samples.
+	 */
+	public long getSampleInterval() {
+		return this.sampleInterval;
+	}
+
+	/**
+	 * Sets the {@link AdaptiveBatchTuningPolicy} used to adjust the batch settings of tunable queues.
+	 * Queues are only monitored if not set.
+	 *
+	 * @param tuningPolicy {@link AdaptiveBatchTuningPolicy} used to adjust batch settings.
+	 */
+	public void setTuningPolicy(AdaptiveBatchTuningPolicy tuningPolicy) {
+		this.tuningPolicy = tuningPolicy;
+	}
+
+	/**
+	 * Returns the {@link AdaptiveBatchTuningPolicy} used to adjust the batch settings of tunable queues.
+	 *
+	 * @return the {@link AdaptiveBatchTuningPolicy}, or {@literal null} if queues are only monitored.
+	 */
+	public AdaptiveBatchTuningPolicy getTuningPolicy() {
+		return this.tuningPolicy;
+	}
+
+	/**
+	 * Returns the last sample of each queue, keyed by queue ID.
+	 *
+	 * @return an unmodifiable {@link Map} of the last {@link GatewayQueueStatistics} of each queue.
+	 */
+	public Map<String, GatewayQueueStatistics> getStatistics() {
+		return Collections.unmodifiableMap(this.statistics);
+	}
+
+	/**
+	 * Samples all monitored queues, publishing a {@link GatewayQueueSampledEvent} for each sample and adjusting
+	 * the batch settings of tunable queues when an {@link AdaptiveBatchTuningPolicy} is configured.
+	 */
+	public void sample() {
+		for (MonitoredGatewayQueue queue : this.queues) {
+			try {
+				Optional.ofNullable(queue.sample()).ifPresent(statistics -> {
+					GatewayQueueStatistics previousStatistics = this.statistics.put(queue.getId(), statistics);
+					publish(statistics);
+					tune(queue, statistics, previousStatistics);
+				});
+			}
+			catch (RuntimeException cause) {
+				logger.warn(String.format("Failed to sample queue [%s]", queue.getId()), cause);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void publish(GatewayQueueStatistics statistics) {
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Sampled queue %s", statistics));
+		}
+
+		Optional.ofNullable(this.applicationEventPublisher).ifPresent(applicationEventPublisher ->
+			applicationEventPublisher.publishEvent(new GatewayQueueSampledEvent(this, statistics)));
+	}
+
+	/* (non-Javadoc) */
+	private void tune(MonitoredGatewayQueue queue, GatewayQueueStatistics statistics,
+			GatewayQueueStatistics previousStatistics) {
+
+		Optional.ofNullable(getTuningPolicy()).filter(tuningPolicy -> queue.isTunable()).ifPresent(tuningPolicy -> {
+
+			int batchSize = tuningPolicy.resolveBatchSize(statistics);
+			int batchTimeInterval = tuningPolicy.resolveBatchTimeInterval(statistics, previousStatistics);
+
+			if (batchSize != statistics.getBatchSize() || batchTimeInterval != statistics.getBatchTimeInterval()) {
+
+				queue.tune(batchSize, batchTimeInterval);
+
+				if (logger.isInfoEnabled()) {
+					logger.info(String.format("Tuned queue [%1$s] with size [%2$d] from batch size [%3$d] to [%4$d]"
+						+ " and batch time interval [%5$d] to [%6$d] ms", queue.getId(), statistics.getQueueSize(),
+						statistics.getBatchSize(), batchSize, statistics.getBatchTimeInterval(), batchTimeInterval));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Starts sampling the monitored queues, including all {@link GatewaySender GatewaySenders}
+	 * and {@link AsyncEventQueue AsyncEventQueues} declared in the Spring application context.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (!isRunning()) {
+
+			if (!this.declaredQueuesResolved) {
+				this.queues.addAll(resolveDeclaredQueues());
+				this.declaredQueuesResolved = true;
+			}
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			this.scheduler.scheduleWithFixedDelay(this::sample, getSampleInterval(), getSampleInterval(),
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/* (non-Javadoc) */
+	Collection<MonitoredGatewayQueue> resolveDeclaredQueues() {
+
+		List<MonitoredGatewayQueue> declaredQueues = new ArrayList<>();
+
+		if (this.beanFactory instanceof ListableBeanFactory) {
+
+			ListableBeanFactory listableBeanFactory = (ListableBeanFactory) this.beanFactory;
+
+			nullSafeMap(listableBeanFactory.getBeansOfType(AsyncEventQueue.class, false, false)).values()
+				.forEach(asyncEventQueue -> declaredQueues.add(MonitoredGatewayQueue.from(asyncEventQueue)));
+
+			Map<String, GatewaySender> gatewaySenders =
+				nullSafeMap(listableBeanFactory.getBeansOfType(GatewaySender.class, false, false));
+
+			if (!gatewaySenders.isEmpty()) {
+
+				Cache cache = listableBeanFactory.getBean(Cache.class);
+
+				gatewaySenders.values().forEach(gatewaySender ->
+					declaredQueues.add(MonitoredGatewayQueue.from(cache, gatewaySender)));
+			}
+		}
+
+		return declaredQueues;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isRunning() {
+		return (this.scheduler != null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void stop() {
+		Optional.ofNullable(this.scheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+		this.scheduler = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	/**
+	 * Returns the phase of this {@link SmartLifecycle}, starting after all other components.
+	 *
+	 * @return {@link Integer#MAX_VALUE}.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * The {@link GatewayQueueSampledEvent} class is a Spring {@link ApplicationEvent} published by
+ * the {@link GatewayQueueMonitor} each time a queue is sampled, allowing the {@link GatewayQueueStatistics}
+ * to be exported to a metrics system.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueStatistics
+ * @since 2.0.0
+ */
+@SuppressWarnings("serial")
+public class GatewayQueueSampledEvent extends ApplicationEvent {
+
+	private final transient GatewayQueueStatistics statistics;
+
+	/**
+	 * Constructs a new instance of {@link GatewayQueueSampledEvent}.
+	 *
+	 * @param source {@link GatewayQueueMonitor} that sampled the queue.
+	 * @param statistics {@link GatewayQueueStatistics} sample of the queue.
+	 */
+	public GatewayQueueSampledEvent(GatewayQueueMonitor source, GatewayQueueStatistics statistics) {
+		super(source);
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Returns the {@link GatewayQueueStatistics} sample of the queue.
+	 *
+	 * @return the {@link GatewayQueueStatistics} sample of the queue.
+	 */
+	public GatewayQueueStatistics getStatistics() {
+		return this.statistics;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+/**
+ * The {@link GatewayQueueStatistics} class is an immutable sample of the state of the queue
+ * of a {@link org.apache.geode.cache.wan.GatewaySender} or {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue}.
+ *
+ * Values that are not available for a particular queue are reported as {@literal -1}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @see org.springframework.data.gemfire.wan.support.MonitoredGatewayQueue
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class GatewayQueueStatistics {
+
+	protected static final int UNAVAILABLE = -1;
+
+	private final double throughput;
+
+	private final int batchSize;
+	private final int queueSize;
+
+	private final long averageBatchLatency;
+	private final long batchTimeInterval;
+	private final long timestamp;
+
+	private final String queueId;
+
+	/**
+	 * Constructs an instance of {@link GatewayQueueStatistics} sampled now.
+	 *
+	 * @param queueId {@link String} ID of the queue.
+	 * @param queueSize number of events waiting in the queue.
+	 * @param batchSize configured maximum number of events in a batch.
+	 * @param batchTimeInterval configured maximum time in milliseconds to wait for a batch to fill.
+	 * @param throughput number of events dispatched per second.
+	 * @param averageBatchLatency average time in milliseconds taken to dispatch a batch.
+	 */
+	public GatewayQueueStatistics(String queueId, int queueSize, int batchSize, long batchTimeInterval,
+			double throughput, long averageBatchLatency) {
+
+		this.queueId = queueId;
+		this.queueSize = queueSize;
+		this.batchSize = batchSize;
+		this.batchTimeInterval = batchTimeInterval;
+		this.throughput = throughput;
+		this.averageBatchLatency = averageBatchLatency;
+		this.timestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the average time in milliseconds taken to dispatch a batch.
+	 *
+	 * @return the average time in milliseconds taken to dispatch a batch.
+	 */
+	public long getAverageBatchLatency() {
+		return this.averageBatchLatency;
+	}
+
+	/**
+	 * Returns the configured maximum number of events in a batch.
+	 *
+	 * @return the configured maximum number of events in a batch.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the configured maximum time in milliseconds to wait for a batch to fill.
+	 *
+	 * @return the configured maximum time in milliseconds to wait for a batch to fill.
+	 */
+	public long getBatchTimeInterval() {
+		return this.batchTimeInterval;
+	}
+
+	/**
+	 * Returns the ID of the queue.
+	 *
+	 * @return the ID of the queue.
+	 */
+	public String getQueueId() {
+		return this.queueId;
+	}
+
+	/**
+	 * Returns the number of events waiting in the queue to be dispatched.
+	 *
+	 * @return the number of events waiting in the queue.
+	 */
+	public int getQueueSize() {
+		return this.queueSize;
+	}
+
+	/**
+	 * Returns the number of events dispatched per second.
+	 *
+	 * @return the number of events dispatched per second.
+	 */
+	public double getThroughput() {
+		return this.throughput;
+	}
+
+	/**
+	 * Returns the time, in milliseconds since the epoch, at which this sample was taken.
+	 *
+	 * @return the time at which this sample was taken.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ queueId = %1$s, queueSize = %2$d, batchSize = %3$d, batchTimeInterval = %4$d ms,"
+			+ " throughput = %5$.2f/s, averageBatchLatency = %6$d ms }", getQueueId(), getQueueSize(),
+			getBatchSize(), getBatchTimeInterval(), getThroughput(), getAverageBatchLatency());
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.management.GatewaySenderMXBean;
+import org.apache.geode.management.ManagementService;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link GatewaySenderMonitoredQueue} class is a {@link MonitoredGatewayQueue} for a {@link GatewaySender},
+ * sampled and tuned through the local {@link GatewaySenderMXBean} of the {@link GatewaySender}.
+ *
+ * The {@link GatewaySenderMXBean} does not report the rate at which events are dispatched, and batches are
+ * not necessarily full, so throughput is derived from the rate at which events are queued less the rate at which
+ * the queue grew since the previous sample.  Throughput is unavailable for the first sample.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see org.apache.geode.management.GatewaySenderMXBean
+ * @see org.springframework.data.gemfire.wan.support.MonitoredGatewayQueue
+ * @since 2.0.0
+ */
+class GatewaySenderMonitoredQueue implements MonitoredGatewayQueue {
+
+	private final Cache cache;
+
+	private final GatewaySender gatewaySender;
+
+	private int previousQueueSize;
+
+	private long previousSampleTime;
+
+	/* (non-Javadoc) */
+	GatewaySenderMonitoredQueue(Cache cache, GatewaySender gatewaySender) {
+
+		Assert.notNull(cache, "Cache is required");
+		Assert.notNull(gatewaySender, "GatewaySender is required");
+
+		this.cache = cache;
+		this.gatewaySender = gatewaySender;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getId() {
+		return this.gatewaySender.getId();
+	}
+
+	/* (non-Javadoc) */
+	Optional<GatewaySenderMXBean> resolveGatewaySenderMXBean() {
+		return Optional.ofNullable(ManagementService.getManagementService(this.cache))
+			.map(managementService -> managementService.getLocalGatewaySenderMXBean(getId()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GatewayQueueStatistics sample() {
+
+		return resolveGatewaySenderMXBean().map(gatewaySenderMXBean -> {
+
+			int queueSize = gatewaySenderMXBean.getEventQueueSize();
+
+			double throughput = resolveThroughput(gatewaySenderMXBean.getEventsQueuedRate(), queueSize,
+				System.nanoTime());
+
+			return new GatewayQueueStatistics(getId(), queueSize, gatewaySenderMXBean.getBatchSize(),
+				gatewaySenderMXBean.getBatchTimeInterval(), throughput,
+				gatewaySenderMXBean.getAverageDistributionTimePerBatch());
+
+		}).orElse(null);
+	}
+
+	/* (non-Javadoc) */
+	synchronized double resolveThroughput(double eventsQueuedRate, int queueSize, long sampleTime) {
+
+		try {
+			if (this.previousSampleTime == 0L || sampleTime <= this.previousSampleTime) {
+				return GatewayQueueStatistics.UNAVAILABLE;
+			}
+
+			double elapsedSeconds = (sampleTime - this.previousSampleTime) / (double) TimeUnit.SECONDS.toNanos(1);
+
+			double queueGrowthRate = (queueSize - this.previousQueueSize) / elapsedSeconds;
+
+			return Math.max(eventsQueuedRate - queueGrowthRate, 0.0d);
+		}
+		finally {
+			this.previousQueueSize = queueSize;
+			this.previousSampleTime = sampleTime;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isTunable() {
+		return resolveGatewaySenderMXBean().isPresent();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void tune(int batchSize, int batchTimeInterval) {
+
+		GatewaySenderMXBean gatewaySenderMXBean = resolveGatewaySenderMXBean().orElseThrow(() ->
+			new UnsupportedOperationException(String.format("GatewaySenderMXBean for GatewaySender [%s] not found",
+				getId())));
+
+		gatewaySenderMXBean.setBatchSize(batchSize);
+		gatewaySenderMXBean.setBatchTimeInterval(batchTimeInterval);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.wan.GatewaySender;
+
+/**
+ * The {@link MonitoredGatewayQueue} interface adapts the queue of a {@link GatewaySender}
+ * or an {@link AsyncEventQueue} for sampling by the {@link GatewayQueueMonitor} and, where supported,
+ * for adjusting the batch settings at runtime.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.apache.geode.cache.wan.GatewaySender
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @since 2.0.0
+ */
+public interface MonitoredGatewayQueue {
+
+	/**
+	 * Adapts the given {@link AsyncEventQueue}.
+	 *
+	 * @param asyncEventQueue {@link AsyncEventQueue} to monitor.
+	 * @return a {@link MonitoredGatewayQueue} for the given {@link AsyncEventQueue}.
+	 */
+	static MonitoredGatewayQueue from(AsyncEventQueue asyncEventQueue) {
+		return new AsyncEventQueueMonitoredQueue(asyncEventQueue);
+	}
+
+	/**
+	 * Adapts the given {@link GatewaySender} using the local
+	 * {@link org.apache.geode.management.GatewaySenderMXBean} in the given {@link Cache}.
+	 *
+	 * @param cache {@link Cache} in which the {@link GatewaySender} was created.
+	 * @param gatewaySender {@link GatewaySender} to monitor.
+	 * @return a {@link MonitoredGatewayQueue} for the given {@link GatewaySender}.
+	 */
+	static MonitoredGatewayQueue from(Cache cache, GatewaySender gatewaySender) {
+		return new GatewaySenderMonitoredQueue(cache, gatewaySender);
+	}
+
+	/**
+	 * Returns the ID of the queue.
+	 *
+	 * @return the ID of the queue.
+	 */
+	String getId();
+
+	/**
+	 * Samples the current state of the queue.
+	 *
+	 * @return a {@link GatewayQueueStatistics} sample, or {@literal null} if the queue cannot be sampled right now.
+	 */
+	GatewayQueueStatistics sample();
+
+	/**
+	 * Determines whether the batch settings of the queue can be changed at runtime.
+	 *
+	 * @return a boolean value indicating whether the batch settings of the queue can be changed at runtime.
+	 */
+	boolean isTunable();
+
+	/**
+	 * Changes the batch settings of the queue.
+	 *
+	 * @param batchSize new maximum number of events in a batch.
+	 * @param batchTimeInterval new maximum time in milliseconds to wait for a batch to fill.
+	 * @throws UnsupportedOperationException if the queue is not {@link #isTunable() tunable}.
+	 */
+	void tune(int batchSize, int batchTimeInterval);
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RepositoryWriteBehindBatchWriter} class is a {@link WriteBehindBatchWriter} writing each
+ * {@link WriteBehindBatch} to the Spring Data {@link CrudRepository} registered for the batch entity type,
+ * using {@link CrudRepository#saveAll(Iterable)} for creates and updates and {@link CrudRepository#deleteById(Object)}
+ * for deletes.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchWriter
+ * @see org.springframework.data.repository.CrudRepository
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class RepositoryWriteBehindBatchWriter implements WriteBehindBatchWriter {
+
+	private final Map<Class<?>, CrudRepository<?, ?>> repositories = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers the {@link CrudRepository} used to write entities of the given type.
+	 *
+	 * @param <T> {@link Class} type of the entity.
+	 * @param entityType {@link Class} type of the entity.
+	 * @param repository {@link CrudRepository} used to write entities of the given type.
+	 * @return this {@link RepositoryWriteBehindBatchWriter}.
+	 * @throws IllegalArgumentException if the entity type or {@link CrudRepository} is {@literal null}.
+	 */
+	public <T> RepositoryWriteBehindBatchWriter register(Class<T> entityType, CrudRepository<T, ?> repository) {
+
+		Assert.notNull(entityType, "Entity type is required");
+		Assert.notNull(repository, "CrudRepository is required");
+
+		this.repositories.put(entityType, repository);
+
+		return this;
+	}
+
+	/**
+	 * Sets the {@link CrudRepository CrudRepositories} used to write entities, keyed by entity type.
+	 *
+	 * @param repositories {@link Map} of {@link CrudRepository CrudRepositories} keyed by entity type.
+	 */
+	public void setRepositories(Map<Class<?>, CrudRepository<?, ?>> repositories) {
+		this.repositories.clear();
+		this.repositories.putAll(repositories);
+	}
+
+	/**
+	 * Resolves the {@link CrudRepository} used to write entities of the given type.
+	 *
+	 * @param entityType {@link Class} type of the entity.
+	 * @return the {@link CrudRepository} used to write entities of the given type.
+	 * @throws IllegalStateException if no {@link CrudRepository} was registered for the entity type.
+	 */
+	protected CrudRepository<Object, Object> resolveRepository(Class<?> entityType) {
+
+		CrudRepository<?, ?> repository = this.repositories.get(entityType);
+
+		if (repository == null) {
+			throw newIllegalStateException("No CrudRepository was registered for entity type [%s]",
+				entityType.getName());
+		}
+
+		return cast(repository);
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private static CrudRepository<Object, Object> cast(CrudRepository<?, ?> repository) {
+		return (CrudRepository<Object, Object>) repository;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(WriteBehindBatch batch) throws Exception {
+
+		CrudRepository<Object, Object> repository = resolveRepository(batch.getEntityType());
+
+		if (!batch.getUpserts().isEmpty()) {
+			repository.saveAll(batch.getUpserts().values());
+		}
+
+		batch.getDeletes().forEach(repository::deleteById);
+	}
+}
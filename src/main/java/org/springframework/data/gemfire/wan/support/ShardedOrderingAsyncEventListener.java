@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ShardedOrderingAsyncEventListener} class is an {@link AsyncEventListener} wrapper that shards
+ * each batch of {@link AsyncEvent AsyncEvents} across a fixed number of lanes by the hash of a key extracted
+ * from each event, processing the lanes concurrently with the wrapped {@link AsyncEventListener}.
+ *
+ * Every lane is processed by a single {@link Thread} and events with the same key always map to the same lane,
+ * in the order in which they were delivered.  Therefore, events for the same key are processed in order, while
+ * events for different keys are processed in parallel.  A batch is only acknowledged once all lanes have
+ * processed their events successfully, otherwise the entire batch is redelivered by
+ * the {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue}, so the wrapped listener must be idempotent.
+ *
+ * Ordering across batches requires that the {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue} delivers
+ * the events of a key in order, as a serial queue does, or a queue using the {@literal KEY}
+ * or {@literal PARTITION} order policy with multiple dispatcher threads.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventListener
+ * @see org.springframework.data.gemfire.wan.AsyncEventQueueFactoryBean#setOrderedLanes(Integer)
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class ShardedOrderingAsyncEventListener implements AsyncEventListener {
+
+	protected static final String THREAD_NAME_PREFIX = "Ordered Event Lane-";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final AsyncEventListener delegate;
+
+	private final ExecutorService[] lanes;
+
+	private final Function<AsyncEvent<?, ?>, Object> keyExtractor;
+
+	/**
+	 * Constructs an instance of the {@link ShardedOrderingAsyncEventListener} sharding events by
+	 * {@link AsyncEvent#getKey() key}.
+	 *
+	 * @param delegate {@link AsyncEventListener} processing the events of each lane.
+	 * @param laneCount number of lanes.
+	 * @see #ShardedOrderingAsyncEventListener(AsyncEventListener, int, Function)
+	 */
+	public ShardedOrderingAsyncEventListener(AsyncEventListener delegate, int laneCount) {
+		this(delegate, laneCount, AsyncEvent::getKey);
+	}
+
+	/**
+	 * Constructs an instance of the {@link ShardedOrderingAsyncEventListener} sharding events by the key
+	 * extracted with the given {@link Function}.
+	 *
+	 * @param delegate {@link AsyncEventListener} processing the events of each lane.
+	 * @param laneCount number of lanes.
+	 * @param keyExtractor {@link Function} extracting the ordering key from an {@link AsyncEvent}.
+	 * @throws IllegalArgumentException if the delegate or key extractor is {@literal null},
+	 * or the lane count is less than 1.
+	 */
+	public ShardedOrderingAsyncEventListener(AsyncEventListener delegate, int laneCount,
+			Function<AsyncEvent<?, ?>, Object> keyExtractor) {
+
+		Assert.notNull(delegate, "AsyncEventListener is required");
+		Assert.isTrue(laneCount > 0, String.format("Lane count [%d] must be greater than 0", laneCount));
+		Assert.notNull(keyExtractor, "Key extractor is required");
+
+		this.delegate = delegate;
+		this.keyExtractor = keyExtractor;
+		this.lanes = new ExecutorService[laneCount];
+
+		for (int index = 0; index < laneCount; index++) {
+
+			String threadName = THREAD_NAME_PREFIX + (index + 1);
+
+			this.lanes[index] = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, threadName);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Returns the wrapped {@link AsyncEventListener} processing the events of each lane.
+	 *
+	 * @return the wrapped {@link AsyncEventListener}.
+	 */
+	public AsyncEventListener getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the number of lanes.
+	 *
+	 * @return the number of lanes.
+	 */
+	public int getLaneCount() {
+		return this.lanes.length;
+	}
+
+	/**
+	 * Shards the given {@link AsyncEvent AsyncEvents} across lanes and waits for all lanes to process their events.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} delivered by the
+	 * {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue}.
+	 * @return {@literal true} if all lanes processed their events successfully, {@literal false}
+	 * if the events should be redelivered.
+	 */
+	@Override
+	@SuppressWarnings("all")
+	public boolean processEvents(List<AsyncEvent> events) {
+
+		List<List<AsyncEvent>> shards = shard(nullSafeList(events));
+
+		List<Future<Boolean>> results = new ArrayList<>(shards.size());
+
+		for (int index = 0; index < shards.size(); index++) {
+
+			List<AsyncEvent> shard = shards.get(index);
+
+			if (!shard.isEmpty()) {
+				results.add(this.lanes[index].submit(() -> this.delegate.processEvents(shard)));
+			}
+		}
+
+		boolean processed = true;
+
+		for (Future<Boolean> result : results) {
+			try {
+				processed &= Boolean.TRUE.equals(result.get());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			catch (ExecutionException cause) {
+				logger.error("Failed to process ordered events; the events will be redelivered", cause.getCause());
+				processed = false;
+			}
+		}
+
+		return processed;
+	}
+
+	/**
+	 * Shards the given {@link AsyncEvent AsyncEvents} by the hash of their key, preserving the delivery order
+	 * within each shard.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to shard.
+	 * @return a {@link List} containing the events of each lane.
+	 */
+	@SuppressWarnings("all")
+	protected List<List<AsyncEvent>> shard(List<AsyncEvent> events) {
+
+		List<List<AsyncEvent>> shards = new ArrayList<>(getLaneCount());
+
+		for (int index = 0; index < getLaneCount(); index++) {
+			shards.add(new ArrayList<>());
+		}
+
+		for (AsyncEvent event : events) {
+			shards.get(resolveLane(this.keyExtractor.apply(event))).add(event);
+		}
+
+		return shards;
+	}
+
+	/* (non-Javadoc) */
+	int resolveLane(Object key) {
+
+		int hash = Objects.hashCode(key);
+
+		return Math.floorMod(hash ^ (hash >>> 16), getLaneCount());
+	}
+
+	/**
+	 * Stops all lanes and closes the wrapped {@link AsyncEventListener}.
+	 */
+	@Override
+	public void close() {
+
+		for (ExecutorService lane : this.lanes) {
+			lane.shutdown();
+		}
+
+		this.delegate.close();
+	}
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.wan.EventSequenceID;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link WriteBehindAsyncEventListener} class is a Geode {@link AsyncEventListener} that writes the events
+ * delivered by an {@link AsyncEventQueue} behind to a backend data store in batches.
+ *
+ * Each batch of {@link AsyncEvent AsyncEvents} is grouped by application entity type and conflated by key,
+ * so that only the latest create, update or destroy of each key is written.  Each group is then written
+ * in a single {@link WriteBehindBatch} by the configured {@link WriteBehindBatchWriter}.  Failed writes
+ * are retried with an exponential back off, which applies back pressure to the {@link AsyncEventQueue}.
+ * Once all retries are exhausted, the writes of a failed batch are retried individually to isolate
+ * the offending entities, which are finally handed to the {@link WriteBehindDeadLetterHandler}.
+ *
+ * When a batch cannot be written nor dead-lettered, all events are requested to be redelivered by the
+ * {@link AsyncEventQueue}.  The events of the groups that were already written are remembered by their
+ * {@link EventSequenceID} and skipped on redelivery, so only the failed groups are written again.  The remembered
+ * events are forgotten once a delivery is fully written, or when they are no longer part of a redelivery.  Events
+ * without an {@link EventSequenceID}, or redelivered after a restart, may still be written more than once, so
+ * the {@link WriteBehindBatchWriter} should be idempotent.
+ *
+ * The entity type of a destroyed entry is resolved from the value constraint of its {@link Region}, the entity type
+ * registered for the {@link Region} with {@link #setRegionEntityTypes(Map)}, or the type of the last value written
+ * to the {@link Region}.  Events of which the entity type cannot be resolved are rejected with an
+ * {@link IllegalStateException}.
+ *
+ * Throughput and lag are recorded in {@link WriteBehindMetrics}.
+ *
+ * This listener is configured on an {@link AsyncEventQueue} with the
+ * {@link org.springframework.data.gemfire.wan.AsyncEventQueueFactoryBean}, in which case the queue size
+ * is reported in the {@link WriteBehindMetrics}.  Enabling batch conflation on the {@link AsyncEventQueue}
+ * is recommended as well.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventListener
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.data.gemfire.wan.AsyncEventQueueFactoryBean
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatch
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchWriter
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindDeadLetterHandler
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindMetrics
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class WriteBehindAsyncEventListener implements AsyncEventListener {
+
+	protected static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	protected static final long DEFAULT_RETRY_BACK_OFF = 100L;
+
+	protected static final double DEFAULT_RETRY_BACK_OFF_MULTIPLIER = 2.0d;
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private double retryBackOffMultiplier = DEFAULT_RETRY_BACK_OFF_MULTIPLIER;
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+	private long retryBackOff = DEFAULT_RETRY_BACK_OFF;
+
+	private final Map<String, Class<?>> regionEntityTypes = new ConcurrentHashMap<>();
+
+	private final Set<EventSequenceID> writtenEventIds = ConcurrentHashMap.newKeySet();
+
+	private final WriteBehindBatchWriter batchWriter;
+
+	private WriteBehindDeadLetterHandler deadLetterHandler;
+
+	private final WriteBehindMetrics metrics = new WriteBehindMetrics();
+
+	/**
+	 * Constructs an instance of the {@link WriteBehindAsyncEventListener} initialized with
+	 * the given {@link WriteBehindBatchWriter}.
+	 *
+	 * @param batchWriter {@link WriteBehindBatchWriter} used to write batches to the backend data store.
+	 * @throws IllegalArgumentException if the {@link WriteBehindBatchWriter} is {@literal null}.
+	 * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchWriter
+	 */
+	public WriteBehindAsyncEventListener(WriteBehindBatchWriter batchWriter) {
+		Assert.notNull(batchWriter, "WriteBehindBatchWriter is required");
+		this.batchWriter = batchWriter;
+	}
+
+	/**
+	 * Returns the {@link WriteBehindBatchWriter} used to write batches to the backend data store.
+	 *
+	 * @return the {@link WriteBehindBatchWriter}.
+	 */
+	public WriteBehindBatchWriter getBatchWriter() {
+		return this.batchWriter;
+	}
+
+	/**
+	 * Sets the {@link AsyncEventQueue} delivering events to this listener, used to report the queue size.
+	 *
+	 * @param asyncEventQueue {@link AsyncEventQueue} delivering events to this listener.
+	 * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+	 */
+	public void setAsyncEventQueue(AsyncEventQueue asyncEventQueue) {
+		this.metrics.setAsyncEventQueue(asyncEventQueue);
+	}
+
+	/**
+	 * Registers the application entity types stored in the {@link Region Regions} with the given paths,
+	 * used to resolve the entity type of destroyed entries.
+	 *
+	 * @param regionEntityTypes {@link Map} of {@link Region} full paths to application entity types.
+	 * @see #resolveEntityType(AsyncEvent)
+	 */
+	public void setRegionEntityTypes(Map<String, Class<?>> regionEntityTypes) {
+		Optional.ofNullable(regionEntityTypes).ifPresent(this.regionEntityTypes::putAll);
+	}
+
+	/**
+	 * Sets the {@link WriteBehindDeadLetterHandler} handling writes that failed after all retries were exhausted.
+	 * By default, failed writes are logged.
+	 *
+	 * @param deadLetterHandler {@link WriteBehindDeadLetterHandler} handling failed writes.
+	 */
+	public void setDeadLetterHandler(WriteBehindDeadLetterHandler deadLetterHandler) {
+		this.deadLetterHandler = deadLetterHandler;
+	}
+
+	/**
+	 * Returns the {@link WriteBehindDeadLetterHandler} handling writes that failed after all retries were exhausted.
+	 *
+	 * @return the {@link WriteBehindDeadLetterHandler}.
+	 */
+	public WriteBehindDeadLetterHandler getDeadLetterHandler() {
+		return Optional.ofNullable(this.deadLetterHandler).orElseGet(() -> this::logDeadLetters);
+	}
+
+	/**
+	 * Sets the maximum number of attempts to write a batch before the writes are retried individually.
+	 *
+	 * @param maxAttempts maximum number of attempts to write a batch.
+	 * @throws IllegalArgumentException if max attempts is less than 1.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		Assert.isTrue(maxAttempts > 0, String.format("Max attempts [%d] must be greater than 0", maxAttempts));
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * Returns the maximum number of attempts to write a batch before the writes are retried individually.
+	 *
+	 * @return the maximum number of attempts to write a batch.
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait before the first retry of a failed write.
+	 *
+	 * @param retryBackOff time in milliseconds to wait before the first retry.
+	 */
+	public void setRetryBackOff(long retryBackOff) {
+		this.retryBackOff = Math.max(retryBackOff, 0L);
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait before the first retry of a failed write.
+	 *
+	 * @return the time in milliseconds to wait before the first retry.
+	 */
+	public long getRetryBackOff() {
+		return this.retryBackOff;
+	}
+
+	/**
+	 * Sets the multiplier applied to the back off time after each retry.
+	 *
+	 * @param retryBackOffMultiplier multiplier applied to the back off time after each retry.
+	 */
+	public void setRetryBackOffMultiplier(double retryBackOffMultiplier) {
+		this.retryBackOffMultiplier = Math.max(retryBackOffMultiplier, 1.0d);
+	}
+
+	/**
+	 * Returns the multiplier applied to the back off time after each retry.
+	 *
+	 * @return the multiplier applied to the back off time after each retry.
+	 */
+	public double getRetryBackOffMultiplier() {
+		return this.retryBackOffMultiplier;
+	}
+
+	/**
+	 * Returns the {@link WriteBehindMetrics} recording the throughput and lag of this listener.
+	 *
+	 * @return the {@link WriteBehindMetrics}.
+	 */
+	public WriteBehindMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Groups the given {@link AsyncEvent AsyncEvents} by entity type, conflates them by key and writes each group
+	 * as a single {@link WriteBehindBatch}.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} delivered by the {@link AsyncEventQueue}.
+	 * @return {@literal true} if all events were either written or dead-lettered, {@literal false}
+	 * if the events should be redelivered.
+	 */
+	@Override
+	@SuppressWarnings("all")
+	public boolean processEvents(List<AsyncEvent> events) {
+
+		long startTime = System.nanoTime();
+
+		List<AsyncEvent> pendingEvents = withoutWrittenEvents(events);
+
+		List<EventSequenceID> handledEventIds = new ArrayList<>();
+
+		// an entity type that cannot be resolved is a configuration error, which redelivery does not fix
+		Collection<WriteBehindBatch> batches = toBatches(pendingEvents);
+
+		Map<Class<?>, List<AsyncEvent<?, ?>>> eventsByEntityType = groupByEntityType(pendingEvents);
+
+		try {
+			for (WriteBehindBatch batch : batches) {
+
+				write(batch);
+
+				nullSafeList(eventsByEntityType.get(batch.getEntityType())).stream()
+					.map(AsyncEvent::getEventSequenceID)
+					.filter(eventId -> eventId != null)
+					.forEach(handledEventIds::add);
+			}
+
+			this.writtenEventIds.clear();
+
+			return true;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			rememberWrittenEvents(events, handledEventIds);
+			return false;
+		}
+		catch (RuntimeException cause) {
+			logger.error("Failed to process write-behind events; the events will be redelivered", cause);
+			rememberWrittenEvents(events, handledEventIds);
+			return false;
+		}
+		finally {
+			this.metrics.recordBatchProcessingTime(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Filters out the redelivered {@link AsyncEvent AsyncEvents} that were already written, or dead-lettered,
+	 * before a failure in a previous delivery.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} delivered by the {@link AsyncEventQueue}.
+	 * @return a {@link List} of the {@link AsyncEvent AsyncEvents} still to be written.
+	 */
+	@SuppressWarnings("all")
+	protected List<AsyncEvent> withoutWrittenEvents(List<AsyncEvent> events) {
+
+		return (this.writtenEventIds.isEmpty() ? nullSafeList(events) : nullSafeList(events).stream()
+			.filter(event -> event.getEventSequenceID() == null
+				|| !this.writtenEventIds.contains(event.getEventSequenceID()))
+			.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Remembers the {@link EventSequenceID EventSequenceIDs} of the {@link AsyncEvent AsyncEvents} written,
+	 * or dead-lettered, before a failure, so they are skipped on redelivery.  Previously remembered events
+	 * that were not part of the given delivery will not be redelivered and are forgotten, which bounds
+	 * the remembered events to a single delivery.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} delivered by the {@link AsyncEventQueue}.
+	 * @param handledEventIds {@link List} of {@link EventSequenceID EventSequenceIDs} of the events handled
+	 * in the given delivery.
+	 */
+	@SuppressWarnings("all")
+	protected void rememberWrittenEvents(List<AsyncEvent> events, List<EventSequenceID> handledEventIds) {
+
+		Set<EventSequenceID> deliveredEventIds = nullSafeList(events).stream()
+			.map(AsyncEvent::getEventSequenceID)
+			.filter(eventId -> eventId != null)
+			.collect(Collectors.toSet());
+
+		this.writtenEventIds.retainAll(deliveredEventIds);
+		this.writtenEventIds.addAll(handledEventIds);
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("all")
+	private Map<Class<?>, List<AsyncEvent<?, ?>>> groupByEntityType(List<AsyncEvent> events) {
+
+		Map<Class<?>, List<AsyncEvent<?, ?>>> eventsByEntityType = new LinkedHashMap<>();
+
+		for (AsyncEvent<?, ?> event : nullSafeList(events)) {
+			if (isWriteBehindOperation(event.getOperation())) {
+				eventsByEntityType.computeIfAbsent(resolveEntityType(event), entityType -> new ArrayList<>())
+					.add(event);
+			}
+		}
+
+		return eventsByEntityType;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isWriteBehindOperation(Operation operation) {
+		return (operation != null && (operation.isCreate() || operation.isUpdate() || operation.isDestroy()));
+	}
+
+	/**
+	 * Groups the given {@link AsyncEvent AsyncEvents} by entity type and conflates them by key.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to group.
+	 * @return a {@link Collection} of {@link WriteBehindBatch WriteBehindBatches}, one per entity type.
+	 */
+	protected Collection<WriteBehindBatch> toBatches(List<AsyncEvent> events) {
+
+		Map<Class<?>, WriteBehindBatch> batches = new LinkedHashMap<>();
+
+		int eventCount = 0;
+		int ignoredCount = 0;
+
+		for (AsyncEvent<?, ?> event : nullSafeList(events)) {
+
+			eventCount++;
+
+			Operation operation = event.getOperation();
+
+			if (operation != null && (operation.isCreate() || operation.isUpdate())) {
+				batches.computeIfAbsent(resolveEntityType(event), WriteBehindBatch::new)
+					.upsert(event.getKey(), event.getDeserializedValue());
+			}
+			else if (operation != null && operation.isDestroy()) {
+				batches.computeIfAbsent(resolveEntityType(event), WriteBehindBatch::new).delete(event.getKey());
+			}
+			else {
+				ignoredCount++;
+			}
+		}
+
+		int batchedCount = batches.values().stream().mapToInt(WriteBehindBatch::size).sum();
+
+		this.metrics.recordEventsReceived(eventCount);
+		this.metrics.recordEventsIgnored(ignoredCount);
+		this.metrics.recordEventsConflated(eventCount - ignoredCount - batchedCount);
+
+		return batches.values();
+	}
+
+	/**
+	 * Resolves the application entity type of the given {@link AsyncEvent}.
+	 *
+	 * The type is resolved from the event value, or for a destroy, from the value constraint of the {@link Region},
+	 * the entity type registered for the {@link Region} or the type of the last value written to the {@link Region}.
+	 *
+	 * @param event {@link AsyncEvent} to evaluate.
+	 * @return the application entity type of the {@link AsyncEvent}.
+	 * @throws IllegalStateException if the application entity type cannot be resolved.
+	 * @see #setRegionEntityTypes(Map)
+	 */
+	protected Class<?> resolveEntityType(AsyncEvent<?, ?> event) {
+
+		Region<?, ?> region = event.getRegion();
+
+		String regionPath = (region != null ? region.getFullPath() : null);
+
+		Object value = event.getDeserializedValue();
+
+		if (value != null) {
+
+			if (regionPath != null) {
+				this.regionEntityTypes.put(regionPath, value.getClass());
+			}
+
+			return value.getClass();
+		}
+
+		Class<?> valueConstraint = (region != null && region.getAttributes() != null
+			? region.getAttributes().getValueConstraint() : null);
+
+		return Optional.<Class<?>>ofNullable(valueConstraint)
+			.orElseGet(() -> Optional.ofNullable(regionPath).<Class<?>>map(this.regionEntityTypes::get)
+				.orElseThrow(() -> newIllegalStateException("Cannot resolve the entity type of the entry with key [%1$s]"
+					+ " destroyed in Region [%2$s]; configure a value constraint on the Region or register the entity"
+					+ " type with setRegionEntityTypes(:Map)", event.getKey(), regionPath)));
+	}
+
+	/**
+	 * Writes the given {@link WriteBehindBatch}, retrying failed writes and handing writes that still fail
+	 * to the {@link WriteBehindDeadLetterHandler}.
+	 *
+	 * @param batch {@link WriteBehindBatch} to write.
+	 * @throws InterruptedException if the current {@link Thread} was interrupted while backing off.
+	 */
+	protected void write(WriteBehindBatch batch) throws InterruptedException {
+
+		WriteBehindBatch pendingBatch = batch;
+
+		Exception lastFailure = null;
+
+		long backOff = getRetryBackOff();
+
+		for (int attempt = 1; !pendingBatch.isEmpty(); attempt++) {
+
+			lastFailure = tryWrite(pendingBatch);
+
+			if (lastFailure == null) {
+				return;
+			}
+
+			pendingBatch = resolveFailedWrites(pendingBatch, lastFailure);
+
+			if (attempt >= getMaxAttempts() || pendingBatch.isEmpty()) {
+				break;
+			}
+
+			this.metrics.recordRetry();
+
+			if (backOff > 0L) {
+				Thread.sleep(backOff);
+				backOff = (long) (backOff * getRetryBackOffMultiplier());
+			}
+		}
+
+		if (!pendingBatch.isEmpty()) {
+			if (pendingBatch.size() > 1) {
+				for (WriteBehindBatch singleWrite : pendingBatch.split()) {
+					Optional.ofNullable(tryWrite(singleWrite)).ifPresent(failure ->
+						deadLetter(singleWrite, failure));
+				}
+			}
+			else {
+				deadLetter(pendingBatch, lastFailure);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Exception tryWrite(WriteBehindBatch batch) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			getBatchWriter().write(batch);
+			this.metrics.recordWrite(batch.size(), System.nanoTime() - startTime);
+			return null;
+		}
+		catch (Exception cause) {
+
+			this.metrics.recordWriteFailure();
+
+			if (cause instanceof WriteBehindBatchException) {
+
+				int failedCount = resolveFailedWrites(batch, cause).size();
+
+				if (failedCount < batch.size()) {
+					this.metrics.recordWrite(batch.size() - failedCount, System.nanoTime() - startTime);
+				}
+			}
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Failed to write batch %s", batch), cause);
+			}
+
+			return cause;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private WriteBehindBatch resolveFailedWrites(WriteBehindBatch batch, Exception cause) {
+
+		return (cause instanceof WriteBehindBatchException
+			&& !((WriteBehindBatchException) cause).getFailedKeys().isEmpty()
+			? batch.subset(((WriteBehindBatchException) cause).getFailedKeys()) : batch);
+	}
+
+	/* (non-Javadoc) */
+	private void deadLetter(WriteBehindBatch batch, Exception cause) {
+		getDeadLetterHandler().handle(batch, cause);
+		this.metrics.recordDeadLetters(batch.size());
+	}
+
+	/* (non-Javadoc) */
+	private void logDeadLetters(WriteBehindBatch batch, Exception cause) {
+		logger.error(String.format("Failed to write %1$s entities with keys %2$s after %3$d attempts",
+			batch.getEntityType().getName(), batch.getKeys(), getMaxAttempts()), cause);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Write-behind metrics %s", getMetrics()));
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link WriteBehindBatch} class is a batch of conflated writes for a single application entity type
+ * to be written to a backend data store by a {@link WriteBehindBatchWriter}.
+ *
+ * Each key appears at most once in a batch, either as an upsert (create or update) with the latest value
+ * or as a delete.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchWriter
+ * @since 2.0.0
+ */
+public class WriteBehindBatch {
+
+	private final Class<?> entityType;
+
+	private final Map<Object, Object> upserts = new LinkedHashMap<>();
+
+	private final Set<Object> deletes = new LinkedHashSet<>();
+
+	/**
+	 * Constructs an empty {@link WriteBehindBatch} for the given application entity type.
+	 *
+	 * @param entityType {@link Class} type of the application entities in this batch.
+	 * @throws IllegalArgumentException if the entity type is {@literal null}.
+	 */
+	public WriteBehindBatch(Class<?> entityType) {
+		Assert.notNull(entityType, "Entity type is required");
+		this.entityType = entityType;
+	}
+
+	/**
+	 * Returns the {@link Class} type of the application entities in this batch.
+	 *
+	 * @return the {@link Class} type of the application entities in this batch.
+	 */
+	public Class<?> getEntityType() {
+		return this.entityType;
+	}
+
+	/**
+	 * Returns the entities to create or update, keyed by the {@link org.apache.geode.cache.Region} key,
+	 * in the order in which they were last written.
+	 *
+	 * @return an unmodifiable {@link Map} of entities to create or update.
+	 */
+	public Map<Object, Object> getUpserts() {
+		return Collections.unmodifiableMap(this.upserts);
+	}
+
+	/**
+	 * Returns the keys of the entities to delete.
+	 *
+	 * @return an unmodifiable {@link Set} of keys of the entities to delete.
+	 */
+	public Set<Object> getDeletes() {
+		return Collections.unmodifiableSet(this.deletes);
+	}
+
+	/**
+	 * Returns the keys of all entities written by this batch.
+	 *
+	 * @return a {@link Set} of keys of all entities written by this batch.
+	 */
+	public Set<Object> getKeys() {
+
+		Set<Object> keys = new LinkedHashSet<>(this.upserts.keySet());
+
+		keys.addAll(this.deletes);
+
+		return keys;
+	}
+
+	/**
+	 * Determines whether this batch is empty.
+	 *
+	 * @return a boolean value indicating whether this batch is empty.
+	 */
+	public boolean isEmpty() {
+		return (size() == 0);
+	}
+
+	/**
+	 * Returns the number of entities written by this batch.
+	 *
+	 * @return the number of entities written by this batch.
+	 */
+	public int size() {
+		return (this.upserts.size() + this.deletes.size());
+	}
+
+	/**
+	 * Records the creation or update of the entity with the given key, replacing any prior write of the same key.
+	 *
+	 * @param key {@link Object} key of the entity.
+	 * @param value entity to create or update.
+	 * @return this {@link WriteBehindBatch}.
+	 */
+	WriteBehindBatch upsert(Object key, Object value) {
+		this.deletes.remove(key);
+		this.upserts.remove(key);
+		this.upserts.put(key, value);
+		return this;
+	}
+
+	/**
+	 * Records the deletion of the entity with the given key, replacing any prior write of the same key.
+	 *
+	 * @param key {@link Object} key of the entity.
+	 * @return this {@link WriteBehindBatch}.
+	 */
+	WriteBehindBatch delete(Object key) {
+		this.upserts.remove(key);
+		this.deletes.add(key);
+		return this;
+	}
+
+	/**
+	 * Returns a new {@link WriteBehindBatch} containing only the writes of the given keys.
+	 *
+	 * @param keys {@link Collection} of keys to retain.
+	 * @return a new {@link WriteBehindBatch} containing only the writes of the given keys.
+	 */
+	public WriteBehindBatch subset(Collection<?> keys) {
+
+		WriteBehindBatch subset = new WriteBehindBatch(getEntityType());
+
+		this.upserts.forEach((key, value) -> {
+			if (keys.contains(key)) {
+				subset.upsert(key, value);
+			}
+		});
+
+		this.deletes.stream().filter(keys::contains).forEach(subset::delete);
+
+		return subset;
+	}
+
+	/**
+	 * Splits this batch into batches of a single write each.
+	 *
+	 * @return a {@link List} of {@link WriteBehindBatch WriteBehindBatches} of a single write each.
+	 */
+	public List<WriteBehindBatch> split() {
+		return getKeys().stream().map(key -> subset(Collections.singleton(key))).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, entityType = %2$s, upserts = %3$s, deletes = %4$s }",
+			getClass().getName(), getEntityType().getName(), this.upserts.keySet(), this.deletes);
+	}
+}
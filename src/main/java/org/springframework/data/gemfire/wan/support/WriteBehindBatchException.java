@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The {@link WriteBehindBatchException} class is a {@link RuntimeException} thrown by a {@link WriteBehindBatchWriter}
+ * when only part of a {@link WriteBehindBatch} could not be written.
+ *
+ * @author John Blum
+ * @see java.lang.RuntimeException
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchWriter
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class WriteBehindBatchException extends RuntimeException {
+
+	private final Set<Object> failedKeys;
+
+	/**
+	 * Constructs a new instance of {@link WriteBehindBatchException} with the given message and keys
+	 * of the writes that failed.
+	 *
+	 * @param message {@link String} describing the failure.
+	 * @param failedKeys {@link Collection} of keys of the writes that failed.
+	 */
+	public WriteBehindBatchException(String message, Collection<?> failedKeys) {
+		this(message, failedKeys, null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link WriteBehindBatchException} with the given message, keys
+	 * of the writes that failed and underlying cause.
+	 *
+	 * @param message {@link String} describing the failure.
+	 * @param failedKeys {@link Collection} of keys of the writes that failed.
+	 * @param cause {@link Throwable} underlying cause of the failure.
+	 */
+	public WriteBehindBatchException(String message, Collection<?> failedKeys, Throwable cause) {
+		super(message, cause);
+		this.failedKeys = new LinkedHashSet<>(Optional.<Collection<?>>ofNullable(failedKeys)
+			.orElseGet(Collections::emptySet));
+	}
+
+	/**
+	 * Returns the keys of the writes that failed.
+	 *
+	 * @return an unmodifiable {@link Set} of keys of the writes that failed.
+	 */
+	public Set<Object> getFailedKeys() {
+		return Collections.unmodifiableSet(this.failedKeys);
+	}
+}
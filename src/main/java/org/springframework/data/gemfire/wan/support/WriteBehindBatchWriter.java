@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+/**
+ * The {@link WriteBehindBatchWriter} interface defines a contract for writing a {@link WriteBehindBatch}
+ * to a backend data store, such as with a JDBC batch update or a Spring Data Repository
+ * {@literal saveAll} and {@literal delete}.
+ *
+ * Implementations should write the entire batch in as few round trips as possible.  A failed write is retried
+ * by the {@link WriteBehindAsyncEventListener}, therefore writes must be idempotent.  Implementations may throw
+ * a {@link WriteBehindBatchException} to identify the keys that failed so only those writes are retried.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatch
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatchException
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface WriteBehindBatchWriter {
+
+	/**
+	 * Writes the given {@link WriteBehindBatch} to the backend data store.
+	 *
+	 * @param batch {@link WriteBehindBatch} to write.
+	 * @throws Exception if the batch, or any part of the batch, could not be written.
+	 * @see org.springframework.data.gemfire.wan.support.WriteBehindBatch
+	 */
+	void write(WriteBehindBatch batch) throws Exception;
+
+}
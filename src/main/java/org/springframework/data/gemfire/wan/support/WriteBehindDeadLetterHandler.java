@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+/**
+ * The {@link WriteBehindDeadLetterHandler} interface defines a contract for handling writes that could not be
+ * written to the backend data store after all retries were exhausted, for example by storing them
+ * in a dead-letter {@link org.apache.geode.cache.Region} or table for later inspection and replay.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindBatch
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface WriteBehindDeadLetterHandler {
+
+	/**
+	 * Handles the writes in the given {@link WriteBehindBatch} that failed.
+	 *
+	 * An exception thrown by this method causes the entire batch of events to be redelivered
+	 * by the {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue}.
+	 *
+	 * @param batch {@link WriteBehindBatch} containing the failed writes.
+	 * @param cause {@link Exception} thrown by the last attempt to write the batch.
+	 */
+	void handle(WriteBehindBatch batch, Exception cause);
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+
+/**
+ * The {@link WriteBehindMetrics} class records the throughput and lag of a {@link WriteBehindAsyncEventListener}.
+ *
+ * Lag is reported as the number of events still waiting in the {@link AsyncEventQueue} to be written, along with
+ * the time taken to process the last batch of events delivered by the {@link AsyncEventQueue}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class WriteBehindMetrics {
+
+	private final AtomicLong firstWriteTime = new AtomicLong(0L);
+	private final AtomicLong lastBatchProcessingTime = new AtomicLong(0L);
+
+	private final LongAdder batchesWritten = new LongAdder();
+	private final LongAdder deadLetters = new LongAdder();
+	private final LongAdder entriesWritten = new LongAdder();
+	private final LongAdder eventsConflated = new LongAdder();
+	private final LongAdder eventsIgnored = new LongAdder();
+	private final LongAdder eventsReceived = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder writeFailures = new LongAdder();
+	private final LongAdder writeTime = new LongAdder();
+
+	private volatile AsyncEventQueue asyncEventQueue;
+
+	/* (non-Javadoc) */
+	void setAsyncEventQueue(AsyncEventQueue asyncEventQueue) {
+		this.asyncEventQueue = asyncEventQueue;
+	}
+
+	/* (non-Javadoc) */
+	void recordEventsReceived(int count) {
+		this.eventsReceived.add(count);
+	}
+
+	/* (non-Javadoc) */
+	void recordEventsConflated(int count) {
+		this.eventsConflated.add(count);
+	}
+
+	/* (non-Javadoc) */
+	void recordEventsIgnored(int count) {
+		this.eventsIgnored.add(count);
+	}
+
+	/* (non-Javadoc) */
+	void recordWrite(int entries, long writeTimeNanos) {
+		this.firstWriteTime.compareAndSet(0L, System.nanoTime() - writeTimeNanos);
+		this.batchesWritten.increment();
+		this.entriesWritten.add(entries);
+		this.writeTime.add(writeTimeNanos);
+	}
+
+	/* (non-Javadoc) */
+	void recordWriteFailure() {
+		this.writeFailures.increment();
+	}
+
+	/* (non-Javadoc) */
+	void recordRetry() {
+		this.retries.increment();
+	}
+
+	/* (non-Javadoc) */
+	void recordDeadLetters(int count) {
+		this.deadLetters.add(count);
+	}
+
+	/* (non-Javadoc) */
+	void recordBatchProcessingTime(long processingTimeNanos) {
+		this.lastBatchProcessingTime.set(processingTimeNanos);
+	}
+
+	/**
+	 * Returns the number of batches successfully written to the backend data store.
+	 *
+	 * @return the number of batches successfully written.
+	 */
+	public long getBatchesWritten() {
+		return this.batchesWritten.sum();
+	}
+
+	/**
+	 * Returns the number of writes handed to the {@link WriteBehindDeadLetterHandler}.
+	 *
+	 * @return the number of dead-lettered writes.
+	 */
+	public long getDeadLetters() {
+		return this.deadLetters.sum();
+	}
+
+	/**
+	 * Returns the number of entities successfully written to the backend data store.
+	 *
+	 * @return the number of entities successfully written.
+	 */
+	public long getEntriesWritten() {
+		return this.entriesWritten.sum();
+	}
+
+	/**
+	 * Returns the number of events that were conflated with a later event for the same key.
+	 *
+	 * @return the number of conflated events.
+	 */
+	public long getEventsConflated() {
+		return this.eventsConflated.sum();
+	}
+
+	/**
+	 * Returns the number of events ignored, such as invalidates.
+	 *
+	 * @return the number of ignored events.
+	 */
+	public long getEventsIgnored() {
+		return this.eventsIgnored.sum();
+	}
+
+	/**
+	 * Returns the number of events delivered by the {@link AsyncEventQueue}.
+	 *
+	 * @return the number of events received.
+	 */
+	public long getEventsReceived() {
+		return this.eventsReceived.sum();
+	}
+
+	/**
+	 * Returns the number of retried batch writes.
+	 *
+	 * @return the number of retries.
+	 */
+	public long getRetries() {
+		return this.retries.sum();
+	}
+
+	/**
+	 * Returns the number of failed batch writes, including writes that succeeded when retried.
+	 *
+	 * @return the number of failed batch writes.
+	 */
+	public long getWriteFailures() {
+		return this.writeFailures.sum();
+	}
+
+	/**
+	 * Returns the average time taken to write a batch to the backend data store.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the average time taken to write a batch.
+	 */
+	public long getAverageBatchWriteTime(TimeUnit timeUnit) {
+
+		long batchesWritten = getBatchesWritten();
+
+		return (batchesWritten > 0 ? timeUnit.convert(this.writeTime.sum() / batchesWritten, TimeUnit.NANOSECONDS)
+			: 0L);
+	}
+
+	/**
+	 * Returns the time taken to process the last batch of events delivered by the {@link AsyncEventQueue},
+	 * including retries.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the time taken to process the last batch of events.
+	 */
+	public long getLastBatchProcessingTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.lastBatchProcessingTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of events waiting in the {@link AsyncEventQueue} to be written.
+	 *
+	 * @return the number of events waiting to be written, or {@literal -1} if the {@link AsyncEventQueue}
+	 * is unknown.
+	 */
+	public int getQueueSize() {
+
+		AsyncEventQueue asyncEventQueue = this.asyncEventQueue;
+
+		return (asyncEventQueue != null ? asyncEventQueue.size() : -1);
+	}
+
+	/**
+	 * Returns the average number of entities written to the backend data store per second since the first write.
+	 *
+	 * @return the average number of entities written per second.
+	 */
+	public double getThroughput() {
+
+		long firstWriteTime = this.firstWriteTime.get();
+
+		long elapsedTime = (firstWriteTime != 0L ? System.nanoTime() - firstWriteTime : 0L);
+
+		return (elapsedTime > 0L ? getEntriesWritten() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedTime : 0.0d);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ eventsReceived = %1$d, eventsConflated = %2$d, entriesWritten = %3$d,"
+			+ " batchesWritten = %4$d, writeFailures = %5$d, retries = %6$d, deadLetters = %7$d,"
+			+ " throughput = %8$.2f/s, queueSize = %9$d }", getEventsReceived(), getEventsConflated(),
+			getEntriesWritten(), getBatchesWritten(), getWriteFailures(), getRetries(), getDeadLetters(),
+			getThroughput(), getQueueSize());
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Support package for Spring GemFire WAN and {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue} components,
+ * such as write-behind {@link org.apache.geode.cache.asyncqueue.AsyncEventListener AsyncEventListeners}.
+ */
+package org.springframework.data.gemfire.wan.support;
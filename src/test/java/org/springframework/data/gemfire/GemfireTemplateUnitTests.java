@@ -17,6 +17,7 @@
 package org.springframework.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,12 +31,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
@@ -52,6 +57,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.gemfire.client.support.AdaptiveConcurrencyLimiter;
+import org.springframework.data.gemfire.mapping.AbstractDeltaCapableEntity;
 import org.springframework.data.gemfire.test.support.AbstractUnitAndIntegrationTestsWithMockSupport;
 
 /**
@@ -99,6 +107,33 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		template = new GemfireTemplate(mockRegion);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getCopiesValueOnlyInCacheTransaction() {
+		Region<String, Object> mockCacheRegion = mock(Region.class, "MockCacheRegion");
+
+		GemFireCache mockCache = mock(GemFireCache.class, "MockGemFireCache");
+
+		CacheTransactionManager mockCacheTransactionManager =
+			mock(CacheTransactionManager.class, "MockCacheTransactionManager");
+
+		ArrayList<Integer> value = new ArrayList<>(Arrays.asList(1, 2));
+
+		when(mockCacheRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCacheRegion.get(eq("key"))).thenReturn(value);
+		when(mockCache.getCopyOnRead()).thenReturn(false);
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.exists()).thenReturn(true).thenReturn(false);
+
+		GemfireTemplate localTemplate = new GemfireTemplate(mockCacheRegion);
+
+		Object transactionalValue = localTemplate.get("key");
+
+		assertThat(transactionalValue).isEqualTo(value);
+		assertThat(transactionalValue).isNotSameAs(value);
+		assertThat(localTemplate.<String, Object>get("key")).isSameAs(value);
+	}
+
 	@Test
 	public void constructWithNonNullRegionIsSuccessful() {
 		GemfireTemplate localTemplate = new GemfireTemplate(mockRegion);
@@ -352,4 +387,102 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verify(mockRegion, never()).getAttributes();
 		verify(mockRegionService, times(1)).getQueryService();
 	}
+
+	@Test
+	public void putResetsDirtyPropertiesOfDeltaCapableEntity() {
+		DeltaCapableEntity entity = new DeltaCapableEntity("test");
+
+		entity.resetDirtyProperties();
+		entity.name = "mock";
+
+		assertThat(entity.hasDelta()).isTrue();
+
+		template.put("key", entity);
+
+		assertThat(entity.hasDelta()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void operationsAreGatedByConcurrencyLimiter() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10L);
+
+		template.setConcurrencyLimiter(limiter);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		try {
+			template.put("key", "value");
+			fail("Expected TransientDataAccessResourceException");
+		}
+		catch (TransientDataAccessResourceException expected) {
+			verify((Region<Object, Object>) mockRegion, never()).put(any(), any());
+		}
+
+		limiter.release();
+		template.put("key", "value");
+
+		verify((Region<Object, Object>) mockRegion, times(1)).put(eq("key"), eq("value"));
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.resetPeakInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void serverOperationsAreGatedByConcurrencyLimiter() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10L);
+
+		template.setConcurrencyLimiter(limiter);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		try {
+			template.containsKeyOnServer("key");
+			fail("Expected TransientDataAccessResourceException");
+		}
+		catch (TransientDataAccessResourceException expected) {
+		}
+
+		try {
+			template.containsValueForKey("key");
+			fail("Expected TransientDataAccessResourceException");
+		}
+		catch (TransientDataAccessResourceException expected) {
+		}
+
+		verify((Region<Object, Object>) mockRegion, never()).containsKeyOnServer(any());
+		verify((Region<Object, Object>) mockRegion, never()).containsValueForKey(any());
+
+		limiter.release();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void operationsInCallbackReuseThePermitOfTheCallback() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10L);
+
+		template.setConcurrencyLimiter(limiter);
+
+		when(mockRegion.containsKeyOnServer(eq("key"))).thenReturn(true);
+
+		Boolean result = template.execute(region -> {
+			template.put("key", "value");
+			return template.containsKeyOnServer("key");
+		});
+
+		assertThat(result).isTrue();
+		assertThat(limiter.getInFlight()).isZero();
+
+		verify((Region<Object, Object>) mockRegion, times(1)).put(eq("key"), eq("value"));
+	}
+
+	@SuppressWarnings("unused")
+	static class DeltaCapableEntity extends AbstractDeltaCapableEntity {
+
+		private String name;
+
+		DeltaCapableEntity(String name) {
+			this.name = name;
+		}
+	}
 }
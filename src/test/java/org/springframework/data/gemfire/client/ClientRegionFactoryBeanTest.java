@@ -25,9 +25,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -35,10 +38,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
@@ -51,6 +59,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.TestUtils;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
@@ -692,4 +701,103 @@ public class ClientRegionFactoryBeanTest {
 
 		clientRegionFactoryBean.destroy();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void postProcessRegistersInterestInKeyCollectionInBatches() {
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = new ClientRegionFactoryBean<>();
+
+		clientRegionFactoryBean.setInterestBatchSize(2);
+		clientRegionFactoryBean.setInterests(ArrayUtils.asArray(KeyInterest.forKeys(
+			Arrays.<Object>asList("one", "two", "three", "four", "five"), InterestResultPolicy.KEYS_VALUES)));
+		clientRegionFactoryBean.postProcess(mockRegion);
+
+		verify(mockRegion, times(1)).registerInterest(eq(Arrays.asList("one", "two")),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+		verify(mockRegion, times(1)).registerInterest(eq(Arrays.asList("three", "four")),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+		verify(mockRegion, times(1)).registerInterest(eq(Collections.singletonList("five")),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setInterestBatchSizeToZeroThrowsIllegalArgumentException() {
+		new ClientRegionFactoryBean<>().setInterestBatchSize(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void postProcessRegistersInterestsWithInterestRegistrationExecutor() throws Exception {
+
+		List<Runnable> registrations = new ArrayList<>();
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = new ClientRegionFactoryBean<>();
+
+		clientRegionFactoryBean.setInterests(ArrayUtils.asArray(newInterest("test")));
+		clientRegionFactoryBean.setInterestRegistrationExecutor(registrations::add);
+		clientRegionFactoryBean.postProcess(mockRegion);
+
+		verify(mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class), anyBoolean(),
+			anyBoolean());
+		assertFalse(clientRegionFactoryBean.getInterestRegistration().isDone());
+
+		registrations.forEach(Runnable::run);
+
+		assertSame(mockRegion, clientRegionFactoryBean.getInterestRegistration().get());
+		verify(mockRegion, times(1)).registerInterest(eq("test"), eq(InterestResultPolicy.KEYS_VALUES), eq(false),
+			eq(true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterSingletonsInstantiatedPropagatesInterestRegistrationFailure() {
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegion).registerInterest(any(),
+			any(InterestResultPolicy.class), anyBoolean(), anyBoolean());
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = new ClientRegionFactoryBean<>();
+
+		clientRegionFactoryBean.setRegionName("Example");
+		clientRegionFactoryBean.setInterests(ArrayUtils.asArray(newInterest("test")));
+		clientRegionFactoryBean.setInterestRegistrationExecutor(Runnable::run);
+		clientRegionFactoryBean.postProcess(mockRegion);
+
+		try {
+			clientRegionFactoryBean.afterSingletonsInstantiated();
+			fail("Expected BeanInitializationException");
+		}
+		catch (BeanInitializationException expected) {
+			assertTrue(expected.getMessage().contains("Failed to register interests in Region [Example]"));
+			assertTrue(expected.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterSingletonsInstantiatedIgnoresInterestRegistrationFailureWhenNotAwaiting() {
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegion).registerInterest(any(),
+			any(InterestResultPolicy.class), anyBoolean(), anyBoolean());
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = new ClientRegionFactoryBean<>();
+
+		clientRegionFactoryBean.setAwaitInterestRegistration(false);
+		clientRegionFactoryBean.setInterests(ArrayUtils.asArray(newInterest("test")));
+		clientRegionFactoryBean.setInterestRegistrationExecutor(Runnable::run);
+		clientRegionFactoryBean.postProcess(mockRegion);
+		clientRegionFactoryBean.afterSingletonsInstantiated();
+
+		assertTrue(clientRegionFactoryBean.getInterestRegistration().isCompletedExceptionally());
+	}
 }
@@ -24,6 +24,7 @@ import static org.springframework.data.gemfire.client.Interest.Type.KEY;
 import static org.springframework.data.gemfire.client.Interest.Type.REGEX;
 import static org.springframework.data.gemfire.client.Interest.newInterest;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.geode.cache.InterestResultPolicy;
@@ -350,4 +351,29 @@ public class InterestUnitTests {
 		assertThat(interest.isReceiveValues()).isTrue();
 		assertThat(interest.getType()).isEqualTo(KEY);
 	}
+
+	@Test
+	public void interestInKeyCollectionIsKeyListType() {
+
+		KeyInterest<String> interest = KeyInterest.forKeys(asList("one", "two", "three"), InterestResultPolicy.KEYS);
+
+		assertThat(interest.getType()).isEqualTo(KEY);
+		assertThat(interest.isKeyListType()).isTrue();
+		assertThat(interest.getKeys()).containsExactly("one", "two", "three");
+		assertThat(interest.getPolicy()).isEqualTo(InterestResultPolicy.KEYS);
+	}
+
+	@Test
+	public void interestInSingleKeyIsNotKeyListType() {
+
+		Interest<String> interest = new Interest<>("testKey");
+
+		assertThat(interest.isKeyListType()).isFalse();
+		assertThat(interest.getKeys()).containsExactly("testKey");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void interestInEmptyKeyCollectionThrowsIllegalArgumentException() {
+		KeyInterest.forKeys(Collections.emptyList());
+	}
 }
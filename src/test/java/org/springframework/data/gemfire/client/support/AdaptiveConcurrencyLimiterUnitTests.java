@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.client.support.AdaptiveConcurrencyLimiter
+ * @since 2.0.0
+ */
+public class AdaptiveConcurrencyLimiterUnitTests {
+
+	@Test
+	public void limitStartsAtMaximumAndIsBounded() {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 8, 0L);
+
+		assertThat(limiter.getLimit()).isEqualTo(8);
+		assertThat(limiter.setLimit(1)).isEqualTo(2);
+		assertThat(limiter.setLimit(20)).isEqualTo(8);
+		assertThat(limiter.setLimit(5)).isEqualTo(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithMaximumLessThanMinimumThrowsIllegalArgumentException() {
+		new AdaptiveConcurrencyLimiter(4, 2, 0L);
+	}
+
+	@Test
+	public void tryAcquireFailsWhenLimitIsReached() throws InterruptedException {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, 0L);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(limiter.tryAcquire(10, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+
+		limiter.release();
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(limiter.resetPeakInFlight()).isEqualTo(2);
+	}
+
+	@Test
+	public void nestedAcquireOnSameThreadReusesPermit() throws InterruptedException {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 0L);
+
+		limiter.acquire();
+		limiter.acquire();
+
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+
+		limiter.release();
+
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+
+		limiter.release();
+
+		assertThat(limiter.getInFlight()).isZero();
+
+		limiter.acquire();
+
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+
+		limiter.release();
+
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	public void loweringLimitDoesNotAffectOperationsInFlight() throws InterruptedException {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 0L);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		limiter.setLimit(1);
+
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+
+		limiter.release();
+		limiter.release();
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+	}
+
+	@Test
+	public void raisingLimitWakesWaitingOperations() throws Exception {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, 5000L);
+
+		limiter.setLimit(1);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		CountDownLatch acquired = new CountDownLatch(1);
+
+		Thread waitingThread = new Thread(() -> limiter.execute(() -> {
+			acquired.countDown();
+			return null;
+		}));
+
+		waitingThread.start();
+
+		assertThat(acquired.await(50, TimeUnit.MILLISECONDS)).isFalse();
+
+		limiter.setLimit(2);
+
+		assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+
+		waitingThread.join(5000L);
+	}
+
+	@Test
+	public void executeReleasesPermitAfterOperation() {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 0L);
+
+		assertThat(limiter.execute(() -> "test")).isEqualTo("test");
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test(expected = TransientDataAccessResourceException.class)
+	public void executeThrowsTransientDataAccessResourceExceptionWhenNotAllowed() throws InterruptedException {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10L);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		limiter.execute(() -> "test");
+	}
+
+	@Test
+	public void acquireReportsOperationsInFlightWhenNotAllowed() throws InterruptedException {
+
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 10L);
+
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+		limiter.setLimit(1);
+
+		try {
+			limiter.acquire();
+			fail("Expected TransientDataAccessResourceException");
+		}
+		catch (TransientDataAccessResourceException expected) {
+			assertThat(expected).hasMessage("Operation not allowed within [10] ms; [2] operation(s) in flight");
+		}
+
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+	}
+}
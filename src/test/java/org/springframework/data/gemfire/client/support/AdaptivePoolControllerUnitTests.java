@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.Pool;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.PoolFactoryBean;
+
+/**
+ * Unit tests for {@link AdaptivePoolController}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.client.support.AdaptivePoolController
+ * @since 2.0.0
+ */
+public class AdaptivePoolControllerUnitTests {
+
+	private AdaptivePoolController poolController;
+
+	private PoolFactoryBean mockPoolFactoryBean;
+
+	@Before
+	public void setup() {
+
+		Pool mockPool = mock(Pool.class);
+
+		when(mockPool.getMaxConnections()).thenReturn(20);
+		when(mockPool.getFreeConnectionTimeout()).thenReturn(10000);
+
+		mockPoolFactoryBean = mock(PoolFactoryBean.class);
+
+		when(mockPoolFactoryBean.getPool()).thenReturn(mockPool);
+
+		poolController = new AdaptivePoolController();
+		poolController.setMinConcurrency(2);
+	}
+
+	private PoolMetrics newPoolMetrics(long connectionWaits, long connectionWaitTimeInMilliseconds,
+			long pendingConnectionRequests, long connections) {
+
+		return new PoolMetrics("TestPool", 1, 20, connections, 0L, pendingConnectionRequests, connectionWaits,
+			TimeUnit.MILLISECONDS.toNanos(connectionWaitTimeInMilliseconds), 0L, 0L, 0L, 0L, Collections.emptyMap());
+	}
+
+	@Test
+	public void configureCreatesLimiterBoundedByPoolConfiguration() {
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+
+		AdaptiveConcurrencyLimiter limiter = poolController.getLimiter("TestPool");
+
+		assertThat(limiter.getMinLimit()).isEqualTo(2);
+		assertThat(limiter.getMaxLimit()).isEqualTo(20);
+		assertThat(limiter.getLimit()).isEqualTo(20);
+		assertThat(limiter.getAcquireTimeout()).isEqualTo(10000L);
+	}
+
+	@Test
+	public void configureKeysLimiterByPoolName() {
+
+		when(mockPoolFactoryBean.getPool().getName()).thenReturn("TestPool");
+
+		poolController.setPoolNames("TestPool");
+		poolController.configure("testPoolBean", mockPoolFactoryBean);
+
+		assertThat(poolController.getLimiters()).containsOnlyKeys("TestPool");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void postProcessAfterInitializationGatesTemplateByLimiterOfRegionPool() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		GemfireTemplate template = new GemfireTemplate(mockRegion);
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+
+		assertThat(poolController.postProcessAfterInitialization(template, "testTemplate")).isSameAs(template);
+		assertThat(template.getConcurrencyLimiter()).isSameAs(poolController.getLimiter("TestPool"));
+	}
+
+	@Test
+	public void configureIgnoresPoolsThatAreNotControlled() {
+
+		poolController.setPoolNames("OtherPool");
+		poolController.configure("TestPool", mockPoolFactoryBean);
+
+		assertThat(poolController.getLimiters()).isEmpty();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getLimiterForUncontrolledPoolThrowsIllegalArgumentException() {
+		poolController.getLimiter("TestPool");
+	}
+
+	@Test
+	public void adjustLowersLimitWhenConnectionWaitTimeExceedsTarget() {
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+		poolController.adjust("TestPool", newPoolMetrics(10, 10, 0, 10));
+		poolController.adjust("TestPool", newPoolMetrics(20, 510, 0, 10));
+
+		assertThat(poolController.getLimiter("TestPool").getLimit()).isLessThan(19);
+	}
+
+	@Test
+	public void adjustLowersLimitWhenPoolIsSaturated() {
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+		poolController.adjust("TestPool", newPoolMetrics(0, 0, 5, 20));
+
+		assertThat(poolController.getLimiter("TestPool").getLimit()).isEqualTo(15);
+	}
+
+	@Test
+	public void adjustRaisesLimitWhenLimitIsNearlyUsed() throws InterruptedException {
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+
+		AdaptiveConcurrencyLimiter limiter = poolController.getLimiter("TestPool");
+
+		limiter.setLimit(10);
+
+		for (int count = 0; count < 10; count++) {
+			assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+		}
+
+		poolController.adjust("TestPool", newPoolMetrics(0, 0, 0, 10));
+
+		assertThat(limiter.getLimit()).isEqualTo(11);
+	}
+
+	@Test
+	public void adjustLowersLimitGraduallyWhenPoolIsIdle() {
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+		poolController.adjust("TestPool", newPoolMetrics(0, 0, 0, 1));
+		poolController.adjust("TestPool", newPoolMetrics(0, 0, 0, 1));
+
+		assertThat(poolController.getLimiter("TestPool").getLimit()).isEqualTo(18);
+	}
+
+	@Test
+	public void adjustSkipsPoolsNotCreatedYet() {
+
+		when(mockPoolFactoryBean.getPoolInstrumentation()).thenThrow(new IllegalStateException("TEST"));
+
+		poolController.configure("TestPool", mockPoolFactoryBean);
+		poolController.adjust();
+
+		assertThat(poolController.getLimiter("TestPool").getLimit()).isEqualTo(20);
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.client.Pool;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PoolInstrumentation}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.client.support.PoolInstrumentation
+ * @since 2.0.0
+ */
+public class PoolInstrumentationUnitTests {
+
+	private Pool mockPool;
+
+	private PoolInstrumentation poolInstrumentation;
+
+	private Statistics mockPoolStatistics;
+
+	private StatisticsFactory mockStatisticsFactory;
+
+	@Before
+	public void setup() {
+
+		mockPool = mock(Pool.class);
+		mockStatisticsFactory = mock(StatisticsFactory.class);
+
+		when(mockPool.getName()).thenReturn("TestPool");
+		when(mockPool.getMinConnections()).thenReturn(1);
+		when(mockPool.getMaxConnections()).thenReturn(10);
+
+		Map<String, Number> poolStatisticValues = new LinkedHashMap<>();
+
+		poolStatisticValues.put("connections", 8);
+		poolStatisticValues.put("clientOpsInProgress", 3);
+		poolStatisticValues.put("connectionWaitsInProgress", 0);
+		poolStatisticValues.put("connectionWaits", 4);
+		poolStatisticValues.put("connectionWaitTime", TimeUnit.MILLISECONDS.toNanos(20));
+		poolStatisticValues.put("clientOps", 1000L);
+		poolStatisticValues.put("clientOpFailures", 0);
+		poolStatisticValues.put("clientOpTimeouts", 0);
+		poolStatisticValues.put("disconnects", 2);
+
+		StatisticsType poolStatisticsType = mockStatisticsType("PoolStats");
+
+		mockPoolStatistics = mockStatistics("TestPool->[any servers]", poolStatisticsType, poolStatisticValues);
+
+		when(mockStatisticsFactory.findType("PoolStats")).thenReturn(poolStatisticsType);
+		when(mockStatisticsFactory.findStatisticsByType(poolStatisticsType)).thenReturn(new Statistics[] {
+			mockStatistics("TestPool2->[any servers]", poolStatisticsType, new LinkedHashMap<>()),
+			mockPoolStatistics
+		});
+
+		poolInstrumentation = new PoolInstrumentation(mockPool, mockStatisticsFactory);
+	}
+
+	private Statistics mockStatistics(String textId, StatisticsType type, Map<String, Number> values) {
+
+		Statistics mockStatistics = mock(Statistics.class, textId);
+
+		when(mockStatistics.getTextId()).thenReturn(textId);
+		when(mockStatistics.getType()).thenReturn(type);
+		when(mockStatistics.get(anyString())).thenAnswer(invocation -> {
+
+			String name = invocation.getArgument(0);
+
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException(name);
+			}
+
+			return values.get(name);
+		});
+
+		return mockStatistics;
+	}
+
+	private StatisticsType mockStatisticsType(String name, String... statisticNames) {
+
+		StatisticsType mockStatisticsType = mock(StatisticsType.class, name);
+
+		when(mockStatisticsType.getName()).thenReturn(name);
+		when(mockStatisticsType.getStatistics()).thenReturn(Arrays.stream(statisticNames).map(statisticName -> {
+			StatisticDescriptor mockStatisticDescriptor = mock(StatisticDescriptor.class, statisticName);
+			when(mockStatisticDescriptor.getName()).thenReturn(statisticName);
+			return mockStatisticDescriptor;
+		}).toArray(StatisticDescriptor[]::new));
+
+		return mockStatisticsType;
+	}
+
+	private void setPoolStatistic(String name, Number value) {
+		when(mockPoolStatistics.get(name)).thenReturn(value);
+	}
+
+	@Test
+	public void getMetricsReadsPoolStatistics() {
+
+		PoolMetrics metrics = poolInstrumentation.getMetrics();
+
+		assertThat(metrics.getPoolName()).isEqualTo("TestPool");
+		assertThat(metrics.getMinConnections()).isEqualTo(1);
+		assertThat(metrics.getMaxConnections()).isEqualTo(10);
+		assertThat(metrics.getConnections()).isEqualTo(8L);
+		assertThat(metrics.getActiveConnections()).isEqualTo(3L);
+		assertThat(metrics.getIdleConnections()).isEqualTo(5L);
+		assertThat(metrics.getPendingConnectionRequests()).isEqualTo(0L);
+		assertThat(metrics.getAverageConnectionWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(5L);
+		assertThat(metrics.getOperations()).isEqualTo(1000L);
+		assertThat(metrics.getFailovers()).isEqualTo(0L);
+		assertThat(metrics.getDisconnects()).isEqualTo(2L);
+		assertThat(metrics.isSaturated()).isFalse();
+		assertThat(metrics.getServerMetrics()).isEmpty();
+	}
+
+	@Test
+	public void getMetricsReportsUnavailableWhenPoolStatisticsAreNotFound() {
+
+		when(mockStatisticsFactory.findType("PoolStats")).thenReturn(null);
+
+		PoolMetrics metrics = poolInstrumentation.getMetrics();
+
+		assertThat(metrics.getConnections()).isEqualTo(PoolMetrics.UNAVAILABLE);
+		assertThat(metrics.getIdleConnections()).isEqualTo(PoolMetrics.UNAVAILABLE);
+		assertThat(metrics.getFailovers()).isEqualTo(PoolMetrics.UNAVAILABLE);
+		assertThat(metrics.getAverageConnectionWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(PoolMetrics.UNAVAILABLE);
+	}
+
+	@Test
+	public void getMetricsAggregatesOperationLatencyPerServer() {
+
+		StatisticsType serverStatisticsType = mockStatisticsType("ClientStats",
+			"gets", "getTime", "getFailures", "puts", "putTime", "putFailures", "getsInProgress");
+
+		Map<String, Number> serverOneValues = new LinkedHashMap<>();
+
+		serverOneValues.put("gets", 6);
+		serverOneValues.put("getTime", TimeUnit.MICROSECONDS.toNanos(600));
+		serverOneValues.put("getFailures", 1);
+		serverOneValues.put("puts", 4);
+		serverOneValues.put("putTime", TimeUnit.MICROSECONDS.toNanos(1400));
+		serverOneValues.put("putFailures", 2);
+		serverOneValues.put("getsInProgress", 5);
+
+		when(mockStatisticsFactory.findType("ClientStats")).thenReturn(serverStatisticsType);
+		when(mockStatisticsFactory.findStatisticsByType(serverStatisticsType)).thenReturn(new Statistics[] {
+			mockStatistics("ClientStats-TestPool-serverOne:40404", serverStatisticsType, serverOneValues),
+			mockStatistics("ClientStats-OtherPool-serverTwo:40404", serverStatisticsType, serverOneValues)
+		});
+
+		Map<String, PoolMetrics.ServerMetrics> serverMetrics = poolInstrumentation.getMetrics().getServerMetrics();
+
+		assertThat(serverMetrics).containsOnlyKeys("serverOne:40404");
+		assertThat(serverMetrics.get("serverOne:40404").getOperations()).isEqualTo(10L);
+		assertThat(serverMetrics.get("serverOne:40404").getOperationFailures()).isEqualTo(3L);
+		assertThat(serverMetrics.get("serverOne:40404").getAverageOperationLatency(TimeUnit.MICROSECONDS))
+			.isEqualTo(200L);
+	}
+
+	@Test
+	public void getHealthIsUpForIdlePool() {
+
+		PoolHealth health = poolInstrumentation.getHealth();
+
+		assertThat(health.isUp()).isTrue();
+		assertThat(health.getMetrics()).isNotNull();
+	}
+
+	@Test
+	public void getHealthIsDownWhenPoolIsDestroyed() {
+
+		when(mockPool.isDestroyed()).thenReturn(true);
+
+		PoolHealth health = poolInstrumentation.getHealth();
+
+		assertThat(health.getStatus()).isEqualTo(PoolHealth.Status.DOWN);
+		assertThat(health.getMetrics()).isNull();
+	}
+
+	@Test
+	public void getHealthIsDegradedWhenPoolIsSaturated() {
+
+		setPoolStatistic("connections", 10);
+		setPoolStatistic("connectionWaitsInProgress", 2);
+
+		assertThat(poolInstrumentation.getHealth().getStatus()).isEqualTo(PoolHealth.Status.DEGRADED);
+	}
+
+	@Test
+	public void getHealthIsDegradedOnlyWhileOperationsFailOver() {
+
+		PoolHealth previousHealth = poolInstrumentation.getHealth();
+
+		setPoolStatistic("clientOpFailures", 2);
+		setPoolStatistic("clientOpTimeouts", 1);
+
+		PoolHealth health = poolInstrumentation.getHealth(previousHealth);
+
+		assertThat(health.getStatus()).isEqualTo(PoolHealth.Status.DEGRADED);
+		assertThat(health.getReason()).contains("[3]");
+		assertThat(poolInstrumentation.getHealth(health).isUp()).isTrue();
+	}
+
+	@Test
+	public void getHealthTracksFailoversPerConsumer() {
+
+		PoolHealth previousHealth = poolInstrumentation.getHealth();
+
+		setPoolStatistic("clientOpFailures", 2);
+
+		assertThat(poolInstrumentation.getHealth(previousHealth).getStatus())
+			.isEqualTo(PoolHealth.Status.DEGRADED);
+		assertThat(poolInstrumentation.getHealth(previousHealth).getStatus())
+			.isEqualTo(PoolHealth.Status.DEGRADED);
+		assertThat(poolInstrumentation.getHealth().isUp()).isTrue();
+	}
+
+	@Test
+	public void getHealthIsDownWhenOperationsFailWithoutConnections() {
+
+		PoolHealth previousHealth = poolInstrumentation.getHealth();
+
+		setPoolStatistic("connections", 0);
+		setPoolStatistic("clientOpsInProgress", 0);
+		setPoolStatistic("clientOpFailures", 1);
+
+		assertThat(poolInstrumentation.getHealth(previousHealth).getStatus()).isEqualTo(PoolHealth.Status.DOWN);
+	}
+
+	@Test
+	public void bindToRegistersGaugesReadingCurrentPoolStatistics() {
+
+		Map<String, Supplier<Number>> gauges = new LinkedHashMap<>();
+
+		poolInstrumentation.bindTo(gauges::put);
+
+		assertThat(gauges).containsKeys("gemfire.pool.TestPool.connections",
+			"gemfire.pool.TestPool.connections.active", "gemfire.pool.TestPool.connections.idle",
+			"gemfire.pool.TestPool.connections.pending", "gemfire.pool.TestPool.connections.wait.time",
+			"gemfire.pool.TestPool.failovers");
+
+		assertThat(gauges.get("gemfire.pool.TestPool.connections").get()).isEqualTo(8L);
+
+		setPoolStatistic("connections", 9);
+
+		assertThat(gauges.get("gemfire.pool.TestPool.connections").get()).isEqualTo(9L);
+		assertThat(gauges.get("gemfire.pool.TestPool.connections.max").get()).isEqualTo(10);
+	}
+}
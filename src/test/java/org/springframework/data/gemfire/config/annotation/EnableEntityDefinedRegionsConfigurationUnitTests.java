@@ -27,6 +27,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.CacheUtils.toRegionPath;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -61,9 +62,12 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.StandardAnnotationMetadata;
 import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
 import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionShortcutWrapper;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex;
 import org.springframework.data.gemfire.config.annotation.test.entities.ClientRegionEntity;
 import org.springframework.data.gemfire.config.annotation.test.entities.CollocatedPartitionRegionEntity;
 import org.springframework.data.gemfire.config.annotation.test.entities.GenericRegionEntity;
@@ -253,6 +257,42 @@ public class EnableEntityDefinedRegionsConfigurationUnitTests {
 		assertThat(applicationContext.containsBean("Sessions")).isFalse();
 	}
 
+	/* (non-Javadoc) */
+	private Set<Class<?>> resolvePersistentEntityTypes(Class<?> configurationClass,
+			PersistentEntityIndex persistentEntityIndex) {
+
+		EntityDefinedRegionsConfiguration configuration = new EntityDefinedRegionsConfiguration() {
+
+			@Override
+			protected Optional<PersistentEntityIndex> getPersistentEntityIndex() {
+				return Optional.of(persistentEntityIndex);
+			}
+		};
+
+		AnnotationMetadata importingClassMetadata = new StandardAnnotationMetadata(configurationClass, true);
+
+		return configuration.resolvePersistentEntityTypes(importingClassMetadata,
+			configuration.getAnnotationAttributes(importingClassMetadata));
+	}
+
+	@Test
+	public void indexedPersistentEntityTypesResolvedWithoutIncludeFilters() {
+		PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex()
+			.add(ReplicateRegionEntity.class.getName(), Collections.emptyList());
+
+		assertThat(resolvePersistentEntityTypes(IndexedPersistentEntitiesConfiguration.class, persistentEntityIndex))
+			.containsExactly(ReplicateRegionEntity.class);
+	}
+
+	@Test
+	public void persistentEntityTypesScannedWhenIncludeFiltersDeclared() {
+		PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex()
+			.add(ReplicateRegionEntity.class.getName(), Collections.emptyList());
+
+		assertThat(resolvePersistentEntityTypes(IncludeFilteredPersistentEntitiesConfiguration.class,
+			persistentEntityIndex)).contains(NonEntity.class, ReplicateRegionEntity.class);
+	}
+
 	@Test(expected = RegionExistsException.class)
 	public void entityPeerPartitionRegionAlreadyDefinedThrowsRegionExistsException() {
 		try {
@@ -631,4 +671,13 @@ public class EnableEntityDefinedRegionsConfigurationUnitTests {
 			return accounts;
 		}
 	}
+
+	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class)
+	static class IndexedPersistentEntitiesConfiguration {
+	}
+
+	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = NonEntity.class))
+	static class IncludeFilteredPersistentEntitiesConfiguration {
+	}
 }
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
@@ -48,6 +49,7 @@ import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.internal.concurrent.ConcurrentHashSet;
 import org.apache.lucene.analysis.Analyzer;
 import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -78,13 +80,21 @@ import org.springframework.data.gemfire.config.annotation.test.entities.Replicat
  */
 public class EnableIndexingConfigurationUnitTests {
 
+	private static final List<String[]> definedHashIndexes = new CopyOnWriteArrayList<>();
+
 	private static final Set<Index> indexes = new ConcurrentHashSet<>();
 
 	private ConfigurableApplicationContext applicationContext;
 
+	@Before
+	public void setup() {
+		AbstractCacheConfiguration.DEFINED_INDEXES_APPLICATION_LISTENER_REGISTERED.set(false);
+	}
+
 	@After
 	public void tearDown() {
 		Optional.ofNullable(this.applicationContext).ifPresent(ConfigurableApplicationContext::close);
+		definedHashIndexes.clear();
 		indexes.clear();
 	}
 
@@ -170,6 +180,33 @@ public class EnableIndexingConfigurationUnitTests {
 		Index lastNameIndex = applicationContext.getBean("LastNameIdx", Index.class);
 
 		assertOqlIndex(lastNameIndex, "LastNameIdx", "surname", "Customers", IndexType.HASH);
+
+		Index compositeLastNameIndex = applicationContext.getBean("NameIdxLastName", Index.class);
+
+		assertOqlIndex(compositeLastNameIndex, "NameIdxLastName", "lastName", "Customers", IndexType.HASH);
+
+		Index compositeFirstNameIndex = applicationContext.getBean("NameIdxFirstName", Index.class);
+
+		assertOqlIndex(compositeFirstNameIndex, "NameIdxFirstName", "firstName", "Customers", IndexType.HASH);
+
+		assertThat(definedHashIndexes).isEmpty();
+	}
+
+	@Test
+	public void persistentEntityIndexesAreDefinedThenCreated() {
+
+		applicationContext = newApplicationContext(IndexingEnabledWithDefinedIndexesConfiguration.class);
+
+		assertThat(definedHashIndexes.stream().map(definition -> definition[0]))
+			.containsOnly("LastNameIdx", "NameIdxLastName", "NameIdxFirstName");
+
+		Index compositeLastNameIndex = applicationContext.getBean("NameIdxLastName", Index.class);
+
+		assertOqlIndex(compositeLastNameIndex, "NameIdxLastName", "lastName", "Customers", IndexType.HASH);
+
+		Index compositeFirstNameIndex = applicationContext.getBean("NameIdxFirstName", Index.class);
+
+		assertOqlIndex(compositeFirstNameIndex, "NameIdxFirstName", "firstName", "Customers", IndexType.HASH);
 	}
 
 	@Test
@@ -233,6 +270,20 @@ public class EnableIndexingConfigurationUnitTests {
 			when(mockQueryService.createKeyIndex(anyString(), anyString(), anyString()))
 				.thenAnswer(new KeyIndexAnswer());
 
+			doAnswer(invocation -> definedHashIndexes.add(toStringArray(invocation.getArguments())))
+				.when(mockQueryService).defineHashIndex(anyString(), anyString(), anyString());
+
+			when(mockQueryService.createDefinedIndexes()).thenAnswer(invocation -> {
+
+				List<Index> createdIndexes = new ArrayList<>();
+
+				for (String[] definition : definedHashIndexes) {
+					createdIndexes.add(new HashIndexAnswer().newIndex(definition[0], definition[1], definition[2]));
+				}
+
+				return createdIndexes;
+			});
+
 			when(mockQueryService.getIndexes()).thenReturn(indexes);
 
 			doAnswer(invocation -> {
@@ -310,12 +361,13 @@ public class EnableIndexingConfigurationUnitTests {
 
 		@Override
 		public Index answer(InvocationOnMock invocation) throws Throwable {
+			return newIndex(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+		}
 
-			IndexType indexType = getType();
+		Index newIndex(String name, String expression, String from)
+				throws IndexExistsException, IndexNameConflictException {
 
-			String name = invocation.getArgument(0);
-			String expression = invocation.getArgument(1);
-			String from = invocation.getArgument(2);
+			IndexType indexType = getType();
 
 			validateIndexDefinition(name, expression, from, indexType);
 			validateIndexName(name);
@@ -393,6 +445,15 @@ public class EnableIndexingConfigurationUnitTests {
 
 	}
 
+	@EnableIndexing(define = true)
+	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
+		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = {
+			ClientRegionEntity.class, CollocatedPartitionRegionEntity.class, GenericRegionEntity.class,
+			LocalRegionEntity.class, ReplicateRegionEntity.class }))
+	private static class IndexingEnabledWithDefinedIndexesConfiguration extends GemFireConfiguration {
+
+	}
+
 	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
 		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = {
 			ClientRegionEntity.class, CollocatedPartitionRegionEntity.class, GenericRegionEntity.class,
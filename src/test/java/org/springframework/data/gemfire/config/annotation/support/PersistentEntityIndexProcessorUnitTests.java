@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex.IndexDefinition;
+
+/**
+ * Unit tests for {@link PersistentEntityIndexProcessor}.
+ *
+ * @author John Blum
+ * @see javax.tools.JavaCompiler
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndexProcessor
+ * @since 2.0.0
+ */
+public class PersistentEntityIndexProcessorUnitTests {
+
+	private static final String CUSTOMER_SOURCE = String.join("\n",
+		"package example.app.model;",
+		"import java.lang.annotation.ElementType;",
+		"import java.lang.annotation.Retention;",
+		"import java.lang.annotation.RetentionPolicy;",
+		"import java.lang.annotation.Target;",
+		"import org.springframework.core.annotation.AliasFor;",
+		"import org.springframework.data.annotation.Id;",
+		"import org.springframework.data.gemfire.IndexType;",
+		"import org.springframework.data.gemfire.mapping.annotation.Indexed;",
+		"import org.springframework.data.gemfire.mapping.annotation.PartitionRegion;",
+		"@Target(ElementType.TYPE) @Retention(RetentionPolicy.RUNTIME) @PartitionRegion(\"Customers\")",
+		"@interface CustomerRegion { }",
+		"@Target(ElementType.FIELD) @Retention(RetentionPolicy.RUNTIME) @Indexed(type = IndexType.FUNCTIONAL)",
+		"@interface RangeIndexed {",
+		"  @AliasFor(annotation = Indexed.class, attribute = \"name\") String indexName() default \"\";",
+		"}",
+		"@CustomerRegion",
+		"public class Customer {",
+		"  @Id Long id;",
+		"  @RangeIndexed(indexName = \"LastNameIdx\") String lastName;",
+		"  String firstName;",
+		"}");
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private PersistentEntityIndex process(String className, String source) throws Exception {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		assumeNotNull(compiler);
+
+		File classOutput = this.temporaryFolder.newFolder();
+
+		JavaFileObject sourceFile = new SimpleJavaFileObject(
+			URI.create(String.format("string:///%s.java", className.replace('.', '/'))), JavaFileObject.Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+
+		List<String> options = Arrays.asList("-proc:only", "-d", classOutput.getAbsolutePath(),
+			"-classpath", System.getProperty("java.class.path"));
+
+		JavaCompiler.CompilationTask task =
+			compiler.getTask(null, null, null, options, null, Collections.singletonList(sourceFile));
+
+		task.setProcessors(Collections.singletonList(new PersistentEntityIndexProcessor()));
+
+		assertThat(task.call()).isTrue();
+
+		Properties indexProperties = new Properties();
+
+		try (InputStream in = new FileInputStream(new File(classOutput, PersistentEntityIndex.INDEX_LOCATION))) {
+			indexProperties.load(in);
+		}
+
+		return PersistentEntityIndex.from(indexProperties);
+	}
+
+	@Test
+	public void processResolvesRegionAndIndexMetaAnnotations() throws Exception {
+
+		PersistentEntityIndex persistentEntityIndex = process("example.app.model.Customer", CUSTOMER_SOURCE);
+
+		assertThat(persistentEntityIndex.getEntityClassNames()).containsExactly("example.app.model.Customer");
+
+		List<IndexDefinition> indexDefinitions =
+			persistentEntityIndex.getIndexDefinitions("example.app.model.Customer");
+
+		assertThat(indexDefinitions).hasSize(2);
+		assertThat(indexDefinitions.get(0).getKind()).isEqualTo(IndexDefinition.Kind.ID);
+		assertThat(indexDefinitions.get(0).getProperty()).isEqualTo("id");
+		assertThat(indexDefinitions.get(1).getKind()).isEqualTo(IndexDefinition.Kind.INDEXED);
+		assertThat(indexDefinitions.get(1).getProperty()).isEqualTo("lastName");
+		assertThat(indexDefinitions.get(1).getName()).isEqualTo("LastNameIdx");
+		assertThat(indexDefinitions.get(1).getType()).isEqualTo("FUNCTIONAL");
+	}
+}
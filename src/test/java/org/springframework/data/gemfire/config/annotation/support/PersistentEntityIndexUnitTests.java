@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex.IndexDefinition;
+
+/**
+ * Unit tests for {@link PersistentEntityIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.PersistentEntityIndex
+ * @since 2.0.0
+ */
+public class PersistentEntityIndexUnitTests {
+
+	private static URL toUrl(Properties properties) throws Exception {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		properties.store(out, null);
+
+		byte[] content = out.toByteArray();
+
+		return new URL(null, "test:" + PersistentEntityIndex.INDEX_LOCATION, new URLStreamHandler() {
+			@Override
+			protected URLConnection openConnection(URL url) {
+				return new URLConnection(url) {
+
+					@Override
+					public void connect() {
+					}
+
+					@Override
+					public ByteArrayInputStream getInputStream() {
+						return new ByteArrayInputStream(content);
+					}
+				};
+			}
+		});
+	}
+
+	private static ClassLoader newClassLoader(URL... indexFiles) {
+
+		return new ClassLoader(null) {
+			@Override
+			public Enumeration<URL> getResources(String name) {
+				return (PersistentEntityIndex.INDEX_LOCATION.equals(name)
+					? Collections.enumeration(Arrays.asList(indexFiles)) : Collections.emptyEnumeration());
+			}
+		};
+	}
+
+	@Test
+	public void toPropertiesAndFromPropertiesRoundTrip() {
+
+		PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex()
+			.add("example.app.model.Customer", Arrays.asList(
+				IndexDefinition.id("id"),
+				IndexDefinition.indexed("lastName", "LastNameIdx", "", "", "FUNCTIONAL"),
+				IndexDefinition.composite("NameIdx", "/Customers", "HASH", "firstName", "lastName"),
+				IndexDefinition.lucene("description", "DescriptionLuceneIdx", true)))
+			.add("example.app.model.Product", Collections.emptyList());
+
+		PersistentEntityIndex copy = PersistentEntityIndex.from(persistentEntityIndex.toProperties());
+
+		assertThat(copy.getEntityClassNames())
+			.containsOnly("example.app.model.Customer", "example.app.model.Product");
+
+		assertThat(copy.getIndexDefinitions("example.app.model.Product")).isEmpty();
+
+		List<IndexDefinition> indexDefinitions = copy.getIndexDefinitions("example.app.model.Customer");
+
+		assertThat(indexDefinitions).hasSize(4);
+		assertThat(indexDefinitions.get(0).getKind()).isEqualTo(IndexDefinition.Kind.ID);
+		assertThat(indexDefinitions.get(0).getProperty()).isEqualTo("id");
+		assertThat(indexDefinitions.get(1).getKind()).isEqualTo(IndexDefinition.Kind.INDEXED);
+		assertThat(indexDefinitions.get(1).getName()).isEqualTo("LastNameIdx");
+		assertThat(indexDefinitions.get(1).getExpression()).isEmpty();
+		assertThat(indexDefinitions.get(1).getType()).isEqualTo("FUNCTIONAL");
+		assertThat(indexDefinitions.get(2).getKind()).isEqualTo(IndexDefinition.Kind.COMPOSITE);
+		assertThat(indexDefinitions.get(2).getFrom()).isEqualTo("/Customers");
+		assertThat(indexDefinitions.get(2).getProperties()).containsExactly("firstName", "lastName");
+		assertThat(indexDefinitions.get(3).getKind()).isEqualTo(IndexDefinition.Kind.LUCENE);
+		assertThat(indexDefinitions.get(3).isDestroy()).isTrue();
+	}
+
+	@Test
+	public void getEntityClassNamesFiltersByBasePackage() {
+
+		PersistentEntityIndex persistentEntityIndex = new PersistentEntityIndex()
+			.add("example.app.model.Customer", null)
+			.add("example.app.model.sales.Order", null)
+			.add("example.application.model.Account", null);
+
+		assertThat(persistentEntityIndex.getEntityClassNames(Collections.singleton("example.app")))
+			.containsExactly("example.app.model.Customer", "example.app.model.sales.Order");
+
+		assertThat(persistentEntityIndex.getEntityClassNames(Collections.singleton("example.app.model.sales")))
+			.containsExactly("example.app.model.sales.Order");
+
+		assertThat(persistentEntityIndex.getIndexDefinitions("example.app.model.Unknown")).isNull();
+	}
+
+	@Test
+	public void loadReturnsEmptyWhenNoIndexExists() {
+		assertThat(PersistentEntityIndex.load(newClassLoader()).isPresent()).isFalse();
+	}
+
+	@Test
+	public void loadMergesAllIndexFiles() throws Exception {
+
+		URL indexOne = toUrl(new PersistentEntityIndex()
+			.add("example.app.model.Customer", Collections.singletonList(IndexDefinition.id("id"))).toProperties());
+
+		URL indexTwo = toUrl(new PersistentEntityIndex()
+			.add("example.app.model.Product", Collections.emptyList()).toProperties());
+
+		PersistentEntityIndex persistentEntityIndex =
+			PersistentEntityIndex.load(newClassLoader(indexOne, indexTwo)).orElse(null);
+
+		assertThat(persistentEntityIndex).isNotNull();
+		assertThat(persistentEntityIndex.getEntityClassNames())
+			.containsOnly("example.app.model.Customer", "example.app.model.Product");
+		assertThat(persistentEntityIndex.getIndexDefinitions("example.app.model.Customer")).hasSize(1);
+	}
+
+	@Test
+	public void loadIgnoresIndexWhenConfigured() throws Exception {
+
+		URL index = toUrl(new PersistentEntityIndex().add("example.app.model.Customer", null).toProperties());
+
+		System.setProperty(PersistentEntityIndex.IGNORE_INDEX_PROPERTY, "true");
+
+		try {
+			assertThat(PersistentEntityIndex.load(newClassLoader(index)).isPresent()).isFalse();
+		}
+		finally {
+			System.clearProperty(PersistentEntityIndex.IGNORE_INDEX_PROPERTY);
+		}
+	}
+}
@@ -36,6 +36,7 @@ import org.springframework.data.gemfire.mapping.annotation.PartitionRegion;
 		@PartitionRegion.FixedPartition(name = "two", numBuckets = 21)
 	}
 )
+@Indexed(name = "NameIdx", properties = { "lastName", "firstName" })
 @SuppressWarnings("unused")
 public class PartitionRegionEntity {
 
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.InvalidDeltaException;
+import org.junit.Test;
+import org.springframework.data.annotation.Transient;
+
+/**
+ * Unit tests for {@link AbstractDeltaCapableEntity}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.AbstractDeltaCapableEntity
+ * @since 2.0.0
+ */
+public class AbstractDeltaCapableEntityUnitTests {
+
+	private byte[] toDelta(AbstractDeltaCapableEntity entity) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		entity.toDelta(new DataOutputStream(bytes));
+
+		return bytes.toByteArray();
+	}
+
+	private void fromDelta(AbstractDeltaCapableEntity entity, byte[] delta) throws IOException {
+		entity.fromDelta(new DataInputStream(new ByteArrayInputStream(delta)));
+	}
+
+	@Test
+	public void newEntityHasNoDelta() {
+
+		Customer customer = new Customer(1L, "Jon Doe");
+
+		customer.setName("Jane Doe");
+
+		assertThat(customer.hasDelta()).isFalse();
+		assertThat(customer.getDirtyProperties()).isEmpty();
+	}
+
+	@Test
+	public void changedPropertiesAreDirtyAfterReset() {
+
+		Customer customer = new Customer(1L, "Jon Doe");
+
+		customer.resetDirtyProperties();
+
+		assertThat(customer.hasDelta()).isFalse();
+
+		customer.setName("Jane Doe");
+		customer.setCacheKey("ignored");
+
+		assertThat(customer.hasDelta()).isTrue();
+		assertThat(customer.getDirtyProperties()).containsExactly("name");
+	}
+
+	@Test
+	public void inPlaceCollectionModificationIsDirty() {
+
+		Customer customer = new Customer(1L, "Jon Doe");
+
+		customer.resetDirtyProperties();
+		customer.getTags().add("vip");
+
+		assertThat(customer.getDirtyProperties()).containsExactly("tags");
+	}
+
+	@Test
+	public void explicitlyMarkedPropertiesAreDirty() {
+
+		Customer customer = new Customer(1L, "Jon Doe");
+
+		customer.markDirty("id");
+
+		assertThat(customer.hasDelta()).isTrue();
+		assertThat(customer.getDirtyProperties()).containsExactly("id");
+
+		customer.resetDirtyProperties();
+
+		assertThat(customer.hasDelta()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void markDirtyWithNonPersistentPropertyThrowsIllegalArgumentException() {
+		new Customer(1L, "Jon Doe").markDirty("cacheKey");
+	}
+
+	@Test
+	public void deltaAppliesOnlyChangedProperties() throws IOException {
+
+		Customer source = new Customer(1L, "Jon Doe");
+
+		source.resetDirtyProperties();
+		source.setName("Jane Doe");
+
+		Customer target = new Customer(1L, "Jon Doe");
+
+		target.getTags().add("local");
+		target.resetDirtyProperties();
+
+		fromDelta(target, toDelta(source));
+
+		assertThat(target.getId()).isEqualTo(1L);
+		assertThat(target.getName()).isEqualTo("Jane Doe");
+		assertThat(target.getTags()).containsExactly("local");
+		assertThat(target.hasDelta()).isFalse();
+	}
+
+	@Test(expected = InvalidDeltaException.class)
+	public void deltaWithUnknownPropertyThrowsInvalidDeltaException() throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		out.writeInt(1);
+		out.writeUTF("cacheKey");
+
+		fromDelta(new Customer(1L, "Jon Doe"), bytes.toByteArray());
+	}
+
+	@SuppressWarnings("unused")
+	static class Customer extends AbstractDeltaCapableEntity {
+
+		private Long id;
+
+		private List<String> tags = new ArrayList<>();
+
+		private String name;
+
+		@Transient
+		private String cacheKey;
+
+		Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Long getId() {
+			return this.id;
+		}
+
+		void setCacheKey(String cacheKey) {
+			this.cacheKey = cacheKey;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		List<String> getTags() {
+			return this.tags;
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.FixedPartitionResolver;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.ColocatedBy;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.gemfire.mapping.annotation.RoutingKey;
+
+/**
+ * Unit tests for {@link RoutingKeyPartitionResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.RoutingKeyPartitionResolver
+ * @since 2.0.0
+ */
+public class RoutingKeyPartitionResolverUnitTests {
+
+	private GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private GemfirePersistentEntity<?> getPersistentEntity(Class<?> type) {
+		return this.mappingContext.getPersistentEntity(type).orElseThrow(
+			() -> newIllegalStateException("Unable to resolve PersistentEntity for type [%s]", type));
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntryOperation<Object, Object> mockEntryOperation(Object key) {
+
+		EntryOperation<Object, Object> mockEntryOperation = mock(EntryOperation.class);
+
+		when(mockEntryOperation.getKey()).thenReturn(key);
+
+		return mockEntryOperation;
+	}
+
+	@Test
+	public void entityWithoutRoutingKeyHasNoPartitionResolver() {
+		assertThat(RoutingKeyPartitionResolver.from(getPersistentEntity(Customer.class)).isPresent()).isFalse();
+	}
+
+	@Test
+	public void routingKeyIdentifierRoutesByKey() {
+
+		RoutingKeyPartitionResolver partitionResolver =
+			RoutingKeyPartitionResolver.from(getPersistentEntity(Order.class)).orElse(null);
+
+		assertThat(partitionResolver).isNotNull();
+		assertThat(partitionResolver.getName()).isEqualTo("OrderRoutingKeyPartitionResolver");
+		assertThat(partitionResolver.getRoutingKeyField().isPresent()).isFalse();
+		assertThat(partitionResolver.getColocatedType().isPresent()).isFalse();
+		assertThat(partitionResolver.getRoutingObject(mockEntryOperation(42L))).isEqualTo(42L);
+	}
+
+	@Test
+	public void colocatedByIdentifierTypePropertyRoutesByPropertyValue() {
+
+		RoutingKeyPartitionResolver partitionResolver =
+			RoutingKeyPartitionResolver.from(getPersistentEntity(OrderLine.class)).orElse(null);
+
+		assertThat(partitionResolver).isNotNull();
+		assertThat(partitionResolver.getRoutingKeyField().map(field -> field.getName()))
+			.isEqualTo(Optional.of("orderId"));
+		assertThat(partitionResolver.getColocatedType()).isEqualTo(Optional.of(Order.class));
+		assertThat(partitionResolver.getRoutingObject(mockEntryOperation(new OrderLineId(42L, 1))))
+			.isEqualTo(42L);
+		assertThat(partitionResolver.getRoutingObject(mockEntryOperation(42L))).isEqualTo(42L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fixedPartitionResolverRoutesByPartitionNameOrHashCode() {
+
+		RoutingKeyPartitionResolver partitionResolver = RoutingKeyPartitionResolver
+			.from(getPersistentEntity(Account.class)).map(it -> it.withFixedPartitions("ONE", "TWO")).orElse(null);
+
+		assertThat(partitionResolver).isInstanceOf(FixedPartitionResolver.class);
+
+		FixedPartitionResolver<Object, Object> fixedPartitionResolver =
+			(FixedPartitionResolver<Object, Object>) partitionResolver;
+
+		assertThat(fixedPartitionResolver.getPartitionName(mockEntryOperation(new AccountId("TWO", 1L)),
+			Collections.emptySet())).isEqualTo("TWO");
+
+		assertThat(fixedPartitionResolver.getPartitionName(mockEntryOperation(new AccountId("THREE", 1L)),
+			Collections.emptySet())).isIn("ONE", "TWO");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void routingKeyOnNonIdentifierPropertyThrowsIllegalStateException() {
+		RoutingKeyPartitionResolver.from(getPersistentEntity(Invoice.class));
+	}
+
+	@Region("Customers")
+	static class Customer {
+		@Id Long id;
+	}
+
+	@Region("Orders")
+	static class Order {
+		@Id @RoutingKey Long id;
+	}
+
+	static class OrderLineId {
+
+		@ColocatedBy(Order.class)
+		private final Long orderId;
+
+		private final int lineNumber;
+
+		OrderLineId(Long orderId, int lineNumber) {
+			this.orderId = orderId;
+			this.lineNumber = lineNumber;
+		}
+
+		public Long getOrderId() {
+			return this.orderId;
+		}
+
+		public int getLineNumber() {
+			return this.lineNumber;
+		}
+	}
+
+	@Region("OrderLines")
+	static class OrderLine {
+		@Id OrderLineId id;
+	}
+
+	static class AccountId {
+
+		private final String region;
+
+		private final Long number;
+
+		AccountId(String region, Long number) {
+			this.region = region;
+			this.number = number;
+		}
+
+		@RoutingKey
+		public String getRegion() {
+			return this.region;
+		}
+
+		public Long getNumber() {
+			return this.number;
+		}
+	}
+
+	@Region("Accounts")
+	static class Account {
+		@Id AccountId id;
+	}
+
+	@Region("Invoices")
+	static class Invoice {
+		@Id Long id;
+		@RoutingKey String customerId;
+	}
+}
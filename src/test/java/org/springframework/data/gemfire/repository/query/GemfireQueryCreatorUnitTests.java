@@ -20,10 +20,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.KeysetCursor;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -66,4 +72,69 @@ public class GemfireQueryCreatorUnitTests {
 
 		assertThat(query.toString(), is(equalTo("SELECT * FROM /simple x WHERE x.address.city = $1")));
 	}
+
+	@Test
+	public void createsQueryWithEqualityPredicatesBeforeRangePredicates() {
+		PartTree partTree = new PartTree("findByIdGreaterThanAndLastname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT * FROM /simple x WHERE x.lastname = $2 AND x.id > $1")));
+	}
+
+	@Test
+	public void createsCountQueryWithoutOrdering() {
+		PartTree partTree = new PartTree("countByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT COUNT(*) FROM /simple x WHERE x.lastname = $1")));
+	}
+
+	@Test
+	public void createsExistsQuerySelectingIdentifierOfFirstResult() {
+		PartTree partTree = new PartTree("existsByLastname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity, Collections.singletonList("id"));
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT x.id FROM /simple x WHERE x.lastname = $1 LIMIT 1")));
+	}
+
+	@Test
+	public void createsKeysetQueryForFirstSlice() {
+		PartTree partTree = new PartTree("findByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity)
+			.withKeyset(KeysetCursor.first(10), 3);
+
+		QueryString query = queryCreator.createQuery(Sort.by("id"));
+
+		assertThat(query.toString(), is(equalTo(
+			"SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname ASC, id ASC LIMIT 11")));
+	}
+
+	@Test
+	public void createsKeysetQuerySeekingPastCursorKeys() {
+		PartTree partTree = new PartTree("findByLastnameOrderByFirstnameAsc", Person.class);
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		keys.put("firstname", "Jon");
+		keys.put("id", 1L);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity)
+			.withKeyset(KeysetCursor.first(10).next(keys), 3);
+
+		QueryString query = queryCreator.createQuery(Sort.by("id"));
+
+		assertThat(query.toString(), is(equalTo("SELECT DISTINCT * FROM /simple x WHERE (x.lastname = $1)"
+			+ " AND x.firstname >= $3 AND (x.firstname > $3 OR (x.firstname = $3 AND x.id > $4))"
+			+ " ORDER BY firstname ASC, id ASC LIMIT 11")));
+	}
 }
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.hamcrest.Matchers;
 import org.junit.Before;
@@ -36,7 +37,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.KeysetCursor;
 import org.springframework.data.gemfire.repository.Query;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
@@ -155,6 +158,30 @@ public class GemfireQueryMethodUnitTests {
 		new GemfireQueryMethod(Invalid.class.getMethod("someMethod", Pageable.class), metadata, factory, context);
 	}
 
+	@Test
+	public void detectsKeysetQueryCorrectly() throws Exception {
+		GemfireQueryMethod method = new GemfireQueryMethod(Sample.class.getMethod("findByLastname",
+			String.class, KeysetCursor.class), metadata, factory, context);
+
+		assertThat(method.isKeysetQuery(), is(true));
+		assertThat(method.getKeysetCursorIndex(), is(equalTo(1)));
+
+		method = new GemfireQueryMethod(Sample.class.getMethod("notAnnotated"), metadata, factory, context);
+
+		assertThat(method.isKeysetQuery(), is(false));
+		assertThat(method.getKeysetCursorIndex(), is(equalTo(-1)));
+	}
+
+	@Test
+	public void rejectsKeysetQueryMethodNotReturningSlice() throws Exception {
+		expectedException.expect(IllegalStateException.class);
+		expectedException.expectCause(is(nullValue(Throwable.class)));
+		expectedException.expectMessage(Matchers.startsWith(
+			"Keyset pagination requires the query method to return a Slice; Offending method: keysetMethod"));
+
+		new GemfireQueryMethod(Invalid.class.getMethod("keysetMethod", KeysetCursor.class), metadata, factory, context);
+	}
+
 	@Test
 	public void detectsQueryHintsCorrectly() throws Exception {
 		assertThat(new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("queryWithHint"),
@@ -256,6 +283,8 @@ public class GemfireQueryMethodUnitTests {
 
 		void notAnnotated();
 
+		Slice<Person> findByLastname(String lastname, KeysetCursor cursor);
+
 	}
 
 	@SuppressWarnings("unused")
@@ -263,6 +292,8 @@ public class GemfireQueryMethodUnitTests {
 
 		Page<?> someMethod(Pageable pageable);
 
+		List<Person> keysetMethod(KeysetCursor cursor);
+
 	}
 
 	@SuppressWarnings("unused")
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import org.junit.Test;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.repository.query.Predicates.AtomicPredicate;
 import org.springframework.data.repository.query.parser.Part;
 
@@ -102,7 +103,38 @@ public class PredicatesUnitTests {
 		assertThat(predicate.toString("person"), is(equalTo("person.firstname.equalsIgnoreCase($1) AND person.lastname.equalsIgnoreCase($2)")));
 	}
 
+	@Test
+	public void ordersAndPredicateOperandsForIndexUsePreservingParameterPositions() {
+		Part first = new Part("ageGreaterThan", Person.class);
+		Part second = new Part("firstnameLike", Person.class);
+		Part third = new Part("lastname", Person.class);
+
+		Iterator<Integer> indexes = Arrays.asList(1, 2, 3).iterator();
+
+		Predicate predicate = Predicates.create(first, indexes).and(Predicates.create(second, indexes))
+			.and(Predicates.create(third, indexes));
+
+		assertThat(predicate, is(notNullValue(Predicate.class)));
+		assertThat(predicate.toString(null),
+			is(equalTo("x.lastname = $3 AND x.age > $1 AND x.firstname LIKE $2")));
+	}
+
+	@Test
+	public void ordersAndPredicateOperandsWithinEachOrPredicate() {
+		Part first = new Part("ageLessThan", Person.class);
+		Part second = new Part("lastname", Person.class);
+		Part third = new Part("firstname", Person.class);
+
+		Iterator<Integer> indexes = Arrays.asList(1, 2, 3).iterator();
+
+		Predicate predicate = Predicates.create(first, indexes).and(Predicates.create(second, indexes))
+			.or(Predicates.create(third, indexes));
+
+		assertThat(predicate.toString(null), is(equalTo("x.lastname = $2 AND x.age < $1 OR x.firstname = $3")));
+	}
+
 	static class Person {
+		Integer age;
 		String firstname;
 		String lastname;
 	}
@@ -112,4 +144,23 @@ public class PredicatesUnitTests {
 		Boolean active;
 		String username;
 	}
+
+	@Test
+	public void keysetPredicateSeeksPastKeysInSortDirection() {
+		Predicate predicate = Predicates.keyset(null,
+			Sort.by(Sort.Order.desc("lastname"), Sort.Order.asc("firstname"), Sort.Order.asc("id")), 2);
+
+		assertThat(predicate.toString("x"), is(equalTo("x.lastname <= $2 AND (x.lastname < $2"
+			+ " OR (x.lastname = $2 AND x.firstname > $3) OR (x.lastname = $2 AND x.firstname = $3 AND x.id > $4))")));
+	}
+
+	@Test
+	public void keysetPredicateOnSingleSortPropertyIsStrictComparison() {
+		Part part = new Part("lastname", Person.class);
+
+		Predicate predicate = Predicates.keyset(Predicates.create(part, Collections.singletonList(1).iterator()),
+			Sort.by("id"), 2);
+
+		assertThat(predicate.toString("x"), is(equalTo("(x.lastname = $1) AND x.id > $2")));
+	}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.types.StructType;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * Unit tests for {@link ProjectionResultConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.ProjectionResultConverter
+ * @since 2.0.0
+ */
+public class ProjectionResultConverterUnitTests {
+
+	private ReturnedType returnedType(Class<?> type) {
+		return ReturnedType.of(type, Customer.class, new SpelAwareProxyProjectionFactory());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsStructIntoMapOfSelectedProperties() {
+
+		Struct mockStruct = mock(Struct.class);
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStructType.getFieldNames()).thenReturn(new String[] { "id", "firstname", "lastname" });
+		when(mockStruct.getFieldValues()).thenReturn(new Object[] { 1L, "Jon", "Doe" });
+
+		ProjectionResultConverter converter = new ProjectionResultConverter(returnedType(CustomerName.class),
+			Arrays.asList("id", "firstname", "lastname"));
+
+		Object result = converter.convert(mockStruct);
+
+		assertThat(result).isInstanceOf(Map.class);
+		assertThat((Map<String, Object>) result).containsEntry("firstname", "Jon").containsEntry("lastname", "Doe");
+	}
+
+	@Test
+	public void convertsSingleSelectedPropertyValueIntoMap() {
+
+		ProjectionResultConverter converter = new ProjectionResultConverter(returnedType(CustomerName.class),
+			Collections.singletonList("firstname"));
+
+		assertThat(converter.convert("Jon")).isEqualTo(Collections.singletonMap("firstname", "Jon"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readsOnlyProjectedPropertiesFromPdxInstance() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("firstname")).thenReturn(true);
+		when(mockPdxInstance.hasField("lastname")).thenReturn(true);
+		when(mockPdxInstance.getField("firstname")).thenReturn("Jon");
+		when(mockPdxInstance.getField("lastname")).thenReturn("Doe");
+
+		ProjectionResultConverter converter =
+			new ProjectionResultConverter(returnedType(CustomerName.class), Collections.emptyList());
+
+		Object result = converter.convert(mockPdxInstance);
+
+		assertThat((Map<String, Object>) result).containsOnlyKeys("firstname", "lastname");
+
+		verify(mockPdxInstance, never()).getObject();
+		verify(mockPdxInstance, never()).getField("address");
+	}
+
+	@Test
+	public void instantiatesDtoFromSelectedProperties() {
+
+		ProjectionResultConverter converter = new ProjectionResultConverter(returnedType(CustomerNameDto.class),
+			Arrays.asList("firstname", "lastname"));
+
+		Struct mockStruct = mock(Struct.class);
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStructType.getFieldNames()).thenReturn(new String[] { "firstname", "lastname" });
+		when(mockStruct.getFieldValues()).thenReturn(new Object[] { "Jon", "Doe" });
+
+		Object result = converter.convert(mockStruct);
+
+		assertThat(result).isInstanceOf(CustomerNameDto.class);
+		assertThat(((CustomerNameDto) result).getFirstname()).isEqualTo("Jon");
+		assertThat(((CustomerNameDto) result).getLastname()).isEqualTo("Doe");
+	}
+
+	@Test
+	public void instantiatesDtoFromEntity() {
+
+		ProjectionResultConverter converter =
+			new ProjectionResultConverter(returnedType(CustomerNameDto.class), Collections.emptyList());
+
+		Object result = converter.convert(new Customer(1L, "Jon", "Doe", "100 Main St."));
+
+		assertThat(result).isInstanceOf(CustomerNameDto.class);
+		assertThat(((CustomerNameDto) result).getFirstname()).isEqualTo("Jon");
+		assertThat(((CustomerNameDto) result).getLastname()).isEqualTo("Doe");
+	}
+
+	@Test
+	public void returnsEntityForInterfaceProjection() {
+
+		Customer customer = new Customer(1L, "Jon", "Doe", "100 Main St.");
+
+		ProjectionResultConverter converter =
+			new ProjectionResultConverter(returnedType(CustomerName.class), Collections.emptyList());
+
+		assertThat(converter.convert(customer)).isSameAs(customer);
+	}
+
+	@SuppressWarnings("unused")
+	static class Customer {
+
+		private Long id;
+
+		private String address;
+		private String firstname;
+		private String lastname;
+
+		Customer(Long id, String firstname, String lastname, String address) {
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.address = address;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getAddress() {
+			return this.address;
+		}
+
+		public String getFirstname() {
+			return this.firstname;
+		}
+
+		public String getLastname() {
+			return this.lastname;
+		}
+	}
+
+	interface CustomerName {
+
+		String getFirstname();
+
+		String getLastname();
+
+	}
+
+	static class CustomerNameDto {
+
+		private final String firstname;
+		private final String lastname;
+
+		public CustomerNameDto(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return this.firstname;
+		}
+
+		public String getLastname() {
+			return this.lastname;
+		}
+	}
+}
@@ -26,6 +26,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -62,6 +64,34 @@ public class QueryBuilderUnitTests {
 		verify(mockPartTree, times(1)).isDistinct();
 	}
 
+	@Test
+	public void createQueryBuilderSelectingProperties() {
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDistinct()).thenReturn(false);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree,
+			Arrays.asList("id", "firstname", "lastname"));
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT x.id, x.firstname, x.lastname FROM /Example x");
+	}
+
+	@Test
+	public void createQueryBuilderWithCountQuery() {
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isCountProjection()).thenReturn(true);
+		when(mockPartTree.isDistinct()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree, Arrays.asList("id"));
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT COUNT(*) FROM /Example x");
+	}
+
 	@Test
 	public void createQueryBuilderWithNonDistinctQuery() {
 		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
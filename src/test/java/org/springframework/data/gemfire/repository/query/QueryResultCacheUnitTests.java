@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.SubscriptionNotEnabledException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.QueryResultCache
+ * @since 2.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class QueryResultCacheUnitTests {
+
+	private static final String QUERY = "SELECT * FROM /People p WHERE p.lastName = $1";
+
+	private AtomicInteger executions = new AtomicInteger(0);
+
+	private AttributesMutator<Object, Object> mockAttributesMutator;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	private Supplier<Collection<?>> queryExecution = () -> {
+		executions.incrementAndGet();
+		return Arrays.asList("Jon Doe", "Jane Doe");
+	};
+
+	@Before
+	public void setup() {
+
+		mockAttributesMutator = mock(AttributesMutator.class);
+		mockRegion = mock(Region.class);
+		mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getFullPath()).thenReturn("/People");
+	}
+
+	private CacheListener<Object, Object> captureCacheListener() {
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator).addCacheListener(cacheListener.capture());
+
+		return cacheListener.getValue();
+	}
+
+	@Test
+	public void cachedResultsAreReturnedForSameQueryAndParameters() {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		assertThat(cache.get(QUERY, new Object[] { "Doe" }, queryExecution)).containsExactly("Jon Doe", "Jane Doe");
+		assertThat(cache.get(QUERY, new Object[] { "Doe" }, queryExecution)).containsExactly("Jon Doe", "Jane Doe");
+		assertThat(cache.get(QUERY, new Object[] { "Smith" }, queryExecution)).containsExactly("Jon Doe", "Jane Doe");
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.getHitCount()).isEqualTo(1L);
+		assertThat(cache.getMissCount()).isEqualTo(2L);
+		assertThat(cache.size()).isEqualTo(2);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(any(CacheListener.class));
+	}
+
+	@Test
+	public void cachedResultsAreCopiedOnRead() {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution).clear();
+
+		assertThat(cache.get(QUERY, new Object[] { "Doe" }, queryExecution)).hasSize(2);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void regionChangeInvalidatesCachedResults() {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+
+		captureCacheListener().afterUpdate(mock(EntryEvent.class));
+
+		assertThat(cache.size()).isEqualTo(0);
+
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void resultsOfQueryConcurrentWithRegionChangeAreNotServed() {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, () -> {
+			executions.incrementAndGet();
+			cache.invalidate();
+			return Arrays.asList("Jon Doe");
+		});
+
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void expiredResultsAreNotServed() throws Exception {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 1L, TimeUnit.MILLISECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+
+		Thread.sleep(20L);
+
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(cache.getTimeToLive()).isEqualTo(1L);
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void leastRecentlyUsedResultsAreEvicted() {
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 2);
+
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+		cache.get(QUERY, new Object[] { "Smith" }, queryExecution);
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+		cache.get(QUERY, new Object[] { "Jones" }, queryExecution);
+
+		assertThat(cache.size()).isEqualTo(2);
+
+		cache.get(QUERY, new Object[] { "Doe" }, queryExecution);
+		assertThat(executions.get()).isEqualTo(3);
+
+		cache.get(QUERY, new Object[] { "Smith" }, queryExecution);
+		assertThat(executions.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void clientRegionWithInterestInAllKeysCachesResults() {
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.getInterestList()).thenReturn((List) Collections.singletonList(QueryResultCache.ALL_KEYS));
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(1);
+
+		verify(mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class),
+			anyBoolean(), anyBoolean());
+	}
+
+	@Test
+	public void clientRegionWithInterestInAllKeysRegexCachesResults() {
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.getInterestListRegex()).thenReturn(Collections.singletonList(QueryResultCache.ALL_KEYS_REGEX));
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void clientRegionWithoutInterestInAllKeysDoesNotCacheResults() {
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.getInterestList()).thenReturn((List) Collections.singletonList("someKey"));
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+
+		verify(mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class),
+			anyBoolean(), anyBoolean());
+		verify(mockAttributesMutator, never()).addCacheListener(any(CacheListener.class));
+	}
+
+	@Test
+	public void clientRegionWithoutSubscriptionDoesNotCacheResults() {
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.getInterestList()).thenThrow(new SubscriptionNotEnabledException());
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void partitionRegionDoesNotCacheResults() {
+
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		QueryResultCache cache = new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10);
+
+		cache.get(QUERY, null, queryExecution);
+		cache.get(QUERY, null, queryExecution);
+
+		assertThat(executions.get()).isEqualTo(2);
+
+		verify(mockAttributesMutator, never()).addCacheListener(any(CacheListener.class));
+	}
+
+	@Test
+	public void peerRegionDoesNotRegisterInterest() {
+
+		new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 10).get(QUERY, null, queryExecution);
+
+		verify(mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class),
+			anyBoolean(), anyBoolean());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidMaxEntriesThrowsIllegalArgumentException() {
+		new QueryResultCache(mockRegion, 0L, TimeUnit.SECONDS, 0);
+	}
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -34,14 +35,22 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.internal.ResultsBag;
 import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.repository.KeysetCursor;
+import org.springframework.data.gemfire.repository.KeysetSlice;
+import org.springframework.data.gemfire.repository.sample.Person;
 
 /**
  * The SpringBasedGemfireRepositoryQueryTest class is a test suite of test cases testing the contract and functionality
@@ -218,4 +227,103 @@ public class StringBasedGemfireRepositoryQueryTest {
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
 
+	@Test
+	public void mergeResultsSumsCountsOfEachMember() {
+		Collection<?> results = repositoryQuery.mergeResults("SELECT COUNT(*) FROM /Example x WHERE x.name = $1",
+			Arrays.<Object>asList(2, 3, 5));
+
+		assertThat(results, is(equalTo(Collections.<Object>singletonList(10))));
+	}
+
+	@Test
+	public void mergeResultsSumsCountsOfEachMemberWithoutOverflow() {
+		Collection<?> results = repositoryQuery.mergeResults("SELECT COUNT(*) FROM /Example x",
+			Arrays.<Object>asList(Integer.MAX_VALUE, 1), Long.class);
+
+		assertThat(results, is(equalTo(Collections.<Object>singletonList(Integer.MAX_VALUE + 1L))));
+	}
+
+	@Test
+	public void mergeResultsReturnsCountAsLongWhenCountOverflowsInteger() {
+		Collection<?> results = repositoryQuery.mergeResults("SELECT COUNT(*) FROM /Example x",
+			Arrays.<Object>asList(Integer.MAX_VALUE, 1));
+
+		assertThat(results, is(equalTo(Collections.<Object>singletonList(Integer.MAX_VALUE + 1L))));
+	}
+
+	@Test
+	public void toCountConvertsToDeclaredType() {
+		assertThat(repositoryQuery.toCount(10L, Long.TYPE), is(equalTo((Object) 10L)));
+		assertThat(repositoryQuery.toCount(10L, Integer.class), is(equalTo((Object) 10)));
+		assertThat(repositoryQuery.toCount(10L, Object.class), is(equalTo((Object) 10)));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void toCountFailsWhenCountOverflowsDeclaredIntegerType() {
+		repositoryQuery.toCount(Integer.MAX_VALUE + 1L, Integer.TYPE);
+	}
+
+	@Test
+	public void mergeResultsAppliesDistinctAndLimitAcrossMembers() {
+		Collection<?> results = repositoryQuery.mergeResults("SELECT DISTINCT x.name FROM /Example x LIMIT 3",
+			Arrays.<Object>asList("a", "b", "a", "c", "d"));
+
+		assertThat(results, is(equalTo(Arrays.<Object>asList("a", "b", "c"))));
+	}
+
+	@Test
+	public void mergeResultsRetainsResultsOfEachMember() {
+		Collection<?> results = repositoryQuery.mergeResults("SELECT * FROM /Example x",
+			Arrays.<Object>asList("a", "b", "a"));
+
+		assertThat(results, is(equalTo(Arrays.<Object>asList("a", "b", "a"))));
+	}
+
+	@Test
+	public void toKeysetSliceReturnsNextCursorPositionedAfterLastResult() {
+		KeysetCursor cursor = KeysetCursor.first(2);
+
+		Sort sort = Sort.by("lastname", "id");
+
+		KeysetSlice<Object> slice = new StringBasedGemfireRepositoryQuery().withKeyset(cursor, sort)
+			.toKeysetSlice(Arrays.asList(new Person(1L, "Jon", "Doe"), new Person(2L, "Jane", "Doe"),
+				new Person(3L, "Cookie", "Doe")), Function.identity());
+
+		assertThat(slice.getContent(), is(equalTo(Arrays.<Object>asList(new Person(1L, "Jon", "Doe"),
+			new Person(2L, "Jane", "Doe")))));
+		assertTrue(slice.hasNext());
+		assertSame(cursor, slice.getCursor());
+		assertThat(slice.getNextCursor().getPage(), is(equalTo(1)));
+		assertThat(slice.getNextCursor().getSize(), is(equalTo(2)));
+		assertThat(new ArrayList<>(slice.getNextCursor().getKeys().keySet()),
+			is(equalTo(Arrays.asList("lastname", "id"))));
+		assertThat(new ArrayList<>(slice.getNextCursor().getKeys().values()),
+			is(equalTo(Arrays.<Object>asList("Doe", 2L))));
+	}
+
+	@Test
+	public void toKeysetSliceOfLastResultsHasNoNextCursor() {
+		KeysetSlice<Object> slice = new StringBasedGemfireRepositoryQuery()
+			.withKeyset(KeysetCursor.first(2), Sort.by("id"))
+			.toKeysetSlice(Collections.singletonList(new Person(1L, "Jon", "Doe")), Function.identity());
+
+		assertThat(slice.getNumberOfElements(), is(equalTo(1)));
+		assertFalse(slice.hasNext());
+		assertThat(slice.getNextCursor(), is(nullValue()));
+	}
+
+	@Test
+	public void withKeysetParametersAppendsCursorKeys() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		keys.put("lastname", "Doe");
+		keys.put("id", 2L);
+
+		KeysetCursor cursor = KeysetCursor.first(2).next(keys);
+
+		Object[] parameters = new StringBasedGemfireRepositoryQuery().withKeyset(cursor, Sort.by("lastname", "id"))
+			.withKeysetParameters(new Object[] { "Doe", cursor });
+
+		assertThat(Arrays.asList(parameters), is(equalTo(Arrays.<Object>asList("Doe", cursor, "Doe", 2L))));
+	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link OqlQueryFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.support.OqlQueryFunction
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class OqlQueryFunctionUnitTests {
+
+	private OqlQueryFunction function = new OqlQueryFunction();
+
+	private Query mockQuery;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	public void setup() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+		RegionService mockRegionService = mock(RegionService.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		mockFunctionContext = mock(RegionFunctionContext.class);
+		mockQuery = mock(Query.class);
+		mockResultSender = mock(ResultSender.class);
+
+		when(mockFunctionContext.getDataSet()).thenReturn(mockRegion);
+		when(mockFunctionContext.getResultSender()).thenReturn(mockResultSender);
+		when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.newQuery(eq("SELECT * FROM /Example x WHERE x.name = $1"))).thenReturn(mockQuery);
+	}
+
+	@Test
+	public void functionIsReadOnlyAndHighlyAvailable() {
+
+		assertThat(function.getId()).isEqualTo(OqlQueryFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isTrue();
+		assertThat(function.optimizeForWrite()).isFalse();
+	}
+
+	@Test
+	public void executeSendsQueryResultsAsList() throws Exception {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList("one", "two"));
+		when(mockFunctionContext.getArguments()).thenReturn(
+			new Object[] { "SELECT * FROM /Example x WHERE x.name = $1", new Object[] { "one" } });
+		when(mockQuery.execute(eq("one"))).thenReturn(mockSelectResults);
+
+		function.execute(mockFunctionContext);
+
+		verify(mockResultSender).lastResult(eq(Arrays.asList("one", "two")));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithoutQueryThrowsFunctionException() {
+
+		when(mockFunctionContext.getArguments()).thenReturn(new Object[0]);
+
+		try {
+			function.execute(mockFunctionContext);
+		}
+		finally {
+			verify(mockResultSender, never()).lastResult(any());
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeOnMembersThrowsFunctionException() {
+		function.execute(mock(FunctionContext.class));
+	}
+}
@@ -47,6 +47,7 @@ import org.mockito.stubbing.Answer;
 import org.springframework.aop.framework.Advised;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.BatchSize;
 import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -162,6 +163,23 @@ public class GemfireRepositoryFactoryUnitTests {
 			is(nullValue(String.class)));
 	}
 
+	@Test
+	public void getRepositoryBatchSizeFromRepositoryInterfaceWithBatchSizeAnnotation() {
+		GemfireRepositoryFactory gemfireRepositoryFactory = new GemfireRepositoryFactory(
+			Collections.<Region<?, ?>>emptyList(), gemfireMappingContext);
+
+		assertThat(gemfireRepositoryFactory.getRepositoryBatchSize(BatchedPersonRepository.class), is(equalTo(250)));
+	}
+
+	@Test
+	public void getRepositoryBatchSizeFromRepositoryInterfaceWithoutBatchSizeAnnotation() {
+		GemfireRepositoryFactory gemfireRepositoryFactory = new GemfireRepositoryFactory(
+			Collections.<Region<?, ?>>emptyList(), gemfireMappingContext);
+
+		assertThat(gemfireRepositoryFactory.getRepositoryBatchSize(PersonRepository.class),
+			is(nullValue(Integer.class)));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void getTemplateReturnsGemfireTemplateForPeopleRegion() {
@@ -317,4 +335,8 @@ public class GemfireRepositoryFactoryUnitTests {
 	@org.springframework.data.gemfire.mapping.annotation.Region("People")
 	interface PersonRepository extends GemfireRepository<Person, Long> {
 	}
+
+	@BatchSize(250)
+	interface BatchedPersonRepository extends GemfireRepository<Person, Long> {
+	}
 }
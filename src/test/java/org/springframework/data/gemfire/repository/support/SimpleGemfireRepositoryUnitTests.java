@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,12 +40,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
@@ -53,6 +56,7 @@ import org.apache.geode.cache.query.SelectResults;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -219,6 +223,78 @@ public class SimpleGemfireRepositoryUnitTests {
 		verify(mockRegion, times(1)).putAll(eq(asMap(savedAnimals)));
 	}
 
+	@Test
+	public void saveEntitiesInBatchesPreservesInputOrder() {
+		List<Animal> animals = new ArrayList<>(5);
+
+		animals.add(newAnimal(1L, "bird"));
+		animals.add(newAnimal(2L, "cat"));
+		animals.add(newAnimal(3L, "dog"));
+		animals.add(newAnimal(3L, "eagle"));
+		animals.add(newAnimal(4L, "fox"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+
+		Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+		assertThat(savedAnimals).isSameAs(animals);
+
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(0, 2))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(2, 3))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(3, 5))));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveEntitiesFromIterableStoresBatchesWhileIterating() {
+		List<Animal> animals = Arrays.asList(newAnimal(3L, "dog"), newAnimal(1L, "bird"), newAnimal(2L, "cat"),
+			newAnimal(5L, "eagle"), newAnimal(4L, "fox"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+
+		AtomicInteger storedBatches = new AtomicInteger(0);
+
+		doAnswer(invocation -> storedBatches.incrementAndGet()).when(mockRegion).putAll(any(Map.class));
+
+		List<Integer> batchesStoredBeforeEachEntity = new ArrayList<>();
+
+		Iterable<Animal> iterable = () -> animals.stream()
+			.peek(animal -> batchesStoredBeforeEachEntity.add(storedBatches.get()))
+			.iterator();
+
+		Iterable<Animal> savedAnimals = repository.saveAll(iterable);
+
+		assertThat(savedAnimals).isSameAs(iterable);
+		assertThat(batchesStoredBeforeEachEntity).containsExactly(0, 0, 1, 1, 2);
+
+		ArgumentCaptor<Map<Long, Animal>> batch = ArgumentCaptor.forClass(Map.class);
+
+		verify(mockRegion, times(3)).putAll(batch.capture());
+
+		assertThat(batch.getAllValues().get(0).keySet()).containsExactly(3L, 1L);
+		assertThat(batch.getAllValues().get(1).keySet()).containsExactly(2L, 5L);
+		assertThat(batch.getAllValues().get(2).keySet()).containsExactly(4L);
+	}
+
+	@Test
+	public void setBatchSizeToZeroThrowsIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectCause(is(nullValue(Throwable.class)));
+		exception.expectMessage("Batch size [0] must be greater than 0");
+
+		new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation()).setBatchSize(0);
+	}
+
 	@Test
 	public void saveWrapperIsCorrect() {
 		Animal dog = newAnimal(1L, "dog");
@@ -255,19 +331,52 @@ public class SimpleGemfireRepositoryUnitTests {
 	}
 
 	@Test
-	public void existsIsCorrect() {
-		Animal dog = newAnimal(1L, "dog");
+	public void existsOnPartitionedRegionChecksValueForKey() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", mock(Cache.class), DataPolicy.PARTITION);
 
-		Region<Long, Animal> mockRegion = mockRegion();
+		when(mockRegion.containsValueForKey(any(Long.class))).then(
+			invocation -> Long.valueOf(1L).equals(invocation.getArguments()[0]));
 
-		when(mockRegion.get(any(Long.class))).then(
-			invocation -> (dog.getId().equals(invocation.getArguments()[0]) ? dog : null));
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(10L)).isFalse();
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void existsOnRegionWithCacheLoaderGetsValue() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", mock(Cache.class), DataPolicy.REPLICATE);
+
+		when(mockRegion.getAttributes().getCacheLoader()).thenReturn(mock(CacheLoader.class));
+		when(mockRegion.get(eq(1L))).thenReturn(newAnimal(1L, "dog"));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(10L)).isFalse();
+
+		verify(mockRegion, never()).containsValueForKey(any());
+	}
+
+	@Test
+	public void existsOnClientProxyRegionGetsValue() {
+		Region<Long, Animal> mockRegion = mockRegion("Example", mock(Cache.class), DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("TestPool");
+		when(mockRegion.get(eq(1L))).thenReturn(newAnimal(1L, "dog"));
 
 		SimpleGemfireRepository<Animal, Long> repository =
 			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
 
 		assertThat(repository.existsById(1L)).isTrue();
 		assertThat(repository.existsById(10L)).isFalse();
+
+		verify(mockRegion, never()).containsKeyOnServer(any());
+		verify(mockRegion, never()).containsValueForKey(any());
 	}
 
 	@Test
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * The CompressedSnapshotFileTest class is a test suite of test cases testing the contract and functionality
+ * of the CompressedSnapshotFile class.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotFile
+ * @since 2.0.0
+ */
+public class CompressedSnapshotFileTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private File directory;
+
+	@Before
+	public void setup() {
+		directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("compressed-snapshot-%d", System.nanoTime()));
+
+		assertThat(directory.mkdirs(), is(true));
+	}
+
+	@After
+	public void tearDown() {
+		FileSystemUtils.deleteRecursive(directory);
+	}
+
+	private File newSnapshot(String filename, int length) throws IOException {
+		byte[] data = new byte[length];
+
+		for (int index = 0; index < length; index++) {
+			data[index] = (byte) (index % 31);
+		}
+
+		return Files.write(new File(directory, filename).toPath(), data).toFile();
+	}
+
+	@Test
+	public void compressAndDecompressMultipleBlocks() throws IOException {
+		File snapshot = newSnapshot("snapshot.gfd", 10000);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+		File decompressedSnapshot = new File(directory, "decompressed.gfd");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		assertThat(CompressedSnapshotFile.isCompressed(compressedSnapshot), is(true));
+		assertThat(CompressedSnapshotFile.isCompressed(snapshot), is(false));
+		assertThat(compressedSnapshot.length(), is(lessThan(snapshot.length())));
+
+		CompressedSnapshotFile.decompress(compressedSnapshot, decompressedSnapshot);
+
+		assertThat(Files.readAllBytes(decompressedSnapshot.toPath()),
+			is(equalTo(Files.readAllBytes(snapshot.toPath()))));
+	}
+
+	@Test(timeout = 30000L)
+	public void decompressBlocksInParallelOnExecutor() throws Exception {
+		File snapshot = newSnapshot("snapshot.gfd", 100000);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+		File decompressedSnapshot = new File(directory, "decompressed.gfd");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			CompressedSnapshotFile.decompress(compressedSnapshot, decompressedSnapshot, executor);
+
+			assertThat(Files.readAllBytes(decompressedSnapshot.toPath()),
+				is(equalTo(Files.readAllBytes(snapshot.toPath()))));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeout = 30000L)
+	public void decompressFromTaskRunningOnSaturatedExecutorDoesNotDeadlock() throws Exception {
+		File snapshot = newSnapshot("snapshot.gfd", 10000);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+		File decompressedSnapshot = new File(directory, "decompressed.gfd");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<?> decompression = executor.submit(() -> {
+				CompressedSnapshotFile.decompress(compressedSnapshot, decompressedSnapshot, executor);
+				return null;
+			});
+
+			decompression.get();
+
+			assertThat(Files.readAllBytes(decompressedSnapshot.toPath()),
+				is(equalTo(Files.readAllBytes(snapshot.toPath()))));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void compressAndDecompressEmptySnapshot() throws IOException {
+		File snapshot = newSnapshot("empty.gfd", 0);
+		File compressedSnapshot = new File(directory, "empty.gfd.gz");
+		File decompressedSnapshot = new File(directory, "decompressed.gfd");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP);
+		CompressedSnapshotFile.decompress(compressedSnapshot, decompressedSnapshot);
+
+		assertThat(CompressedSnapshotFile.isCompressed(compressedSnapshot), is(true));
+		assertThat(decompressedSnapshot.length(), is(equalTo(0L)));
+	}
+
+	@Test
+	public void decompressCorruptBlockFailsChecksumVerification() throws IOException {
+		File snapshot = newSnapshot("snapshot.gfd", 4096);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		try (RandomAccessFile file = new RandomAccessFile(compressedSnapshot, "rw")) {
+			// corrupt the CRC32 checksum of the first block in the index and re-checksum the header and index
+			file.seek(CompressedSnapshotFile.HEADER_SIZE + Integer.BYTES);
+			file.writeInt(0);
+
+			byte[] header = new byte[CompressedSnapshotFile.HEADER_SIZE];
+			byte[] index = new byte[4 * CompressedSnapshotFile.INDEX_ENTRY_SIZE];
+
+			file.seek(0);
+			file.readFully(header);
+			file.readFully(index);
+			file.seek(CompressedSnapshotFile.HEADER_CHECKSUM_OFFSET);
+			file.writeInt(CompressedSnapshotFile.checksum(header, index, index.length));
+		}
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Checksum mismatch in block [0]");
+
+		CompressedSnapshotFile.decompress(compressedSnapshot, new File(directory, "decompressed.gfd"));
+	}
+
+	@Test
+	public void decompressCorruptIndexFailsChecksumVerification() throws IOException {
+		File snapshot = newSnapshot("snapshot.gfd", 4096);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		try (RandomAccessFile file = new RandomAccessFile(compressedSnapshot, "rw")) {
+			file.seek(CompressedSnapshotFile.HEADER_SIZE);
+			file.writeInt(1);
+		}
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Checksum mismatch in header");
+
+		CompressedSnapshotFile.decompress(compressedSnapshot, new File(directory, "decompressed.gfd"));
+	}
+
+	@Test
+	public void decompressWithBlockCountExceedingFileLengthFails() throws IOException {
+		File snapshot = newSnapshot("snapshot.gfd", 4096);
+		File compressedSnapshot = new File(directory, "snapshot.gfd.gz");
+
+		CompressedSnapshotFile.compress(snapshot, compressedSnapshot, SnapshotCompression.GZIP, 1024);
+
+		try (RandomAccessFile file = new RandomAccessFile(compressedSnapshot, "rw")) {
+			// block size (int) and block count (int) follow the magic (int), version (byte) and codec (byte)
+			file.seek(Integer.BYTES + 2);
+			file.writeInt(1);
+			file.writeInt(Integer.MAX_VALUE);
+			file.writeLong(Integer.MAX_VALUE);
+		}
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Invalid header");
+
+		CompressedSnapshotFile.decompress(compressedSnapshot, new File(directory, "decompressed.gfd"));
+	}
+
+	@Test
+	public void decompressUncompressedSnapshotFails() throws IOException {
+		File snapshot = newSnapshot("snapshot.gfd", 64);
+
+		exception.expect(IOException.class);
+		exception.expectMessage(String.format("File (%s) is not a compressed snapshot", snapshot));
+
+		CompressedSnapshotFile.decompress(snapshot, new File(directory, "decompressed.gfd"));
+	}
+
+	@Test
+	public void compressWithNoCompressionIsIllegal() throws IOException {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("SnapshotCompression [NONE] must compress");
+
+		CompressedSnapshotFile.compress(newSnapshot("snapshot.gfd", 64), new File(directory, "snapshot.gfd.gz"),
+			SnapshotCompression.NONE);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * The EntrySnapshotFileTest class is a test suite of test cases testing the contract and functionality
+ * of the EntrySnapshotFile class.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.EntrySnapshotFile
+ * @since 2.0.0
+ */
+public class EntrySnapshotFileTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private File directory;
+
+	@Before
+	public void setup() {
+		directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("entry-snapshot-%d", System.nanoTime()));
+
+		assertThat(directory.mkdirs(), is(true));
+	}
+
+	@After
+	public void tearDown() {
+		FileSystemUtils.deleteRecursive(directory);
+	}
+
+	@Test
+	public void writeAndReadEntriesAndTombstonesInBatches() throws IOException {
+		File snapshot = new File(directory, "snapshot.delta");
+
+		try (EntrySnapshotFile.Writer writer = EntrySnapshotFile.newWriter(snapshot)) {
+			writer.writeEntry("one", 1);
+			writer.writeEntry("two", 2);
+			writer.writeEntry("three", 3);
+			writer.writeTombstone("four");
+
+			assertThat(writer.getCount(), is(equalTo(4L)));
+		}
+
+		assertThat(EntrySnapshotFile.isEntrySnapshot(snapshot), is(true));
+
+		List<Map<String, Integer>> entryBatches = new ArrayList<>();
+		List<Set<String>> tombstoneBatches = new ArrayList<>();
+
+		EntrySnapshotFile.<String, Integer>read(snapshot, 2, entryBatches::add, tombstoneBatches::add);
+
+		Map<String, Integer> expectedEntries = new HashMap<>();
+
+		expectedEntries.put("one", 1);
+		expectedEntries.put("two", 2);
+
+		assertThat(entryBatches, is(equalTo(Arrays.asList(expectedEntries, Collections.singletonMap("three", 3)))));
+		assertThat(tombstoneBatches, is(equalTo(Collections.singletonList(new HashSet<>(
+			Collections.singletonList("four"))))));
+	}
+
+	@Test
+	public void readTruncatedEntrySnapshotThrowsIOException() throws IOException {
+		File snapshot = new File(directory, "truncated.delta");
+
+		try (EntrySnapshotFile.Writer writer = EntrySnapshotFile.newWriter(snapshot)) {
+			writer.writeEntry("key", "value");
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+			file.setLength(file.length() - 1);
+		}
+
+		exception.expect(IOException.class);
+
+		EntrySnapshotFile.read(snapshot, 10, entries -> {}, tombstones -> {});
+	}
+
+	@Test
+	public void isEntrySnapshotReturnsFalseForOtherFiles() throws IOException {
+		File snapshot = new File(directory, "snapshot.gfd");
+
+		assertThat(snapshot.createNewFile(), is(true));
+		assertThat(EntrySnapshotFile.isEntrySnapshot(snapshot), is(false));
+		assertThat(EntrySnapshotFile.isEntrySnapshot(null), is(false));
+	}
+}
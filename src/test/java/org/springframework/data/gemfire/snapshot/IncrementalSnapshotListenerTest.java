@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.RegionEvent;
+import org.junit.Test;
+
+/**
+ * The IncrementalSnapshotListenerTest class is a test suite of test cases testing the contract and functionality
+ * of the IncrementalSnapshotListener class.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.snapshot.IncrementalSnapshotListener
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class IncrementalSnapshotListenerTest {
+
+	private IncrementalSnapshotListener<String, Object> listener = new IncrementalSnapshotListener<>();
+
+	private EntryEvent<String, Object> mockEntryEvent(String key) {
+		EntryEvent<String, Object> mockEntryEvent = mock(EntryEvent.class, String.format("MockEntryEvent-%s", key));
+		when(mockEntryEvent.getKey()).thenReturn(key);
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void tracksCreatedUpdatedAndDestroyedKeys() {
+		listener.afterCreate(mockEntryEvent("one"));
+		listener.afterUpdate(mockEntryEvent("two"));
+		listener.afterCreate(mockEntryEvent("three"));
+		listener.afterDestroy(mockEntryEvent("three"));
+
+		IncrementalSnapshotListener.Changes<String> changes = listener.drain();
+
+		assertThat(changes.isEmpty(), is(false));
+		assertThat(changes.isCleared(), is(false));
+		assertThat(changes.isUpdated("one"), is(true));
+		assertThat(changes.isUpdated("two"), is(true));
+		assertThat(changes.isUpdated("three"), is(false));
+		assertThat(changes.getDestroyedKeys(), contains("three"));
+	}
+
+	@Test
+	public void drainStartsTrackingNewChanges() {
+		listener.afterCreate(mockEntryEvent("one"));
+		listener.drain();
+		listener.afterUpdate(mockEntryEvent("two"));
+
+		IncrementalSnapshotListener.Changes<String> changes = listener.drain();
+
+		assertThat(changes.isUpdated("one"), is(false));
+		assertThat(changes.getUpdatedKeys(), contains("two"));
+	}
+
+	@Test
+	public void regionClearRequiresBaseline() {
+		listener.afterCreate(mockEntryEvent("one"));
+		listener.afterRegionClear(mock(RegionEvent.class));
+
+		IncrementalSnapshotListener.Changes<String> changes = listener.drain();
+
+		assertThat(changes.isCleared(), is(true));
+		assertThat(changes.isEmpty(), is(false));
+		assertThat(changes.getUpdatedKeys(), is(empty()));
+	}
+
+	@Test
+	public void restoreMergesDrainedChangesWithoutOverridingNewerChanges() {
+		listener.afterCreate(mockEntryEvent("one"));
+		listener.afterCreate(mockEntryEvent("two"));
+
+		IncrementalSnapshotListener.Changes<String> drainedChanges = listener.drain();
+
+		listener.afterDestroy(mockEntryEvent("two"));
+		listener.restore(drainedChanges);
+
+		IncrementalSnapshotListener.Changes<String> changes = listener.drain();
+
+		assertThat(changes.getUpdatedKeys(), contains("one"));
+		assertThat(changes.getDestroyedKeys(), contains("two"));
+	}
+
+	@Test
+	public void resetDiscardsChanges() {
+		listener.afterCreate(mockEntryEvent("one"));
+		listener.reset();
+
+		assertThat(listener.drain().isEmpty(), is(true));
+	}
+}
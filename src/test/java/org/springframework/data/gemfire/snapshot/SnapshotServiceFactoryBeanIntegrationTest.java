@@ -18,6 +18,7 @@ package org.springframework.data.gemfire.snapshot;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
@@ -79,12 +80,24 @@ public class SnapshotServiceFactoryBeanIntegrationTest {
 			assertThat(toFilenames(actualSnapshots).containsAll(Arrays.asList(
 				"accounts.snapshot", "address.snapshot", "people.snapshot")), is(true));
 
-			cacheSnapshotZipDirectory = new File(System.getProperty("java.io.tmpdir"),
-				cacheSnapshotZip.getName().replaceAll("\\.", "-"));
+			cacheSnapshotZipDirectory = actualSnapshots[0].getParentFile();
 
 			assertThat(cacheSnapshotZipDirectory.isDirectory(), is(true));
+			assertThat(cacheSnapshotZipDirectory.getParentFile(),
+				is(equalTo(new File(System.getProperty("java.io.tmpdir")))));
 			assertThat(cacheSnapshotZipDirectory.listFiles(FileSystemUtils.FileOnlyFilter.INSTANCE),
 				is(equalTo(actualSnapshots)));
+
+			File[] concurrentlyExtractedSnapshots = snapshotService.handleFileLocation(cacheSnapshotZip);
+
+			assertThat(concurrentlyExtractedSnapshots[0].getParentFile(),
+				is(not(equalTo(cacheSnapshotZipDirectory))));
+
+			snapshotService.deleteExtractedSnapshots(concurrentlyExtractedSnapshots);
+			snapshotService.deleteExtractedSnapshots(actualSnapshots);
+
+			assertThat(concurrentlyExtractedSnapshots[0].getParentFile().exists(), is(false));
+			assertThat(cacheSnapshotZipDirectory.exists(), is(false));
 		}
 		finally {
 			if (cacheSnapshotZipDirectory != null && cacheSnapshotZipDirectory.isDirectory()) {
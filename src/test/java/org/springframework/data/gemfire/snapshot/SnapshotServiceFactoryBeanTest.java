@@ -26,18 +26,23 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.ArchiveFileFilter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.CacheSnapshotServiceAdapter;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
@@ -46,11 +51,24 @@ import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBe
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.logging.Log;
+import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
@@ -61,10 +79,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Matchers;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
 /**
@@ -755,6 +775,526 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotOptionsTwo, times(1)).setFilter(eq(mockSnapshotFilterTwo));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importRegionSnapshotsConcurrentlyPublishingProgressEvents() throws Exception {
+		Cache mockCache = mock(Cache.class, "MockCache");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		ApplicationEventPublisher mockApplicationEventPublisher =
+			mock(ApplicationEventPublisher.class, "MockApplicationEventPublisher");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		File snapshotDatTwo = mockFile("snapshot-2.dat");
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setApplicationEventPublisher(mockApplicationEventPublisher);
+		factoryBean.setCache(mockCache);
+		factoryBean.setImports(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+		factoryBean.setParallelism(2);
+		factoryBean.setRegion(mockRegion);
+		factoryBean.afterPropertiesSet();
+
+		assertThat(factoryBean.getTaskExecutor(), is(notNullValue()));
+
+		verify(mockRegionSnapshotService, times(1)).load(eq(snapshotDat), eq(SnapshotFormat.GEMFIRE),
+			eq(mockSnapshotOptions));
+		verify(mockRegionSnapshotService, times(1)).load(eq(snapshotDatTwo), eq(SnapshotFormat.GEMFIRE),
+			eq(mockSnapshotOptions));
+		verify(mockApplicationEventPublisher, times(4)).publishEvent(any(SnapshotProgressApplicationEvent.class));
+
+		factoryBean.destroy();
+
+		assertThat(factoryBean.getTaskExecutor(), is(nullValue()));
+	}
+
+	@Test
+	public void snapshotProgressEventIsNotAMatch() {
+		SnapshotApplicationEvent progressEvent = new SnapshotProgressApplicationEvent(this, null, newSnapshotMetadata(),
+			SnapshotProgressApplicationEvent.Operation.IMPORT, SnapshotProgressApplicationEvent.State.COMPLETED,
+				1024L, 1000L, null);
+
+		assertThat(progressEvent.isCacheSnapshotEvent(), is(true));
+		assertThat(factoryBean.isMatch(progressEvent), is(false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalRegionSnapshotExportsBaselineThenDeltas() throws Exception {
+		File directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("incremental-snapshot-%d", System.nanoTime()));
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+				"MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+			when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+			doAnswer(invocation -> ((File) invocation.getArgument(0)).createNewFile())
+				.when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class),
+					any(SnapshotOptions.class));
+
+			SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+			factoryBean.setExports(toArray(newSnapshotMetadata(directory)));
+			factoryBean.setIncremental(true);
+			factoryBean.setRegion(mockRegion);
+			factoryBean.setSuppressImportOnInit(true);
+			factoryBean.afterPropertiesSet();
+
+			SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter snapshotServiceAdapter =
+				(SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter) factoryBean.getObject();
+
+			factoryBean.destroy();
+
+			assertThat(new File(directory, "snapshot-g00001.gfd").isFile(), is(true));
+
+			EntryEvent mockDestroyEvent = mock(EntryEvent.class, "MockDestroyEvent");
+			EntryEvent mockUpdateEvent = mock(EntryEvent.class, "MockUpdateEvent");
+
+			Region.Entry mockEntry = mock(Region.Entry.class, "MockEntry");
+
+			when(mockDestroyEvent.getKey()).thenReturn("key");
+			when(mockUpdateEvent.getKey()).thenReturn("updatedKey");
+			when(mockRegion.getEntry(eq("updatedKey"))).thenReturn(mockEntry);
+			when(mockEntry.getValue()).thenReturn("value");
+
+			snapshotServiceAdapter.getListener().afterDestroy(mockDestroyEvent);
+			snapshotServiceAdapter.getListener().afterUpdate(mockUpdateEvent);
+
+			factoryBean.destroy();
+
+			File delta = new File(directory, "snapshot-g00001-d00001.delta");
+
+			assertThat(delta.isFile(), is(true));
+
+			snapshotServiceAdapter.applyDelta(delta, null);
+
+			verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("updatedKey", "value")));
+			verify(mockRegion, times(1)).removeAll(eq(Collections.singleton("key")));
+
+			factoryBean.destroy();
+
+			assertThat(new File(directory, "snapshot-g00001-d00002.delta").exists(), is(false));
+			assertThat(snapshotServiceAdapter.latestGeneration(directory), is(equalTo(1)));
+
+			verify(mockRegion, times(1)).getEntry(eq("updatedKey"));
+			verify(mockRegion, never()).get(any());
+			verify(mockRegion, never()).getAll(any());
+			verify(mockRegionSnapshotService, times(1)).save(any(File.class), eq(SnapshotFormat.GEMFIRE),
+				eq(mockSnapshotOptions));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalRegionSnapshotDeltaExportFailureRestoresChangesAndForcesBaseline() throws Exception {
+		File directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("incremental-snapshot-%d", System.nanoTime()));
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+				"MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+			when(mockRegion.getEntry(any())).thenThrow(new IllegalStateException("TEST"));
+
+			doAnswer(invocation -> ((File) invocation.getArgument(0)).createNewFile())
+				.when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class),
+					any(SnapshotOptions.class));
+
+			IncrementalSnapshotListener listener = new IncrementalSnapshotListener();
+
+			SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter adapter =
+				new SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter(mockRegion, listener, 0);
+
+			SnapshotMetadata snapshotMetadata = newSnapshotMetadata(directory);
+
+			adapter.doExport(snapshotMetadata);
+
+			EntryEvent mockEntryEvent = mock(EntryEvent.class, "MockEntryEvent");
+
+			when(mockEntryEvent.getKey()).thenReturn("key");
+
+			listener.afterUpdate(mockEntryEvent);
+
+			try {
+				adapter.doExport(snapshotMetadata);
+				fail("Expected IllegalStateException");
+			}
+			catch (IllegalStateException expected) {
+				assertThat(expected.getMessage(), is(equalTo("TEST")));
+			}
+
+			assertThat(Arrays.asList(directory.list()), is(equalTo(Collections.singletonList("snapshot-g00001.gfd"))));
+			assertThat(listener.drain().isUpdated("key"), is(true));
+
+			adapter.doExport(snapshotMetadata);
+
+			assertThat(Arrays.asList(directory.list()), is(equalTo(Collections.singletonList("snapshot-g00002.gfd"))));
+
+			verify(mockRegionSnapshotService, times(2)).save(any(File.class), eq(SnapshotFormat.GEMFIRE),
+				eq(mockSnapshotOptions));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementalRegionSnapshotDeltaWritesTombstonesForInvalidAndFilteredEntries() throws Exception {
+		File delta = File.createTempFile("snapshot-", IncrementalRegionSnapshotServiceAdapter.DELTA_FILE_EXTENSION);
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			Region.Entry mockInvalidEntry = mock(Region.Entry.class, "MockInvalidEntry");
+			Region.Entry mockRejectedEntry = mock(Region.Entry.class, "MockRejectedEntry");
+			Region.Entry mockUpdatedEntry = mock(Region.Entry.class, "MockUpdatedEntry");
+
+			when(mockRegion.getSnapshotService()).thenReturn(mock(RegionSnapshotService.class));
+			when(mockRegion.getEntry(eq("invalid"))).thenReturn(mockInvalidEntry);
+			when(mockRegion.getEntry(eq("rejected"))).thenReturn(mockRejectedEntry);
+			when(mockRegion.getEntry(eq("updated"))).thenReturn(mockUpdatedEntry);
+			when(mockRejectedEntry.getValue()).thenReturn("rejectedValue");
+			when(mockUpdatedEntry.getValue()).thenReturn("updatedValue");
+
+			IncrementalRegionSnapshotServiceAdapter adapter =
+				new IncrementalRegionSnapshotServiceAdapter(mockRegion, new IncrementalSnapshotListener(), 0);
+
+			SnapshotFilter filter = entry -> !"rejectedValue".equals(entry.getValue());
+
+			adapter.writeDelta(delta, new HashSet<>(Arrays.asList("invalid", "rejected", "updated", "loaded")),
+				Collections.singleton("destroyed"), filter);
+
+			assertThat(EntrySnapshotFile.isEntrySnapshot(delta), is(true));
+
+			adapter.applyDelta(delta, null);
+
+			verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("updated", "updatedValue")));
+			verify(mockRegion, times(1)).removeAll(eq(new HashSet<>(Arrays.asList("invalid", "rejected", "loaded",
+				"destroyed"))));
+			verify(mockRegion, never()).get(any());
+			verify(mockRegion, never()).getAll(any());
+		}
+		finally {
+			delta.delete();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void incrementalRegionSnapshotRejectsSelectiveExport() {
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		when(mockRegion.getSnapshotService()).thenReturn(mock(RegionSnapshotService.class));
+
+		new SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter(mockRegion,
+			new IncrementalSnapshotListener(), 0).doExport(newSnapshotMetadata().withKeys(Arrays.asList(1, 2)));
+	}
+
+	@Test(timeout = 30000L)
+	@SuppressWarnings("unchecked")
+	public void parallelCacheSnapshotExportWithMoreConfigurationsThanThreadsDoesNotDeadlock() throws Exception {
+		File directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("parallel-cache-snapshot-%d", System.nanoTime()));
+
+		ExecutorService taskExecutor = Executors.newFixedThreadPool(2);
+
+		try {
+			Cache mockCache = mock(Cache.class, "MockCache");
+
+			Region mockRegionOne = mock(Region.class, "MockRegionOne");
+			Region mockRegionTwo = mock(Region.class, "MockRegionTwo");
+
+			RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+				"MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockCache.rootRegions()).thenReturn(new HashSet<>(Arrays.asList(mockRegionOne, mockRegionTwo)));
+			when(mockRegionOne.getFullPath()).thenReturn("/One");
+			when(mockRegionTwo.getFullPath()).thenReturn("/Two");
+			when(mockRegionOne.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+			when(mockRegionTwo.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+			when(mockRegionOne.subregions(false)).thenReturn(Collections.emptySet());
+			when(mockRegionTwo.subregions(false)).thenReturn(Collections.emptySet());
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+			CacheSnapshotServiceAdapter snapshotServiceAdapter =
+				new CacheSnapshotServiceAdapter(mock(CacheSnapshotService.class, "MockCacheSnapshotService"));
+
+			snapshotServiceAdapter.setCache(mockCache);
+			snapshotServiceAdapter.setTaskExecutor(taskExecutor);
+
+			snapshotServiceAdapter.doExport(toArray(newSnapshotMetadata(new File(directory, "one")),
+				newSnapshotMetadata(new File(directory, "two")), newSnapshotMetadata(new File(directory, "three"))));
+
+			verify(mockRegionSnapshotService, times(6)).save(any(File.class), eq(SnapshotFormat.GEMFIRE),
+				eq(mockSnapshotOptions));
+		}
+		finally {
+			taskExecutor.shutdownNow();
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void compressedRegionSnapshotExportAndImport() throws Exception {
+		File directory = new File(FileSystemUtils.TEMPORARY_DIRECTORY,
+			String.format("compressed-snapshot-%d", System.nanoTime()));
+
+		try {
+			assertThat(directory.mkdirs(), is(true));
+
+			File snapshot = new File(directory, "snapshot.gfd");
+
+			byte[] snapshotData = new byte[4096];
+
+			Arrays.fill(snapshotData, (byte) 42);
+
+			RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+				"MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+			doAnswer(invocation -> Files.write(((File) invocation.getArgument(0)).toPath(),
+				snapshotData)).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class),
+					any(SnapshotOptions.class));
+
+			doAnswer(invocation -> {
+				File loadedSnapshot = invocation.getArgument(0);
+
+				assertThat(loadedSnapshot, is(not(equalTo(snapshot))));
+				assertThat(Files.readAllBytes(loadedSnapshot.toPath()), is(equalTo(snapshotData)));
+
+				return null;
+			}).when(mockRegionSnapshotService).load(any(File.class), any(SnapshotFormat.class),
+				any(SnapshotOptions.class));
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			SnapshotMetadata snapshotMetadata = new SnapshotMetadata(snapshot, SnapshotFormat.GEMFIRE,
+				SnapshotCompression.GZIP);
+
+			assertThat(snapshotMetadata.isCompressed(), is(true));
+
+			adapter.doExport(snapshotMetadata);
+
+			assertThat(CompressedSnapshotFile.isCompressed(snapshot), is(true));
+			assertThat(snapshot.length() < snapshotData.length, is(true));
+
+			adapter.doImport(snapshotMetadata);
+
+			verify(mockRegionSnapshotService, times(1)).save(any(File.class), eq(SnapshotFormat.GEMFIRE),
+				eq(mockSnapshotOptions));
+			verify(mockRegionSnapshotService, times(1)).load(any(File.class), eq(SnapshotFormat.GEMFIRE),
+				eq(mockSnapshotOptions));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	public void snapshotMetadataIsUncompressedByDefault() {
+		SnapshotMetadata snapshotMetadata = newSnapshotMetadata();
+
+		assertThat(snapshotMetadata.getCompression(), is(equalTo(SnapshotCompression.NONE)));
+		assertThat(snapshotMetadata.isCompressed(), is(false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void selectiveRegionSnapshotExportSavesSelection() {
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+			"MockRegionSnapshotService");
+
+		RegionSnapshotServiceAdapter adapter = spy(new RegionSnapshotServiceAdapter(mockRegionSnapshotService));
+
+		SnapshotMetadata snapshotMetadata = newSnapshotMetadata().withKeys(Arrays.asList(1, 2));
+
+		assertThat(snapshotMetadata.isSelective(), is(true));
+
+		doNothing().when(adapter).saveSelection(any(File.class), any(SnapshotMetadata.class));
+
+		adapter.doExport(snapshotMetadata);
+
+		verify(adapter, times(1)).saveSelection(eq(snapshotMetadata.getLocation()), eq(snapshotMetadata));
+		verify(mockRegionSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class));
+		verify(mockRegionSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveSelectionStreamsOnlySelectedKeysAndImportsThem() throws Exception {
+		File snapshot = File.createTempFile("selection-", RegionSnapshotService.SNAPSHOT_FILE_EXTENSION);
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			Region.Entry mockEntryOne = mock(Region.Entry.class, "MockEntryOne");
+			Region.Entry mockEntryTwo = mock(Region.Entry.class, "MockEntryTwo");
+
+			RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class,
+				"MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockRegion.getEntry(eq(1))).thenReturn(mockEntryOne);
+			when(mockRegion.getEntry(eq(2))).thenReturn(mockEntryTwo);
+			when(mockEntryOne.getValue()).thenReturn("one");
+			when(mockEntryTwo.getValue()).thenReturn("two");
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			adapter.setRegion(mockRegion);
+
+			SnapshotFilter<Integer, String> userFilter = entry -> !"two".equals(entry.getValue());
+
+			SnapshotMetadata<Integer, String> snapshotMetadata = newSnapshotMetadata(snapshot, userFilter)
+				.withKeys(Arrays.asList(1, 2, 3));
+
+			adapter.saveSelection(snapshot, snapshotMetadata);
+
+			assertThat(EntrySnapshotFile.isEntrySnapshot(snapshot), is(true));
+
+			verify(mockRegion, times(3)).getEntry(any());
+			verify(mockRegion, never()).keySet();
+			verify(mockRegion, never()).get(any());
+			verify(mockRegionSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+				any(SnapshotOptions.class));
+
+			adapter.load(SnapshotFormat.GEMFIRE, mockSnapshotOptions, snapshot);
+
+			verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap(1, "one")));
+			verify(mockRegionSnapshotService, never()).load(any(File.class), any(SnapshotFormat.class),
+				any(SnapshotOptions.class));
+		}
+		finally {
+			snapshot.delete();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveSelectionStreamsQueryResults() throws Exception {
+		File snapshot = File.createTempFile("selection-", RegionSnapshotService.SNAPSHOT_FILE_EXTENSION);
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			RegionService mockRegionService = mock(RegionService.class, "MockRegionService");
+
+			QueryService mockQueryService = mock(QueryService.class, "MockQueryService");
+
+			Query mockQuery = mock(Query.class, "MockQuery");
+
+			SelectResults mockSelectResults = mock(SelectResults.class, "MockSelectResults");
+
+			Struct mockStruct = mock(Struct.class, "MockStruct");
+
+			when(mockRegion.getFullPath()).thenReturn("/Example");
+			when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+			when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+			when(mockQueryService.newQuery(any(String.class))).thenReturn(mockQuery);
+			when(mockQuery.execute()).thenReturn(mockSelectResults);
+			when(mockSelectResults.iterator()).thenReturn(Collections.singletonList(mockStruct).iterator());
+			when(mockStruct.getFieldValues()).thenReturn(new Object[] { "acme-1", "value" });
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(
+				mock(RegionSnapshotService.class, "MockRegionSnapshotService"));
+
+			adapter.setRegion(mockRegion);
+			adapter.saveSelection(snapshot, newSnapshotMetadata(snapshot).withPredicate("e.value.tenantId = 'acme'"));
+
+			adapter.loadEntries(snapshot, null);
+
+			verify(mockQueryService, times(1)).newQuery(eq(
+				"SELECT e.key, e.value FROM /Example.entrySet e WHERE e.value.tenantId = 'acme'"));
+			verify(mockRegion, never()).getEntry(any());
+			verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("acme-1", "value")));
+		}
+		finally {
+			snapshot.delete();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void cacheSnapshotRejectsSelectiveExport() {
+		new CacheSnapshotServiceAdapter(mock(CacheSnapshotService.class, "MockCacheSnapshotService"))
+			.doExport(toArray(newSnapshotMetadata().withPredicate("e.value.tenantId = 'acme'")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void selectByPredicateQueriesRegionEntriesUsingKeys() throws Exception {
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionService mockRegionService = mock(RegionService.class, "MockRegionService");
+
+		QueryService mockQueryService = mock(QueryService.class, "MockQueryService");
+
+		Query mockQuery = mock(Query.class, "MockQuery");
+
+		SelectResults mockSelectResults = mock(SelectResults.class, "MockSelectResults");
+
+		List<Integer> keys = Arrays.asList(1, 2);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.newQuery(any(String.class))).thenReturn(mockQuery);
+		when(mockQuery.execute(Matchers.<Object>anyVararg())).thenReturn(mockSelectResults);
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(
+			mock(RegionSnapshotService.class, "MockRegionSnapshotService"));
+
+		SnapshotMetadata snapshotMetadata = newSnapshotMetadata().withKeys(keys)
+			.withPredicate("e.value.tenantId = 'acme'");
+
+		assertThat(adapter.selectByPredicate(mockRegion, snapshotMetadata),
+			is(sameInstance((SelectResults) mockSelectResults)));
+
+		verify(mockQueryService, times(1)).newQuery(eq(
+			"SELECT e.key, e.value FROM /Example.entrySet e WHERE e.key IN $1 AND (e.value.tenantId = 'acme')"));
+		verify(mockQuery, times(1)).execute(eq(keys));
+	}
+
 	@Test
 	public void exportCacheSnapshotOnDestroy() throws Exception {
 		Cache mockCache = mock(Cache.class, "MockCache");
@@ -73,6 +73,24 @@ public class SnapshotApplicationEventTest {
 		assertThat(event.isRegionSnapshotEvent(), is(false));
 	}
 
+	@Test
+	public void constructSnapshotProgressApplicationEventComputesThroughput() {
+		SnapshotMetadata eventSnapshotMetadata = newSnapshotMetadata();
+
+		SnapshotProgressApplicationEvent event = new SnapshotProgressApplicationEvent(this, "/Example",
+			eventSnapshotMetadata, SnapshotProgressApplicationEvent.Operation.EXPORT,
+				SnapshotProgressApplicationEvent.State.COMPLETED, 4096L, 2000L, null);
+
+		assertThat(event.getRegionPath(), is(equalTo("/Example")));
+		assertThat(event.getSnapshotMetadata()[0], is(sameInstance(eventSnapshotMetadata)));
+		assertThat(event.getOperation(), is(equalTo(SnapshotProgressApplicationEvent.Operation.EXPORT)));
+		assertThat(event.getState(), is(equalTo(SnapshotProgressApplicationEvent.State.COMPLETED)));
+		assertThat(event.getBytes(), is(equalTo(4096L)));
+		assertThat(event.getElapsedTimeMillis(), is(equalTo(2000L)));
+		assertThat(event.getThroughputBytesPerSecond(), is(equalTo(2048.0d)));
+		assertThat(event.getCause(), is(nullValue()));
+	}
+
 	@Test
 	public void constructSnapshotApplicationEventWithRegionAndSnapshotMetadata() {
 		SnapshotMetadata eventSnapshotMetadata = newSnapshotMetadata();
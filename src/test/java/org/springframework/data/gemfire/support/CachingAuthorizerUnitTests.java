@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.shiro.authz.Authorizer;
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.UnauthorizedException;
+import org.apache.shiro.authz.permission.WildcardPermission;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CachingAuthorizer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.support.CachingAuthorizer
+ * @since 2.0.0
+ */
+public class CachingAuthorizerUnitTests {
+
+	private Authorizer mockAuthorizer;
+
+	private PrincipalCollection jonDoe = new SimplePrincipalCollection("jonDoe", "TestRealm");
+	private PrincipalCollection janeDoe = new SimplePrincipalCollection("janeDoe", "TestRealm");
+
+	private Permission dataRead = new WildcardPermission("DATA:READ:Example");
+	private Permission dataWrite = new WildcardPermission("DATA:WRITE:Example");
+
+	@Before
+	public void setup() {
+
+		mockAuthorizer = mock(Authorizer.class);
+
+		when(mockAuthorizer.isPermitted(any(PrincipalCollection.class), eq(dataRead))).thenReturn(true);
+		when(mockAuthorizer.isPermitted(any(PrincipalCollection.class), eq(dataWrite))).thenReturn(false);
+	}
+
+	@Test
+	public void permissionDecisionsAreCachedPerPrincipalAndPermission() {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		assertThat(authorizer.isPermitted(jonDoe, dataRead)).isTrue();
+		assertThat(authorizer.isPermitted(jonDoe, new WildcardPermission("DATA:READ:Example"))).isTrue();
+		assertThat(authorizer.isPermitted(jonDoe, dataWrite)).isFalse();
+		assertThat(authorizer.isPermitted(janeDoe, dataRead)).isTrue();
+
+		assertThat(authorizer.getHitCount()).isEqualTo(1L);
+		assertThat(authorizer.getMissCount()).isEqualTo(3L);
+		assertThat(authorizer.getAuthorizationCount()).isEqualTo(4L);
+		assertThat(authorizer.getMaxAuthorizationTime(TimeUnit.NANOSECONDS))
+			.isGreaterThanOrEqualTo(authorizer.getAverageAuthorizationTime(TimeUnit.NANOSECONDS));
+		assertThat(authorizer.size()).isEqualTo(3);
+
+		verify(mockAuthorizer, times(1)).isPermitted(eq(jonDoe), eq(dataRead));
+	}
+
+	@Test(expected = UnauthorizedException.class)
+	public void checkPermissionThrowsUnauthorizedExceptionWhenDenied() {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		authorizer.checkPermission(jonDoe, dataRead);
+		authorizer.checkPermission(jonDoe, dataWrite);
+	}
+
+	@Test
+	public void expiredDecisionsAreReauthorized() throws Exception {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 1L, TimeUnit.MILLISECONDS);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+
+		Thread.sleep(20L);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+
+		verify(mockAuthorizer, times(2)).isPermitted(eq(jonDoe), eq(dataRead));
+	}
+
+	@Test
+	public void invalidatePrincipalRemovesOnlyTheirDecisions() {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+		authorizer.isPermitted(janeDoe, dataRead);
+		authorizer.invalidate(jonDoe);
+
+		assertThat(authorizer.size()).isEqualTo(1);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+		authorizer.isPermitted(janeDoe, dataRead);
+
+		verify(mockAuthorizer, times(2)).isPermitted(eq(jonDoe), eq(dataRead));
+		verify(mockAuthorizer, times(1)).isPermitted(eq(janeDoe), eq(dataRead));
+
+		authorizer.invalidate();
+
+		assertThat(authorizer.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void decisionsAreEvictedWhenMaxEntriesIsExceeded() {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		for (int index = 0; index < 10; index++) {
+			authorizer.isPermitted(jonDoe, "DATA:READ:Example" + index);
+		}
+
+		assertThat(authorizer.size()).isEqualTo(10);
+
+		authorizer.isPermitted(jonDoe, "DATA:READ:Example10");
+
+		assertThat(authorizer.size()).isEqualTo(9);
+	}
+
+	@Test
+	public void expiredDecisionsAreEvictedFirst() throws Exception {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 2, 1L, TimeUnit.MILLISECONDS);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+		authorizer.isPermitted(janeDoe, dataRead);
+
+		Thread.sleep(20L);
+
+		authorizer.setTimeToLive(5L, TimeUnit.MINUTES);
+		authorizer.isPermitted(jonDoe, dataWrite);
+
+		assertThat(authorizer.size()).isEqualTo(1);
+		assertThat(authorizer.isPermitted(jonDoe, dataWrite)).isFalse();
+
+		verify(mockAuthorizer, times(1)).isPermitted(eq(jonDoe), eq(dataWrite));
+	}
+
+	@Test
+	public void disabledAuthorizerDelegatesEveryPermissionCheck() {
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		authorizer.isPermitted(jonDoe, dataRead);
+		authorizer.setEnabled(false);
+
+		assertThat(authorizer.size()).isEqualTo(0);
+		assertThat(authorizer.isPermitted(jonDoe, dataRead)).isTrue();
+		assertThat(authorizer.isPermitted(jonDoe, dataRead)).isTrue();
+		assertThat(authorizer.size()).isEqualTo(0);
+
+		verify(mockAuthorizer, times(3)).isPermitted(eq(jonDoe), eq(dataRead));
+	}
+
+	@Test
+	public void roleChecksAreDelegated() {
+
+		when(mockAuthorizer.hasRole(eq(jonDoe), eq("admin"))).thenReturn(true);
+
+		CachingAuthorizer authorizer = new CachingAuthorizer(mockAuthorizer, 10, 5L, TimeUnit.MINUTES);
+
+		assertThat(authorizer.hasRole(jonDoe, "admin")).isTrue();
+		assertThat(authorizer.hasRole(jonDoe, "admin")).isTrue();
+
+		verify(mockAuthorizer, times(2)).hasRole(eq(jonDoe), eq("admin"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidMaxEntriesThrowsIllegalArgumentException() {
+		new CachingAuthorizer(mockAuthorizer, 0, 5L, TimeUnit.MINUTES);
+	}
+}
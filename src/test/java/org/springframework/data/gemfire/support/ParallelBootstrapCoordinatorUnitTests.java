@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ParallelBootstrapCoordinator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.support.ParallelBootstrapCoordinator
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class ParallelBootstrapCoordinatorUnitTests {
+
+	private GemFireCache mockCache;
+
+	private ParallelBootstrapCoordinator bootstrapCoordinator;
+
+	private StartupTimingReport startupTimingReport;
+
+	@Before
+	public void setup() {
+		mockCache = mock(GemFireCache.class);
+		startupTimingReport = new StartupTimingReport();
+		bootstrapCoordinator = new ParallelBootstrapCoordinator(startupTimingReport, 2);
+	}
+
+	@After
+	public void tearDown() {
+		bootstrapCoordinator.shutdown();
+	}
+
+	private Region<Object, Object> mockRegion(String name, DataPolicy dataPolicy) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(dataPolicy);
+
+		return mockRegion;
+	}
+
+	@Test
+	public void createsIndependentRegionsConcurrently() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		Region<Object, Object> mockRegionOne = mockRegion("RegionOne", DataPolicy.REPLICATE);
+		Region<Object, Object> mockRegionTwo = mockRegion("RegionTwo", DataPolicy.PERSISTENT_REPLICATE);
+
+		Future<Region<Object, Object>> regionOne = bootstrapCoordinator.submit(mockCache, "/RegionOne", null, () -> {
+			latch.countDown();
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			return mockRegionOne;
+		});
+
+		Future<Region<Object, Object>> regionTwo = bootstrapCoordinator.submit(mockCache, "RegionTwo", null, () -> {
+			latch.countDown();
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			return mockRegionTwo;
+		});
+
+		bootstrapCoordinator.awaitAll(mockCache);
+
+		assertThat(ParallelBootstrapCoordinator.await(regionOne)).isSameAs(mockRegionOne);
+		assertThat(ParallelBootstrapCoordinator.await(regionTwo)).isSameAs(mockRegionTwo);
+
+		List<String> componentTypes = startupTimingReport.getEntries().stream()
+			.filter(entry -> entry.getName().equals("/RegionTwo"))
+			.map(StartupTimingReport.Entry::getType)
+			.collect(Collectors.toList());
+
+		assertThat(componentTypes).containsExactly(ParallelBootstrapCoordinator.PERSISTENT_REGION_COMPONENT_TYPE);
+		assertThat(startupTimingReport.getEntries()).hasSize(2);
+	}
+
+	@Test
+	public void createsColocatedRegionAfterTheRegionItIsColocatedWith() throws Exception {
+
+		List<String> creationOrder = new CopyOnWriteArrayList<>();
+
+		Region<Object, Object> mockChild = mockRegion("Child", DataPolicy.PARTITION);
+		Region<Object, Object> mockParent = mockRegion("Parent", DataPolicy.PARTITION);
+
+		bootstrapCoordinator.submit(mockCache, "/Child", "Parent", () -> {
+			creationOrder.add("Child");
+			return mockChild;
+		});
+
+		bootstrapCoordinator.submit(mockCache, "/Parent", null, () -> {
+			creationOrder.add("Parent");
+			return mockParent;
+		});
+
+		bootstrapCoordinator.awaitAll(mockCache);
+
+		assertThat(creationOrder).containsExactly("Parent", "Child");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void awaitAllFailsWhenColocatedRegionDoesNotExist() throws Exception {
+
+		Region<Object, Object> mockChild = mockRegion("Child", DataPolicy.PARTITION);
+
+		bootstrapCoordinator.submit(mockCache, "/Child", "/Missing", () -> mockChild);
+		bootstrapCoordinator.awaitAll(mockCache);
+	}
+
+	@Test
+	public void awaitAllUsesExistingColocatedRegion() throws Exception {
+
+		Region<Object, Object> mockChild = mockRegion("Child", DataPolicy.PARTITION);
+		Region<Object, Object> mockParent = mockRegion("Parent", DataPolicy.PARTITION);
+
+		bootstrapCoordinator.submit(mockCache, "/Child", "/Parent", () -> mockChild);
+
+		when(mockCache.getRegion("/Parent")).thenReturn((Region) mockParent);
+
+		bootstrapCoordinator.awaitAll(mockCache);
+
+		assertThat(startupTimingReport.getEntries()).hasSize(1);
+	}
+
+	@Test(timeout = 5000L)
+	public void awaitResolvesEagerlyInjectedRegionColocatedWithNonParallelRegion() throws Exception {
+
+		Region<Object, Object> mockChild = mockRegion("Child", DataPolicy.PARTITION);
+		Region<Object, Object> mockParent = mockRegion("Parent", DataPolicy.PARTITION);
+
+		bootstrapCoordinator.setRegionResolver(regionPath -> "/Parent".equals(regionPath) ? mockParent : null);
+		bootstrapCoordinator.submit(mockCache, "/Child", "Parent", () -> mockChild);
+
+		assertThat(bootstrapCoordinator.<Object, Object>await(mockCache, "Child")).isSameAs(mockChild);
+		assertThat(startupTimingReport.getEntries()).hasSize(1);
+	}
+
+	@Test(timeout = 5000L)
+	public void awaitFailsFastWhenNonParallelColocatedRegionCannotBeResolved() throws Exception {
+
+		Region<Object, Object> mockChild = mockRegion("Child", DataPolicy.PARTITION);
+
+		bootstrapCoordinator.submit(mockCache, "/Child", "/Missing", () -> mockChild);
+
+		assertThatThrownBy(() -> bootstrapCoordinator.await(mockCache, "/Child"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Region [/Child] is colocated with Region [/Missing], which was not found");
+	}
+
+	@Test
+	public void awaitTimesOut() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		bootstrapCoordinator.setTimeout(50L);
+
+		bootstrapCoordinator.submit(mockCache, "/Slow", null, () -> {
+			latch.await();
+			return mockRegion("Slow", DataPolicy.PARTITION);
+		});
+
+		try {
+			assertThatThrownBy(() -> bootstrapCoordinator.await(mockCache, "/Slow"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Timed out after [50] ms waiting for Region [/Slow] to be created");
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void regionCreationFailureIsRethrown() throws Exception {
+
+		Future<Region<Object, Object>> region = bootstrapCoordinator.submit(mockCache, "/Failing", null, () -> {
+			throw new IllegalArgumentException("TEST");
+		});
+
+		ParallelBootstrapCoordinator.await(region);
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.RebalanceFactory;
+import org.apache.geode.cache.control.RebalanceOperation;
+import org.apache.geode.cache.control.RebalanceResults;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.distributed.DistributedLockService;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for {@link RebalanceService}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.support.RebalanceService
+ * @since 2.0.0
+ */
+public class RebalanceServiceUnitTests {
+
+	private DistributedLockService mockDistributedLockService;
+
+	private List<RebalanceEvent> publishedEvents;
+
+	private RebalanceFactory mockRebalanceFactory;
+
+	private RebalanceOperation mockRebalanceOperation;
+	private RebalanceOperation mockSimulateOperation;
+
+	private RebalanceService rebalanceService;
+
+	private ResourceManager mockResourceManager;
+
+	@Before
+	public void setup() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+		mockResourceManager = mock(ResourceManager.class);
+		mockDistributedLockService = mock(DistributedLockService.class);
+
+		mockRebalanceFactory = mock(RebalanceFactory.class);
+		mockRebalanceOperation = mock(RebalanceOperation.class, "Rebalance");
+		mockSimulateOperation = mock(RebalanceOperation.class, "Simulate");
+
+		when(mockCache.getResourceManager()).thenReturn(mockResourceManager);
+		when(mockResourceManager.createRebalanceFactory()).thenReturn(mockRebalanceFactory);
+		when(mockRebalanceFactory.includeRegions(anySet())).thenReturn(mockRebalanceFactory);
+		when(mockRebalanceFactory.simulate()).thenReturn(mockSimulateOperation);
+		when(mockRebalanceFactory.start()).thenReturn(mockRebalanceOperation);
+		when(mockDistributedLockService.lock(eq(RebalanceService.REBALANCE_LOCK_NAME), anyLong(), anyLong()))
+			.thenReturn(true);
+
+		publishedEvents = new ArrayList<>();
+
+		rebalanceService = new RebalanceService();
+		rebalanceService.setCache(mockCache);
+		rebalanceService.setDistributedLockService(mockDistributedLockService);
+		rebalanceService.setApplicationEventPublisher(new ApplicationEventPublisher() {
+
+			@Override
+			public void publishEvent(Object event) {
+				publishedEvents.add((RebalanceEvent) event);
+			}
+		});
+	}
+
+	private RebalanceResults mockResults(int bucketTransfers, long bucketTransferBytes) {
+
+		RebalanceResults mockResults = mock(RebalanceResults.class);
+
+		when(mockResults.getTotalBucketTransfersCompleted()).thenReturn(bucketTransfers);
+		when(mockResults.getTotalBucketTransferBytes()).thenReturn(bucketTransferBytes);
+		when(mockResults.getTotalTime()).thenReturn(10L);
+
+		return mockResults;
+	}
+
+	private List<RebalanceEvent.Status> publishedStatuses() {
+		return publishedEvents.stream().map(RebalanceEvent::getStatus).collect(Collectors.toList());
+	}
+
+	@Test
+	public void rebalanceSkipsRegionGroupWhenSimulationMovesNothing() throws Exception {
+
+		when(mockSimulateOperation.getResults()).thenReturn(mockResults(0, 0L));
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+		assertThat(publishedStatuses()).containsExactly(RebalanceEvent.Status.SIMULATED,
+			RebalanceEvent.Status.SKIPPED);
+		assertThat(publishedEvents.get(1).getRegionGroup()).isEqualTo(RebalanceService.ALL_REGIONS_GROUP);
+
+		verify(mockRebalanceFactory, never()).includeRegions(anySet());
+		verify(mockRebalanceFactory, never()).start();
+	}
+
+	@Test
+	public void rebalanceRunsRegionGroupsInOrderAndAccumulatesMetrics() throws Exception {
+
+		Map<String, List<String>> regionGroups = new LinkedHashMap<>();
+
+		regionGroups.put("customers", Arrays.asList("Customers", "Orders"));
+		regionGroups.put("products", Collections.singletonList("Products"));
+
+		rebalanceService.setRegionGroups(regionGroups);
+		rebalanceService.setProgressInterval(1L);
+
+		when(mockSimulateOperation.getResults()).thenReturn(mockResults(2, 2048L));
+		when(mockRebalanceOperation.getResults(anyLong(), any(TimeUnit.class)))
+			.thenThrow(new TimeoutException()).thenReturn(mockResults(2, 1024L));
+
+		List<RebalanceStatistics> results = rebalanceService.rebalance();
+
+		assertThat(results).hasSize(2);
+		assertThat(results.stream().map(RebalanceStatistics::getRegionGroup).collect(Collectors.toList()))
+			.containsExactly("customers", "products");
+		assertThat(results.stream().noneMatch(RebalanceStatistics::isSimulated)).isTrue();
+
+		assertThat(publishedStatuses()).containsExactly(
+			RebalanceEvent.Status.SIMULATED, RebalanceEvent.Status.STARTED, RebalanceEvent.Status.IN_PROGRESS,
+			RebalanceEvent.Status.COMPLETED,
+			RebalanceEvent.Status.SIMULATED, RebalanceEvent.Status.STARTED, RebalanceEvent.Status.COMPLETED);
+
+		assertThat(rebalanceService.getRebalanceCount()).isEqualTo(2L);
+		assertThat(rebalanceService.getTotalBucketsMoved()).isEqualTo(4L);
+		assertThat(rebalanceService.getTotalBytesMoved()).isEqualTo(2048L);
+		assertThat(rebalanceService.getStatistics()).containsOnlyKeys("customers", "products");
+		assertThat(rebalanceService.isRebalancing()).isFalse();
+
+		verify(mockRebalanceFactory).includeRegions(new LinkedHashSet<>(Arrays.asList("Customers", "Orders")));
+		verify(mockRebalanceFactory).includeRegions(Collections.singleton("Products"));
+	}
+
+	@Test
+	public void rebalanceCancelsRegionGroupExceedingMaxRebalanceTime() throws Exception {
+
+		rebalanceService.setMinimumBucketsMoved(0);
+		rebalanceService.setMaxRebalanceTime(1L);
+		rebalanceService.setProgressInterval(1L);
+
+		when(mockRebalanceOperation.getResults(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+			Thread.sleep(5L);
+			throw new TimeoutException();
+		});
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+		assertThat(publishedStatuses()).containsExactly(RebalanceEvent.Status.STARTED,
+			RebalanceEvent.Status.CANCELLED);
+		assertThat(rebalanceService.getRebalanceCount()).isEqualTo(0L);
+
+		verify(mockRebalanceFactory, never()).simulate();
+		verify(mockRebalanceOperation).cancel();
+	}
+
+	@Test
+	public void rebalanceOnlySimulatesWhenSimulateOnly() throws Exception {
+
+		rebalanceService.setSimulateOnly(true);
+
+		when(mockSimulateOperation.getResults()).thenReturn(mockResults(3, 512L));
+
+		List<RebalanceStatistics> results = rebalanceService.rebalance();
+
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).isSimulated()).isTrue();
+		assertThat(results.get(0).getBytesMoved()).isEqualTo(512L);
+		assertThat(publishedStatuses()).containsExactly(RebalanceEvent.Status.SIMULATED);
+
+		verify(mockRebalanceFactory, never()).start();
+	}
+
+	@Test
+	public void rebalanceFailurePublishesFailedEvent() throws Exception {
+
+		rebalanceService.setMinimumBucketsMoved(0);
+
+		when(mockRebalanceFactory.start()).thenThrow(new IllegalStateException("TEST"));
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+		assertThat(publishedStatuses()).containsExactly(RebalanceEvent.Status.FAILED);
+		assertThat(rebalanceService.isRebalancing()).isFalse();
+	}
+
+	@Test
+	public void rebalanceHoldsDistributedLockWhileRebalancing() throws Exception {
+
+		when(mockSimulateOperation.getResults()).thenReturn(mockResults(0, 0L));
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+
+		verify(mockDistributedLockService).lock(RebalanceService.REBALANCE_LOCK_NAME, 0L, -1L);
+		verify(mockRebalanceFactory).simulate();
+		verify(mockDistributedLockService).unlock(RebalanceService.REBALANCE_LOCK_NAME);
+	}
+
+	@Test
+	public void rebalanceSkippedWhenAnotherMemberHoldsDistributedLock() {
+
+		when(mockDistributedLockService.lock(eq(RebalanceService.REBALANCE_LOCK_NAME), anyLong(), anyLong()))
+			.thenReturn(false);
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+		assertThat(publishedEvents).isEmpty();
+		assertThat(rebalanceService.isRebalancing()).isFalse();
+
+		verify(mockResourceManager, never()).createRebalanceFactory();
+		verify(mockDistributedLockService, never()).unlock(any());
+	}
+
+	@Test
+	public void rebalanceSkippedWhenRebalanceOperationInProgressOnThisMember() {
+
+		when(mockResourceManager.getRebalanceOperations())
+			.thenReturn(Collections.singleton(mockRebalanceOperation));
+
+		assertThat(rebalanceService.rebalance()).isEmpty();
+		assertThat(publishedEvents).isEmpty();
+
+		verify(mockResourceManager, never()).createRebalanceFactory();
+		verify(mockDistributedLockService, never()).lock(any(), anyLong(), anyLong());
+	}
+
+	@Test
+	public void onMembershipChangeSchedulesRebalanceOnlyWhenRunning() {
+
+		assertThat(rebalanceService.onMembershipChange()).isFalse();
+
+		rebalanceService.setRebalanceOnMembershipChange(false);
+		rebalanceService.start();
+
+		try {
+			assertThat(rebalanceService.isRunning()).isTrue();
+			assertThat(rebalanceService.onMembershipChange()).isTrue();
+		}
+		finally {
+			rebalanceService.stop();
+		}
+
+		assertThat(rebalanceService.isRunning()).isFalse();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.CommitConflictException;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.ProxyMethodInvocation;
+
+/**
+ * Unit tests for {@link CommitConflictRetryInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @since 2.0.0
+ */
+public class CommitConflictRetryInterceptorUnitTests {
+
+	private CommitConflictRetryInterceptor retryInterceptor;
+
+	private GemfireTransactionMetrics transactionMetrics;
+
+	private ProxyMethodInvocation mockInvocation;
+
+	private ProxyMethodInvocation mockInvocationClone;
+
+	@Before
+	public void setup() throws Exception {
+		transactionMetrics = new GemfireTransactionMetrics();
+
+		retryInterceptor = new CommitConflictRetryInterceptor(new CommitConflictRetryPolicy(3, 0L, 0L, 1.0d, 0.0d));
+		retryInterceptor.setTransactionMetrics(transactionMetrics);
+
+		mockInvocation = mock(ProxyMethodInvocation.class, "MockInvocation");
+		mockInvocationClone = mock(ProxyMethodInvocation.class, "MockInvocationClone");
+
+		when(mockInvocation.getMethod()).thenReturn(TestService.class.getMethod("increment"));
+		when(mockInvocation.getThis()).thenReturn(new TestService());
+		when(mockInvocation.invocableClone()).thenReturn(mockInvocationClone);
+	}
+
+	private GemfireTransactionCommitException newCommitConflict() {
+		return new GemfireTransactionCommitException("conflict", new CommitConflictException("test"));
+	}
+
+	@Test
+	public void retriesCommitConflictUntilSuccessful() throws Throwable {
+		when(mockInvocationClone.proceed()).thenThrow(newCommitConflict()).thenReturn("test");
+
+		assertThat(retryInterceptor.invoke(mockInvocation)).isEqualTo("test");
+
+		verify(mockInvocationClone, times(2)).proceed();
+		verify(mockInvocation, never()).proceed();
+
+		assertThat(transactionMetrics.getStatistics(String.format("%s.increment", TestService.class.getName()))
+			.getRetryCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void retriesCommitConflictAtMostMaxAttempts() throws Throwable {
+		GemfireTransactionCommitException commitConflict = newCommitConflict();
+
+		when(mockInvocationClone.proceed()).thenThrow(commitConflict);
+
+		assertThat(catchThrowable(() -> retryInterceptor.invoke(mockInvocation))).isSameAs(commitConflict);
+
+		verify(mockInvocationClone, times(3)).proceed();
+	}
+
+	@Test
+	public void doesNotRetryOtherFailures() throws Throwable {
+		IllegalStateException failure = new IllegalStateException("test");
+
+		when(mockInvocationClone.proceed()).thenThrow(failure);
+
+		assertThat(catchThrowable(() -> retryInterceptor.invoke(mockInvocation))).isSameAs(failure);
+
+		verify(mockInvocationClone, times(1)).proceed();
+	}
+
+	@Test
+	public void resolvesRetryPolicyFromAnnotation() throws Exception {
+		CommitConflictRetryPolicy retryPolicy = retryInterceptor.resolveRetryPolicy(
+			TestService.class.getMethod("update"), TestService.class);
+
+		assertThat(retryPolicy.getMaxAttempts()).isEqualTo(5);
+		assertThat(retryPolicy.getBackoff()).isEqualTo(10L);
+		assertThat(retryInterceptor.resolveRetryPolicy(TestService.class.getMethod("increment"), TestService.class))
+			.isSameAs(retryInterceptor.getDefaultRetryPolicy());
+	}
+
+	@Test
+	public void backoffIsBoundedByMaxBackoff() {
+		CommitConflictRetryPolicy retryPolicy = new CommitConflictRetryPolicy(10, 100L, 400L, 2.0d, 0.0d);
+
+		assertThat(retryPolicy.getBackoff(1)).isEqualTo(100L);
+		assertThat(retryPolicy.getBackoff(2)).isEqualTo(200L);
+		assertThat(retryPolicy.getBackoff(5)).isEqualTo(400L);
+	}
+
+	@SuppressWarnings("unused")
+	public static class TestService {
+
+		public void increment() {
+		}
+
+		@RetryOnCommitConflict(maxAttempts = 5, backoff = 10L)
+		public void update() {
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.TransactionId;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Unit tests for {@link GemfireTransactionManager}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+ * @since 2.0.0
+ */
+public class GemfireTransactionManagerUnitTests {
+
+	private CacheTransactionManager mockCacheTransactionManager;
+
+	private DefaultTransactionDefinition transactionDefinition;
+
+	private GemFireCache mockCache;
+
+	private GemfireTransactionManager transactionManager;
+
+	@Before
+	public void setup() {
+		mockCache = mock(GemFireCache.class, "MockGemFireCache");
+
+		mockCacheTransactionManager = mock(CacheTransactionManager.class, "MockCacheTransactionManager");
+
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.getTransactionId()).thenReturn(mock(TransactionId.class));
+
+		transactionManager = new GemfireTransactionManager(mockCache);
+
+		transactionDefinition = new DefaultTransactionDefinition();
+		transactionDefinition.setName("TestTransaction");
+	}
+
+	@Test
+	public void recordsCommitsCommitConflictsAndRollbacks() {
+		transactionManager.commit(transactionManager.getTransaction(transactionDefinition));
+
+		doThrow(new CommitConflictException("test")).when(mockCacheTransactionManager).commit();
+
+		assertThatThrownBy(() -> transactionManager.commit(transactionManager.getTransaction(transactionDefinition)))
+			.isInstanceOf(GemfireTransactionCommitException.class)
+			.hasCauseInstanceOf(CommitConflictException.class);
+
+		transactionManager.rollback(transactionManager.getTransaction(transactionDefinition));
+
+		GemfireTransactionMetrics.TransactionStatistics statistics =
+			transactionManager.getTransactionMetrics().getStatistics("TestTransaction");
+
+		assertThat(statistics.getBeginCount()).isEqualTo(3L);
+		assertThat(statistics.getCommitCount()).isEqualTo(1L);
+		assertThat(statistics.getCommitConflictCount()).isEqualTo(1L);
+		assertThat(statistics.getRollbackCount()).isEqualTo(1L);
+		assertThat(statistics.getMaxLatency(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+	}
+
+	@Test
+	public void readOnlyTransactionBeginsCacheTransactionByDefault() {
+		transactionDefinition.setReadOnly(true);
+
+		assertThat(transactionManager.isSuppressReadOnlyCacheTransactions()).isFalse();
+
+		transactionManager.commit(transactionManager.getTransaction(transactionDefinition));
+
+		verify(mockCacheTransactionManager, times(1)).begin();
+		verify(mockCacheTransactionManager, times(1)).commit();
+	}
+
+	@Test
+	public void readWriteParticipantJoinsReadOnlyTransactionByDefault() {
+		transactionDefinition.setReadOnly(true);
+
+		TransactionStatus readOnlyTransaction = transactionManager.getTransaction(transactionDefinition);
+
+		TransactionStatus readWriteTransaction = transactionManager.getTransaction(
+			new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED));
+
+		assertThat(transactionManager.isValidateExistingTransaction()).isFalse();
+		assertThat(readWriteTransaction.isNewTransaction()).isFalse();
+
+		transactionManager.commit(readWriteTransaction);
+		transactionManager.commit(readOnlyTransaction);
+
+		verify(mockCacheTransactionManager, times(1)).begin();
+		verify(mockCacheTransactionManager, times(1)).commit();
+	}
+
+	@Test
+	public void readOnlyTransactionDoesNotBeginCacheTransactionWhenSuppressed() {
+		transactionManager.setSuppressReadOnlyCacheTransactions(true);
+		transactionDefinition.setReadOnly(true);
+
+		transactionManager.commit(transactionManager.getTransaction(transactionDefinition));
+		transactionManager.rollback(transactionManager.getTransaction(transactionDefinition));
+
+		verify(mockCacheTransactionManager, never()).begin();
+		verify(mockCacheTransactionManager, never()).commit();
+		verify(mockCacheTransactionManager, never()).rollback();
+	}
+
+	@Test
+	public void readWriteParticipantJoiningSuppressedReadOnlyTransactionIsIllegal() {
+		transactionManager.setSuppressReadOnlyCacheTransactions(true);
+		transactionDefinition.setReadOnly(true);
+
+		TransactionStatus readOnlyTransaction = transactionManager.getTransaction(transactionDefinition);
+
+		try {
+			DefaultTransactionDefinition readWriteDefinition = new DefaultTransactionDefinition(
+				TransactionDefinition.PROPAGATION_REQUIRED);
+
+			assertThatThrownBy(() -> transactionManager.getTransaction(readWriteDefinition))
+				.isInstanceOf(IllegalTransactionStateException.class);
+		}
+		finally {
+			transactionManager.rollback(readOnlyTransaction);
+		}
+
+		verify(mockCacheTransactionManager, never()).begin();
+	}
+
+	@Test
+	public void copyOnReadIsEnabledByDefault() {
+		assertThat(transactionManager.isCopyOnRead()).isTrue();
+
+		verify(mockCache, times(1)).setCopyOnRead(eq(true));
+
+		transactionManager.setCopyOnRead(false);
+		transactionManager.afterPropertiesSet();
+
+		verify(mockCache, times(1)).setCopyOnRead(eq(false));
+	}
+}
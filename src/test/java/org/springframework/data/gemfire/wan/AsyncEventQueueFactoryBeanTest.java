@@ -20,8 +20,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.notNull;
+import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -34,6 +36,7 @@ import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
 import org.apache.geode.cache.wan.GatewaySender;
 import org.junit.Test;
 import org.springframework.data.gemfire.TestUtils;
+import org.springframework.data.gemfire.wan.support.ShardedOrderingAsyncEventListener;
 
 /**
  * The AsyncEventQueueFactoryBeanTest class is a test suite of test cases testing the contract and functionality
@@ -324,4 +327,33 @@ public class AsyncEventQueueFactoryBeanTest {
 		assertNotNull(evenQueue);
 		assertEquals("12345", evenQueue.getId());
 	}
+
+	@Test
+	public void testAsyncEventQueueWithOrderedLanesWrapsAsyncEventListener() throws Exception {
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = createMockAsyncEventQueueFactory("orderedQueue");
+
+		AsyncEventQueueFactoryBean factoryBean = new AsyncEventQueueFactoryBean(
+			createMockCacheWithAsyncEventQueueInfrastructure(mockAsyncEventQueueFactory));
+
+		AsyncEventListener mockListener = mockAsyncEventListener();
+
+		factoryBean.setName("orderedQueue");
+		factoryBean.setAsyncEventListener(mockListener);
+		factoryBean.setOrderedLanes(4);
+		factoryBean.doInit();
+
+		assertSame(mockListener, TestUtils.readField("asyncEventListener", factoryBean));
+
+		AsyncEventListener asyncEventListener = TestUtils.readField("registeredAsyncEventListener", factoryBean);
+
+		assertTrue(asyncEventListener instanceof ShardedOrderingAsyncEventListener);
+		assertSame(mockListener, ((ShardedOrderingAsyncEventListener) asyncEventListener).getDelegate());
+		assertEquals(4, ((ShardedOrderingAsyncEventListener) asyncEventListener).getLaneCount());
+
+		verify(mockAsyncEventQueueFactory).create(eq("orderedQueue"), same(asyncEventListener));
+
+		factoryBean.destroy();
+
+		verify(mockListener).close();
+	}
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for {@link GatewayQueueMonitor}, {@link AdaptiveBatchTuningPolicy} and {@link GatewaySenderMonitoredQueue}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.wan.support.AdaptiveBatchTuningPolicy
+ * @see org.springframework.data.gemfire.wan.support.GatewayQueueMonitor
+ * @since 2.0.0
+ */
+public class GatewayQueueMonitorUnitTests {
+
+	private AdaptiveBatchTuningPolicy tuningPolicy;
+
+	private GatewayQueueMonitor monitor;
+
+	private List<Object> publishedEvents;
+
+	@Before
+	public void setup() {
+
+		tuningPolicy = new AdaptiveBatchTuningPolicy(50, 800, 10, 1000, 1000);
+		publishedEvents = new ArrayList<>();
+
+		monitor = new GatewayQueueMonitor();
+		monitor.setApplicationEventPublisher(new ApplicationEventPublisher() {
+
+			@Override
+			public void publishEvent(Object event) {
+				publishedEvents.add(event);
+			}
+		});
+	}
+
+	private MonitoredGatewayQueue mockQueue(String id, boolean tunable, GatewayQueueStatistics statistics) {
+
+		MonitoredGatewayQueue mockQueue = mock(MonitoredGatewayQueue.class, id);
+
+		when(mockQueue.getId()).thenReturn(id);
+		when(mockQueue.isTunable()).thenReturn(tunable);
+		when(mockQueue.sample()).thenReturn(statistics);
+
+		return mockQueue;
+	}
+
+	private GatewayQueueStatistics newStatistics(int queueSize, int batchSize, long batchTimeInterval) {
+		return new GatewayQueueStatistics("TestQueue", queueSize, batchSize, batchTimeInterval, 100.0d, 5L);
+	}
+
+	@Test
+	public void tuningPolicyGrowsBatchSizeWhenBacklogged() {
+
+		GatewayQueueStatistics statistics = newStatistics(5000, 300, 500);
+
+		assertThat(tuningPolicy.resolveBatchSize(statistics)).isEqualTo(600);
+		assertThat(tuningPolicy.resolveBatchTimeInterval(statistics)).isEqualTo(250);
+		assertThat(tuningPolicy.resolveBatchSize(newStatistics(5000, 600, 500))).isEqualTo(800);
+	}
+
+	@Test
+	public void tuningPolicyShrinksBatchSizeAndGrowsBatchTimeIntervalWhenUnderfilled() {
+
+		GatewayQueueStatistics statistics = newStatistics(10, 100, 1000);
+
+		assertThat(tuningPolicy.resolveBatchSize(statistics)).isEqualTo(75);
+		assertThat(tuningPolicy.resolveBatchTimeInterval(statistics)).isEqualTo(1000);
+		assertThat(tuningPolicy.resolveBatchSize(newStatistics(0, 60, 15))).isEqualTo(50);
+		assertThat(tuningPolicy.resolveBatchTimeInterval(newStatistics(0, 60, 15))).isEqualTo(22);
+		assertThat(tuningPolicy.resolveBatchTimeInterval(newStatistics(0, 60, 500))).isEqualTo(600);
+	}
+
+	@Test
+	public void tuningPolicyKeepsBatchTimeIntervalWhenThroughputIsUnavailable() {
+
+		GatewayQueueStatistics statistics = new GatewayQueueStatistics("TestQueue", 0, 100, 100L,
+			GatewayQueueStatistics.UNAVAILABLE, 5L);
+
+		assertThat(tuningPolicy.resolveBatchTimeInterval(statistics)).isEqualTo(100);
+	}
+
+	@Test
+	public void tuningPolicyBatchTimeIntervalRecoversAfterBacklogDrains() {
+
+		int batchSize = 100;
+		int batchTimeInterval = 1000;
+
+		for (int cycle = 0; cycle < 3; cycle++) {
+			batchTimeInterval = tuningPolicy.resolveBatchTimeInterval(
+				newStatistics(5000, batchSize, batchTimeInterval));
+		}
+
+		assertThat(batchTimeInterval).isEqualTo(125);
+
+		// the queue size lies between the thresholds, so the batch time interval is held
+		assertThat(tuningPolicy.resolveBatchTimeInterval(newStatistics(500, batchSize, batchTimeInterval)))
+			.isEqualTo(batchTimeInterval);
+
+		List<Integer> batchTimeIntervals = new ArrayList<>();
+
+		for (int cycle = 0; cycle < 10; cycle++) {
+			batchTimeInterval = tuningPolicy.resolveBatchTimeInterval(
+				new GatewayQueueStatistics("TestQueue", 10, batchSize, batchTimeInterval, 50.0d, 5L));
+			batchTimeIntervals.add(batchTimeInterval);
+		}
+
+		assertThat(batchTimeIntervals).isSorted();
+		assertThat(batchTimeIntervals).startsWith(187, 280, 420);
+		assertThat(batchTimeInterval).isEqualTo(1000);
+	}
+
+	@Test
+	public void tuningPolicyShrinksBatchTimeIntervalWhenUnderfilledAndLagIsRising() {
+
+		GatewayQueueStatistics previousStatistics =
+			new GatewayQueueStatistics("TestQueue", 5, 100, 400L, 50.0d, 5L);
+
+		assertThat(tuningPolicy.resolveBatchTimeInterval(
+			new GatewayQueueStatistics("TestQueue", 10, 100, 400L, 50.0d, 5L), previousStatistics))
+				.isEqualTo(300);
+
+		assertThat(tuningPolicy.resolveBatchTimeInterval(
+			new GatewayQueueStatistics("TestQueue", 5, 100, 400L, 50.0d, 20L), previousStatistics))
+				.isEqualTo(300);
+
+		assertThat(tuningPolicy.resolveBatchTimeInterval(
+			new GatewayQueueStatistics("TestQueue", 5, 100, 400L, 50.0d, 5L), previousStatistics))
+				.isEqualTo(600);
+
+		assertThat(tuningPolicy.resolveBatchTimeInterval(
+			new GatewayQueueStatistics("TestQueue", 5, 100, 400L, 50.0d, 5L), new GatewayQueueStatistics(
+				"TestQueue", 5, 100, 400L, 50.0d, GatewayQueueStatistics.UNAVAILABLE)))
+					.isEqualTo(600);
+	}
+
+	@Test
+	public void tuningPolicyKeepsSettingsWithinBounds() {
+
+		GatewayQueueStatistics statistics = newStatistics(500, 2000, 5000);
+
+		assertThat(tuningPolicy.resolveBatchSize(statistics)).isEqualTo(800);
+		assertThat(tuningPolicy.resolveBatchTimeInterval(statistics)).isEqualTo(1000);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tuningPolicyWithInvalidBoundsThrowsIllegalArgumentException() {
+		new AdaptiveBatchTuningPolicy(500, 100, 10, 1000, 1000);
+	}
+
+	@Test
+	public void gatewaySenderThroughputIsDerivedFromQueuedRateAndQueueGrowth() {
+
+		GatewaySenderMonitoredQueue queue =
+			new GatewaySenderMonitoredQueue(mock(Cache.class), mock(GatewaySender.class));
+
+		long second = TimeUnit.SECONDS.toNanos(1);
+
+		assertThat(queue.resolveThroughput(100.0d, 1000, second))
+			.isEqualTo((double) GatewayQueueStatistics.UNAVAILABLE);
+		assertThat(queue.resolveThroughput(100.0d, 1050, 2 * second)).isEqualTo(50.0d);
+		assertThat(queue.resolveThroughput(100.0d, 850, 3 * second)).isEqualTo(300.0d);
+		assertThat(queue.resolveThroughput(10.0d, 1850, 4 * second)).isEqualTo(0.0d);
+	}
+
+	@Test
+	public void sampleRecordsAndPublishesStatistics() {
+
+		GatewayQueueStatistics statistics = newStatistics(5000, 300, 500);
+
+		MonitoredGatewayQueue mockQueue = mockQueue("TestQueue", true, statistics);
+
+		monitor.monitor(mockQueue).sample();
+
+		assertThat(monitor.getStatistics()).containsEntry("TestQueue", statistics);
+		assertThat(publishedEvents).hasSize(1);
+		assertThat(((GatewayQueueSampledEvent) publishedEvents.get(0)).getStatistics()).isSameAs(statistics);
+
+		verify(mockQueue, never()).tune(anyInt(), anyInt());
+	}
+
+	@Test
+	public void sampleTunesTunableQueues() {
+
+		MonitoredGatewayQueue mockTunableQueue = mockQueue("GatewaySender", true, newStatistics(5000, 300, 500));
+		MonitoredGatewayQueue mockUntunableQueue = mockQueue("AsyncEventQueue", false, newStatistics(5000, 300, 500));
+
+		monitor.setTuningPolicy(tuningPolicy);
+		monitor.monitor(mockTunableQueue).monitor(mockUntunableQueue).sample();
+
+		verify(mockTunableQueue).tune(600, 250);
+		verify(mockUntunableQueue, never()).tune(anyInt(), anyInt());
+	}
+
+	@Test
+	public void sampleShrinksBatchTimeIntervalOfUnderfilledQueueWhenLagIsRising() {
+
+		MonitoredGatewayQueue mockQueue = mockQueue("GatewaySender", true, newStatistics(5, 100, 400));
+
+		when(mockQueue.sample()).thenReturn(newStatistics(5, 100, 400), newStatistics(10, 100, 400));
+
+		monitor.setTuningPolicy(tuningPolicy);
+		monitor.monitor(mockQueue).sample();
+		monitor.sample();
+
+		verify(mockQueue).tune(75, 600);
+		verify(mockQueue).tune(75, 300);
+	}
+
+	@Test
+	public void sampleDoesNotTuneQueueWhenSettingsAreUnchanged() {
+
+		MonitoredGatewayQueue mockQueue = mockQueue("GatewaySender", true, newStatistics(500, 300, 500));
+
+		monitor.setTuningPolicy(tuningPolicy);
+		monitor.monitor(mockQueue).sample();
+
+		verify(mockQueue, never()).tune(anyInt(), anyInt());
+	}
+
+	@Test
+	public void sampleContinuesWhenQueueFails() {
+
+		MonitoredGatewayQueue mockFailingQueue = mock(MonitoredGatewayQueue.class);
+		MonitoredGatewayQueue mockQueue = mockQueue("TestQueue", false, newStatistics(10, 100, 1000));
+
+		when(mockFailingQueue.getId()).thenReturn("FailingQueue");
+		when(mockFailingQueue.sample()).thenThrow(new IllegalStateException("TEST"));
+
+		monitor.monitor(mockFailingQueue).monitor(mockQueue).sample();
+
+		assertThat(monitor.getStatistics()).containsOnlyKeys("TestQueue");
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ShardedOrderingAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.wan.support.ShardedOrderingAsyncEventListener
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class ShardedOrderingAsyncEventListenerUnitTests {
+
+	private ShardedOrderingAsyncEventListener listener;
+
+	@After
+	public void tearDown() {
+		if (listener != null) {
+			listener.close();
+		}
+	}
+
+	private AsyncEvent mockEvent(Object key, Object value) {
+
+		AsyncEvent mockEvent = mock(AsyncEvent.class);
+
+		when(mockEvent.getKey()).thenReturn(key);
+		when(mockEvent.getDeserializedValue()).thenReturn(value);
+
+		return mockEvent;
+	}
+
+	private List<AsyncEvent> newEvents(int keyCount, int eventsPerKey) {
+
+		List<AsyncEvent> events = new ArrayList<>();
+
+		for (int sequence = 0; sequence < eventsPerKey; sequence++) {
+			for (int key = 0; key < keyCount; key++) {
+				events.add(mockEvent(key, sequence));
+			}
+		}
+
+		return events;
+	}
+
+	@Test
+	public void processEventsPreservesOrderPerKeyAcrossLanes() {
+
+		Map<Object, List<Object>> processedValuesByKey = new ConcurrentHashMap<>();
+
+		List<String> laneThreads = new CopyOnWriteArrayList<>();
+
+		listener = new ShardedOrderingAsyncEventListener(new AsyncEventListener() {
+
+			@Override
+			public boolean processEvents(List<AsyncEvent> events) {
+
+				laneThreads.add(Thread.currentThread().getName());
+
+				events.forEach(event -> processedValuesByKey.computeIfAbsent(event.getKey(),
+					key -> new CopyOnWriteArrayList<>()).add(event.getDeserializedValue()));
+
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		}, 4);
+
+		assertThat(listener.processEvents(newEvents(32, 5))).isTrue();
+
+		assertThat(processedValuesByKey).hasSize(32);
+		processedValuesByKey.values().forEach(values -> assertThat(values).containsExactly(0, 1, 2, 3, 4));
+
+		assertThat(laneThreads.stream().distinct().collect(Collectors.toList()))
+			.allMatch(threadName -> threadName.startsWith(ShardedOrderingAsyncEventListener.THREAD_NAME_PREFIX))
+			.hasSize(4);
+	}
+
+	@Test
+	public void shardUsesKeyExtractor() {
+
+		listener = new ShardedOrderingAsyncEventListener(mock(AsyncEventListener.class), 3,
+			event -> String.valueOf(event.getDeserializedValue()).substring(0, 1));
+
+		List<AsyncEvent> events = Arrays.asList(mockEvent(1, "A1"), mockEvent(2, "B1"), mockEvent(3, "A2"));
+
+		List<List<AsyncEvent>> shards = listener.shard(events);
+
+		assertThat(shards).hasSize(3);
+
+		List<AsyncEvent> shardOfA = shards.get(listener.resolveLane("A"));
+
+		assertThat(shardOfA).containsSubsequence(events.get(0), events.get(2));
+	}
+
+	@Test
+	public void processEventsReturnsFalseWhenAnyLaneFails() {
+
+		listener = new ShardedOrderingAsyncEventListener(new AsyncEventListener() {
+
+			@Override
+			public boolean processEvents(List<AsyncEvent> events) {
+
+				if (events.stream().anyMatch(event -> Integer.valueOf(1).equals(event.getKey()))) {
+					throw new IllegalStateException("TEST");
+				}
+
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		}, 2);
+
+		assertThat(listener.processEvents(newEvents(4, 1))).isFalse();
+	}
+
+	@Test
+	public void closeClosesDelegate() {
+
+		AsyncEventListener mockDelegate = mock(AsyncEventListener.class);
+
+		new ShardedOrderingAsyncEventListener(mockDelegate, 2).close();
+
+		verify(mockDelegate).close();
+	}
+}
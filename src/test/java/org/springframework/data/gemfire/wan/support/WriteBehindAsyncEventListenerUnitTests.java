@@ -0,0 +1,331 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.wan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.wan.EventSequenceID;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link WriteBehindAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.wan.support.WriteBehindAsyncEventListener
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class WriteBehindAsyncEventListenerUnitTests {
+
+	private List<WriteBehindBatch> deadLetters;
+
+	private List<WriteBehindBatch> writtenBatches;
+
+	private Region<Object, Object> mockPeopleRegion;
+
+	@Before
+	public void setup() {
+
+		deadLetters = new ArrayList<>();
+		writtenBatches = new ArrayList<>();
+
+		mockPeopleRegion = mock(Region.class, "People");
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockPeopleRegion.getFullPath()).thenReturn("/People");
+		when(mockPeopleRegion.getAttributes()).thenReturn(mockRegionAttributes);
+	}
+
+	private AsyncEvent mockEvent(Operation operation, Object key, Object value) {
+
+		AsyncEvent mockEvent = mock(AsyncEvent.class);
+
+		when(mockEvent.getOperation()).thenReturn(operation);
+		when(mockEvent.getKey()).thenReturn(key);
+		when(mockEvent.getDeserializedValue()).thenReturn(value);
+		when(mockEvent.getRegion()).thenReturn(mockPeopleRegion);
+
+		return mockEvent;
+	}
+
+	private WriteBehindAsyncEventListener newListener(WriteBehindBatchWriter batchWriter) {
+
+		WriteBehindAsyncEventListener listener = new WriteBehindAsyncEventListener(batchWriter);
+
+		listener.setDeadLetterHandler((batch, cause) -> deadLetters.add(batch));
+		listener.setRetryBackOff(0L);
+
+		return listener;
+	}
+
+	@Test
+	public void processEventsGroupsByEntityTypeAndConflatesByKey() {
+
+		WriteBehindAsyncEventListener listener = newListener(writtenBatches::add);
+
+		List<AsyncEvent> events = Arrays.asList(
+			mockEvent(Operation.CREATE, 1, "Jon Doe"),
+			mockEvent(Operation.CREATE, 2, 42L),
+			mockEvent(Operation.UPDATE, 1, "Jane Doe"),
+			mockEvent(Operation.CREATE, 3, "Pie Doe"),
+			mockEvent(Operation.DESTROY, 3, null),
+			mockEvent(Operation.INVALIDATE, 4, null));
+
+		assertThat(listener.processEvents(events)).isTrue();
+		assertThat(writtenBatches).hasSize(2);
+
+		WriteBehindBatch stringBatch = writtenBatches.get(0);
+
+		assertThat(stringBatch.getEntityType()).isEqualTo(String.class);
+		assertThat(stringBatch.getUpserts()).containsOnlyKeys(1);
+		assertThat(stringBatch.getUpserts().get(1)).isEqualTo("Jane Doe");
+		assertThat(stringBatch.getDeletes()).containsExactly(3);
+
+		assertThat(writtenBatches.get(1).getEntityType()).isEqualTo(Long.class);
+		assertThat(writtenBatches.get(1).getUpserts()).containsOnlyKeys(2);
+
+		WriteBehindMetrics metrics = listener.getMetrics();
+
+		assertThat(metrics.getEventsReceived()).isEqualTo(6L);
+		assertThat(metrics.getEventsIgnored()).isEqualTo(1L);
+		assertThat(metrics.getEventsConflated()).isEqualTo(2L);
+		assertThat(metrics.getEntriesWritten()).isEqualTo(3L);
+		assertThat(metrics.getBatchesWritten()).isEqualTo(2L);
+		assertThat(metrics.getQueueSize()).isEqualTo(-1);
+	}
+
+	@Test
+	public void processEventsRetriesFailedBatch() {
+
+		int[] attempts = { 0 };
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			if (++attempts[0] < 3) {
+				throw new IllegalStateException("TEST");
+			}
+
+			writtenBatches.add(batch);
+		});
+
+		assertThat(listener.processEvents(Collections.singletonList(mockEvent(Operation.CREATE, 1, "Jon Doe"))))
+			.isTrue();
+
+		assertThat(attempts[0]).isEqualTo(3);
+		assertThat(writtenBatches).hasSize(1);
+		assertThat(deadLetters).isEmpty();
+		assertThat(listener.getMetrics().getRetries()).isEqualTo(2L);
+		assertThat(listener.getMetrics().getWriteFailures()).isEqualTo(2L);
+	}
+
+	@Test
+	public void processEventsRetriesOnlyFailedKeysAndDeadLettersPoisonEntities() {
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			if (batch.getKeys().contains(2)) {
+				throw new WriteBehindBatchException("TEST", Collections.singleton(2));
+			}
+
+			writtenBatches.add(batch);
+		});
+
+		listener.setMaxAttempts(2);
+
+		List<AsyncEvent> events = Arrays.asList(
+			mockEvent(Operation.CREATE, 1, "Jon Doe"),
+			mockEvent(Operation.CREATE, 2, "Jane Doe"),
+			mockEvent(Operation.CREATE, 3, "Pie Doe"));
+
+		assertThat(listener.processEvents(events)).isTrue();
+		assertThat(writtenBatches).isEmpty();
+		assertThat(deadLetters).hasSize(1);
+		assertThat(deadLetters.get(0).getKeys()).containsExactly(2);
+		assertThat(listener.getMetrics().getEntriesWritten()).isEqualTo(2L);
+		assertThat(listener.getMetrics().getDeadLetters()).isEqualTo(1L);
+	}
+
+	@Test
+	public void processEventsIsolatesFailedWritesAfterRetriesAreExhausted() {
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			if (batch.size() > 1 || batch.getKeys().contains(1)) {
+				throw new IllegalStateException("TEST");
+			}
+
+			writtenBatches.add(batch);
+		});
+
+		List<AsyncEvent> events = Arrays.asList(
+			mockEvent(Operation.CREATE, 1, "Jon Doe"),
+			mockEvent(Operation.CREATE, 2, "Jane Doe"));
+
+		assertThat(listener.processEvents(events)).isTrue();
+		assertThat(writtenBatches).hasSize(1);
+		assertThat(writtenBatches.get(0).getKeys()).containsExactly(2);
+		assertThat(deadLetters).hasSize(1);
+		assertThat(deadLetters.get(0).getKeys()).containsExactly(1);
+	}
+
+	@Test
+	public void processEventsRequestsRedeliveryWhenDeadLetterHandlerFails() {
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			throw new IllegalStateException("TEST");
+		});
+
+		listener.setMaxAttempts(1);
+		listener.setDeadLetterHandler((batch, cause) -> {
+			throw new IllegalStateException("DEAD LETTER STORE UNAVAILABLE");
+		});
+
+		assertThat(listener.processEvents(Collections.singletonList(mockEvent(Operation.CREATE, 1, "Jon Doe"))))
+			.isFalse();
+	}
+
+	@Test
+	public void processEventsRedeliveryOnlyWritesFailedBatches() {
+
+		AsyncEvent personEvent = mockEvent(Operation.CREATE, 1, "Jon Doe");
+		AsyncEvent ageEvent = mockEvent(Operation.CREATE, 2, 42);
+
+		when(personEvent.getEventSequenceID()).thenReturn(mock(EventSequenceID.class));
+		when(ageEvent.getEventSequenceID()).thenReturn(mock(EventSequenceID.class));
+
+		AtomicBoolean backendAvailable = new AtomicBoolean(false);
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			if (Integer.class.equals(batch.getEntityType()) && !backendAvailable.get()) {
+				throw new IllegalStateException("TEST");
+			}
+
+			writtenBatches.add(batch);
+		});
+
+		listener.setMaxAttempts(1);
+		listener.setDeadLetterHandler((batch, cause) -> {
+			throw new IllegalStateException("DEAD LETTER STORE UNAVAILABLE");
+		});
+
+		assertThat(listener.processEvents(Arrays.asList(personEvent, ageEvent))).isFalse();
+		assertThat(writtenBatches).hasSize(1);
+		assertThat(writtenBatches.get(0).getEntityType()).isEqualTo(String.class);
+
+		backendAvailable.set(true);
+
+		assertThat(listener.processEvents(Arrays.asList(personEvent, ageEvent))).isTrue();
+		assertThat(writtenBatches).hasSize(2);
+		assertThat(writtenBatches.get(1).getEntityType()).isEqualTo(Integer.class);
+
+		assertThat(listener.processEvents(Arrays.asList(personEvent, ageEvent))).isTrue();
+		assertThat(writtenBatches).hasSize(4);
+	}
+
+	@Test
+	public void resolvesEntityTypeOfDestroyFromLastValueWrittenToRegion() {
+
+		WriteBehindAsyncEventListener listener = newListener(writtenBatches::add);
+
+		listener.processEvents(Collections.singletonList(mockEvent(Operation.CREATE, 1, "Jon Doe")));
+		listener.processEvents(Collections.singletonList(mockEvent(Operation.DESTROY, 1, null)));
+
+		assertThat(writtenBatches).hasSize(2);
+		assertThat(writtenBatches.get(1).getEntityType()).isEqualTo(String.class);
+		assertThat(writtenBatches.get(1).getDeletes()).containsExactly(1);
+	}
+
+	@Test
+	public void processEventsKeepsSkippingWrittenEventsUntilRedeliveryIsWritten() {
+
+		AsyncEvent personEvent = mockEvent(Operation.CREATE, 1, "Jon Doe");
+		AsyncEvent ageEvent = mockEvent(Operation.CREATE, 2, 42);
+
+		when(personEvent.getEventSequenceID()).thenReturn(mock(EventSequenceID.class));
+		when(ageEvent.getEventSequenceID()).thenReturn(mock(EventSequenceID.class));
+
+		AtomicBoolean backendAvailable = new AtomicBoolean(false);
+
+		WriteBehindAsyncEventListener listener = newListener(batch -> {
+			if (Integer.class.equals(batch.getEntityType()) && !backendAvailable.get()) {
+				throw new IllegalStateException("TEST");
+			}
+
+			writtenBatches.add(batch);
+		});
+
+		listener.setMaxAttempts(1);
+		listener.setDeadLetterHandler((batch, cause) -> {
+			throw new IllegalStateException("DEAD LETTER STORE UNAVAILABLE");
+		});
+
+		assertThat(listener.processEvents(Arrays.asList(personEvent, ageEvent))).isFalse();
+		assertThat(listener.processEvents(Arrays.asList(personEvent, ageEvent))).isFalse();
+		assertThat(writtenBatches).hasSize(1);
+
+		backendAvailable.set(true);
+
+		assertThat(listener.processEvents(Collections.singletonList(ageEvent))).isTrue();
+		assertThat(writtenBatches).hasSize(2);
+		assertThat(writtenBatches.get(1).getEntityType()).isEqualTo(Integer.class);
+
+		assertThat(listener.processEvents(Collections.singletonList(personEvent))).isTrue();
+		assertThat(writtenBatches).hasSize(3);
+		assertThat(writtenBatches.get(2).getEntityType()).isEqualTo(String.class);
+	}
+
+	@Test
+	public void resolvesEntityTypeOfDestroyFromRegisteredRegionEntityType() {
+
+		WriteBehindAsyncEventListener listener = newListener(writtenBatches::add);
+
+		listener.setRegionEntityTypes(Collections.singletonMap("/People", String.class));
+
+		assertThat(listener.processEvents(Collections.singletonList(mockEvent(Operation.DESTROY, 1, null))))
+			.isTrue();
+
+		assertThat(writtenBatches).hasSize(1);
+		assertThat(writtenBatches.get(0).getEntityType()).isEqualTo(String.class);
+	}
+
+	@Test
+	public void processEventsFailsFastWhenEntityTypeOfDestroyCannotBeResolved() {
+
+		WriteBehindAsyncEventListener listener = newListener(writtenBatches::add);
+
+		assertThatThrownBy(() -> listener.processEvents(Arrays.asList(mockEvent(Operation.INVALIDATE, 1, null),
+				mockEvent(Operation.DESTROY, 2, null))))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("/People");
+
+		assertThat(writtenBatches).isEmpty();
+	}
+}